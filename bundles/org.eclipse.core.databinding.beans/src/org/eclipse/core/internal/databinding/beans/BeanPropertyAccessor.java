@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.beans;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads and writes a bean property through method handles instead of
+ * {@link Method#invoke(Object, Object...)}. The method handles of the read and
+ * write methods are created once per method and shared by all accessors. When
+ * no method handle can be created for a method, or the source or value does
+ * not match the method, the property is accessed through
+ * {@link BeanPropertyHelper} with reflection as before.
+ */
+final class BeanPropertyAccessor {
+	/**
+	 * A read method handle of type <code>(Object)Object</code>, which may be
+	 * invoked for instances of the source type.
+	 */
+	private record Reader(Class<?> sourceType, MethodHandle handle) {
+	}
+
+	/**
+	 * A write method handle of type <code>(Object,Object)void</code>, which may
+	 * be invoked for instances of the source type and values of the (boxed)
+	 * value type.
+	 */
+	private record Writer(Class<?> sourceType, Class<?> valueType, boolean primitive, MethodHandle handle) {
+	}
+
+	private static final Reader NO_READER = new Reader(null, null);
+
+	private static final Writer NO_WRITER = new Writer(null, null, false, null);
+
+	private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/**
+	 * The readers and writers of the methods of each class.
+	 */
+	private static final ClassValue<Map<Method, Object>> HANDLES = new ClassValue<>() {
+		@Override
+		protected Map<Method, Object> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private final PropertyDescriptor propertyDescriptor;
+
+	// Races only compute the same immutable records twice
+	private Reader reader;
+
+	private Writer writer;
+
+	/**
+	 * @param propertyDescriptor
+	 *            the property to access
+	 */
+	BeanPropertyAccessor(PropertyDescriptor propertyDescriptor) {
+		this.propertyDescriptor = propertyDescriptor;
+	}
+
+	/**
+	 * Returns the contents of the property for the given bean.
+	 *
+	 * @param source
+	 *            the source bean
+	 * @return the contents of the property
+	 * @see BeanPropertyHelper#readProperty(Object, PropertyDescriptor)
+	 */
+	Object read(Object source) {
+		Reader r = reader;
+		if (r == null) {
+			r = reader = getReader(propertyDescriptor.getReadMethod());
+		}
+		if (r != NO_READER && r.sourceType.isInstance(source)) {
+			return invoke(r, source);
+		}
+		return BeanPropertyHelper.readProperty(source, propertyDescriptor);
+	}
+
+	/**
+	 * Sets the contents of the property on the given bean.
+	 *
+	 * @param source
+	 *            the source bean
+	 * @param value
+	 *            the new value of the property
+	 * @see BeanPropertyHelper#writeProperty(Object, PropertyDescriptor, Object)
+	 */
+	void write(Object source, Object value) {
+		Writer w = writer;
+		if (w == null) {
+			w = writer = getWriter(propertyDescriptor.getWriteMethod());
+		}
+		if (w != NO_WRITER && canInvoke(w, source, value)) {
+			invoke(w, source, value);
+		} else {
+			BeanPropertyHelper.writeProperty(source, propertyDescriptor, value);
+		}
+	}
+
+	private static Object invoke(Reader r, Object source) {
+		try {
+			return r.handle.invokeExact(source);
+		} catch (Throwable e) {
+			// like the InvocationTargetException of Method.invoke
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static void invoke(Writer w, Object source, Object value) {
+		try {
+			w.handle.invokeExact(source, value);
+		} catch (Throwable e) {
+			// like the InvocationTargetException of Method.invoke
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Returns whether the method handle accepts the arguments. Otherwise
+	 * reflection reports the problem, or applies a widening conversion to a
+	 * primitive value.
+	 */
+	private static boolean canInvoke(Writer w, Object source, Object value) {
+		if (!w.sourceType.isInstance(source)) {
+			return false;
+		}
+		return value == null ? !w.primitive : w.valueType.isInstance(value);
+	}
+
+	private static Reader getReader(Method method) {
+		if (method == null || Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0) {
+			return NO_READER;
+		}
+		return (Reader) HANDLES.get(method.getDeclaringClass()).computeIfAbsent(method, m -> {
+			MethodHandle handle = unreflect(m);
+			return handle == null ? NO_READER : new Reader(m.getDeclaringClass(), handle.asType(READER_TYPE));
+		});
+	}
+
+	private static Writer getWriter(Method method) {
+		if (method == null || Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1) {
+			return NO_WRITER;
+		}
+		return (Writer) HANDLES.get(method.getDeclaringClass()).computeIfAbsent(method, m -> {
+			MethodHandle handle = unreflect(m);
+			if (handle == null) {
+				return NO_WRITER;
+			}
+			Class<?> valueType = m.getParameterTypes()[0];
+			return new Writer(m.getDeclaringClass(), MethodType.methodType(valueType).wrap().returnType(),
+					valueType.isPrimitive(), handle.asType(WRITER_TYPE));
+		});
+	}
+
+	/**
+	 * Creates a method handle for the given method. A lookup of this bundle
+	 * cannot spin LambdaMetafactory classes for the beans of other bundles,
+	 * since it has no full privilege access to their modules, so the accessors
+	 * invoke the direct method handles.
+	 *
+	 * @return the method handle or <code>null</code> if the method is not
+	 *         accessible
+	 */
+	private static MethodHandle unreflect(Method method) {
+		try {
+			BeanPropertyHelper.setAccessible(method);
+			return MethodHandles.lookup().unreflect(method);
+		} catch (RuntimeException | IllegalAccessException e) {
+			// left to reflection, which reports the problem
+			return null;
+		}
+	}
+}
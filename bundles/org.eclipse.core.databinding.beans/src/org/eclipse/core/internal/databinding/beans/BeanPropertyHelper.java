@@ -25,7 +25,10 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.util.Policy;
@@ -36,6 +39,21 @@ import org.eclipse.core.runtime.Status;
  * @since 1.2
  */
 public class BeanPropertyHelper {
+	private static final Map<String, PropertyDescriptor> NOT_INTROSPECTED = Collections
+			.unmodifiableMap(new HashMap<>());
+
+	/**
+	 * The introspected property descriptors of each class by name, so that
+	 * creating the properties of the rows of a table does not introspect the
+	 * row class each time.
+	 */
+	private static final ClassValue<Map<String, PropertyDescriptor>> PROPERTY_DESCRIPTORS = new ClassValue<>() {
+		@Override
+		protected Map<String, PropertyDescriptor> computeValue(Class<?> type) {
+			return introspect(type);
+		}
+	};
+
 	/**
 	 * Sets the contents of the given property on the given source object to the
 	 * given value.
@@ -146,40 +164,42 @@ public class BeanPropertyHelper {
 	 */
 	public static PropertyDescriptor getPropertyDescriptor(Class<?> beanClass,
 			String propertyName) {
-		if (!beanClass.isInterface()) {
-			BeanInfo beanInfo;
-			try {
-				beanInfo = Introspector.getBeanInfo(beanClass);
-			} catch (IntrospectionException e) {
-				// cannot introspect, give up
-				return null;
-			}
-			PropertyDescriptor[] propertyDescriptors = beanInfo
-					.getPropertyDescriptors();
-			for (PropertyDescriptor descriptor : propertyDescriptors) {
-				if (descriptor.getName().equals(propertyName)) {
-					return descriptor;
-				}
-			}
-		} else {
-			try {
-				List<PropertyDescriptor> pds = new ArrayList<>();
-				getInterfacePropertyDescriptors(pds, beanClass);
-				if (pds.size() > 0) {
-					for (PropertyDescriptor descriptor : pds.toArray(new PropertyDescriptor[pds.size()])) {
-						if (descriptor.getName().equals(propertyName))
-							return descriptor;
-					}
-				}
-			} catch (IntrospectionException e) {
-				// cannot introspect, give up
-				return null;
-			}
+		Map<String, PropertyDescriptor> descriptors = PROPERTY_DESCRIPTORS.get(beanClass);
+		if (descriptors == NOT_INTROSPECTED) {
+			// cannot introspect, give up
+			return null;
+		}
+		PropertyDescriptor descriptor = descriptors.get(propertyName);
+		if (descriptor != null) {
+			return descriptor;
 		}
 		throw new IllegalArgumentException(
 				"Could not find property with name " + propertyName + " in class " + beanClass); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
+	/**
+	 * Returns the property descriptors of the given class by name. For an
+	 * interface, the first descriptor of a name found in the interface and its
+	 * super interfaces is used.
+	 */
+	private static Map<String, PropertyDescriptor> introspect(Class<?> beanClass) {
+		List<PropertyDescriptor> pds = new ArrayList<>();
+		try {
+			if (!beanClass.isInterface()) {
+				pds.addAll(Arrays.asList(Introspector.getBeanInfo(beanClass).getPropertyDescriptors()));
+			} else {
+				getInterfacePropertyDescriptors(pds, beanClass);
+			}
+		} catch (IntrospectionException e) {
+			return NOT_INTROSPECTED;
+		}
+		Map<String, PropertyDescriptor> descriptors = new HashMap<>();
+		for (PropertyDescriptor descriptor : pds) {
+			descriptors.putIfAbsent(descriptor.getName(), descriptor);
+		}
+		return descriptors;
+	}
+
 	/**
 	 * Goes recursively into the interface and gets all defined
 	 * propertyDescriptors
@@ -31,10 +31,12 @@ import org.eclipse.core.databinding.property.value.SimpleValueProperty;
 public class PojoValueProperty<S, T> extends SimpleValueProperty<S, T> {
 	private final PropertyDescriptor propertyDescriptor;
 	private final Class<T> valueType;
+	private final BeanPropertyAccessor accessor;
 
 	@SuppressWarnings("unchecked")
 	public PojoValueProperty(PropertyDescriptor propertyDescriptor, Class<T> valueType) {
 		this.propertyDescriptor = propertyDescriptor;
+		this.accessor = new BeanPropertyAccessor(propertyDescriptor);
 		this.valueType = valueType == null ? (Class<T>) propertyDescriptor.getPropertyType() : valueType;
 	}
 
@@ -48,12 +50,12 @@ public class PojoValueProperty<S, T> extends SimpleValueProperty<S, T> {
 	protected T doGetValue(S source) {
 		if (source == null)
 			return null;
-		return (T) BeanPropertyHelper.readProperty(source, propertyDescriptor);
+		return (T) accessor.read(source);
 	}
 
 	@Override
 	protected void doSetValue(Object source, Object value) {
-		BeanPropertyHelper.writeProperty(source, propertyDescriptor, value);
+		accessor.write(source, value);
 	}
 
 	@Override
@@ -111,6 +111,17 @@ import org.eclipse.core.runtime.ListenerList;
 	}
 
 	protected void fireEvent(ObservableEvent event) {
+		RealmTransaction transaction = realm.getTransaction();
+		if (transaction != null && transaction.defer(this, event)) {
+			return;
+		}
+		dispatchEvent(event);
+	}
+
+	/**
+	 * Delivers the given event to the listeners now.
+	 */
+	void dispatchEvent(ObservableEvent event) {
 		Object listenerType = event.getListenerType();
 		int listenerTypeIndex = findListenerTypeIndex(listenerType);
 		if (listenerTypeIndex != -1) {
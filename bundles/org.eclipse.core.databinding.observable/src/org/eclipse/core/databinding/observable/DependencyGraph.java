@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The graph of the dependencies of computed observables, like
+ * {@link org.eclipse.core.databinding.observable.value.ComputedValue}. Each
+ * computed observable is a {@link Node} of the graph, which has an edge to
+ * every observable that its last calculation read.
+ * <p>
+ * The edges of a node are kept from one calculation to the next. When a
+ * calculation reads the same observables as the one before, which is the
+ * common case, no listeners are added or removed. Otherwise only the
+ * listeners of the edges that appeared or disappeared are changed.
+ * </p>
+ * <p>
+ * The graph counts its nodes, edges and calculations, which helps to find
+ * bindings that recompute more often than expected. The counts cover the
+ * nodes of all realms.
+ * </p>
+ *
+ * @since 1.14
+ */
+public final class DependencyGraph {
+
+	private static final IObservable[] NO_DEPENDENCIES = new IObservable[0];
+
+	private static final AtomicInteger nodeCount = new AtomicInteger();
+
+	private static final AtomicInteger edgeCount = new AtomicInteger();
+
+	private static final AtomicLong recomputeCount = new AtomicLong();
+
+	private DependencyGraph() {
+	}
+
+	/**
+	 * A computed observable in the dependency graph. A node is attached to the
+	 * graph while it has edges to the observables it depends on, from its
+	 * first calculation until it is detached. The listeners of the node are
+	 * registered with every dependency while it is attached.
+	 * <p>
+	 * This class is not thread safe, it must be used in the realm of the
+	 * computed observable.
+	 * </p>
+	 */
+	public static final class Node {
+
+		private final IChangeListener changeListener;
+
+		private final IStaleListener staleListener;
+
+		private IObservable[] dependencies = NO_DEPENDENCIES;
+
+		private boolean attached;
+
+		private long count;
+
+		/**
+		 * Creates a node that is not attached to the graph.
+		 *
+		 * @param changeListener
+		 *            the listener to register with the dependencies, not
+		 *            <code>null</code>
+		 * @param staleListener
+		 *            the stale listener to register with the dependencies, or
+		 *            <code>null</code>
+		 */
+		public Node(IChangeListener changeListener, IStaleListener staleListener) {
+			this.changeListener = changeListener;
+			this.staleListener = staleListener;
+		}
+
+		/**
+		 * Runs the calculation of the node and replaces its edges by the
+		 * observables that the calculation read through their tracked getters,
+		 * see {@link ObservableTracker}. Attaches the node if it was not
+		 * attached.
+		 *
+		 * @param calculation
+		 *            the calculation
+		 * @return the observables that the calculation depends on
+		 */
+		public IObservable[] compute(Runnable calculation) {
+			IObservable[] newDependencies = ObservableTracker.runAndMonitor(calculation, null, null);
+			count++;
+			recomputeCount.incrementAndGet();
+			if (!attached) {
+				attached = true;
+				nodeCount.incrementAndGet();
+				for (IObservable dependency : newDependencies) {
+					addEdge(dependency);
+				}
+			} else if (!sameDependencies(newDependencies)) {
+				Set<IObservable> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+				Collections.addAll(removed, dependencies);
+				for (IObservable dependency : newDependencies) {
+					if (!removed.remove(dependency)) {
+						addEdge(dependency);
+					}
+				}
+				for (IObservable dependency : removed) {
+					removeEdge(dependency);
+				}
+			}
+			dependencies = newDependencies;
+			return newDependencies;
+		}
+
+		/**
+		 * Removes the edges of the node and detaches it from the graph. Does
+		 * nothing if the node is not attached.
+		 */
+		public void detach() {
+			if (attached) {
+				for (IObservable dependency : dependencies) {
+					removeEdge(dependency);
+				}
+				dependencies = NO_DEPENDENCIES;
+				attached = false;
+				nodeCount.decrementAndGet();
+			}
+		}
+
+		/**
+		 * @return whether the node is attached to the graph
+		 */
+		public boolean isAttached() {
+			return attached;
+		}
+
+		/**
+		 * @return the observables that the node depends on, empty if it is not
+		 *         attached
+		 */
+		public IObservable[] getDependencies() {
+			return dependencies.clone();
+		}
+
+		/**
+		 * @return how often the calculation of the node ran
+		 */
+		public long getRecomputeCount() {
+			return count;
+		}
+
+		private boolean sameDependencies(IObservable[] newDependencies) {
+			if (newDependencies.length != dependencies.length) {
+				return false;
+			}
+			// the tracker returns the same observables in the same order
+			for (int i = 0; i < newDependencies.length; i++) {
+				if (newDependencies[i] != dependencies[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private void addEdge(IObservable dependency) {
+			dependency.addChangeListener(changeListener);
+			if (staleListener != null) {
+				dependency.addStaleListener(staleListener);
+			}
+			edgeCount.incrementAndGet();
+		}
+
+		private void removeEdge(IObservable dependency) {
+			dependency.removeChangeListener(changeListener);
+			if (staleListener != null) {
+				dependency.removeStaleListener(staleListener);
+			}
+			edgeCount.decrementAndGet();
+		}
+	}
+
+	/**
+	 * @return the number of nodes attached to the graph
+	 */
+	public static int getNodeCount() {
+		return nodeCount.get();
+	}
+
+	/**
+	 * @return the number of edges from the attached nodes to their
+	 *         dependencies
+	 */
+	public static int getEdgeCount() {
+		return edgeCount.get();
+	}
+
+	/**
+	 * @return how often the nodes of the graph recomputed
+	 */
+	public static long getRecomputeCount() {
+		return recomputeCount.get();
+	}
+}
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
 
 import org.eclipse.core.databinding.observable.list.ListDiff;
@@ -37,6 +38,13 @@ import org.eclipse.core.databinding.observable.value.ValueDiff;
  * @since 1.0
  */
 public class Diffs {
+	/**
+	 * Lists with at most this product of their sizes are compared with the
+	 * original algorithm, whose entries existing clients may depend on. Larger
+	 * lists are compared in O(n log n) time.
+	 */
+	private static final int QUADRATIC_DIFF_LIMIT = 4096;
+
 	private static final class UnmodifiableListDiff<E> extends ListDiff<E> {
 		private ListDiff<? extends E> toWrap;
 
@@ -214,7 +222,8 @@ public class Diffs {
 
 	/**
 	 * Returns a {@link ListDiff} describing the change between the specified
-	 * old and new list states.
+	 * old and new list states. Elements that changed their position are
+	 * described by adjacent remove and add entries.
 	 *
 	 * @param <E>
 	 *            the list element type
@@ -228,7 +237,12 @@ public class Diffs {
 	 */
 	public static <E> ListDiff<E> computeListDiff(List<? extends E> oldList, List<? extends E> newList) {
 		List<ListDiffEntry<E>> diffEntries = new ArrayList<>();
-		createListDiffs(new ArrayList<>(oldList), newList, diffEntries);
+		if ((long) oldList.size() * newList.size() <= QUADRATIC_DIFF_LIMIT) {
+			createListDiffs(new ArrayList<>(oldList), newList, diffEntries);
+		} else {
+			createIndexedListDiffs(oldList instanceof RandomAccess ? oldList : new ArrayList<>(oldList),
+					newList instanceof RandomAccess ? newList : new ArrayList<>(newList), diffEntries);
+		}
 		return createListDiff(diffEntries);
 	}
 
@@ -337,6 +351,169 @@ public class Diffs {
 		}
 	}
 
+	/**
+	 * Computes the differences in O(n log n) time. The common prefix and suffix
+	 * of the lists are skipped. In between, equal elements are matched through
+	 * a hash index in the order of their occurrence. Like the common lines of a
+	 * patience diff, the matched elements whose old positions form the longest
+	 * increasing sequence in the order of the new list stay in place. The old
+	 * elements without a match are removed, the other matched elements are
+	 * moved with adjacent remove and add entries, and the new elements without
+	 * a match are added.
+	 */
+	private static <E> void createIndexedListDiffs(List<? extends E> oldList, List<? extends E> newList,
+			List<ListDiffEntry<E>> listDiffs) {
+		int start = 0;
+		int oldEnd = oldList.size();
+		int newEnd = newList.size();
+		while (start < oldEnd && start < newEnd && Objects.equals(oldList.get(start), newList.get(start))) {
+			start++;
+		}
+		while (oldEnd > start && newEnd > start
+				&& Objects.equals(oldList.get(oldEnd - 1), newList.get(newEnd - 1))) {
+			oldEnd--;
+			newEnd--;
+		}
+		int oldSize = oldEnd - start;
+		int newSize = newEnd - start;
+
+		// chain the old positions of equal elements, first occurrence first
+		Map<Object, Integer> firstOccurrence = new HashMap<>();
+		int[] nextOccurrence = new int[oldSize];
+		for (int i = oldSize - 1; i >= 0; i--) {
+			Integer next = firstOccurrence.put(oldList.get(start + i), Integer.valueOf(i));
+			nextOccurrence[i] = next == null ? -1 : next.intValue();
+		}
+
+		// the old position matched by each new element, or -1
+		int[] oldPositions = new int[newSize];
+		boolean[] oldMatched = new boolean[oldSize];
+		for (int i = 0; i < newSize; i++) {
+			E element = newList.get(start + i);
+			Integer oldPosition = firstOccurrence.get(element);
+			if (oldPosition == null) {
+				oldPositions[i] = -1;
+				continue;
+			}
+			int position = oldPosition.intValue();
+			oldPositions[i] = position;
+			oldMatched[position] = true;
+			if (nextOccurrence[position] == -1) {
+				firstOccurrence.remove(element);
+			} else {
+				firstOccurrence.put(element, Integer.valueOf(nextOccurrence[position]));
+			}
+		}
+
+		boolean[] stable = longestIncreasingSequence(oldPositions);
+
+		// remove the old elements without a match from the end, so the
+		// positions of the preceding elements do not change
+		for (int i = oldSize - 1; i >= 0; i--) {
+			if (!oldMatched[i]) {
+				listDiffs.add(createListDiffEntry(start + i, false, oldList.get(start + i)));
+			}
+		}
+
+		// Order the old elements and the inserted new elements as they appear
+		// in the list while the entries are applied: an inserted element
+		// follows the stable element that precedes it in the new list, before
+		// the old elements that are yet to be moved behind that one.
+		int[] oldSlots = new int[oldSize];
+		int[] newSlots = new int[newSize];
+		int slot = 0;
+		int oldIndex = 0;
+		for (int i = 0; i < newSize; i++) {
+			if (stable[i]) {
+				while (oldIndex <= oldPositions[i]) {
+					oldSlots[oldIndex++] = slot++;
+				}
+			} else {
+				newSlots[i] = slot++;
+			}
+		}
+		while (oldIndex < oldSize) {
+			oldSlots[oldIndex++] = slot++;
+		}
+
+		// a Fenwick tree counting the elements in the slots
+		int[] tree = new int[slot + 1];
+		for (int i = 0; i < oldSize; i++) {
+			if (oldMatched[i]) {
+				addToTree(tree, oldSlots[i], 1);
+			}
+		}
+
+		for (int i = 0; i < newSize; i++) {
+			if (stable[i]) {
+				continue;
+			}
+			int oldPosition = oldPositions[i];
+			if (oldPosition != -1) {
+				listDiffs.add(createListDiffEntry(start + countInTree(tree, oldSlots[oldPosition]), false,
+						oldList.get(start + oldPosition)));
+				addToTree(tree, oldSlots[oldPosition], -1);
+			}
+			listDiffs.add(createListDiffEntry(start + countInTree(tree, newSlots[i]), true, newList.get(start + i)));
+			addToTree(tree, newSlots[i], 1);
+		}
+	}
+
+	/**
+	 * Returns which of the given positions form the longest strictly
+	 * increasing sequence, ignoring the positions that are -1.
+	 */
+	private static boolean[] longestIncreasingSequence(int[] positions) {
+		// tails[k] is the index of the smallest last position of the
+		// increasing sequences of length k + 1
+		int[] tails = new int[positions.length];
+		int[] predecessors = new int[positions.length];
+		int length = 0;
+		for (int i = 0; i < positions.length; i++) {
+			int position = positions[i];
+			if (position == -1) {
+				continue;
+			}
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (positions[tails[middle]] < position) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			predecessors[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			if (low == length) {
+				length++;
+			}
+		}
+		boolean[] result = new boolean[positions.length];
+		for (int i = length > 0 ? tails[length - 1] : -1; i != -1; i = predecessors[i]) {
+			result[i] = true;
+		}
+		return result;
+	}
+
+	private static void addToTree(int[] tree, int slot, int delta) {
+		for (int i = slot + 1; i < tree.length; i += i & -i) {
+			tree[i] += delta;
+		}
+	}
+
+	/**
+	 * Returns the number of elements in the slots before the given one.
+	 */
+	private static int countInTree(int[] tree, int slot) {
+		int count = 0;
+		for (int i = slot; i > 0; i -= i & -i) {
+			count += tree[i];
+		}
+		return count;
+	}
+
 	/**
 	 * @return the index, or -1 if not found
 	 */
@@ -22,6 +22,7 @@ import java.util.TimerTask;
 
 import org.eclipse.core.databinding.util.Policy;
 import org.eclipse.core.internal.databinding.observable.Queue;
+import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.SafeRunner;
@@ -128,6 +129,8 @@ public abstract class Realm {
 
 	Queue workQueue = new Queue();
 
+	private RealmTransaction transaction;
+
 	/**
 	 * Runs the given runnable. If an exception occurs within the runnable, it is
 	 * logged and not re-thrown. If the runnable implements {@link ISafeRunnable},
@@ -159,6 +162,85 @@ public abstract class Realm {
 		SafeRunner.run(safeRunnable);
 	}
 
+	/**
+	 * Begins a transaction in this realm. Until the transaction is committed,
+	 * the change events of the observables of this realm are deferred, and
+	 * the value, list, set and map change events of each observable are merged
+	 * into one event with the combined diff. Other events, like stale events,
+	 * are not deferred. Transactions may be nested, the events are delivered
+	 * when the outermost transaction is committed.
+	 * <p>
+	 * A bulk update of a model in a transaction notifies each observable once.
+	 * Computed observables that depend on the changed observables are marked
+	 * dirty before any of them is read, so that each of them is recomputed at
+	 * most once from the final state of the model, see
+	 * {@link #commitTransaction()}.
+	 * </p>
+	 * <p>
+	 * Since the change events are deferred, computed observables are not
+	 * marked dirty while the transaction is open. Reading a computed
+	 * observable, like a <code>ComputedValue</code>, inside the transaction
+	 * returns the value it cached before the transaction, which does not
+	 * reflect the changes made so far. Read computed observables after the
+	 * transaction is committed.
+	 * </p>
+	 * <p>
+	 * This method must be called from within this realm, and every call must be
+	 * followed by a call to {@link #commitTransaction()}, typically in a
+	 * <code>finally</code> block.
+	 * </p>
+	 *
+	 * @since 1.14
+	 */
+	public void beginTransaction() {
+		Assert.isTrue(isCurrent(), "Transactions must be begun from within the realm"); //$NON-NLS-1$
+		if (transaction == null) {
+			transaction = new RealmTransaction();
+		}
+		transaction.begin();
+	}
+
+	/**
+	 * Commits the transaction begun last by {@link #beginTransaction()}. If it
+	 * is the outermost transaction, the deferred events are delivered: First
+	 * the generic change events of all changed observables, including the
+	 * computed observables that become dirty, then the value, list, set and
+	 * map change events with the merged diffs, in the order in which the
+	 * observables first changed.
+	 *
+	 * @throws IllegalStateException
+	 *             if no transaction was begun
+	 * @since 1.14
+	 */
+	public void commitTransaction() {
+		Assert.isTrue(isCurrent(), "Transactions must be committed from within the realm"); //$NON-NLS-1$
+		RealmTransaction committed = transaction;
+		if (committed == null) {
+			throw new IllegalStateException("There is no transaction to commit"); //$NON-NLS-1$
+		}
+		if (committed.end()) {
+			committed.commit(() -> transaction = null);
+		}
+	}
+
+	/**
+	 * Returns whether a transaction begun by {@link #beginTransaction()} is
+	 * open in this realm.
+	 *
+	 * @return <code>true</code> if change events are deferred
+	 * @since 1.14
+	 */
+	public boolean isInTransaction() {
+		return transaction != null && transaction.isOpen();
+	}
+
+	/**
+	 * Returns the open or committing transaction, which defers change events.
+	 */
+	/* package */RealmTransaction getTransaction() {
+		return transaction;
+	}
+
 	/**
 	 * Causes the <code>run()</code> method of the runnable to be invoked from
 	 * within this realm. If the caller is executing in this realm, the
@@ -0,0 +1,393 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+import org.eclipse.core.databinding.observable.map.MapChangeEvent;
+import org.eclipse.core.databinding.observable.map.MapDiff;
+import org.eclipse.core.databinding.observable.set.SetChangeEvent;
+import org.eclipse.core.databinding.observable.set.SetDiff;
+import org.eclipse.core.databinding.observable.value.ValueChangeEvent;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+
+/**
+ * The change events deferred by a transaction of a {@link Realm}, see
+ * {@link Realm#beginTransaction()}.
+ * <p>
+ * The change, value change, list change, set change and map change events of
+ * each observable are collected while the transaction is open. When it is
+ * committed, the events are delivered in two phases:
+ * </p>
+ * <ol>
+ * <li>The {@link ChangeEvent}s are delivered, until no more observables
+ * change. Computed observables only mark themselves dirty on a change event
+ * and fire their own, deferred events, so all of them are invalidated before
+ * any of them is read again.</li>
+ * <li>The typed events are delivered with the merged diffs of each
+ * observable, in the order in which the observables first changed. Since the
+ * sources of a computed observable change before the computed observable
+ * itself, this is a topological order. When a listener reads a computed
+ * observable, it recomputes it once from the final values of its
+ * dependencies.</li>
+ * </ol>
+ * Events fired by listeners in the second phase are not deferred. A merged
+ * event whose diff has no net effect, like a value that was changed and then
+ * changed back, is not delivered.
+ */
+/* package */final class RealmTransaction {
+
+	/**
+	 * The deferred events of one observable.
+	 */
+	private static final class PendingChanges {
+		final ChangeManager changeManager;
+
+		/**
+		 * The change event that is yet to be delivered in the first phase.
+		 */
+		ObservableEvent changeEvent;
+
+		/**
+		 * The typed events to merge, all of the same type.
+		 */
+		final List<ObservableEvent> events = new ArrayList<>(1);
+
+		PendingChanges(ChangeManager changeManager) {
+			this.changeManager = changeManager;
+		}
+	}
+
+	/**
+	 * The deferred events by observable. Observable collections implement
+	 * <code>equals</code> by content, so they are looked up by identity.
+	 */
+	private final Map<ChangeManager, PendingChanges> pending = new IdentityHashMap<>();
+
+	/**
+	 * The deferred events in the order in which the observables first changed.
+	 */
+	private final List<PendingChanges> order = new ArrayList<>();
+
+	private final ArrayDeque<PendingChanges> changeQueue = new ArrayDeque<>();
+
+	private int depth;
+
+	private boolean committing;
+
+	/**
+	 * Opens the transaction or a nested one.
+	 */
+	void begin() {
+		depth++;
+	}
+
+	/**
+	 * Closes the transaction or a nested one.
+	 *
+	 * @return <code>true</code> if the outermost transaction was closed and
+	 *         the events must be delivered
+	 */
+	boolean end() {
+		if (depth == 0) {
+			throw new IllegalStateException("There is no transaction to commit"); //$NON-NLS-1$
+		}
+		return --depth == 0 && !committing;
+	}
+
+	/**
+	 * @return whether a transaction is open
+	 */
+	boolean isOpen() {
+		return depth > 0;
+	}
+
+	/**
+	 * Defers the given event of an observable, if it is a kind of event that
+	 * transactions merge.
+	 *
+	 * @param changeManager
+	 *            the change manager of the observable
+	 * @param event
+	 *            the event
+	 * @return <code>true</code> if the event was deferred,
+	 *         <code>false</code> if it must be delivered now
+	 */
+	boolean defer(ChangeManager changeManager, ObservableEvent event) {
+		boolean changeEvent = event.getListenerType() == ChangeEvent.TYPE;
+		if (!changeEvent && !(event instanceof ValueChangeEvent) && !(event instanceof ListChangeEvent)
+				&& !(event instanceof SetChangeEvent) && !(event instanceof MapChangeEvent)) {
+			return false;
+		}
+		PendingChanges changes = pending.get(changeManager);
+		if (changes == null) {
+			changes = new PendingChanges(changeManager);
+			pending.put(changeManager, changes);
+			order.add(changes);
+		}
+		if (changeEvent) {
+			if (changes.changeEvent == null) {
+				changes.changeEvent = event;
+				changeQueue.add(changes);
+			}
+		} else {
+			changes.events.add(event);
+		}
+		return true;
+	}
+
+	/**
+	 * Delivers the deferred events.
+	 *
+	 * @param closer
+	 *            called when no more events are deferred
+	 */
+	void commit(Runnable closer) {
+		committing = true;
+		try {
+			PendingChanges changes;
+			while ((changes = changeQueue.poll()) != null) {
+				ObservableEvent event = changes.changeEvent;
+				changes.changeEvent = null;
+				changes.changeManager.dispatchEvent(event);
+			}
+		} finally {
+			committing = false;
+			closer.run();
+		}
+		for (PendingChanges changes : order) {
+			if (!changes.events.isEmpty()) {
+				ObservableEvent event = merge(changes.events);
+				if (event != null) {
+					changes.changeManager.dispatchEvent(event);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Merges the typed events of one observable.
+	 *
+	 * @return the merged event, or <code>null</code> if the events have no net
+	 *         effect
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static ObservableEvent merge(List<ObservableEvent> events) {
+		ObservableEvent first = events.get(0);
+		if (events.size() == 1) {
+			return first;
+		}
+		ObservableEvent last = events.get(events.size() - 1);
+		if (first instanceof ValueChangeEvent) {
+			Object oldValue = ((ValueChangeEvent) first).diff.getOldValue();
+			Object newValue = ((ValueChangeEvent) last).diff.getNewValue();
+			if (Diffs.equals(oldValue, newValue)) {
+				return null;
+			}
+			return new ValueChangeEvent(((ValueChangeEvent) first).getObservableValue(),
+					Diffs.createValueDiff(oldValue, newValue));
+		}
+		if (first instanceof ListChangeEvent) {
+			MergedListDiff diff = new MergedListDiff(events);
+			return diff.isEmpty() ? null : new ListChangeEvent(((ListChangeEvent) first).getObservableList(), diff);
+		}
+		if (first instanceof SetChangeEvent) {
+			MergedSetDiff diff = new MergedSetDiff(events);
+			return diff.isEmpty() ? null : new SetChangeEvent(((SetChangeEvent) first).getObservableSet(), diff);
+		}
+		MergedMapDiff diff = new MergedMapDiff(events);
+		return diff.isEmpty() ? null : new MapChangeEvent(((MapChangeEvent) first).getObservableMap(), diff);
+	}
+
+	/**
+	 * The entries of the list diffs of several events, one after the other,
+	 * without entries that are undone by the next one. Computed lazily, since a
+	 * computed list calculates its diff when it is asked for it.
+	 */
+	private static final class MergedListDiff<E> extends ListDiff<E> {
+		private final List<ListChangeEvent<E>> events;
+
+		private ListDiffEntry<E>[] differences;
+
+		MergedListDiff(List<ListChangeEvent<E>> events) {
+			this.events = events;
+		}
+
+		@Override
+		public ListDiffEntry<E>[] getDifferences() {
+			if (differences == null) {
+				ArrayDeque<ListDiffEntry<E>> entries = new ArrayDeque<>();
+				for (ListChangeEvent<E> event : events) {
+					for (ListDiffEntry<E> entry : event.diff.getDifferences()) {
+						ListDiffEntry<E> previous = entries.peekLast();
+						if (previous != null && previous.getPosition() == entry.getPosition()
+								&& previous.isAddition() != entry.isAddition()
+								&& Diffs.equals(previous.getElement(), entry.getElement())) {
+							// an element added and removed again, or removed and
+							// added back at the same position
+							entries.removeLast();
+						} else {
+							entries.addLast(entry);
+						}
+					}
+				}
+				differences = Diffs.createListDiff(new ArrayList<>(entries)).getDifferences();
+			}
+			return differences;
+		}
+	}
+
+	/**
+	 * The net additions and removals of the set diffs of several events.
+	 */
+	private static final class MergedSetDiff<E> extends SetDiff<E> {
+		private final List<SetChangeEvent<E>> events;
+
+		private Set<E> additions;
+
+		private Set<E> removals;
+
+		MergedSetDiff(List<SetChangeEvent<E>> events) {
+			this.events = events;
+		}
+
+		private void merge() {
+			if (additions != null) {
+				return;
+			}
+			additions = new HashSet<>();
+			removals = new HashSet<>();
+			for (SetChangeEvent<E> event : events) {
+				for (E element : event.diff.getRemovals()) {
+					if (!additions.remove(element)) {
+						removals.add(element);
+					}
+				}
+				for (E element : event.diff.getAdditions()) {
+					if (!removals.remove(element)) {
+						additions.add(element);
+					}
+				}
+			}
+		}
+
+		@Override
+		public Set<E> getAdditions() {
+			merge();
+			return additions;
+		}
+
+		@Override
+		public Set<E> getRemovals() {
+			merge();
+			return removals;
+		}
+	}
+
+	/**
+	 * The net changes of the map diffs of several events.
+	 */
+	private static final class MergedMapDiff<K, V> extends MapDiff<K, V> {
+		private final List<MapChangeEvent<K, V>> events;
+
+		private MapDiff<K, V> diff;
+
+		MergedMapDiff(List<MapChangeEvent<K, V>> events) {
+			this.events = events;
+		}
+
+		private MapDiff<K, V> merge() {
+			if (diff != null) {
+				return diff;
+			}
+			// the keys that were present before the first and after the last
+			// diff, with their values
+			Map<K, V> oldValues = new HashMap<>();
+			Map<K, V> newValues = new HashMap<>();
+			Set<K> oldKeys = new HashSet<>();
+			Set<K> newKeys = new HashSet<>();
+			Set<K> seen = new HashSet<>();
+			for (MapChangeEvent<K, V> event : events) {
+				MapDiff<K, V> part = event.diff;
+				for (K key : part.getAddedKeys()) {
+					seen.add(key);
+					newKeys.add(key);
+					newValues.put(key, part.getNewValue(key));
+				}
+				for (K key : part.getRemovedKeys()) {
+					if (seen.add(key)) {
+						oldKeys.add(key);
+						oldValues.put(key, part.getOldValue(key));
+					}
+					newKeys.remove(key);
+					newValues.remove(key);
+				}
+				for (K key : part.getChangedKeys()) {
+					if (seen.add(key)) {
+						oldKeys.add(key);
+						oldValues.put(key, part.getOldValue(key));
+					}
+					newKeys.add(key);
+					newValues.put(key, part.getNewValue(key));
+				}
+			}
+			Set<K> addedKeys = new HashSet<>(newKeys);
+			addedKeys.removeAll(oldKeys);
+			Set<K> removedKeys = new HashSet<>(oldKeys);
+			removedKeys.removeAll(newKeys);
+			Set<K> changedKeys = new HashSet<>(oldKeys);
+			changedKeys.retainAll(newKeys);
+			// values that were changed back
+			changedKeys.removeIf(key -> Diffs.equals(oldValues.get(key), newValues.get(key)));
+			diff = Diffs.createMapDiff(addedKeys, removedKeys, changedKeys, oldValues, newValues);
+			return diff;
+		}
+
+		@Override
+		public Set<K> getAddedKeys() {
+			return merge().getAddedKeys();
+		}
+
+		@Override
+		public Set<K> getRemovedKeys() {
+			return merge().getRemovedKeys();
+		}
+
+		@Override
+		public Set<K> getChangedKeys() {
+			return merge().getChangedKeys();
+		}
+
+		@Override
+		public V getOldValue(Object key) {
+			return merge().getOldValue(key);
+		}
+
+		@Override
+		public V getNewValue(Object key) {
+			return merge().getNewValue(key);
+		}
+	}
+}
@@ -24,6 +24,7 @@ import java.util.Objects;
 import java.util.function.Supplier;
 
 import org.eclipse.core.databinding.observable.ChangeEvent;
+import org.eclipse.core.databinding.observable.DependencyGraph;
 import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.IChangeListener;
 import org.eclipse.core.databinding.observable.IObservable;
@@ -88,8 +89,6 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 	private boolean dirty = true;
 	private boolean stale = false;
 
-	private IObservable[] dependencies = new IObservable[0];
-
 	/**
 	 * Factory method to create {@link ComputedList} objects in an easy manner.
 	 * <p>
@@ -169,13 +168,8 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 	 * </p>
 	 *
 	 * <p>
-	 * The IChangeListener stores each observable in the dependencies list. This
-	 * is registered as the listener when calling ObservableTracker, to detect
-	 * every observable that is used by computeValue.
-	 * </p>
-	 *
-	 * <p>
-	 * The IChangeListener is attached to every dependency.
+	 * The IChangeListener and the IStaleListener are attached to every
+	 * dependency by the node of the dependency graph.
 	 * </p>
 	 */
 	private class PrivateInterface implements Runnable, IChangeListener,
@@ -201,6 +195,12 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 
 	private PrivateInterface privateInterface = new PrivateInterface();
 
+	/**
+	 * The edges to the observables this computed list depends on. The node is
+	 * not attached if we are not currently listening.
+	 */
+	private final DependencyGraph.Node node = new DependencyGraph.Node(privateInterface, privateInterface);
+
 	private Object elementType;
 
 	@Override
@@ -225,8 +225,8 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 			// - Run the calculate method
 			// - While doing so, add any observable that is touched to the
 			// dependencies list
-			IObservable[] newDependencies = ObservableTracker.runAndMonitor(
-					privateInterface, privateInterface, null);
+			// - Only register with the dependencies that were not used before
+			IObservable[] newDependencies = node.compute(privateInterface);
 
 			// If any dependencies are stale, a stale event will be fired here
 			// even if we were already stale before recomputing. This is in case
@@ -239,14 +239,6 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 				}
 			}
 
-			if (!stale) {
-				for (IObservable newDependency : newDependencies) {
-					newDependency.addStaleListener(privateInterface);
-				}
-			}
-
-			dependencies = newDependencies;
-
 			dirty = false;
 		}
 
@@ -273,7 +265,12 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 
 			makeStale();
 
-			stopListening();
+			// Keep the edges to the dependencies while somebody listens to us,
+			// so the next calculation does not register the same listeners
+			// again. Otherwise stop listening, so we can be garbage collected.
+			if (!hasListeners()) {
+				node.detach();
+			}
 
 			// copy the old list
 			final List<E> oldList = new ArrayList<>(cachedList);
@@ -293,16 +290,6 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 		}
 	}
 
-	private void stopListening() {
-		if (dependencies != null) {
-			for (IObservable observable : dependencies) {
-				observable.removeChangeListener(privateInterface);
-				observable.removeStaleListener(privateInterface);
-			}
-			dependencies = null;
-		}
-	}
-
 	private void makeStale() {
 		if (!stale) {
 			stale = true;
@@ -348,11 +335,11 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 		// been executed. It is their job to figure out what to do with those
 		// notifications.
 		getRealm().exec(() -> {
-			if (dependencies == null) {
-				// We are not currently listening.
+			if (dirty && node.getRecomputeCount() > 0 && hasListeners()) {
+				// We may not be listening, and a dirty list does not notify
+				// further changes.
 				// But someone is listening for changes. Call getValue()
-				// to make sure we start listening to the observables we
-				// depend on.
+				// to make sure we listen to the observables we depend on.
 				getList();
 			}
 		});
@@ -360,7 +347,7 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 
 	@Override
 	public synchronized void dispose() {
-		stopListening();
+		node.detach();
 		super.dispose();
 	}
 }
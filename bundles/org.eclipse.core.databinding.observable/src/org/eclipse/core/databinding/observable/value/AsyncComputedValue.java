@@ -0,0 +1,371 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.databinding.observable.value;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.core.databinding.observable.ChangeEvent;
+import org.eclipse.core.databinding.observable.DependencyGraph;
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IChangeListener;
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.StaleEvent;
+import org.eclipse.core.databinding.util.Policy;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+/**
+ * A computed value whose expensive calculation runs on a background executor
+ * instead of the realm, which for values shown in the UI is the display
+ * thread.
+ * <p>
+ * The calculation has two parts. {@link #prepare()} runs in the realm. It reads
+ * the dependencies through their tracked getters, like
+ * {@link ComputedValue#calculate()}, and returns a snapshot of everything the
+ * calculation needs in the form of a {@link Callable}. The callable runs on the
+ * executor and must not access any observable. Its result is published in the
+ * realm through {@link Realm#asyncExec(Runnable)}.
+ * </p>
+ * <p>
+ * While a calculation is pending, the value keeps its previous result and is
+ * {@link #isStale() stale}, so clients that track staleness, like the
+ * validation status of a binding, can show that the value is being computed.
+ * When the result is published, a value change event is fired even if the
+ * result equals the previous one. When a dependency changes while a
+ * calculation is pending, the calculation is cancelled, interrupting it if it
+ * is already running, and superseded by a new one. The result of a cancelled
+ * calculation is never published. If a calculation fails, the failure is
+ * logged and the value keeps its previous result.
+ * </p>
+ * <p>
+ * Like {@link ComputedValue}, the value is calculated lazily when it is read,
+ * and again after a change of its dependencies as long as somebody listens to
+ * it. All state accessing methods must be invoked from the
+ * {@link Realm#isCurrent() current realm}. Methods for adding and removing
+ * listeners may be invoked from any thread.
+ * </p>
+ * <p>
+ * Example: count the matches of a pattern in a document in the background.
+ * </p>
+ *
+ * <pre>
+ * IObservableValue&lt;Integer&gt; matches = AsyncComputedValue.create(executor,
+ * 		() -&gt; new Search(pattern.getValue(), document.getValue()),
+ * 		search -&gt; search.countMatches());
+ * </pre>
+ *
+ * @param <T>
+ *            the type of value being observed
+ *
+ * @since 1.14
+ */
+public abstract class AsyncComputedValue<T> extends AbstractObservableValue<T> {
+
+	private final Executor executor;
+
+	private final Object valueType;
+
+	private T cachedValue;
+
+	private boolean dirty = true;
+
+	/**
+	 * Whether a stale event was fired that was not followed by a value change
+	 * event yet.
+	 */
+	private boolean stale;
+
+	private boolean dependencyStale;
+
+	/**
+	 * The calculation whose result will be published, or <code>null</code>.
+	 */
+	private Calculation pending;
+
+	/**
+	 * The callable returned by the last call of {@link #prepare()}.
+	 */
+	private Callable<T> snapshot;
+
+	/**
+	 * Factory method to create {@link AsyncComputedValue} objects in an easy
+	 * manner.
+	 * <p>
+	 * The created value has a null {@link IObservableValue#getValueType}.
+	 * </p>
+	 *
+	 * @param executor
+	 *            the executor that runs the calculation
+	 * @param snapshot
+	 *            reads the dependencies in the realm, tracked using
+	 *            {@link ObservableTracker} in the same manner as
+	 *            {@link #prepare()}
+	 * @param calculation
+	 *            computes the value from the snapshot on the executor
+	 * @return {@link AsyncComputedValue} whose value is computed in the
+	 *         background
+	 */
+	public static <S, T> IObservableValue<T> create(Executor executor, Supplier<S> snapshot,
+			Function<? super S, ? extends T> calculation) {
+		Objects.requireNonNull(snapshot);
+		Objects.requireNonNull(calculation);
+		return new AsyncComputedValue<>(executor) {
+			@Override
+			protected Callable<T> prepare() {
+				S input = snapshot.get();
+				return () -> calculation.apply(input);
+			}
+		};
+	}
+
+	/**
+	 * @param executor
+	 *            the executor that runs the calculation; not <code>null</code>
+	 */
+	public AsyncComputedValue(Executor executor) {
+		this(Realm.getDefault(), null, executor);
+	}
+
+	/**
+	 * @param realm
+	 *            the realm to use; not <code>null</code>
+	 * @param executor
+	 *            the executor that runs the calculation; not <code>null</code>
+	 */
+	public AsyncComputedValue(Realm realm, Executor executor) {
+		this(realm, null, executor);
+	}
+
+	/**
+	 * @param realm
+	 *            the realm to use; not <code>null</code>
+	 * @param valueType
+	 *            can be <code>null</code>
+	 * @param executor
+	 *            the executor that runs the calculation; not <code>null</code>
+	 */
+	public AsyncComputedValue(Realm realm, Object valueType, Executor executor) {
+		super(realm);
+		this.valueType = valueType;
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	/**
+	 * A calculation on the executor, which publishes its result in the realm
+	 * unless it was cancelled.
+	 */
+	private final class Calculation extends FutureTask<T> {
+		Calculation(Callable<T> callable) {
+			super(callable);
+		}
+
+		@Override
+		protected void done() {
+			if (!isCancelled()) {
+				getRealm().asyncExec(() -> publish(this));
+			}
+		}
+	}
+
+	/**
+	 * Inner class that implements interfaces that we don't want to expose as
+	 * public API.
+	 *
+	 * <p>
+	 * The Runnable calls prepare and stores the result in snapshot.
+	 * </p>
+	 *
+	 * <p>
+	 * The IChangeListener and the IStaleListener are attached to every
+	 * dependency by the node of the dependency graph.
+	 * </p>
+	 */
+	private class PrivateInterface implements Runnable, IChangeListener, IStaleListener {
+		@Override
+		public void run() {
+			snapshot = prepare();
+		}
+
+		@Override
+		public void handleStale(StaleEvent event) {
+			if (!dirty) {
+				dependencyStale = true;
+				makeStale();
+			}
+		}
+
+		@Override
+		public void handleChange(ChangeEvent event) {
+			makeDirty();
+		}
+	}
+
+	private final PrivateInterface privateInterface = new PrivateInterface();
+
+	/**
+	 * The edges to the observables this value depends on. The node is not
+	 * attached if we are not currently listening.
+	 */
+	private final DependencyGraph.Node node = new DependencyGraph.Node(privateInterface, privateInterface);
+
+	@Override
+	protected final T doGetValue() {
+		if (dirty) {
+			start();
+		}
+		return cachedValue;
+	}
+
+	/**
+	 * Subclasses must override this method to take a snapshot of the
+	 * dependencies of the value. It is called in the realm. Any dependencies
+	 * must be {@link IObservable}, and implementers must use one of the
+	 * interface methods tagged TrackedGetter for AsyncComputedValue to
+	 * recognize it as a dependency.
+	 *
+	 * @return the calculation of the value from the snapshot, which is called
+	 *         on the executor and must not access any observable
+	 */
+	protected abstract Callable<T> prepare();
+
+	/**
+	 * Takes a snapshot of the dependencies and submits the calculation.
+	 */
+	private void start() {
+		IObservable[] dependencies = node.compute(privateInterface);
+		Callable<T> callable = snapshot;
+		snapshot = null;
+		dirty = false;
+
+		dependencyStale = false;
+		for (IObservable dependency : dependencies) {
+			if (dependency.isStale()) {
+				dependencyStale = true;
+			}
+		}
+
+		Calculation calculation = new Calculation(callable);
+		pending = calculation;
+		makeStale();
+		executor.execute(calculation);
+	}
+
+	private void makeDirty() {
+		if (!dirty) {
+			dirty = true;
+			cancel();
+			makeStale();
+			if (hasListeners()) {
+				// Take the next snapshot after the current change is
+				// complete, so a burst of changes starts one calculation.
+				getRealm().asyncExec(() -> {
+					if (dirty && !isDisposed()) {
+						start();
+					}
+				});
+			} else {
+				node.detach();
+			}
+		}
+	}
+
+	private void cancel() {
+		if (pending != null) {
+			pending.cancel(true);
+			pending = null;
+		}
+	}
+
+	private void makeStale() {
+		if (!stale) {
+			stale = true;
+			fireStale();
+		}
+	}
+
+	/**
+	 * Publishes the result of the given calculation, unless it was superseded.
+	 */
+	private void publish(Calculation calculation) {
+		if (calculation != pending || isDisposed()) {
+			return;
+		}
+		pending = null;
+		final T oldValue = cachedValue;
+		try {
+			cachedValue = calculation.get();
+		} catch (ExecutionException e) {
+			Policy.getLog().log(new Status(IStatus.ERROR, Policy.JFACE_DATABINDING, IStatus.OK,
+					"Could not compute value: " + e.getCause().getMessage(), e.getCause())); //$NON-NLS-1$
+		} catch (InterruptedException e) {
+			// cannot happen, the calculation is done
+			Thread.currentThread().interrupt();
+		}
+		stale = dependencyStale;
+		fireValueChange(Diffs.createValueDiff(oldValue, cachedValue));
+	}
+
+	@Override
+	public boolean isStale() {
+		// we need to start the calculation, otherwise staleness wouldn't mean
+		// anything
+		getValue();
+		return pending != null || dependencyStale;
+	}
+
+	@Override
+	public Object getValueType() {
+		return valueType;
+	}
+
+	@Override
+	public synchronized void addChangeListener(IChangeListener listener) {
+		super.addChangeListener(listener);
+		computeValueForListeners();
+	}
+
+	@Override
+	public synchronized void addValueChangeListener(IValueChangeListener<? super T> listener) {
+		super.addValueChangeListener(listener);
+		computeValueForListeners();
+	}
+
+	/**
+	 * Starts listening to the dependencies when somebody listens to us, see
+	 * ComputedValue.
+	 */
+	private void computeValueForListeners() {
+		getRealm().exec(() -> {
+			if (!node.isAttached() && hasListeners()) {
+				getValue();
+			}
+		});
+	}
+
+	@Override
+	public synchronized void dispose() {
+		super.dispose();
+		cancel();
+		node.detach();
+	}
+}
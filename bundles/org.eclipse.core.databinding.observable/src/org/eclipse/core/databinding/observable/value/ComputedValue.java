@@ -21,6 +21,7 @@ import java.util.Objects;
 import java.util.function.Supplier;
 
 import org.eclipse.core.databinding.observable.ChangeEvent;
+import org.eclipse.core.databinding.observable.DependencyGraph;
 import org.eclipse.core.databinding.observable.IChangeListener;
 import org.eclipse.core.databinding.observable.IObservable;
 import org.eclipse.core.databinding.observable.IStaleListener;
@@ -80,11 +81,6 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 
 	private T cachedValue = null;
 
-	/**
-	 * Array of observables this computed value depends on. This field has a
-	 * value of <code>null</code> if we are not currently listening.
-	 */
-	private IObservable[] dependencies = null;
 
 	/**
 	 * Factory method to create {@link ComputedValue} objects in an easy manner.
@@ -152,13 +148,8 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 	 * </p>
 	 *
 	 * <p>
-	 * The IChangeListener stores each observable in the dependencies list. This
-	 * is registered as the listener when calling ObservableTracker, to detect
-	 * every observable that is used by computeValue.
-	 * </p>
-	 *
-	 * <p>
-	 * The IChangeListener is attached to every dependency.
+	 * The IChangeListener and the IStaleListener are attached to every
+	 * dependency by the node of the dependency graph.
 	 * </p>
 	 */
 	private class PrivateInterface implements Runnable, IChangeListener,
@@ -184,6 +175,12 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 
 	private PrivateInterface privateInterface = new PrivateInterface();
 
+	/**
+	 * The edges to the observables this computed value depends on. The node is
+	 * not attached if we are not currently listening.
+	 */
+	private final DependencyGraph.Node node = new DependencyGraph.Node(privateInterface, privateInterface);
+
 	private Object valueType;
 
 	@Override
@@ -193,21 +190,16 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 			// - Run the calculate method
 			// - While doing so, add any observable that is touched to the
 			// dependencies list
-			IObservable[] newDependencies = ObservableTracker.runAndMonitor(
-					privateInterface, privateInterface, null);
+			// - Only register with the dependencies that were not used before
+			IObservable[] newDependencies = node.compute(privateInterface);
 
 			stale = false;
 			for (IObservable observable : newDependencies) {
-				// Add a change listener to the new dependency.
 				if (observable.isStale()) {
 					stale = true;
-				} else {
-					observable.addStaleListener(privateInterface);
 				}
 			}
 
-			dependencies = newDependencies;
-
 			dirty = false;
 		}
 
@@ -228,7 +220,12 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 		if (!dirty) {
 			dirty = true;
 
-			stopListening();
+			// Keep the edges to the dependencies while somebody listens to us,
+			// so the next calculation does not register the same listeners
+			// again. Otherwise stop listening, so we can be garbage collected.
+			if (!hasListeners()) {
+				node.detach();
+			}
 
 			// copy the old value
 			final T oldValue = cachedValue;
@@ -249,17 +246,6 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 		}
 	}
 
-	private void stopListening() {
-		// Stop listening for dependency changes.
-		if (dependencies != null) {
-			for (IObservable observable : dependencies) {
-				observable.removeChangeListener(privateInterface);
-				observable.removeStaleListener(privateInterface);
-			}
-			dependencies = null;
-		}
-	}
-
 	@Override
 	public boolean isStale() {
 		// we need to recompute, otherwise staleness wouldn't mean anything
@@ -300,12 +286,12 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 	 */
 	private void computeValueForListeners() {
 		getRealm().exec(() -> {
-			if (dependencies == null) {
-				// We are not currently listening.
+			if (dirty) {
+				// We may not be listening, and a dirty value does not notify
+				// further changes.
 				if (hasListeners()) {
 					// But someone is listening for changes. Call getValue()
-					// to make sure we start listening to the observables we
-					// depend on.
+					// to make sure we listen to the observables we depend on.
 					getValue();
 				}
 			}
@@ -324,7 +310,7 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 	@Override
 	public synchronized void dispose() {
 		super.dispose();
-		stopListening();
+		node.detach();
 	}
 
 }
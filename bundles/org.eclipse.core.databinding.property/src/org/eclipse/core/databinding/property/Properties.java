@@ -31,6 +31,7 @@ import org.eclipse.core.databinding.property.list.IListProperty;
 import org.eclipse.core.databinding.property.map.IMapProperty;
 import org.eclipse.core.databinding.property.set.ISetProperty;
 import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.internal.databinding.property.DetailValueColumns;
 import org.eclipse.core.internal.databinding.property.list.SelfListProperty;
 import org.eclipse.core.internal.databinding.property.map.SelfMapProperty;
 import org.eclipse.core.internal.databinding.property.set.SelfSetProperty;
@@ -68,6 +69,38 @@ public class Properties {
 		return maps;
 	}
 
+	/**
+	 * Returns an array of observable maps where each map observes the
+	 * corresponding value property on the elements in the given domain set, for
+	 * each property in the given array.
+	 * <p>
+	 * Unlike {@link #observeEach(IObservableSet, IValueProperty...)}, the maps
+	 * only listen to the elements whose value has been requested through
+	 * {@link Map#get(Object)} while the map has listeners, and only report
+	 * changes of those elements. The values are cached in arrays shared by all
+	 * the returned maps, and one listener per property serves all elements. This
+	 * suits label providers of viewers with many elements, which only request
+	 * the values of the elements they display.
+	 * </p>
+	 *
+	 * @param domainSet
+	 *            the set of elements whose properties will be observed
+	 * @param properties
+	 *            array of value properties to observe on the requested elements
+	 *            of the domain set
+	 * @return an array of observable maps where each map observes the
+	 *         corresponding value property of the requested elements of the
+	 *         given domain set
+	 * @since 1.11
+	 */
+	@SafeVarargs
+	@SuppressWarnings("unchecked")
+	public static <E, P> IObservableMap<E, ? extends P>[] observeEachOnDemand(IObservableSet<E> domainSet,
+			IValueProperty<? super E, ? extends P>... properties) {
+		IObservableMap<?, ?>[] maps = new DetailValueColumns<>(domainSet, properties).getMaps();
+		return (IObservableMap<E, ? extends P>[]) maps;
+	}
+
 	/**
 	 * Returns an array of observable maps where each maps observes the
 	 * corresponding value property on all elements in the given domain map's
@@ -0,0 +1,667 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.map.AbstractObservableMap;
+import org.eclipse.core.databinding.observable.map.IObservableMap;
+import org.eclipse.core.databinding.observable.map.MapDiff;
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.observable.set.ISetChangeListener;
+import org.eclipse.core.databinding.observable.set.SetChangeEvent;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.IValueChangeListener;
+import org.eclipse.core.databinding.observable.value.ValueChangeEvent;
+import org.eclipse.core.databinding.property.INativePropertyListener;
+import org.eclipse.core.databinding.property.IPropertyObservable;
+import org.eclipse.core.databinding.property.SimplePropertyEvent;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.databinding.property.value.SimpleValueProperty;
+
+/**
+ * Observes value properties on the elements of a domain set, storing the
+ * values in columns instead of one map per property.
+ * <p>
+ * Each element that has been requested is assigned a row. The rows are found
+ * through an identity hash table with open addressing, and each property keeps
+ * its cached values in an array indexed by row. Listeners are attached to an
+ * element only when its value is requested through
+ * {@link IObservableMap#get(Object)} while the map has listeners, so a viewer
+ * that only asks for the labels of its visible elements only listens to those.
+ * A single listener per property dispatches the change events of all elements
+ * by looking up the row of the event source.
+ * </p>
+ * <p>
+ * Additions to the domain set are reported without computing the values of the
+ * added elements. Changes are only reported for elements that have been
+ * requested, and removed elements that were never requested have a
+ * <code>null</code> old value.
+ * </p>
+ *
+ * @param <E>
+ *            type of the elements in the domain set
+ * @since 1.11
+ */
+public class DetailValueColumns<E> {
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final IObservableSet<E> domainSet;
+
+	private final Column[] columns;
+
+	/**
+	 * Identity hash table from element to row, using linear probing.
+	 */
+	private Object[] keys;
+	private int[] keyRows;
+	private int size;
+
+	/**
+	 * The element of each row, <code>null</code> for free rows.
+	 */
+	private Object[] elements;
+	private int rowCount;
+	private int[] freeRows;
+	private int freeCount;
+
+	private int listeningColumns;
+
+	private final ISetChangeListener<E> setChangeListener = this::handleSetChange;
+
+	private final IStaleListener staleListener = staleEvent -> handleStale();
+
+	/**
+	 * @param domainSet
+	 *            the set of elements whose properties will be observed
+	 * @param properties
+	 *            the properties to observe, one map per property
+	 */
+	@SuppressWarnings("unchecked")
+	@SafeVarargs
+	public DetailValueColumns(IObservableSet<E> domainSet, IValueProperty<? super E, ?>... properties) {
+		this.domainSet = domainSet;
+		this.columns = new DetailValueColumns.Column[properties.length];
+		for (int i = 0; i < properties.length; i++) {
+			columns[i] = new Column(properties[i]);
+		}
+		clearRows();
+
+		domainSet.addDisposeListener(disposeEvent -> {
+			for (Column column : columns) {
+				column.dispose();
+			}
+		});
+	}
+
+	/**
+	 * @return the maps observing the properties, in the order of the
+	 *         properties passed to the constructor
+	 */
+	@SuppressWarnings("unchecked")
+	public IObservableMap<E, Object>[] getMaps() {
+		IObservableMap<E, Object>[] maps = new IObservableMap[columns.length];
+		System.arraycopy(columns, 0, maps, 0, columns.length);
+		return maps;
+	}
+
+	/**
+	 * @return the number of elements that have a row
+	 */
+	public int getRowCount() {
+		return size;
+	}
+
+	private void clearRows() {
+		keys = new Object[INITIAL_CAPACITY];
+		keyRows = new int[INITIAL_CAPACITY];
+		size = 0;
+		elements = new Object[INITIAL_CAPACITY];
+		rowCount = 0;
+		freeRows = new int[INITIAL_CAPACITY];
+		freeCount = 0;
+		for (Column column : columns) {
+			column.values = new Object[INITIAL_CAPACITY];
+			column.observables = null;
+		}
+	}
+
+	private static int hash(Object element) {
+		int h = System.identityHashCode(element) * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * @return the slot of the given element, or <code>-(slot + 1)</code> of
+	 *         the free slot where it would be inserted
+	 */
+	private int slotOf(Object element) {
+		int mask = keys.length - 1;
+		int slot = hash(element) & mask;
+		Object key;
+		while ((key = keys[slot]) != null) {
+			if (key == element) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -(slot + 1);
+	}
+
+	private int rowOf(Object element) {
+		int slot = slotOf(element);
+		return slot < 0 ? -1 : keyRows[slot];
+	}
+
+	private int addRow(Object element) {
+		int slot = slotOf(element);
+		if (slot >= 0) {
+			return keyRows[slot];
+		}
+		int row;
+		if (freeCount > 0) {
+			row = freeRows[--freeCount];
+		} else {
+			row = rowCount++;
+			if (row == elements.length) {
+				int capacity = elements.length * 2;
+				elements = Arrays.copyOf(elements, capacity);
+				for (Column column : columns) {
+					column.values = Arrays.copyOf(column.values, capacity);
+					if (column.observables != null) {
+						column.observables = Arrays.copyOf(column.observables, capacity);
+					}
+				}
+			}
+		}
+		elements[row] = element;
+		slot = -(slot + 1);
+		keys[slot] = element;
+		keyRows[slot] = row;
+		if (++size * 2 > keys.length) {
+			rehash(keys.length * 2);
+		}
+		return row;
+	}
+
+	private void removeRow(Object element) {
+		int slot = slotOf(element);
+		if (slot < 0) {
+			return;
+		}
+		int row = keyRows[slot];
+		for (Column column : columns) {
+			column.detach(row);
+		}
+		elements[row] = null;
+		if (freeCount == freeRows.length) {
+			freeRows = Arrays.copyOf(freeRows, freeCount * 2);
+		}
+		freeRows[freeCount++] = row;
+		deleteSlot(slot);
+		size--;
+	}
+
+	/**
+	 * Deletes the given slot, moving back the following entries of its probe
+	 * sequence so no tombstones are needed.
+	 */
+	private void deleteSlot(int slot) {
+		int mask = keys.length - 1;
+		int next = slot;
+		while (true) {
+			next = (next + 1) & mask;
+			Object key = keys[next];
+			if (key == null) {
+				break;
+			}
+			int home = hash(key) & mask;
+			boolean stays = slot <= next ? slot < home && home <= next : slot < home || home <= next;
+			if (!stays) {
+				keys[slot] = key;
+				keyRows[slot] = keyRows[next];
+				slot = next;
+			}
+		}
+		keys[slot] = null;
+	}
+
+	private void rehash(int capacity) {
+		Object[] oldKeys = keys;
+		int[] oldRows = keyRows;
+		keys = new Object[capacity];
+		keyRows = new int[capacity];
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != null) {
+				int slot = -(slotOf(oldKeys[i]) + 1);
+				keys[slot] = oldKeys[i];
+				keyRows[slot] = oldRows[i];
+			}
+		}
+	}
+
+	private void startListening() {
+		if (listeningColumns++ == 0) {
+			domainSet.addSetChangeListener(setChangeListener);
+			domainSet.addStaleListener(staleListener);
+		}
+	}
+
+	private void stopListening() {
+		if (--listeningColumns == 0) {
+			domainSet.removeSetChangeListener(setChangeListener);
+			domainSet.removeStaleListener(staleListener);
+			clearRows();
+		}
+	}
+
+	private void handleSetChange(SetChangeEvent<? extends E> event) {
+		Set<E> addedKeys = Collections.unmodifiableSet(event.diff.getAdditions());
+		Set<E> removedKeys = Collections.unmodifiableSet(event.diff.getRemovals());
+		@SuppressWarnings("unchecked")
+		Map<Object, Object>[] oldValues = new Map[columns.length];
+		for (int i = 0; i < columns.length; i++) {
+			oldValues[i] = new IdentityHashMap<>();
+		}
+		for (E removedKey : removedKeys) {
+			int row = removedKey == null ? -1 : rowOf(removedKey);
+			if (row >= 0) {
+				for (int i = 0; i < columns.length; i++) {
+					if (columns[i].attached.get(row)) {
+						oldValues[i].put(removedKey, columns[i].values[row]);
+					}
+				}
+				removeRow(removedKey);
+			}
+		}
+		for (int i = 0; i < columns.length; i++) {
+			if (columns[i].listening) {
+				columns[i].fireMapChange(columns[i].new DomainDiff(addedKeys, removedKeys, oldValues[i]));
+			}
+		}
+	}
+
+	private void handleStale() {
+		for (Column column : columns) {
+			if (column.listening) {
+				column.fireStale();
+			}
+		}
+	}
+
+	/**
+	 * The map of one property.
+	 */
+	private final class Column extends AbstractObservableMap<E, Object>
+			implements IPropertyObservable<IValueProperty<? super E, ?>> {
+		private final IValueProperty<? super E, ?> property;
+
+		private Object[] values;
+
+		/**
+		 * The observables of the rows and the rows of the observables, only
+		 * used for properties that are not {@link SimpleValueProperty simple}.
+		 */
+		private Object[] observables;
+		private final Map<Object, Integer> observableRows = new IdentityHashMap<>();
+
+		private final BitSet attached = new BitSet();
+
+		private final BitSet staleRows = new BitSet();
+
+		private boolean listening;
+
+		private boolean updating;
+
+		private INativePropertyListener<Object> nativeListener;
+
+		private final IValueChangeListener<Object> valueChangeListener = this::handleValueChange;
+
+		private final Set<Map.Entry<E, Object>> entrySet = new AbstractSet<>() {
+			@Override
+			public Iterator<Map.Entry<E, Object>> iterator() {
+				final Iterator<E> keyIterator = domainSet.iterator();
+				return new Iterator<>() {
+					@Override
+					public boolean hasNext() {
+						return keyIterator.hasNext();
+					}
+
+					@Override
+					public Map.Entry<E, Object> next() {
+						final E key = keyIterator.next();
+						return new Map.Entry<>() {
+							@Override
+							public E getKey() {
+								return key;
+							}
+
+							@Override
+							public Object getValue() {
+								return get(key);
+							}
+
+							@Override
+							public Object setValue(Object value) {
+								return put(key, value);
+							}
+						};
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return domainSet.size();
+			}
+		};
+
+		@SuppressWarnings("unchecked")
+		Column(IValueProperty<? super E, ?> property) {
+			super(domainSet.getRealm());
+			this.property = property;
+			if (property instanceof SimpleValueProperty) {
+				nativeListener = ((SimpleValueProperty<Object, Object>) property)
+						.adaptListener(event -> {
+							if (!isDisposed() && !updating) {
+								getRealm().exec(() -> handleNativeEvent(event));
+							}
+						});
+			}
+		}
+
+		@Override
+		protected void firstListenerAdded() {
+			getRealm().exec(() -> {
+				if (!listening && !isDisposed() && hasListeners()) {
+					listening = true;
+					startListening();
+				}
+			});
+		}
+
+		@Override
+		protected void lastListenerRemoved() {
+			if (listening) {
+				listening = false;
+				for (int row = attached.nextSetBit(0); row >= 0; row = attached.nextSetBit(row + 1)) {
+					detach(row);
+				}
+				stopListening();
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private Object getPropertyValue(Object element) {
+			return ((IValueProperty<Object, Object>) property).getValue(element);
+		}
+
+		@SuppressWarnings("unchecked")
+		private void attach(int row) {
+			Object element = elements[row];
+			values[row] = getPropertyValue(element);
+			attached.set(row);
+			if (nativeListener != null) {
+				nativeListener.addTo(element);
+			} else if (!(property instanceof SimpleValueProperty)) {
+				if (observables == null) {
+					observables = new Object[values.length];
+				}
+				IObservableValue<Object> observable = ((IValueProperty<Object, Object>) property).observe(getRealm(),
+						element);
+				observable.addValueChangeListener(valueChangeListener);
+				observables[row] = observable;
+				observableRows.put(observable, Integer.valueOf(row));
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private void detach(int row) {
+			if (!attached.get(row)) {
+				return;
+			}
+			attached.clear(row);
+			staleRows.clear(row);
+			values[row] = null;
+			if (nativeListener != null) {
+				nativeListener.removeFrom(elements[row]);
+			} else if (observables != null && observables[row] != null) {
+				IObservableValue<Object> observable = (IObservableValue<Object>) observables[row];
+				observables[row] = null;
+				observableRows.remove(observable);
+				observable.removeValueChangeListener(valueChangeListener);
+				observable.dispose();
+			}
+		}
+
+		/**
+		 * @return the row of the given element with listeners attached
+		 */
+		private int request(Object element) {
+			int row = addRow(element);
+			if (!attached.get(row)) {
+				attach(row);
+			}
+			return row;
+		}
+
+		private void handleNativeEvent(SimplePropertyEvent<Object, ?> event) {
+			int row = rowOf(event.getSource());
+			if (row < 0 || !attached.get(row)) {
+				return;
+			}
+			if (event.type == SimplePropertyEvent.CHANGE) {
+				notifyIfChanged(row);
+			} else if (event.type == SimplePropertyEvent.STALE) {
+				boolean wasStale = !staleRows.isEmpty();
+				staleRows.set(row);
+				if (!wasStale) {
+					fireStale();
+				}
+			}
+		}
+
+		private void handleValueChange(ValueChangeEvent<?> event) {
+			Integer row = observableRows.get(event.getObservableValue());
+			if (row != null) {
+				notifyIfChanged(row.intValue());
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private void notifyIfChanged(int row) {
+			E element = (E) elements[row];
+			Object oldValue = values[row];
+			Object newValue = getPropertyValue(element);
+			if (!Objects.equals(oldValue, newValue) || staleRows.get(row)) {
+				values[row] = newValue;
+				staleRows.clear(row);
+				fireMapChange(Diffs.createMapDiffSingleChange(element, oldValue, newValue));
+			}
+		}
+
+		@Override
+		public Object get(Object key) {
+			getterCalled();
+			if (!domainSet.contains(key)) {
+				return null;
+			}
+			if (key == null || !listening) {
+				return getPropertyValue(key);
+			}
+			int row = request(key);
+			return values[row];
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public Object put(E key, Object value) {
+			checkRealm();
+			if (!domainSet.contains(key)) {
+				return null;
+			}
+			Object oldValue = getPropertyValue(key);
+			updating = true;
+			try {
+				((IValueProperty<Object, Object>) property).setValue(key, value);
+			} finally {
+				updating = false;
+			}
+			if (key != null && listening) {
+				int row = rowOf(key);
+				if (row >= 0 && attached.get(row)) {
+					notifyIfChanged(row);
+				} else {
+					request(key);
+					fireMapChange(Diffs.createMapDiffSingleChange(key, oldValue, values[rowOf(key)]));
+				}
+			}
+			return oldValue;
+		}
+
+		@Override
+		public Object remove(Object key) {
+			checkRealm();
+			Object oldValue = get(key);
+			domainSet.remove(key);
+			return oldValue;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			getterCalled();
+			return domainSet.contains(key);
+		}
+
+		@Override
+		public Set<E> keySet() {
+			return domainSet;
+		}
+
+		@Override
+		public Set<Map.Entry<E, Object>> entrySet() {
+			return entrySet;
+		}
+
+		private void getterCalled() {
+			ObservableTracker.getterCalled(this);
+		}
+
+		@Override
+		public Object getKeyType() {
+			return domainSet.getElementType();
+		}
+
+		@Override
+		public Object getValueType() {
+			return property.getValueType();
+		}
+
+		@Override
+		public Object getObserved() {
+			return domainSet;
+		}
+
+		@Override
+		public IValueProperty<? super E, ?> getProperty() {
+			return property;
+		}
+
+		@Override
+		public boolean isStale() {
+			return super.isStale() || domainSet.isStale() || !staleRows.isEmpty();
+		}
+
+		@Override
+		public synchronized void dispose() {
+			if (!isDisposed()) {
+				if (getRealm().isCurrent()) {
+					lastListenerRemoved();
+				} else {
+					// the listeners can only be detached within the realm
+					getRealm().exec(this::lastListenerRemoved);
+				}
+				nativeListener = null;
+			}
+			super.dispose();
+		}
+
+		// Overridden to make the events accessible to the enclosing class
+
+		@Override
+		protected void fireMapChange(MapDiff<E, Object> diff) {
+			super.fireMapChange(diff);
+		}
+
+		@Override
+		protected void fireStale() {
+			super.fireStale();
+		}
+
+		/**
+		 * The diff of a change of the domain set, whose new values are only
+		 * computed when asked for. The old values are the cached values of the
+		 * removed elements, since the property of an element that is no longer
+		 * in the domain set must not be read.
+		 */
+		private final class DomainDiff extends MapDiff<E, Object> {
+			private final Set<E> addedKeys;
+			private final Set<E> removedKeys;
+			private final Map<Object, Object> oldValues;
+
+			DomainDiff(Set<E> addedKeys, Set<E> removedKeys, Map<Object, Object> oldValues) {
+				this.addedKeys = addedKeys;
+				this.removedKeys = removedKeys;
+				this.oldValues = oldValues;
+			}
+
+			@Override
+			public Set<E> getAddedKeys() {
+				return addedKeys;
+			}
+
+			@Override
+			public Set<E> getRemovedKeys() {
+				return removedKeys;
+			}
+
+			@Override
+			public Set<E> getChangedKeys() {
+				return Collections.emptySet();
+			}
+
+			@Override
+			public Object getOldValue(Object key) {
+				return oldValues.get(key);
+			}
+
+			@Override
+			public Object getNewValue(Object key) {
+				return addedKeys.contains(key) && key != null ? getPropertyValue(key) : null;
+			}
+		}
+	}
+}
@@ -15,13 +15,17 @@
 
 package org.eclipse.core.databinding;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.list.IListChangeListener;
 import org.eclipse.core.databinding.observable.list.IObservableList;
 import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
 import org.eclipse.core.databinding.observable.list.ListDiffVisitor;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.observable.value.WritableValue;
@@ -48,17 +52,98 @@ public class ListBinding<M, T> extends Binding {
 	private boolean updatingTarget;
 	private boolean updatingModel;
 
+	/**
+	 * The changes of the target or model that are coalesced, or
+	 * <code>null</code> if every change is copied right away.
+	 */
+	private CoalescedChanges<T, M, ?> targetChanges;
+	private CoalescedChanges<M, T, ?> modelChanges;
+
 	private IListChangeListener<T> targetChangeListener = event -> {
 		if (!updatingTarget) {
-			doUpdate(model, event.diff, targetToModel, false, false);
+			if (targetChanges != null) {
+				targetChanges.add(event.diff);
+			} else {
+				doUpdate(model, event.diff, targetToModel, false, false);
+			}
 		}
 	};
 	private IListChangeListener<M> modelChangeListener = event -> {
 		if (!updatingModel) {
-			doUpdate(target, event.diff, modelToTarget, false, false);
+			if (modelChanges != null) {
+				modelChanges.add(event.diff);
+			} else {
+				doUpdate(target, event.diff, modelToTarget, false, false);
+			}
 		}
 	};
 
+	/**
+	 * Collects the changes of a source list and copies them to the destination
+	 * with one merged diff when the coalescing delay of the strategy is over.
+	 */
+	private final class CoalescedChanges<S, D1, D2 extends D1> implements Runnable {
+		private final Realm realm;
+		private final IObservableList<D1> destination;
+		private final UpdateListStrategy<? super S, D2> updateListStrategy;
+
+		/**
+		 * The entries of the changes in the order in which they happened, or
+		 * <code>null</code> if there are none.
+		 */
+		private List<ListDiffEntry<S>> entries;
+
+		private boolean scheduled;
+
+		CoalescedChanges(IObservableList<?> source, IObservableList<D1> destination,
+				UpdateListStrategy<? super S, D2> updateListStrategy) {
+			this.realm = source.getRealm();
+			this.destination = destination;
+			this.updateListStrategy = updateListStrategy;
+		}
+
+		@SuppressWarnings("unchecked")
+		void add(ListDiff<? extends S> diff) {
+			if (entries == null) {
+				entries = new ArrayList<>();
+			}
+			// the entries are read-only, and must be computed now since later
+			// changes would change a lazily computed diff
+			Collections.addAll(entries, (ListDiffEntry<S>[]) diff.getDifferences());
+			if (!scheduled) {
+				scheduled = true;
+				int delay = updateListStrategy.getCoalescingDelay();
+				if (delay == 0) {
+					realm.asyncExec(this);
+				} else {
+					realm.timerExec(delay, this);
+				}
+			}
+		}
+
+		/**
+		 * Drops the changes collected so far, since an explicit update copies
+		 * the whole source list. A scheduled update does nothing unless there
+		 * are changes again.
+		 */
+		void discard() {
+			entries = null;
+		}
+
+		@Override
+		public void run() {
+			scheduled = false;
+			if (entries == null) {
+				return;
+			}
+			ListDiff<S> diff = Diffs.createListDiff(entries);
+			entries = null;
+			if (!isDisposed()) {
+				doUpdate(destination, diff, updateListStrategy, false, false);
+			}
+		}
+	}
+
 	/**
 	 * @param target                the target side list
 	 * @param model                 the model side list
@@ -94,6 +179,12 @@ public class ListBinding<M, T> extends Binding {
 
 	@Override
 	protected void postInit() {
+		if (targetToModel.getCoalescingDelay() >= 0) {
+			targetChanges = new CoalescedChanges<>(target, model, targetToModel);
+		}
+		if (modelToTarget.getCoalescingDelay() >= 0) {
+			modelChanges = new CoalescedChanges<>(model, target, modelToTarget);
+		}
 		if (modelToTarget.getUpdatePolicy() == UpdateListStrategy.POLICY_UPDATE) {
 			execAfterDisposalCheck(model, () -> {
 				model.addListChangeListener(modelChangeListener);
@@ -123,6 +214,9 @@ public class ListBinding<M, T> extends Binding {
 	@Override
 	public void updateModelToTarget() {
 		execAfterDisposalCheck(model, () -> {
+			if (modelChanges != null) {
+				modelChanges.discard();
+			}
 			ListDiff<M> diff = Diffs.computeListDiff(Collections.emptyList(), model);
 			doUpdate(target, diff, modelToTarget, true, true);
 		});
@@ -131,6 +225,9 @@ public class ListBinding<M, T> extends Binding {
 	@Override
 	public void updateTargetToModel() {
 		execAfterDisposalCheck(target, () -> {
+			if (targetChanges != null) {
+				targetChanges.discard();
+			}
 			ListDiff<T> diff = Diffs.computeListDiff(Collections.emptyList(), target);
 			doUpdate(model, diff, targetToModel, true, true);
 		});
@@ -92,6 +92,8 @@ public class UpdateListStrategy<S, D> extends UpdateStrategy<S, D> {
 
 	private int updatePolicy;
 
+	private int coalescingDelay = -1;
+
 	protected boolean provideDefaults;
 
 	/**
@@ -169,6 +171,47 @@ public class UpdateListStrategy<S, D> extends UpdateStrategy<S, D> {
 		return updatePolicy;
 	}
 
+	/**
+	 * Sets how the changes of the source observable are coalesced when the
+	 * update policy is {@link #POLICY_UPDATE}. By default, the destination is
+	 * updated on every change of the source. A source that changes more often
+	 * than the destination can show, like a model fed by a stream of
+	 * measurements, can instead update the destination at most once per
+	 * interval:
+	 * <ul>
+	 * <li>A negative delay updates the destination on every change.</li>
+	 * <li>A delay of <code>0</code> coalesces the changes until the realm of the
+	 * source runs its next {@link org.eclipse.core.databinding.observable.Realm#asyncExec(Runnable)
+	 * asynchronous runnable}, which for a display realm is the next iteration
+	 * of the event loop.</li>
+	 * <li>A positive delay coalesces the changes for the given number of
+	 * milliseconds after the first one, see
+	 * {@link org.eclipse.core.databinding.observable.Realm#timerExec(int, Runnable)}.</li>
+	 * </ul>
+	 * The diffs of the changes are merged: the destination is updated once with
+	 * all the additions and removals of the source in the order in which they
+	 * happened.
+	 *
+	 * @param delay the delay in milliseconds
+	 * @return the receiver, to enable method call chaining
+	 * @since 1.14
+	 */
+	public UpdateListStrategy<S, D> setCoalescingDelay(int delay) {
+		this.coalescingDelay = delay;
+		return this;
+	}
+
+	/**
+	 * @return the delay in milliseconds for which changes of the source are
+	 *         coalesced, or a negative number if every change updates the
+	 *         destination
+	 * @see #setCoalescingDelay(int)
+	 * @since 1.14
+	 */
+	public int getCoalescingDelay() {
+		return coalescingDelay;
+	}
+
 	/**
 	 * Sets the converter to be invoked when converting added elements from the
 	 * source element type to the destination element type.
@@ -164,6 +164,8 @@ public class UpdateValueStrategy<S, D> extends UpdateStrategy<S, D> {
 
 	private int updatePolicy;
 
+	private int coalescingDelay = -1;
+
 	private static ValidatorRegistry validatorRegistry = new ValidatorRegistry();
 	private static ConcurrentMap<IConverter<?, ?>, IValidator<?>> validatorsByConverter = new ConcurrentHashMap<>();
 
@@ -371,6 +373,46 @@ public class UpdateValueStrategy<S, D> extends UpdateStrategy<S, D> {
 		return updatePolicy;
 	}
 
+	/**
+	 * Sets how the changes of the source observable are coalesced when the
+	 * update policy is {@link #POLICY_UPDATE}. By default, the destination is
+	 * updated on every change of the source. A source that changes more often
+	 * than the destination can show, like a model fed by a stream of
+	 * measurements, can instead update the destination at most once per
+	 * interval:
+	 * <ul>
+	 * <li>A negative delay updates the destination on every change.</li>
+	 * <li>A delay of <code>0</code> coalesces the changes until the realm of the
+	 * source runs its next {@link org.eclipse.core.databinding.observable.Realm#asyncExec(Runnable)
+	 * asynchronous runnable}, which for a display realm is the next iteration
+	 * of the event loop.</li>
+	 * <li>A positive delay coalesces the changes for the given number of
+	 * milliseconds after the first one, see
+	 * {@link org.eclipse.core.databinding.observable.Realm#timerExec(int, Runnable)}.</li>
+	 * </ul>
+	 * The latest value of the source wins: the destination is updated once with
+	 * the value of the source at the end of the delay.
+	 *
+	 * @param delay the delay in milliseconds
+	 * @return the receiver, to enable method call chaining
+	 * @since 1.14
+	 */
+	public UpdateValueStrategy<S, D> setCoalescingDelay(int delay) {
+		this.coalescingDelay = delay;
+		return this;
+	}
+
+	/**
+	 * @return the delay in milliseconds for which changes of the source are
+	 *         coalesced, or a negative number if every change updates the
+	 *         destination
+	 * @see #setCoalescingDelay(int)
+	 * @since 1.14
+	 */
+	public int getCoalescingDelay() {
+		return coalescingDelay;
+	}
+
 	/**
 	 * Sets the validator to be invoked after the source value is converted to the
 	 * type of the destination observable.
@@ -39,11 +39,17 @@ class ValueBinding<M, T> extends Binding {
 
 	private boolean updatingTarget;
 	private boolean updatingModel;
+
+	/**
+	 * Whether a coalesced update of the target or model is scheduled.
+	 */
+	private boolean targetUpdatePending;
+	private boolean modelUpdatePending;
 	private IValueChangeListener<T> targetChangeListener = new IValueChangeListener<>() {
 		@Override
 		public void handleValueChange(ValueChangeEvent<? extends T> event) {
 			if (!updatingTarget && !Util.equals(event.diff.getOldValue(), event.diff.getNewValue())) {
-				doUpdate(target, model, targetToModel, false, false);
+				update(target, model, targetToModel);
 			}
 		}
 	};
@@ -52,7 +58,7 @@ class ValueBinding<M, T> extends Binding {
 		@Override
 		public void handleValueChange(ValueChangeEvent<? extends M> event) {
 			if (!updatingModel && !Util.equals(event.diff.getOldValue(), event.diff.getNewValue())) {
-				doUpdate(model, target, modelToTarget, false, false);
+				update(model, target, modelToTarget);
 			}
 		}
 	};
@@ -126,6 +132,43 @@ class ValueBinding<M, T> extends Binding {
 		doUpdate(model, target, modelToTarget, true, false);
 	}
 
+	/**
+	 * Updates the destination after a change of the source, or schedules the
+	 * update if the strategy coalesces changes. The scheduled update copies the
+	 * value the source has then, so the latest value wins.
+	 */
+	private <S, D1, D2 extends D1> void update(final IObservableValue<S> source,
+			final IObservableValue<D1> destination, final UpdateValueStrategy<? super S, D2> updateValueStrategy) {
+		int delay = updateValueStrategy.getCoalescingDelay();
+		if (delay < 0 || updateValueStrategy.getUpdatePolicy() != UpdateValueStrategy.POLICY_UPDATE) {
+			doUpdate(source, destination, updateValueStrategy, false, false);
+			return;
+		}
+		if (destination == target ? targetUpdatePending : modelUpdatePending) {
+			return;
+		}
+		setUpdatePending(destination, true);
+		Runnable flush = () -> {
+			setUpdatePending(destination, false);
+			if (!isDisposed()) {
+				doUpdate(source, destination, updateValueStrategy, false, false);
+			}
+		};
+		if (delay == 0) {
+			source.getRealm().asyncExec(flush);
+		} else {
+			source.getRealm().timerExec(delay, flush);
+		}
+	}
+
+	private void setUpdatePending(IObservableValue<?> destination, boolean pending) {
+		if (destination == target) {
+			targetUpdatePending = pending;
+		} else {
+			modelUpdatePending = pending;
+		}
+	}
+
 	/**
 	 * Incorporates the provided <code>newStats</code> into the
 	 * <code>multieStatus</code>.
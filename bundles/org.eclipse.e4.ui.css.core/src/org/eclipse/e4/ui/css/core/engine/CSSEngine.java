@@ -146,6 +146,19 @@ public interface CSSEngine {
 	 */
 	void applyStyles(Object node, boolean applyStylesToChildNodes, boolean computeDefaultStyle);
 
+	/**
+	 * Apply styles to the Object node and its child nodes after a change which
+	 * only affects the styles of this subtree, like a change of the CSS class
+	 * or id of the node. Unlike {@link #applyStyles(Object, boolean)}, styles
+	 * are only applied to the nodes of the subtree whose computed styles
+	 * changed since styles were last applied to them.
+	 *
+	 * @since 0.15
+	 */
+	default void applyStylesToDirtySubtree(Object node) {
+		applyStyles(node, true);
+	}
+
 	/*--------------- Apply style declaration -----------------*/
 
 	/**
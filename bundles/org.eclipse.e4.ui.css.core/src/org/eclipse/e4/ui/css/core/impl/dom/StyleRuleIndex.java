@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.dom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.e4.ui.css.core.dom.CSSStylableElement;
+import org.eclipse.e4.ui.css.core.dom.ExtendedCSSRule;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSAndConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSClassConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSElementSelectorImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSIdConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.ExtendedSelector;
+import org.w3c.css.sac.AttributeCondition;
+import org.w3c.css.sac.Condition;
+import org.w3c.css.sac.ConditionalSelector;
+import org.w3c.css.sac.DescendantSelector;
+import org.w3c.css.sac.Selector;
+import org.w3c.css.sac.SelectorList;
+import org.w3c.css.sac.SiblingSelector;
+import org.w3c.dom.Element;
+import org.w3c.dom.css.CSSRule;
+import org.w3c.dom.css.CSSStyleRule;
+
+/**
+ * Index of the selectors of a list of CSS style rules, keyed by the rightmost
+ * simple selector of each selector.
+ * <p>
+ * A selector is put in the bucket of its id condition, else of one of its
+ * class conditions, else of its element name. Selectors without any of those
+ * (universal selectors, selectors with only pseudo-class or attribute
+ * conditions) are candidates for every element. The candidates of an element
+ * are returned in the order of the selectors in the rule list, so that the
+ * cascade order of the matching rules is the same as with a plain scan over
+ * all rules.
+ * </p>
+ */
+final class StyleRuleIndex {
+
+	/**
+	 * A selector of a style rule together with its position in the rule list.
+	 */
+	static final class Candidate {
+
+		final CSSStyleRule rule;
+		final ExtendedSelector selector;
+		final int order;
+
+		Candidate(CSSStyleRule rule, ExtendedSelector selector, int order) {
+			this.rule = rule;
+			this.selector = selector;
+			this.order = order;
+		}
+	}
+
+	private static final Candidate[] NO_CANDIDATES = new Candidate[0];
+
+	private final Candidate[] universal;
+	private final Map<String, Candidate[]> byId;
+	private final Map<String, Candidate[]> byClass;
+	private final Map<String, Candidate[]> byName;
+
+	StyleRuleIndex(List<CSSRule> rules) {
+		List<Candidate> universalList = new ArrayList<>();
+		Map<String, List<Candidate>> idLists = new HashMap<>();
+		Map<String, List<Candidate>> classLists = new HashMap<>();
+		Map<String, List<Candidate>> nameLists = new HashMap<>();
+		int order = 0;
+		for (CSSRule rule : rules) {
+			if (rule.getType() != CSSRule.STYLE_RULE || !(rule instanceof ExtendedCSSRule)) {
+				continue;
+			}
+			SelectorList selectorList = ((ExtendedCSSRule) rule).getSelectorList();
+			int l = selectorList.getLength();
+			for (int j = 0; j < l; j++) {
+				Selector selector = selectorList.item(j);
+				if (!(selector instanceof ExtendedSelector)) {
+					continue;
+				}
+				Candidate candidate = new Candidate((CSSStyleRule) rule, (ExtendedSelector) selector, order++);
+				Selector rightmost = getRightmostSelector(selector);
+				String name = getElementName(rightmost);
+				String id = null;
+				String className = null;
+				if (rightmost instanceof ConditionalSelector) {
+					ConditionalSelector conditional = (ConditionalSelector) rightmost;
+					name = getElementName(conditional.getSimpleSelector());
+					id = getConditionValue(conditional.getCondition(), CSSIdConditionImpl.class);
+					className = getConditionValue(conditional.getCondition(), CSSClassConditionImpl.class);
+				}
+				if (id != null) {
+					idLists.computeIfAbsent(id, k -> new ArrayList<>()).add(candidate);
+				} else if (className != null) {
+					classLists.computeIfAbsent(className, k -> new ArrayList<>()).add(candidate);
+				} else if (name != null) {
+					nameLists.computeIfAbsent(name, k -> new ArrayList<>()).add(candidate);
+				} else {
+					universalList.add(candidate);
+				}
+			}
+		}
+		universal = universalList.toArray(NO_CANDIDATES);
+		byId = toArrays(idLists);
+		byClass = toArrays(classLists);
+		byName = toArrays(nameLists);
+	}
+
+	/**
+	 * Returns the selectors that may match the given element, in rule list
+	 * order.
+	 */
+	Candidate[] getCandidates(Element elt) {
+		String name = elt.getPrefix() == null ? elt.getNodeName() : elt.getLocalName();
+		String id;
+		String classes;
+		if (elt instanceof CSSStylableElement) {
+			CSSStylableElement stylableElement = (CSSStylableElement) elt;
+			id = stylableElement.getCSSId();
+			classes = stylableElement.getCSSClass();
+		} else {
+			id = elt.getAttribute("id"); //$NON-NLS-1$
+			classes = elt.getAttribute("class"); //$NON-NLS-1$
+		}
+
+		List<Candidate[]> buckets = new ArrayList<>(4);
+		addBucket(buckets, universal);
+		if (name != null) {
+			addBucket(buckets, byName.get(name));
+		}
+		if (id != null) {
+			addBucket(buckets, byId.get(id));
+		}
+		if (classes != null && !byClass.isEmpty()) {
+			int length = classes.length();
+			int start = 0;
+			while (start < length) {
+				while (start < length && Character.isSpaceChar(classes.charAt(start))) {
+					start++;
+				}
+				int end = start;
+				while (end < length && !Character.isSpaceChar(classes.charAt(end))) {
+					end++;
+				}
+				if (end > start) {
+					addBucket(buckets, byClass.get(classes.substring(start, end)));
+				}
+				start = end;
+			}
+		}
+
+		switch (buckets.size()) {
+		case 0:
+			return NO_CANDIDATES;
+		case 1:
+			return buckets.get(0);
+		default:
+			return merge(buckets);
+		}
+	}
+
+	private static void addBucket(List<Candidate[]> buckets, Candidate[] bucket) {
+		if (bucket != null && bucket.length > 0) {
+			buckets.add(bucket);
+		}
+	}
+
+	/**
+	 * Merges the buckets in rule list order. A candidate is in a single bucket,
+	 * but the same class bucket is added twice when an element repeats a class.
+	 */
+	private static Candidate[] merge(List<Candidate[]> buckets) {
+		int size = 0;
+		for (Candidate[] bucket : buckets) {
+			size += bucket.length;
+		}
+		Candidate[] merged = new Candidate[size];
+		int offset = 0;
+		for (Candidate[] bucket : buckets) {
+			System.arraycopy(bucket, 0, merged, offset, bucket.length);
+			offset += bucket.length;
+		}
+		Arrays.sort(merged, (c1, c2) -> Integer.compare(c1.order, c2.order));
+		int count = 1;
+		for (int i = 1; i < size; i++) {
+			if (merged[i] != merged[count - 1]) {
+				merged[count++] = merged[i];
+			}
+		}
+		return count == size ? merged : Arrays.copyOf(merged, count);
+	}
+
+	private static Selector getRightmostSelector(Selector selector) {
+		Selector current = selector;
+		while (true) {
+			if (current instanceof DescendantSelector) {
+				current = ((DescendantSelector) current).getSimpleSelector();
+			} else if (current instanceof SiblingSelector) {
+				current = ((SiblingSelector) current).getSiblingSelector();
+			} else {
+				return current;
+			}
+		}
+	}
+
+	private static String getElementName(Selector selector) {
+		if (selector instanceof CSSElementSelectorImpl) {
+			return ((CSSElementSelectorImpl) selector).getLocalName();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the value of the first condition of the given type found in the
+	 * given condition or in the conditions it is a conjunction of.
+	 */
+	private static String getConditionValue(Condition condition, Class<? extends Condition> type) {
+		if (type.isInstance(condition)) {
+			return ((AttributeCondition) condition).getValue();
+		}
+		if (condition instanceof CSSAndConditionImpl) {
+			CSSAndConditionImpl and = (CSSAndConditionImpl) condition;
+			String value = getConditionValue(and.getFirstCondition(), type);
+			return value != null ? value : getConditionValue(and.getSecondCondition(), type);
+		}
+		return null;
+	}
+
+	private static Map<String, Candidate[]> toArrays(Map<String, List<Candidate>> lists) {
+		Map<String, Candidate[]> arrays = new HashMap<>(lists.size() * 2);
+		for (Map.Entry<String, List<Candidate>> entry : lists.entrySet()) {
+			arrays.put(entry.getKey(), entry.getValue().toArray(NO_CANDIDATES));
+		}
+		return arrays;
+	}
+}
@@ -47,6 +47,8 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	private boolean ruleCachingEnabled;
 	/** Cached state of combined CSS rules for the current stylesheets */
 	private List<CSSRule> currentCombinedRules;
+	/** Index of the current combined CSS rules by their rightmost selectors */
+	private StyleRuleIndex currentRuleIndex;
 
 	/**
 	 * Creates a new ViewCSS.
@@ -73,9 +75,33 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	 */
 	@Override
 	public CSSStyleDeclaration getComputedStyle(Element elt, String pseudoElt) {
+		if (this.ruleCachingEnabled) {
+			return getComputedStyle(getRuleIndex().getCandidates(elt), elt, pseudoElt);
+		}
 		return getComputedStyle(getCombinedRules(), elt, pseudoElt);
 	}
 
+	/**
+	 * Returns the number of selectors that are matched against the element to
+	 * compute its style. With rule caching, these are the candidates of the rule
+	 * index, else all selectors of all style rules.
+	 *
+	 * @param elt the element
+	 * @return the number of selectors matched against the element
+	 */
+	public int getCandidateCount(Element elt) {
+		if (this.ruleCachingEnabled) {
+			return getRuleIndex().getCandidates(elt).length;
+		}
+		int count = 0;
+		for (CSSRule rule : getCombinedRules()) {
+			if (rule.getType() == CSSRule.STYLE_RULE && rule instanceof ExtendedCSSRule) {
+				count += ((ExtendedCSSRule) rule).getSelectorList().getLength();
+			}
+		}
+		return count;
+	}
+
 	/**
 	 * Retrieves the combined list of CSS rules for all current stylesheets. This
 	 * method returns a cached state when the stylesheets are the same as on its
@@ -111,17 +137,82 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 		return cssRules;
 	}
 
-	private CSSStyleDeclaration getComputedStyle(List<CSSRule> ruleList, Element elt, String pseudoElt) {
-		Node parent = elt.getParentNode();
+	/**
+	 * Retrieves the index of the combined CSS rules, which is rebuilt when the
+	 * stylesheets changed since its last call.
+	 *
+	 * @return index of the CSS rules for all style sheets
+	 */
+	private StyleRuleIndex getRuleIndex() {
+		if (this.currentRuleIndex == null) {
+			this.currentRuleIndex = new StyleRuleIndex(getCombinedRules());
+		}
+		return this.currentRuleIndex;
+	}
 
-		Node[] hierarchy = null;
-		if (parent != null) {
-			List<Node> hierarchyList = new ArrayList<>();
-			for (Node n = parent; n != null; n = n.getParentNode()) {
-				hierarchyList.add(n);
+	/**
+	 * Computes the style of the element from the candidate selectors of the
+	 * rule index, which are in the same order as in the combined rule list.
+	 */
+	private CSSStyleDeclaration getComputedStyle(StyleRuleIndex.Candidate[] candidates, Element elt,
+			String pseudoElt) {
+		if (candidates.length == 0) {
+			return null;
+		}
+		Node[] hierarchy = getHierarchy(elt);
+
+		List<StyleWrapper> styleDeclarations = null;
+		StyleWrapper firstStyleDeclaration = null;
+		int position = 0;
+		for (StyleRuleIndex.Candidate candidate : candidates) {
+			ExtendedSelector extendedSelector = candidate.selector;
+			if (extendedSelector.match(elt, hierarchy, 0, pseudoElt)) {
+				CSSStyleDeclaration style = candidate.rule.getStyle();
+				int specificity = extendedSelector.getSpecificity();
+				StyleWrapper wrapper = new StyleWrapper(style, specificity, position++);
+				if (firstStyleDeclaration == null) {
+					firstStyleDeclaration = wrapper;
+				} else {
+					if (styleDeclarations == null) {
+						styleDeclarations = new ArrayList<>();
+						styleDeclarations.add(firstStyleDeclaration);
+					}
+					styleDeclarations.add(wrapper);
+				}
 			}
-			hierarchy = hierarchyList.toArray(new Node[hierarchyList.size()]);
 		}
+		if (styleDeclarations != null) {
+			return new CSSComputedStyleImpl(styleDeclarations);
+		}
+		if (firstStyleDeclaration != null) {
+			return firstStyleDeclaration.style;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the ancestors of the element, starting with its parent, or
+	 * <code>null</code> when it has no parent.
+	 */
+	private static Node[] getHierarchy(Element elt) {
+		Node parent = elt.getParentNode();
+		if (parent == null) {
+			return null;
+		}
+		int depth = 0;
+		for (Node n = parent; n != null; n = n.getParentNode()) {
+			depth++;
+		}
+		Node[] hierarchy = new Node[depth];
+		int i = 0;
+		for (Node n = parent; n != null; n = n.getParentNode()) {
+			hierarchy[i++] = n;
+		}
+		return hierarchy;
+	}
+
+	private CSSStyleDeclaration getComputedStyle(List<CSSRule> ruleList, Element elt, String pseudoElt) {
+		Node[] hierarchy = getHierarchy(elt);
 
 		List<StyleWrapper> styleDeclarations = null;
 		StyleWrapper firstStyleDeclaration = null;
@@ -172,10 +263,12 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	@Override
 	public void styleSheetAdded(StyleSheet styleSheet) {
 		currentCombinedRules = null;
+		currentRuleIndex = null;
 	}
 
 	@Override
 	public void styleSheetRemoved(StyleSheet styleSheet) {
 		currentCombinedRules = null;
+		currentRuleIndex = null;
 	}
 }
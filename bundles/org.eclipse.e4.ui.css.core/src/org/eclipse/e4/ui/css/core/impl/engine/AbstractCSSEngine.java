@@ -28,12 +28,14 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import org.eclipse.core.runtime.FileLocator;
@@ -104,6 +106,12 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 	 */
 	private static final String ARCHIVE_IDENTIFIER = "!";
 
+	/**
+	 * Key of the styles last applied to an element in its
+	 * {@link CSSElementContext}
+	 */
+	private static final String APPLIED_STYLES_KEY = "org.eclipse.e4.ui.css.core.appliedStyles";
+
 	/**
 	 * Default {@link IResourcesLocatorManager} used to get InputStream, Reader
 	 * resource like Image.
@@ -156,6 +164,11 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 
 	private ResourceRegistryKeyFactory keyFactory;
 
+	/**
+	 * Computed styles shared by the elements with the same signature.
+	 */
+	private final ComputedStyleCache computedStyleCache;
+
 	public AbstractCSSEngine() {
 		this(new DocumentCSSImpl());
 	}
@@ -163,6 +176,7 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 	public AbstractCSSEngine(ExtendedDocumentCSS documentCSS) {
 		this.documentCSS = documentCSS;
 		this.viewCSS = new ViewCSSImpl(documentCSS);
+		this.computedStyleCache = new ComputedStyleCache(documentCSS, viewCSS);
 		keyFactory = new ResourceRegistryKeyFactory();
 	}
 
@@ -371,6 +385,31 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 
 	@Override
 	public void applyStyles(Object element, boolean applyStylesToChildNodes, boolean computeDefaultStyle) {
+		computedStyleCache.beginPass();
+		try {
+			applyStyles(element, applyStylesToChildNodes, computeDefaultStyle, false);
+		} finally {
+			computedStyleCache.endPass();
+		}
+	}
+
+	@Override
+	public void applyStylesToDirtySubtree(Object element) {
+		computedStyleCache.beginPass();
+		try {
+			applyStyles(element, true, computeDefaultStyle, true);
+		} finally {
+			computedStyleCache.endPass();
+		}
+	}
+
+	/**
+	 * Apply styles to the element and, if requested, to its child nodes. If
+	 * <code>changedOnly</code> is true, styles are only applied to the elements
+	 * whose computed styles changed since they were last applied.
+	 */
+	private void applyStyles(Object element, boolean applyStylesToChildNodes, boolean computeDefaultStyle,
+			boolean changedOnly) {
 		Element elt = getElement(element);
 		if (elt == null || !isVisible(elt)) {
 			return;
@@ -379,52 +418,70 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		/*
 		 * Compute new Style to apply.
 		 */
-		CSSStyleDeclaration style = viewCSS.getComputedStyle(elt, null);
-		if (computeDefaultStyle) {
-			if (applyStylesToChildNodes) {
-				this.computeDefaultStyle = computeDefaultStyle;
+		CSSStyleDeclaration style = computedStyleCache.getComputedStyle(elt, null);
+		String[] pseudoInstances = getStaticPseudoInstances(elt);
+		CSSStyleDeclaration[] pseudoStyles = null;
+		if (pseudoInstances != null && pseudoInstances.length > 0) {
+			pseudoStyles = new CSSStyleDeclaration[pseudoInstances.length];
+			for (int i = 0; i < pseudoInstances.length; i++) {
+				pseudoStyles[i] = computedStyleCache.getComputedStyle(elt, pseudoInstances[i]);
 			}
-			/*
-			 * Apply default style.
-			 */
-			applyDefaultStyleDeclaration(element, false, style, null);
 		}
+		String inlineStyle = elt instanceof CSSStylableElement ? ((CSSStylableElement) elt).getCSSStyle() : null;
+		AppliedStyles appliedStyles = new AppliedStyles(style, pseudoInstances, pseudoStyles, inlineStyle);
+		CSSElementContext elementContext = getCSSElementContext(element);
 
-		/*
-		 * Manage static pseudo instances
-		 */
-		String[] pseudoInstances = getStaticPseudoInstances(elt);
-		if (pseudoInstances != null && pseudoInstances.length > 0) {
-			// there are static pseudo instances defined, loop for it and
-			// apply styles for each pseudo instance.
-			for (String pseudoInstance : pseudoInstances) {
-				CSSStyleDeclaration styleWithPseudoInstance = viewCSS.getComputedStyle(elt, pseudoInstance);
-				if (computeDefaultStyle) {
-					/*
-					 * Apply default style for the current pseudo instance.
-					 */
-					applyDefaultStyleDeclaration(element, false, styleWithPseudoInstance, pseudoInstance);
+		if (!changedOnly || computeDefaultStyle || elementContext == null
+				|| !appliedStyles.equals(elementContext.getData(APPLIED_STYLES_KEY)) || appliedStyles.inheritsValues()) {
+			if (computeDefaultStyle) {
+				if (applyStylesToChildNodes) {
+					this.computeDefaultStyle = computeDefaultStyle;
 				}
+				/*
+				 * Apply default style.
+				 */
+				applyDefaultStyleDeclaration(element, false, style, null);
+			}
 
-				if (styleWithPseudoInstance != null) {
-					CSSRule parentRule = styleWithPseudoInstance.getParentRule();
-					if (parentRule instanceof ExtendedCSSRule) {
-						applyConditionalPseudoStyle((ExtendedCSSRule) parentRule, pseudoInstance, element, styleWithPseudoInstance);
-					} else {
-						applyStyleDeclaration(elt, styleWithPseudoInstance, pseudoInstance);
+			/*
+			 * Manage static pseudo instances
+			 */
+			if (pseudoStyles != null) {
+				// there are static pseudo instances defined, loop for it and
+				// apply styles for each pseudo instance.
+				for (int i = 0; i < pseudoInstances.length; i++) {
+					String pseudoInstance = pseudoInstances[i];
+					CSSStyleDeclaration styleWithPseudoInstance = pseudoStyles[i];
+					if (computeDefaultStyle) {
+						/*
+						 * Apply default style for the current pseudo instance.
+						 */
+						applyDefaultStyleDeclaration(element, false, styleWithPseudoInstance, pseudoInstance);
+					}
+
+					if (styleWithPseudoInstance != null) {
+						CSSRule parentRule = styleWithPseudoInstance.getParentRule();
+						if (parentRule instanceof ExtendedCSSRule) {
+							applyConditionalPseudoStyle((ExtendedCSSRule) parentRule, pseudoInstance, element, styleWithPseudoInstance);
+						} else {
+							applyStyleDeclaration(elt, styleWithPseudoInstance, pseudoInstance);
+						}
 					}
 				}
 			}
-		}
 
-		if (style != null) {
-			applyStyleDeclaration(elt, style, null);
-		}
-		try {
-			// Apply inline style
-			applyInlineStyle(elt, false);
-		} catch (Exception e) {
-			handleExceptions(e);
+			if (style != null) {
+				applyStyleDeclaration(elt, style, null);
+			}
+			try {
+				// Apply inline style
+				applyInlineStyle(elt, false);
+			} catch (Exception e) {
+				handleExceptions(e);
+			}
+			if (elementContext != null) {
+				elementContext.setData(APPLIED_STYLES_KEY, appliedStyles);
+			}
 		}
 
 		if (applyStylesToChildNodes) {
@@ -435,7 +492,12 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 					? ((ChildVisibilityAwareElement) elt).getVisibleChildNodes()
 							: elt.getChildNodes();
 					if (nodes != null) {
-						processNodeList(nodes, this::applyStyles, applyStylesToChildNodes);
+						if (changedOnly) {
+							processNodeList(nodes, (node, applyToChildNodes) -> applyStyles(node, applyToChildNodes,
+									this.computeDefaultStyle, true), applyStylesToChildNodes);
+						} else {
+							processNodeList(nodes, this::applyStyles, applyStylesToChildNodes);
+						}
 						onStylesAppliedToChildNodes(elt, nodes);
 					}
 		}
@@ -1115,4 +1177,91 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 	protected void setResourceRegistryKeyFactory(ResourceRegistryKeyFactory keyFactory) {
 		this.keyFactory = keyFactory;
 	}
+
+	/**
+	 * The styles applied to an element, used to skip elements whose styles did
+	 * not change when applying styles to a dirty subtree.
+	 */
+	private static final class AppliedStyles {
+
+		private final CSSStyleDeclaration style;
+		private final String[] pseudoInstances;
+		private final CSSStyleDeclaration[] pseudoStyles;
+		private final String inlineStyle;
+
+		AppliedStyles(CSSStyleDeclaration style, String[] pseudoInstances, CSSStyleDeclaration[] pseudoStyles,
+				String inlineStyle) {
+			this.style = style;
+			this.pseudoInstances = pseudoInstances;
+			this.pseudoStyles = pseudoStyles;
+			this.inlineStyle = inlineStyle;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof AppliedStyles)) {
+				return false;
+			}
+			AppliedStyles other = (AppliedStyles) obj;
+			if (!isSameStyle(style, other.style) || !Objects.equals(inlineStyle, other.inlineStyle)
+					|| !Arrays.equals(pseudoInstances, other.pseudoInstances)) {
+				return false;
+			}
+			if (pseudoStyles != null) {
+				for (int i = 0; i < pseudoStyles.length; i++) {
+					if (!isSameStyle(pseudoStyles[i], other.pseudoStyles[i])) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(inlineStyle, Arrays.hashCode(pseudoInstances));
+		}
+
+		/**
+		 * Returns whether a style inherits a value from the parent element, in
+		 * which case it must be applied again even if it did not change.
+		 */
+		boolean inheritsValues() {
+			if (inheritsValues(style)) {
+				return true;
+			}
+			if (pseudoStyles != null) {
+				for (CSSStyleDeclaration pseudoStyle : pseudoStyles) {
+					if (inheritsValues(pseudoStyle)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		private static boolean inheritsValues(CSSStyleDeclaration style) {
+			if (style == null) {
+				return false;
+			}
+			int length = style.getLength();
+			for (int i = 0; i < length; i++) {
+				CSSValue value = style.getPropertyCSSValue(style.item(i));
+				if (value != null && "inherit".equals(value.getCssText())) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private static boolean isSameStyle(CSSStyleDeclaration style1, CSSStyleDeclaration style2) {
+			if (style1 == style2) {
+				return true;
+			}
+			if (style1 == null || style2 == null) {
+				return false;
+			}
+			return style1.getCssText().equals(style2.getCssText());
+		}
+	}
 }
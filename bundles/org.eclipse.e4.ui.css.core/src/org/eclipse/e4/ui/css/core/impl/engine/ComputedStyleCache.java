@@ -0,0 +1,311 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.engine;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.eclipse.e4.ui.css.core.dom.CSSStylableElement;
+import org.eclipse.e4.ui.css.core.dom.ExtendedCSSRule;
+import org.eclipse.e4.ui.css.core.dom.ExtendedDocumentCSS;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSPseudoClassConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.ExtendedSelector;
+import org.w3c.css.sac.AttributeCondition;
+import org.w3c.css.sac.CombinatorCondition;
+import org.w3c.css.sac.Condition;
+import org.w3c.css.sac.ConditionalSelector;
+import org.w3c.css.sac.DescendantSelector;
+import org.w3c.css.sac.ElementSelector;
+import org.w3c.css.sac.LangCondition;
+import org.w3c.css.sac.Selector;
+import org.w3c.css.sac.SelectorList;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.css.CSSRule;
+import org.w3c.dom.css.CSSRuleList;
+import org.w3c.dom.css.CSSStyleDeclaration;
+import org.w3c.dom.css.CSSStyleSheet;
+import org.w3c.dom.css.ViewCSS;
+import org.w3c.dom.stylesheets.StyleSheet;
+import org.w3c.dom.stylesheets.StyleSheetList;
+
+/**
+ * Cache of computed styles shared by the elements with the same signature.
+ * <p>
+ * The signature of an element holds everything the selectors of the current
+ * stylesheets can match: the element name, id and CSS class, the values of
+ * the attributes used in attribute conditions, the pseudo-classes used in
+ * pseudo-class conditions, and the signature of the parent element. Elements
+ * with the same signature get the same computed style, which is computed
+ * once. Sharing is disabled when a selector uses something not covered by
+ * the signature, like a sibling selector.
+ * </p>
+ * <p>
+ * The signatures of the elements are only kept during a pass of
+ * {@link AbstractCSSEngine#applyStyles(Object, boolean, boolean)}, as the
+ * state of the elements may change between passes. The computed styles of a
+ * signature are kept until the stylesheets change.
+ * </p>
+ */
+final class ComputedStyleCache implements ExtendedDocumentCSS.StyleSheetChangeListener {
+
+	private static final int MAX_SIGNATURES = 10000;
+
+	private final ExtendedDocumentCSS documentCSS;
+	private final ViewCSS viewCSS;
+
+	private boolean analyzed;
+	private boolean sharingEnabled;
+	private String[] attributeNames;
+	private String[] pseudoClasses;
+
+	/** Canonical instances of the signatures, with their computed styles */
+	private final Map<Signature, Signature> signatures = new HashMap<>();
+
+	/** Signatures of the elements of the current pass */
+	private Map<Element, Signature> elementSignatures;
+	private int passDepth;
+
+	ComputedStyleCache(ExtendedDocumentCSS documentCSS, ViewCSS viewCSS) {
+		this.documentCSS = documentCSS;
+		this.viewCSS = viewCSS;
+		documentCSS.addStyleSheetChangeListener(this);
+	}
+
+	void beginPass() {
+		if (passDepth++ == 0) {
+			elementSignatures = new IdentityHashMap<>();
+		}
+	}
+
+	void endPass() {
+		if (--passDepth == 0) {
+			elementSignatures = null;
+		}
+	}
+
+	/**
+	 * Returns the computed style of the element, shared with the elements of
+	 * the same signature when called during a pass.
+	 */
+	CSSStyleDeclaration getComputedStyle(Element elt, String pseudoElt) {
+		Signature signature = elementSignatures != null ? getSignature(elt) : null;
+		if (signature == null) {
+			return viewCSS.getComputedStyle(elt, pseudoElt);
+		}
+		if (signature.styles.containsKey(pseudoElt)) {
+			return signature.styles.get(pseudoElt);
+		}
+		CSSStyleDeclaration style = viewCSS.getComputedStyle(elt, pseudoElt);
+		signature.styles.put(pseudoElt, style);
+		return style;
+	}
+
+	@Override
+	public void styleSheetAdded(StyleSheet styleSheet) {
+		clear();
+	}
+
+	@Override
+	public void styleSheetRemoved(StyleSheet styleSheet) {
+		clear();
+	}
+
+	private void clear() {
+		analyzed = false;
+		signatures.clear();
+		if (elementSignatures != null) {
+			elementSignatures.clear();
+		}
+	}
+
+	private Signature getSignature(Element elt) {
+		Signature signature = elementSignatures.get(elt);
+		if (signature == null && !elementSignatures.containsKey(elt)) {
+			signature = createSignature(elt);
+			elementSignatures.put(elt, signature);
+		}
+		return signature;
+	}
+
+	private Signature createSignature(Element elt) {
+		if (!isSharingEnabled() || !(elt instanceof CSSStylableElement)) {
+			return null;
+		}
+		Signature parent = null;
+		Node parentNode = elt.getParentNode();
+		if (parentNode != null) {
+			if (!(parentNode instanceof Element)) {
+				return null;
+			}
+			parent = getSignature((Element) parentNode);
+			if (parent == null) {
+				return null;
+			}
+		}
+
+		CSSStylableElement stylableElement = (CSSStylableElement) elt;
+		String[] attributes = new String[attributeNames.length];
+		for (int i = 0; i < attributeNames.length; i++) {
+			if (elt.hasAttribute(attributeNames[i])) {
+				attributes[i] = elt.getAttribute(attributeNames[i]);
+			}
+		}
+		BitSet pseudoStates = new BitSet(pseudoClasses.length * 2);
+		for (int i = 0; i < pseudoClasses.length; i++) {
+			if (stylableElement.isPseudoInstanceOf(pseudoClasses[i])) {
+				pseudoStates.set(i * 2);
+				if (stylableElement.isStaticPseudoInstance(pseudoClasses[i])) {
+					pseudoStates.set(i * 2 + 1);
+				}
+			}
+		}
+		String name = elt.getPrefix() == null ? elt.getNodeName() : elt.getLocalName();
+		Signature signature = new Signature(parent, name, elt.getNamespaceURI(), stylableElement.getCSSId(),
+				stylableElement.getCSSClass(), attributes, pseudoStates);
+
+		Signature shared = signatures.get(signature);
+		if (shared != null) {
+			return shared;
+		}
+		if (signatures.size() >= MAX_SIGNATURES) {
+			signatures.clear();
+		}
+		signatures.put(signature, signature);
+		return signature;
+	}
+
+	/**
+	 * Collects the attributes and pseudo-classes the selectors of the current
+	 * stylesheets depend on, once after each change of the stylesheets.
+	 */
+	private boolean isSharingEnabled() {
+		if (analyzed) {
+			return sharingEnabled;
+		}
+		analyzed = true;
+		Set<String> attributes = new LinkedHashSet<>();
+		Set<String> pseudos = new LinkedHashSet<>();
+		sharingEnabled = true;
+		StyleSheetList styleSheetList = documentCSS.getStyleSheets();
+		for (int i = 0; i < styleSheetList.getLength() && sharingEnabled; i++) {
+			CSSRuleList rules = ((CSSStyleSheet) styleSheetList.item(i)).getCssRules();
+			for (int j = 0; j < rules.getLength() && sharingEnabled; j++) {
+				CSSRule rule = rules.item(j);
+				if (rule.getType() != CSSRule.STYLE_RULE || !(rule instanceof ExtendedCSSRule)) {
+					continue;
+				}
+				SelectorList selectorList = ((ExtendedCSSRule) rule).getSelectorList();
+				for (int k = 0; k < selectorList.getLength() && sharingEnabled; k++) {
+					Selector selector = selectorList.item(k);
+					if (selector instanceof ExtendedSelector) {
+						((ExtendedSelector) selector).fillAttributeSet(attributes);
+						sharingEnabled = collectPseudoClasses(selector, pseudos);
+					}
+				}
+			}
+		}
+		attributeNames = attributes.toArray(new String[attributes.size()]);
+		pseudoClasses = pseudos.toArray(new String[pseudos.size()]);
+		return sharingEnabled;
+	}
+
+	/**
+	 * Collects the pseudo-classes of the selector, returns <code>false</code>
+	 * when the selector depends on more than the signature of an element.
+	 */
+	private static boolean collectPseudoClasses(Selector selector, Set<String> pseudos) {
+		if (selector instanceof ConditionalSelector) {
+			ConditionalSelector conditional = (ConditionalSelector) selector;
+			return collectPseudoClasses(conditional.getSimpleSelector(), pseudos)
+					&& collectPseudoClasses(conditional.getCondition(), pseudos);
+		}
+		if (selector instanceof DescendantSelector) {
+			DescendantSelector descendant = (DescendantSelector) selector;
+			return collectPseudoClasses(descendant.getAncestorSelector(), pseudos)
+					&& collectPseudoClasses(descendant.getSimpleSelector(), pseudos);
+		}
+		return selector instanceof ElementSelector;
+	}
+
+	private static boolean collectPseudoClasses(Condition condition, Set<String> pseudos) {
+		if (condition instanceof CombinatorCondition) {
+			CombinatorCondition combinator = (CombinatorCondition) condition;
+			return collectPseudoClasses(combinator.getFirstCondition(), pseudos)
+					&& collectPseudoClasses(combinator.getSecondCondition(), pseudos);
+		}
+		if (condition instanceof CSSPseudoClassConditionImpl) {
+			pseudos.add(((CSSPseudoClassConditionImpl) condition).getValue());
+			return true;
+		}
+		return condition instanceof AttributeCondition || condition instanceof LangCondition;
+	}
+
+	/**
+	 * The signature of an element. The parent is compared by identity, as
+	 * signatures are canonicalized from the root down.
+	 */
+	private static final class Signature {
+
+		final Signature parent;
+		final String name;
+		final String namespaceURI;
+		final String id;
+		final String cssClass;
+		final String[] attributes;
+		final BitSet pseudoStates;
+		final int hashCode;
+
+		/** Computed styles by pseudo instance */
+		final Map<String, CSSStyleDeclaration> styles = new HashMap<>(4);
+
+		Signature(Signature parent, String name, String namespaceURI, String id, String cssClass,
+				String[] attributes, BitSet pseudoStates) {
+			this.parent = parent;
+			this.name = name;
+			this.namespaceURI = namespaceURI;
+			this.id = id;
+			this.cssClass = cssClass;
+			this.attributes = attributes;
+			this.pseudoStates = pseudoStates;
+			this.hashCode = Objects.hash(System.identityHashCode(parent), name, namespaceURI, id, cssClass,
+					Arrays.hashCode(attributes), pseudoStates);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Signature)) {
+				return false;
+			}
+			Signature other = (Signature) obj;
+			return hashCode == other.hashCode && parent == other.parent && Objects.equals(name, other.name)
+					&& Objects.equals(namespaceURI, other.namespaceURI) && Objects.equals(id, other.id)
+					&& Objects.equals(cssClass, other.cssClass) && Arrays.equals(attributes, other.attributes)
+					&& pseudoStates.equals(other.pseudoStates);
+		}
+	}
+}
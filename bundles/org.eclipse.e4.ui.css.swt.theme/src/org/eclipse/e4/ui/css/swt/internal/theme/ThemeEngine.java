@@ -556,6 +556,16 @@ public class ThemeEngine implements IThemeEngine {
 		}
 	}
 
+	@Override
+	public void applyStylesToDirtySubtree(Object widget) {
+		for (CSSEngine engine : cssEngines) {
+			Element element = engine.getElement(widget);
+			if (element != null) {
+				engine.applyStylesToDirtySubtree(element);
+			}
+		}
+	}
+
 	private String getPreferenceThemeId() {
 		return getPreferences().get(THEMEID_KEY, null);
 	}
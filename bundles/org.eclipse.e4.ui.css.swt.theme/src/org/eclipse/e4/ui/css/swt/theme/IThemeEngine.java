@@ -155,6 +155,19 @@ public interface IThemeEngine {
 	 */
 	void applyStyles(Object widget, boolean applyStylesToChildNodes);
 
+	/**
+	 * Reapply the style to the widget and its children after a change which
+	 * only affects the style of this subtree, like a change of the CSS class
+	 * or id of the widget. Only the widgets whose style changed are updated.
+	 *
+	 * @param widget
+	 *            the widget
+	 * @since 0.15
+	 */
+	default void applyStylesToDirtySubtree(Object widget) {
+		applyStyles(widget, true);
+	}
+
 	/**
 	 * Get the style currently active for a widget
 	 *
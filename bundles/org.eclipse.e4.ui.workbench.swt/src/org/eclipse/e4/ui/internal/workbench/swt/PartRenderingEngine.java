@@ -1290,13 +1290,13 @@ public class PartRenderingEngine implements IPresentationEngine {
 				@Override
 				public void setClassname(Object widget, String classname) {
 					WidgetElement.setCSSClass((Widget) widget, classname);
-					themeEngine.applyStyles(widget, true);
+					themeEngine.applyStylesToDirtySubtree(widget);
 				}
 
 				@Override
 				public void setId(Object widget, String id) {
 					WidgetElement.setID((Widget) widget, id);
-					themeEngine.applyStyles(widget, true);
+					themeEngine.applyStylesToDirtySubtree(widget);
 				}
 
 				@Override
@@ -1313,7 +1313,7 @@ public class PartRenderingEngine implements IPresentationEngine {
 				public void setClassnameAndId(Object widget, String classname, String id) {
 					WidgetElement.setCSSClass((Widget) widget, classname);
 					WidgetElement.setID((Widget) widget, id);
-					themeEngine.applyStyles(widget, true);
+					themeEngine.applyStylesToDirtySubtree(widget);
 				}
 			});
 
@@ -1333,13 +1333,13 @@ public class PartRenderingEngine implements IPresentationEngine {
 				@Override
 				public void setClassname(Object widget, String classname) {
 					WidgetElement.setCSSClass((Widget) widget, classname);
-					cssEngine.applyStyles(widget, true);
+					cssEngine.applyStylesToDirtySubtree(widget);
 				}
 
 				@Override
 				public void setId(Object widget, String id) {
 					WidgetElement.setID((Widget) widget, id);
-					cssEngine.applyStyles(widget, true);
+					cssEngine.applyStylesToDirtySubtree(widget);
 				}
 
 				@Override
@@ -1360,7 +1360,7 @@ public class PartRenderingEngine implements IPresentationEngine {
 				public void setClassnameAndId(Object widget, String classname, String id) {
 					WidgetElement.setCSSClass((Widget) widget, classname);
 					WidgetElement.setID((Widget) widget, id);
-					cssEngine.applyStyles(widget, true);
+					cssEngine.applyStylesToDirtySubtree(widget);
 				}
 			});
 
@@ -38,7 +38,9 @@ import org.eclipse.jface.viewers.Viewer;
  * {@link AbstractTableViewer} or {@link AbstractListViewer} that provides
  * elements of an {@link IObservableList} when set as the viewer's input.
  * Objects of this class listen for changes to the observable list, and will
- * insert and remove viewer elements to reflect observed changes.
+ * insert and remove viewer elements to reflect observed changes. Changes with
+ * more diff entries than the {@link #setRefreshThreshold(int) refresh
+ * threshold} refresh the viewer instead.
  *
  * @param <E> type of the values that are provided by this object TODO: Probably
  *            remove this!
@@ -118,32 +120,38 @@ public class ObservableListContentProvider<E> implements IStructuredContentProvi
 				realizedElements.removeAll(knownElementRemovals);
 			}
 
-			if (suspendRedraw[0])
+			// Large changes refresh the viewer once instead of updating it
+			// element by element
+			boolean bulk = isBulkChange(event.diff.getDifferences().length);
+			if (suspendRedraw[0] || bulk)
 				viewer.getControl().setRedraw(false);
 			try {
-				event.diff.accept(new ListDiffVisitor<E>() {
-					@Override
-					public void handleAdd(int index, E element) {
-						viewerUpdater.insert(element, index);
-					}
-
-					@Override
-					public void handleRemove(int index, E element) {
-						viewerUpdater.remove(element, index);
-					}
-
-					@Override
-					public void handleReplace(int index, E oldElement, E newElement) {
-						viewerUpdater.replace(oldElement, newElement, index);
-					}
-
-					@Override
-					public void handleMove(int oldIndex, int newIndex, E element) {
-						viewerUpdater.move(element, oldIndex, newIndex);
-					}
-				});
+				if (bulk)
+					viewer.refresh();
+				else
+					event.diff.accept(new ListDiffVisitor<E>() {
+						@Override
+						public void handleAdd(int index, E element) {
+							viewerUpdater.insert(element, index);
+						}
+
+						@Override
+						public void handleRemove(int index, E element) {
+							viewerUpdater.remove(element, index);
+						}
+
+						@Override
+						public void handleReplace(int index, E oldElement, E newElement) {
+							viewerUpdater.replace(oldElement, newElement, index);
+						}
+
+						@Override
+						public void handleMove(int oldIndex, int newIndex, E element) {
+							viewerUpdater.move(element, oldIndex, newIndex);
+						}
+					});
 			} finally {
-				if (suspendRedraw[0])
+				if (suspendRedraw[0] || bulk)
 					viewer.getControl().setRedraw(true);
 			}
 
@@ -226,4 +234,30 @@ public class ObservableListContentProvider<E> implements IStructuredContentProvi
 	public IObservableSet<E> getRealizedElements() {
 		return impl.getRealizedElements();
 	}
+
+	/**
+	 * Sets the number of diff entries above which a change of the input list
+	 * refreshes the viewer with redraw turned off, instead of inserting and
+	 * removing the elements one by one. The default is 500, or a negative
+	 * number if a viewer updater was passed to the constructor, since the
+	 * updater is not called on a refresh.
+	 *
+	 * @param refreshThreshold
+	 *            the number of diff entries, or a negative number to always
+	 *            update the elements one by one
+	 * @since 1.16
+	 */
+	public void setRefreshThreshold(int refreshThreshold) {
+		impl.setRefreshThreshold(refreshThreshold);
+	}
+
+	/**
+	 * @return the number of diff entries above which a change of the input
+	 *         list refreshes the viewer, or a negative number if the elements
+	 *         are always updated one by one
+	 * @since 1.16
+	 */
+	public int getRefreshThreshold() {
+		return impl.getRefreshThreshold();
+	}
 }
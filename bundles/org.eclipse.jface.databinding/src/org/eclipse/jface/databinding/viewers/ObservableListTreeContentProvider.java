@@ -29,6 +29,7 @@ import org.eclipse.jface.internal.databinding.viewers.ObservableCollectionTreeCo
 import org.eclipse.jface.internal.databinding.viewers.ViewerElementSet;
 import org.eclipse.jface.viewers.AbstractTreeViewer;
 import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
 import org.eclipse.jface.viewers.Viewer;
 
 /**
@@ -36,7 +37,9 @@ import org.eclipse.jface.viewers.Viewer;
  * which uses the provided {@link IObservableFactory list factory} to obtain the
  * elements of a tree. Object of this class listen for changes to each
  * {@link IObservableList} created by the factory, and will insert and remove
- * viewer elements to reflect the observed changes.
+ * viewer elements to reflect the observed changes. Changes with more diff
+ * entries than the {@link #setRefreshThreshold(int) refresh threshold} refresh
+ * the subtree of their parent instead.
  *
  * @param <E> type of the values that are provided by this object
  *
@@ -117,7 +120,10 @@ public class ObservableListTreeContentProvider<E> implements ITreeContentProvide
 					getOrCreateNode(element).addParent(parentElement);
 				}
 
-				if (suspendRedraw[0])
+				// Large changes refresh the subtree of the parent once instead
+				// of updating its children one by one
+				boolean bulk = isBulkChange(event.diff.getDifferences().length);
+				if (suspendRedraw[0] || bulk)
 					viewer.getControl().setRedraw(false);
 				try {
 					ListDiffVisitor<Object> viewerUpdateVisitor = new ListDiffVisitor<>() {
@@ -145,9 +151,12 @@ public class ObservableListTreeContentProvider<E> implements ITreeContentProvide
 									newIndex);
 						}
 					};
-					event.diff.accept(viewerUpdateVisitor);
+					if (bulk)
+						((StructuredViewer) viewer).refresh(parentElement);
+					else
+						event.diff.accept(viewerUpdateVisitor);
 				} finally {
-					if (suspendRedraw[0])
+					if (suspendRedraw[0] || bulk)
 						viewer.getControl().setRedraw(true);
 				}
 
@@ -275,4 +284,28 @@ public class ObservableListTreeContentProvider<E> implements ITreeContentProvide
 	public IObservableSet<E> getRealizedElements() {
 		return impl.getRealizedElements();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Sets the number of diff entries above which a change of a children list
+	 * refreshes the subtree of its parent with redraw turned off, instead of
+	 * inserting and removing the children one by one. The default is 500.
+	 *
+	 * @param refreshThreshold
+	 *            the number of diff entries, or a negative number to always
+	 *            update the children one by one
+	 * @since 1.16
+	 */
+	public void setRefreshThreshold(int refreshThreshold) {
+		impl.setRefreshThreshold(refreshThreshold);
+	}
+
+	/**
+	 * @return the number of diff entries above which a change of a children
+	 *         list refreshes the subtree of its parent, or a negative number
+	 *         if the children are always updated one by one
+	 * @since 1.16
+	 */
+	public int getRefreshThreshold() {
+		return impl.getRefreshThreshold();
+	}
+}
@@ -33,6 +33,13 @@ import org.eclipse.swt.graphics.Image;
  * subclassing and overriding {@link #getColumnText(Object, int)},
  * {@link #getColumnImage(Object, int)}, for tables or trees with columns, or by
  * implementing additional mixin interfaces for colors, fonts etc.
+ * <p>
+ * The label provider reads the maps only for the elements the viewer asks
+ * labels for. With maps created by
+ * {@link org.eclipse.core.databinding.property.Properties#observeEachOnDemand(org.eclipse.core.databinding.observable.set.IObservableSet, org.eclipse.core.databinding.property.value.IValueProperty...)
+ * Properties.observeEachOnDemand}, only the properties of those elements are
+ * listened to, which keeps viewers with many elements cheap.
+ * </p>
  *
  * @since 1.1
  */
@@ -31,6 +31,11 @@ import org.eclipse.jface.viewers.StructuredViewer;
 /**
  * Helper methods for binding observables to a {@link StructuredViewer} or
  * {@link AbstractTableViewer}.
+ * <p>
+ * The label properties are observed with
+ * {@link Properties#observeEachOnDemand(IObservableSet, IValueProperty...)},
+ * so the viewer only listens to the labels of the elements it has displayed.
+ * </p>
  *
  * @since 1.3
  */
@@ -76,7 +81,7 @@ public class ViewerSupport {
 		// Use <?, ?> in parameter type but cast to object to avoid
 		// being too inconvenient to callers
 		viewer.setLabelProvider(new ObservableMapLabelProvider(
-				Properties.observeEach(contentProvider.getKnownElements(), labelProperties)));
+				Properties.observeEachOnDemand(contentProvider.getKnownElements(), labelProperties)));
 		if (input != null)
 			viewer.setInput(input);
 	}
@@ -120,7 +125,7 @@ public class ViewerSupport {
 		viewer.setContentProvider(contentProvider);
 
 		viewer.setLabelProvider(new ObservableMapLabelProvider(
-				Properties.observeEach(contentProvider.getKnownElements(), labelProperties)));
+				Properties.observeEachOnDemand(contentProvider.getKnownElements(), labelProperties)));
 		if (input != null)
 			viewer.setInput(input);
 	}
@@ -172,7 +177,7 @@ public class ViewerSupport {
 			viewer.setInput(null);
 		viewer.setContentProvider(contentProvider);
 		viewer.setLabelProvider(new ObservableMapLabelProvider(
-				Properties.observeEach(contentProvider.getKnownElements(), labelProperties)));
+				Properties.observeEachOnDemand(contentProvider.getKnownElements(), labelProperties)));
 		if (input != null)
 			viewer.setInput(input);
 	}
@@ -227,7 +232,7 @@ public class ViewerSupport {
 
 
 		viewer.setLabelProvider(new ObservableMapLabelProvider(
-				Properties.observeEach(contentProvider.getKnownElements(), labelProperties)));
+				Properties.observeEachOnDemand(contentProvider.getKnownElements(), labelProperties)));
 		if (input != null)
 			viewer.setInput(input);
 	}
@@ -83,11 +83,26 @@ public abstract class ObservableCollectionContentProvider<E> implements IStructu
 
 	private IObservableCollection<E> observableCollection;
 
+	/**
+	 * The default number of diff entries above which a change refreshes the
+	 * viewer instead of updating it element by element.
+	 */
+	public static final int DEFAULT_REFRESH_THRESHOLD = 500;
+
+	/**
+	 * The number of diff entries above which a change refreshes the viewer
+	 * instead of updating it element by element, or a negative number to
+	 * always update element by element.
+	 */
+	private int refreshThreshold;
+
 	/**
 	 * Constructs an ObservableCollectionContentProvider
 	 */
 	protected ObservableCollectionContentProvider(IViewerUpdater<E> explicitViewerUpdater) {
 		this.explicitViewerUpdater = explicitViewerUpdater;
+		// an explicit updater may do more than updating the viewer
+		this.refreshThreshold = explicitViewerUpdater == null ? DEFAULT_REFRESH_THRESHOLD : -1;
 
 		display = Display.getDefault();
 		viewerObservable = new WritableValue<>(DisplayRealm.getRealm(display));
@@ -222,6 +237,37 @@ public abstract class ObservableCollectionContentProvider<E> implements IStructu
 	 */
 	protected abstract void removeCollectionChangeListener(IObservableCollection<E> collection);
 
+	/**
+	 * @param refreshThreshold
+	 *            the number of diff entries above which a change refreshes
+	 *            the viewer instead of updating it element by element, or a
+	 *            negative number to always update element by element
+	 */
+	public void setRefreshThreshold(int refreshThreshold) {
+		this.refreshThreshold = refreshThreshold;
+	}
+
+	/**
+	 * @return the number of diff entries above which a change refreshes the
+	 *         viewer, or a negative number if it is always updated element by
+	 *         element
+	 */
+	public int getRefreshThreshold() {
+		return refreshThreshold;
+	}
+
+	/**
+	 * Returns whether a change with the given number of diff entries should
+	 * refresh the viewer instead of updating it element by element.
+	 *
+	 * @param differences
+	 *            the number of diff entries of the change
+	 * @return whether to refresh the viewer
+	 */
+	protected final boolean isBulkChange(int differences) {
+		return refreshThreshold >= 0 && differences > refreshThreshold;
+	}
+
 	/**
 	 * Returns whether the viewer is disposed. Collection change listeners in
 	 * subclasses should verify that the viewer is not disposed before sending
@@ -96,6 +96,13 @@ public abstract class ObservableCollectionTreeContentProvider<E> implements ITre
 
 	private TreeStructureAdvisor<? super E> structureAdvisor;
 
+	/**
+	 * The number of diff entries above which a change refreshes the subtree
+	 * of the parent instead of updating its children one by one, or a
+	 * negative number to always update them one by one.
+	 */
+	private int refreshThreshold = ObservableCollectionContentProvider.DEFAULT_REFRESH_THRESHOLD;
+
 	/**
 	 * Constructs an ObservableCollectionTreeContentProvider using the given
 	 * parent provider and collection factory.
@@ -266,6 +273,39 @@ public abstract class ObservableCollectionTreeContentProvider<E> implements ITre
 		return elementNodes.get(element);
 	}
 
+	/**
+	 * @param refreshThreshold
+	 *            the number of diff entries above which a change refreshes
+	 *            the subtree of the parent instead of updating its children
+	 *            one by one, or a negative number to always update them one
+	 *            by one
+	 */
+	public void setRefreshThreshold(int refreshThreshold) {
+		this.refreshThreshold = refreshThreshold;
+	}
+
+	/**
+	 * @return the number of diff entries above which a change refreshes the
+	 *         subtree of the parent, or a negative number if its children
+	 *         are always updated one by one
+	 */
+	public int getRefreshThreshold() {
+		return refreshThreshold;
+	}
+
+	/**
+	 * Returns whether a change with the given number of diff entries should
+	 * refresh the subtree of the parent instead of updating its children one
+	 * by one.
+	 *
+	 * @param differences
+	 *            the number of diff entries of the change
+	 * @return whether to refresh the subtree
+	 */
+	protected final boolean isBulkChange(int differences) {
+		return refreshThreshold >= 0 && differences > refreshThreshold;
+	}
+
 	protected boolean isViewerDisposed() {
 		Viewer viewer = viewerObservable.getValue();
 		return viewer == null || viewer.getControl() == null
@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+
+/**
+ * A global cache of the {@link ImageData} of image descriptors per zoom level,
+ * shared by all displays. The entries are weighted by the size of their pixel
+ * data and the least recently used entries are dropped when the total size
+ * exceeds the limit given by the system property
+ * <code>org.eclipse.jface.resource.imageDataCacheSize</code> in bytes.
+ * <p>
+ * The cache is used for the images that composite image descriptors draw,
+ * like the overlays of a {@link org.eclipse.jface.viewers.DecorationOverlayIcon},
+ * so an overlay is decoded once instead of once per decorated image, for the
+ * result of compositions that declare themselves cacheable, and for the image
+ * data the image prefetcher of the resource package decodes in the background.
+ * It may be used from any thread. The cached image data is shared and must not
+ * be modified.
+ * </p>
+ */
+public final class ImageDataCache {
+
+	private static final long MAX_SIZE = Long.getLong("org.eclipse.jface.resource.imageDataCacheSize", 8L << 20) //$NON-NLS-1$
+			.longValue();
+
+	public static final ImageDataCache INSTANCE = new ImageDataCache(MAX_SIZE);
+
+	/**
+	 * Stands for a descriptor that has no image data at a zoom level.
+	 */
+	private static final ImageData NO_DATA = new ImageData(1, 1, 1, new PaletteData(new RGB(0, 0, 0)));
+
+	private record Key(Object descriptor, int zoom) {
+	}
+
+	private final Map<Key, ImageData> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+	private final long maxSize;
+
+	private long size;
+
+	private long hitCount;
+
+	private long missCount;
+
+	/**
+	 * Serializes {@link #compose(IntFunction, int)}.
+	 */
+	private final Object composeLock = new Object();
+
+	/**
+	 * Creates a cache with the given size limit.
+	 *
+	 * @param maxSize the maximum total size of the cached image data in bytes
+	 */
+	public ImageDataCache(long maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the cached image data of the given descriptor at the given zoom
+	 * level, or loads it with the given function and caches it. The function is
+	 * called without holding a lock, so it may be called more than once for
+	 * the same key by concurrent threads.
+	 *
+	 * @param descriptor the descriptor, must implement <code>equals</code> and
+	 *                   <code>hashCode</code> by value
+	 * @param zoom       the zoom level
+	 * @param loader     computes the image data at a zoom level, may return
+	 *                   <code>null</code>
+	 * @return the image data or <code>null</code>
+	 */
+	public ImageData get(Object descriptor, int zoom, IntFunction<ImageData> loader) {
+		Key key = new Key(descriptor, zoom);
+		ImageData cached = find(key);
+		if (cached != null) {
+			return cached == NO_DATA ? null : cached;
+		}
+		ImageData data = loader.apply(zoom);
+		put(key, data == null ? NO_DATA : data);
+		return data;
+	}
+
+	/**
+	 * Composes image data with the given function while no other thread
+	 * composes image data through this method. Compositions use the fields of
+	 * their image descriptor and may run both in the UI thread and in the
+	 * background thread of the image prefetcher. The lock is private to this
+	 * cache, so it cannot interfere with locks that image descriptors hold.
+	 *
+	 * @param composer composes the image data at a zoom level, may return
+	 *                 <code>null</code>
+	 * @param zoom     the zoom level
+	 * @return the composed image data or <code>null</code>
+	 */
+	public ImageData compose(IntFunction<ImageData> composer, int zoom) {
+		synchronized (composeLock) {
+			return composer.apply(zoom);
+		}
+	}
+
+	/**
+	 * Returns the cached image data of the given descriptor at the given zoom
+	 * level.
+	 *
+	 * @param descriptor the descriptor
+	 * @param zoom       the zoom level
+	 * @return the image data or <code>null</code> if it is not cached
+	 */
+	public ImageData find(Object descriptor, int zoom) {
+		ImageData cached = find(new Key(descriptor, zoom));
+		return cached == NO_DATA ? null : cached;
+	}
+
+	/**
+	 * Returns whether the image data of the given descriptor at the given zoom
+	 * level is cached, including the fact that the descriptor has no image data
+	 * at the zoom level. Does not count as a hit or a miss.
+	 *
+	 * @param descriptor the descriptor
+	 * @param zoom       the zoom level
+	 * @return <code>true</code> if the image data need not be loaded
+	 */
+	public synchronized boolean contains(Object descriptor, int zoom) {
+		return entries.containsKey(new Key(descriptor, zoom));
+	}
+
+	/**
+	 * Caches the image data of the given descriptor at the given zoom level.
+	 *
+	 * @param descriptor the descriptor, must implement <code>equals</code> and
+	 *                   <code>hashCode</code> by value
+	 * @param zoom       the zoom level
+	 * @param data       the image data, which must not be modified afterwards
+	 */
+	public void put(Object descriptor, int zoom, ImageData data) {
+		put(new Key(descriptor, zoom), data);
+	}
+
+	private synchronized ImageData find(Key key) {
+		ImageData cached = entries.get(key);
+		if (cached != null) {
+			hitCount++;
+		} else {
+			missCount++;
+		}
+		return cached;
+	}
+
+	private void put(Key key, ImageData data) {
+		long weight = sizeOf(data);
+		if (weight > maxSize) {
+			return;
+		}
+		synchronized (this) {
+			ImageData previous = entries.put(key, data);
+			if (previous != null) {
+				size -= sizeOf(previous);
+			}
+			size += weight;
+			Iterator<ImageData> iterator = entries.values().iterator();
+			while (size > maxSize && iterator.hasNext()) {
+				size -= sizeOf(iterator.next());
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Returns how often image data was found in the cache.
+	 *
+	 * @return the number of hits
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Returns how often image data had to be loaded.
+	 *
+	 * @return the number of misses
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Returns the total size of the cached image data.
+	 *
+	 * @return the size in bytes
+	 */
+	public synchronized long getSize() {
+		return size;
+	}
+
+	/**
+	 * Removes all image data from the cache.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		size = 0;
+	}
+
+	private static long sizeOf(ImageData data) {
+		long result = 64;
+		if (data.data != null) {
+			result += data.data.length;
+		}
+		if (data.alphaData != null) {
+			result += data.alphaData.length;
+		}
+		if (data.maskData != null) {
+			result += data.maskData.length;
+		}
+		return result;
+	}
+}
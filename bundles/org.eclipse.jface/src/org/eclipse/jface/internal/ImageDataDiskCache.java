@@ -0,0 +1,655 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jface.util.Policy;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * A cache of decoded {@link ImageData} of image files that is kept on disk
+ * across sessions. The file is memory-mapped when the cache is first used, so
+ * the images of a warm start are created without looking up entries in bundle
+ * jars and without decoding PNG or GIF files.
+ * <p>
+ * The entries are keyed by the resolved URL of the image file, which contains
+ * the bundle version for installed bundles, and the zoom level. Each entry
+ * records the modification time of the jar or file it was decoded from, and is
+ * ignored if that changed. The modification times are looked up once per
+ * session. New entries are kept in memory and written together with the
+ * entries used in this session in a background thread when the display is
+ * disposed. Nothing is written on a start that only used cached entries. Image files that are missing or
+ * cannot be decoded are remembered as empty entries, which are not
+ * {@link #contains(URL, int) contained} in the cache.
+ * </p>
+ * <p>
+ * The cache is stored in the file given by the system property
+ * <code>org.eclipse.jface.resource.imageDiskCache</code>, by default in the
+ * data area of the JFace bundle. An empty property value disables the cache.
+ * The size of the file is limited by the system property
+ * <code>org.eclipse.jface.resource.imageDiskCacheSize</code> in bytes. The
+ * mapped file cannot be replaced on all platforms, so each save writes a new
+ * generation of the file, named after the given file with the generation number
+ * appended, and deletes the older generations that are not mapped anymore.
+ * </p>
+ * <p>
+ * The file starts with a header of a magic number, the format version and the
+ * number of entries, followed by the index of entries, each with its key,
+ * modification time, offset and length, followed by the encoded image data.
+ * </p>
+ */
+public final class ImageDataDiskCache {
+
+	private static final String CACHE_PROPERTY = "org.eclipse.jface.resource.imageDiskCache"; //$NON-NLS-1$
+
+	private static final String CACHE_FILE = "imageData.bin"; //$NON-NLS-1$
+
+	private static final long MAX_SIZE = Long.getLong("org.eclipse.jface.resource.imageDiskCacheSize", 32L << 20) //$NON-NLS-1$
+			.longValue();
+
+	private static final int MAGIC = 0x4A464943;
+
+	private static final int VERSION = 1;
+
+	private static final String JAR_PROTOCOL = "jar"; //$NON-NLS-1$
+
+	private static final String FILE_PROTOCOL = "file"; //$NON-NLS-1$
+
+	/**
+	 * The maximum number of image files whose modification time is kept.
+	 */
+	private static final int MAX_SOURCES = 4096;
+
+	private static final String SAVE_THREAD_NAME = "Image Data Disk Cache Writer"; //$NON-NLS-1$
+
+	/**
+	 * The shared instance.
+	 */
+	public static final ImageDataDiskCache INSTANCE = new ImageDataDiskCache(getCacheFile());
+
+	/**
+	 * Where the encoded image data of an entry is found in the mapped file.
+	 */
+	private record Entry(long stamp, int offset, int length) {
+	}
+
+	/**
+	 * The encoded image data of an entry that is not written yet.
+	 */
+	private record Pending(long stamp, byte[] bytes) {
+	}
+
+	/**
+	 * The key and modification time of an image file.
+	 */
+	private record Source(String key, long stamp) {
+	}
+
+	/**
+	 * Stands for an image file that is not a local file or a jar entry.
+	 */
+	private static final Source NO_SOURCE = new Source("", 0); //$NON-NLS-1$
+
+	private final Path file;
+
+	/**
+	 * Serializes the saves, which write the file without the lock of this
+	 * cache.
+	 */
+	private final Object saveLock = new Object();
+
+	/**
+	 * The generation of the mapped file, 0 if no file was found.
+	 */
+	private int generation;
+
+	/**
+	 * The sources of the image files by URL.
+	 */
+	private final Map<String, Source> sources = new ConcurrentHashMap<>();
+
+	private boolean loaded;
+
+	private ByteBuffer mapped;
+
+	private final Map<String, Entry> index = new HashMap<>();
+
+	/**
+	 * The keys of the mapped entries used in this session.
+	 */
+	private final Set<String> used = new HashSet<>();
+
+	private final Map<String, Pending> pending = new LinkedHashMap<>();
+
+	private long pendingSize;
+
+	private long hitCount;
+
+	private long missCount;
+
+	/**
+	 * Creates a cache that is stored in the given file.
+	 *
+	 * @param file the cache file, or <code>null</code> to disable the cache
+	 */
+	public ImageDataDiskCache(Path file) {
+		this.file = file;
+	}
+
+	/**
+	 * Returns whether image data is cached on disk at all.
+	 *
+	 * @return <code>true</code> if the cache is enabled
+	 */
+	public boolean isEnabled() {
+		return file != null;
+	}
+
+	/**
+	 * Returns whether up-to-date image data of the image file at the given URL
+	 * is cached at the given zoom level. Returns <code>false</code> if the
+	 * image file is known to be missing or undecodable, so that callers handle
+	 * it as usual.
+	 *
+	 * @param url  the URL of the image file
+	 * @param zoom the zoom level
+	 * @return <code>true</code> if the image data need not be decoded
+	 */
+	public boolean contains(URL url, int zoom) {
+		if (file == null) {
+			return false;
+		}
+		Source source = sourceOf(url);
+		if (source == null) {
+			return false;
+		}
+		String key = source.key + '@' + zoom;
+		synchronized (this) {
+			load();
+			Pending added = pending.get(key);
+			if (added != null) {
+				return added.stamp == source.stamp && added.bytes.length > 0;
+			}
+			Entry entry = index.get(key);
+			return entry != null && entry.stamp == source.stamp && entry.length > 0;
+		}
+	}
+
+	/**
+	 * Returns the cached image data of the image file at the given URL at the
+	 * given zoom level, or decodes it with the given function and caches it.
+	 *
+	 * @param url    the URL of the image file
+	 * @param zoom   the zoom level
+	 * @param loader decodes the image data, may return <code>null</code>
+	 * @return a new image data or <code>null</code>
+	 */
+	public ImageData get(URL url, int zoom, Supplier<ImageData> loader) {
+		if (file == null) {
+			return loader.get();
+		}
+		Source source = sourceOf(url);
+		if (source == null) {
+			return loader.get();
+		}
+		String key = source.key + '@' + zoom;
+		ByteBuffer bytes = null;
+		synchronized (this) {
+			load();
+			Pending added = pending.get(key);
+			Entry entry = index.get(key);
+			if (added != null && added.stamp == source.stamp) {
+				bytes = ByteBuffer.wrap(added.bytes);
+			} else if (added == null && entry != null && entry.stamp == source.stamp) {
+				bytes = mapped.slice(entry.offset, entry.length);
+				used.add(key);
+			}
+			if (bytes != null) {
+				hitCount++;
+			} else {
+				missCount++;
+			}
+		}
+		if (bytes != null) {
+			try {
+				return decode(bytes);
+			} catch (BufferUnderflowException | IllegalArgumentException e) {
+				// corrupt entry, decode the image file again
+			}
+		}
+		ImageData data = loader.get();
+		byte[] encoded = encode(data);
+		synchronized (this) {
+			if (pendingSize + encoded.length <= MAX_SIZE) {
+				Pending previous = pending.put(key, new Pending(source.stamp, encoded));
+				pendingSize += encoded.length - (previous != null ? previous.bytes.length : 0);
+			}
+		}
+		return data;
+	}
+
+	/**
+	 * Returns how often image data was found in the cache.
+	 *
+	 * @return the number of hits
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Returns how often image data had to be decoded.
+	 *
+	 * @return the number of misses
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Writes the entries used or added in this session to the cache file in a
+	 * background thread, so that disposing the display does not wait for it.
+	 * The file is written under a temporary name and renamed when complete, so
+	 * a session that ends before the thread is done leaves no partial cache.
+	 */
+	public void saveInBackground() {
+		synchronized (this) {
+			if (file == null || pending.isEmpty()) {
+				return;
+			}
+		}
+		Thread thread = new Thread(this::save, SAVE_THREAD_NAME);
+		thread.setPriority(Thread.NORM_PRIORITY - 1);
+		thread.start();
+	}
+
+	/**
+	 * Writes the entries used or added in this session to the cache file, if
+	 * entries were added. The entries that were not used are kept as long as
+	 * the file stays within its size limit. The entries to write are collected
+	 * while holding the lock of this cache, the file is written without it.
+	 */
+	public void save() {
+		synchronized (saveLock) {
+			List<String> keys = new ArrayList<>();
+			List<Long> stamps = new ArrayList<>();
+			List<ByteBuffer> contents = new ArrayList<>();
+			Map<String, Pending> written;
+			int nextGeneration;
+			synchronized (this) {
+				if (file == null || pending.isEmpty()) {
+					return;
+				}
+				written = new LinkedHashMap<>(pending);
+				long size = 0;
+				for (Map.Entry<String, Pending> added : written.entrySet()) {
+					byte[] bytes = added.getValue().bytes;
+					keys.add(added.getKey());
+					stamps.add(Long.valueOf(added.getValue().stamp));
+					contents.add(ByteBuffer.wrap(bytes));
+					size += bytes.length;
+				}
+				// used entries first, the others while there is room
+				for (int pass = 0; pass < 2; pass++) {
+					for (Map.Entry<String, Entry> old : index.entrySet()) {
+						String key = old.getKey();
+						Entry entry = old.getValue();
+						if (written.containsKey(key) || used.contains(key) != (pass == 0)
+								|| size + entry.length > MAX_SIZE) {
+							continue;
+						}
+						keys.add(key);
+						stamps.add(Long.valueOf(entry.stamp));
+						// the mapped file is read-only and stays mapped
+						contents.add(mapped.slice(entry.offset, entry.length));
+						size += entry.length;
+					}
+				}
+				nextGeneration = generation + 1;
+			}
+			if (!write(keys, stamps, contents, nextGeneration)) {
+				return;
+			}
+			synchronized (this) {
+				for (Map.Entry<String, Pending> added : written.entrySet()) {
+					if (pending.remove(added.getKey(), added.getValue())) {
+						pendingSize -= added.getValue().bytes.length;
+					}
+				}
+			}
+			for (int older : findGenerations()) {
+				if (older < nextGeneration) {
+					try {
+						Files.deleteIfExists(getGenerationFile(older));
+					} catch (IOException e) {
+						// still mapped, deleted by the next save
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes the given entries to the given generation of the cache file.
+	 *
+	 * @return <code>true</code> if the file was written
+	 */
+	private boolean write(List<String> keys, List<Long> stamps, List<ByteBuffer> contents, int nextGeneration) {
+		Path temp = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+		try {
+			Path parent = file.getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(keys.size());
+				int offset = 0;
+				for (int i = 0; i < keys.size(); i++) {
+					int length = contents.get(i).remaining();
+					out.writeUTF(keys.get(i));
+					out.writeLong(stamps.get(i).longValue());
+					out.writeInt(offset);
+					out.writeInt(length);
+					offset += length;
+				}
+				byte[] chunk = new byte[8192];
+				for (ByteBuffer content : contents) {
+					while (content.hasRemaining()) {
+						int length = Math.min(chunk.length, content.remaining());
+						content.get(chunk, 0, length);
+						out.write(chunk, 0, length);
+					}
+				}
+			}
+			// a new file, the mapped one cannot be replaced on all platforms
+			Files.move(temp, getGenerationFile(nextGeneration), StandardCopyOption.REPLACE_EXISTING);
+			return true;
+		} catch (IOException e) {
+			Policy.logException(e);
+			try {
+				Files.deleteIfExists(temp);
+			} catch (IOException e1) {
+				Policy.logException(e1);
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Maps the cache file and reads its index, once.
+	 */
+	private void load() {
+		if (loaded) {
+			return;
+		}
+		loaded = true;
+		mapped = ByteBuffer.allocate(0);
+		for (int found : findGenerations()) {
+			generation = Math.max(generation, found);
+		}
+		if (generation == 0) {
+			return;
+		}
+		try (FileChannel channel = FileChannel.open(getGenerationFile(generation), StandardOpenOption.READ)) {
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+				return;
+			}
+			int count = buffer.getInt();
+			Map<String, Entry> entries = new HashMap<>();
+			for (int i = 0; i < count; i++) {
+				String key = readUTF(buffer);
+				long stamp = buffer.getLong();
+				int offset = buffer.getInt();
+				int length = buffer.getInt();
+				entries.put(key, new Entry(stamp, offset, length));
+			}
+			// the offsets are relative to the end of the index
+			mapped = buffer.slice();
+			for (Entry entry : entries.values()) {
+				if (entry.offset < 0 || entry.length < 0 || entry.offset + (long) entry.length > mapped.limit()) {
+					return;
+				}
+			}
+			index.putAll(entries);
+		} catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+			// start with an empty cache
+			index.clear();
+		}
+	}
+
+	private Path getGenerationFile(int number) {
+		return file.resolveSibling(file.getFileName() + "." + number); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the generations of the cache file that exist.
+	 */
+	private List<Integer> findGenerations() {
+		List<Integer> result = new ArrayList<>();
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent == null || !Files.isDirectory(parent)) {
+			return result;
+		}
+		String prefix = file.getFileName() + "."; //$NON-NLS-1$
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(parent,
+				path -> path.getFileName().toString().startsWith(prefix))) {
+			for (Path path : files) {
+				try {
+					int number = Integer.parseInt(path.getFileName().toString().substring(prefix.length()));
+					if (number > 0) {
+						result.add(Integer.valueOf(number));
+					}
+				} catch (NumberFormatException e) {
+					// not a generation, like the temporary file
+				}
+			}
+		} catch (IOException e) {
+			Policy.logException(e);
+		}
+		return result;
+	}
+
+	private static String readUTF(ByteBuffer buffer) {
+		int length = buffer.getShort() & 0xffff;
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		// keys are URLs, for which modified UTF-8 and UTF-8 are the same
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the key and modification time of the image file at the given
+	 * URL, or <code>null</code> if it is not a local file or a jar entry.
+	 * Resolving the URL and reading the modification time is done once per URL.
+	 */
+	private Source sourceOf(URL url) {
+		String external = url.toExternalForm();
+		Source source = sources.get(external);
+		if (source == null) {
+			source = resolveSource(url);
+			if (sources.size() >= MAX_SOURCES) {
+				sources.clear();
+			}
+			sources.put(external, source);
+		}
+		return source == NO_SOURCE ? null : source;
+	}
+
+	private static Source resolveSource(URL url) {
+		URL resolved = url;
+		try {
+			if (InternalPolicy.OSGI_AVAILABLE) {
+				resolved = FileLocator.resolve(url);
+			}
+			URL fileURL = resolved;
+			if (JAR_PROTOCOL.equalsIgnoreCase(resolved.getProtocol())) {
+				String path = resolved.getPath();
+				int separator = path.indexOf("!/"); //$NON-NLS-1$
+				if (separator < 0) {
+					return NO_SOURCE;
+				}
+				fileURL = new URL(path.substring(0, separator));
+			}
+			if (!FILE_PROTOCOL.equalsIgnoreCase(fileURL.getProtocol())) {
+				return NO_SOURCE;
+			}
+			File sourceFile = IPath.fromOSString(fileURL.getPath()).toFile();
+			long stamp = sourceFile.lastModified();
+			return stamp == 0 ? NO_SOURCE : new Source(resolved.toExternalForm(), stamp);
+		} catch (IOException e) {
+			// not resolvable, like a missing file
+			return NO_SOURCE;
+		}
+	}
+
+	private static Path getCacheFile() {
+		String property = System.getProperty(CACHE_PROPERTY);
+		if (property != null) {
+			return property.isEmpty() ? null : Path.of(property);
+		}
+		if (!InternalPolicy.OSGI_AVAILABLE) {
+			return null;
+		}
+		Bundle bundle = FrameworkUtil.getBundle(ImageDataDiskCache.class);
+		File cacheFile = bundle != null ? bundle.getDataFile(CACHE_FILE) : null;
+		return cacheFile != null ? cacheFile.toPath() : null;
+	}
+
+	/**
+	 * Encodes the given image data, an empty array stands for
+	 * <code>null</code>.
+	 */
+	private static byte[] encode(ImageData data) {
+		if (data == null) {
+			return new byte[0];
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + (data.data != null ? data.data.length : 0));
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(data.width);
+			out.writeInt(data.height);
+			out.writeInt(data.depth);
+			out.writeInt(data.scanlinePad);
+			out.writeInt(data.transparentPixel);
+			out.writeInt(data.alpha);
+			out.writeInt(data.maskPad);
+			out.writeInt(data.type);
+			PaletteData palette = data.palette;
+			out.writeBoolean(palette.isDirect);
+			if (palette.isDirect) {
+				out.writeInt(palette.redMask);
+				out.writeInt(palette.greenMask);
+				out.writeInt(palette.blueMask);
+			} else {
+				out.writeInt(palette.colors.length);
+				for (RGB rgb : palette.colors) {
+					out.writeByte(rgb.red);
+					out.writeByte(rgb.green);
+					out.writeByte(rgb.blue);
+				}
+			}
+			writeBytes(out, data.data);
+			writeBytes(out, data.maskData);
+			writeBytes(out, data.alphaData);
+		} catch (IOException e) {
+			// cannot happen with a ByteArrayOutputStream
+			throw new IllegalStateException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		if (bytes == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	private static ImageData decode(ByteBuffer in) {
+		if (!in.hasRemaining()) {
+			return null;
+		}
+		int width = in.getInt();
+		int height = in.getInt();
+		int depth = in.getInt();
+		int scanlinePad = in.getInt();
+		int transparentPixel = in.getInt();
+		int alpha = in.getInt();
+		int maskPad = in.getInt();
+		int type = in.getInt();
+		PaletteData palette;
+		if (in.get() != 0) {
+			palette = new PaletteData(in.getInt(), in.getInt(), in.getInt());
+		} else {
+			RGB[] colors = new RGB[in.getInt()];
+			for (int i = 0; i < colors.length; i++) {
+				colors[i] = new RGB(in.get() & 0xff, in.get() & 0xff, in.get() & 0xff);
+			}
+			palette = new PaletteData(colors);
+		}
+		ImageData result = new ImageData(width, height, depth, palette, scanlinePad, readBytes(in));
+		result.maskData = readBytes(in);
+		result.alphaData = readBytes(in);
+		result.transparentPixel = transparentPixel;
+		result.alpha = alpha;
+		result.maskPad = maskPad;
+		result.type = type;
+		return result;
+	}
+
+	private static byte[] readBytes(ByteBuffer in) {
+		int length = in.getInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.get(bytes);
+		return bytes;
+	}
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.internal;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The cache statistics of a caching resource manager, like the
+ * {@link org.eclipse.jface.resource.LazyResourceManager}. They are kept here so
+ * that they are not part of the API of the resource manager.
+ * <p>
+ * The statistics are updated and read in the thread of the resource manager.
+ * </p>
+ */
+public final class ResourceManagerStatistics {
+
+	/**
+	 * The statistics by resource manager. The statistics do not reference their
+	 * resource manager, so it can be garbage collected.
+	 */
+	private static final Map<Object, ResourceManagerStatistics> STATISTICS = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
+	private long hitCount;
+
+	private long missCount;
+
+	private int allocatedCount;
+
+	private long unreferencedWeight;
+
+	private ResourceManagerStatistics() {
+	}
+
+	/**
+	 * Creates the statistics of the given resource manager.
+	 *
+	 * @param manager the resource manager
+	 * @return the new statistics
+	 */
+	public static ResourceManagerStatistics create(Object manager) {
+		ResourceManagerStatistics statistics = new ResourceManagerStatistics();
+		STATISTICS.put(manager, statistics);
+		return statistics;
+	}
+
+	/**
+	 * Returns the statistics of the given resource manager.
+	 *
+	 * @param manager the resource manager
+	 * @return the statistics, or <code>null</code> if the resource manager does
+	 *         not keep statistics
+	 */
+	public static ResourceManagerStatistics of(Object manager) {
+		return STATISTICS.get(manager);
+	}
+
+	/**
+	 * Counts a request for a resource that was already allocated.
+	 */
+	public void hit() {
+		hitCount++;
+	}
+
+	/**
+	 * Counts a request for a resource that had to be allocated.
+	 */
+	public void miss() {
+		missCount++;
+	}
+
+	/**
+	 * Records the current number and weight of the cached resources.
+	 *
+	 * @param allocated    the number of allocated resources
+	 * @param unreferenced the weight of the unreferenced resources
+	 */
+	public void update(int allocated, long unreferenced) {
+		allocatedCount = allocated;
+		unreferencedWeight = unreferenced;
+	}
+
+	/**
+	 * Returns how often a cacheable resource was requested that was already
+	 * allocated, either because it was still referenced or because it was kept
+	 * in the cache.
+	 *
+	 * @return the number of requests that did not allocate a resource
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Returns how often a cacheable resource was requested that had to be
+	 * allocated.
+	 *
+	 * @return the number of requests that allocated a resource
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Returns the number of cacheable resources that are currently allocated,
+	 * referenced or not. For images, this is the number of native image
+	 * handles held through the resource manager.
+	 *
+	 * @return the number of allocated resources
+	 */
+	public int getAllocatedCount() {
+		return allocatedCount;
+	}
+
+	/**
+	 * Returns the total weight of the resources that are kept although they are
+	 * no longer referenced.
+	 *
+	 * @return the weight of the unreferenced resources, in pixels for images
+	 */
+	public long getUnreferencedWeight() {
+		return unreferencedWeight;
+	}
+}
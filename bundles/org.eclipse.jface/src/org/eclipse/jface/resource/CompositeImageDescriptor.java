@@ -17,7 +17,9 @@ package org.eclipse.jface.resource;
 import java.util.Objects;
 import java.util.function.ToIntFunction;
 
+import org.eclipse.jface.internal.ImageDataCache;
 import org.eclipse.pde.api.tools.annotations.NoExtend;
+import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.ImageDataProvider;
@@ -43,7 +45,9 @@ public abstract class CompositeImageDescriptor extends ImageDescriptor {
 	/**
 	 * An {@link ImageDataProvider} that caches the most recently returned
 	 * {@link ImageData} object. I.e. consecutive calls to
-	 * {@link #getImageData(int)} with the same zoom level are cheap.
+	 * {@link #getImageData(int)} with the same zoom level are cheap. Image data
+	 * that is shared with other compositions is returned as a copy, so it may
+	 * be modified.
 	 *
 	 * @see #createCachedImageDataProvider(Image)
 	 * @see #createCachedImageDataProvider(ImageDescriptor)
@@ -87,12 +91,12 @@ public abstract class CompositeImageDescriptor extends ImageDescriptor {
 		 * @return the computed value in points
 		 */
 		public int computeInPoints(ToIntFunction<ImageData> function) {
-			ImageData overlayData = getImageData(getZoomLevel());
+			ImageData overlayData = readImageData(this, getZoomLevel());
 			if (overlayData != null) {
 				int valueInPixels = function.applyAsInt(overlayData);
 				return autoScaleDown(valueInPixels);
 			}
-			overlayData = getImageData(100);
+			overlayData = readImageData(this, 100);
 			return function.applyAsInt(overlayData);
 		}
 	}
@@ -108,6 +112,8 @@ public abstract class CompositeImageDescriptor extends ImageDescriptor {
 
 		@Override
 		public ImageData getImageData(int zoom) {
+			// the image may change or be disposed
+			sourcesCacheable = false;
 			if (zoom == cachedZoom) {
 				return cached;
 			}
@@ -128,10 +134,29 @@ public abstract class CompositeImageDescriptor extends ImageDescriptor {
 
 		@Override
 		public ImageData getImageData(int zoom) {
+			ImageData data = getSharedImageData(zoom);
+			if (data != null && descriptor.shouldBeCached()) {
+				// the data is shared with other compositions, callers may modify
+				// the result
+				return (ImageData) data.clone();
+			}
+			return data;
+		}
+
+		/**
+		 * Returns the image data like {@link #getImageData(int)}, but without
+		 * copying data that is shared through the {@link ImageDataCache}. The
+		 * result must only be read.
+		 */
+		ImageData getSharedImageData(int zoom) {
+			if (!descriptor.shouldBeCached()) {
+				// not known to be equal by value
+				sourcesCacheable = false;
+			}
 			if (zoom == cachedZoom) {
 				return cached;
 			}
-			ImageData zoomed = descriptor.getImageData(zoom);
+			ImageData zoomed = loadImageData(zoom);
 			if (zoomed != null) {
 				cached = zoomed;
 				cachedZoom = zoom;
@@ -141,7 +166,7 @@ public abstract class CompositeImageDescriptor extends ImageDescriptor {
 				return ImageDescriptor.getMissingImageDescriptor().getImageData(100);
 			}
 
-			ImageData data100 = descriptor.getImageData(100);
+			ImageData data100 = loadImageData(100);
 			if (data100 != null) {
 				// 100% is available => caller will have to scale this one
 				cached = data100;
@@ -152,6 +177,14 @@ public abstract class CompositeImageDescriptor extends ImageDescriptor {
 			//  => caller will have to scale missing image descriptor
 			return null;
 		}
+
+		private ImageData loadImageData(int zoom) {
+			if (descriptor.shouldBeCached()) {
+				// decode shared overlays only once, the data is only read
+				return ImageDataCache.INSTANCE.get(descriptor, zoom, descriptor::getImageData);
+			}
+			return descriptor.getImageData(zoom);
+		}
 	}
 
 	/**
@@ -165,6 +198,13 @@ public abstract class CompositeImageDescriptor extends ImageDescriptor {
 	 */
 	private int compositeZoom;
 
+	/**
+	 * Whether all images drawn by the current composition may be cached. Only
+	 * valid within the dynamic scope of a call to
+	 * {@link #drawCompositeImage(int, int)}.
+	 */
+	private boolean sourcesCacheable;
+
 	/**
 	 * Constructs an uninitialized composite image.
 	 */
@@ -361,6 +401,76 @@ public abstract class CompositeImageDescriptor extends ImageDescriptor {
 		if (!supportsZoomLevel(zoom)) {
 			return null;
 		}
+		if (!isCompositionCacheable()) {
+			return compose(zoom);
+		}
+		ImageData cached = ImageDataCache.INSTANCE.find(this, zoom);
+		if (cached != null) {
+			// the cached data is shared, callers may modify the result
+			return (ImageData) cached.clone();
+		}
+		// composing uses the fields of this descriptor, and cacheable
+		// compositions may be composed in a background thread, see canPrefetch()
+		return ImageDataCache.INSTANCE.compose(this::composeAndCache, zoom);
+	}
+
+	private ImageData composeAndCache(int zoom) {
+		sourcesCacheable = true;
+		ImageData composed = compose(zoom);
+		if (sourcesCacheable && composed != null) {
+			ImageDataCache.INSTANCE.put(this, zoom, (ImageData) composed.clone());
+		}
+		return composed;
+	}
+
+	/**
+	 * Returns whether the composed image data of this descriptor may be kept in
+	 * a global cache that is shared by all equal descriptors, so that equal
+	 * compositions, for example the same overlays on the same base image, are
+	 * only drawn once per zoom level.
+	 * <p>
+	 * The default implementation returns <code>false</code>. Subclasses may
+	 * return <code>true</code> if they implement <code>equals</code> and
+	 * <code>hashCode</code> by value, and if equal descriptors always draw the
+	 * same image. Compositions that draw an {@link Image}, or an image
+	 * descriptor that is not cached by the resource managers, are never cached.
+	 * </p>
+	 *
+	 * @return <code>true</code> if the composed image data may be cached
+	 * @since 3.37
+	 */
+	protected boolean isCompositionCacheable() {
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Compositions that may be cached are composed in a background thread by
+	 * {@link ResourceManager#createImageAsync(ImageDescriptor, Image, java.util.function.Consumer)}.
+	 * </p>
+	 */
+	@Override
+	boolean canPrefetch() {
+		return isCompositionCacheable();
+	}
+
+	@Override
+	void prefetch(int zoom) {
+		// only cached if all drawn images may be cached
+		getImageData(zoom);
+	}
+
+	@Override
+	public Image createImage(boolean returnMissingImageOnError, Device device) {
+		Image prefetched = ImagePrefetcher.INSTANCE.createImage(this, device);
+		if (prefetched != null) {
+			return prefetched;
+		}
+		return super.createImage(returnMissingImageOnError, device);
+	}
+
+	private ImageData compose(int zoom) {
 		/* Assign before calling getSize(), just in case an implementer of
 		 * getSize() already uses a CachedImageDataProvider. */
 		compositeZoom = zoom;
@@ -454,14 +564,26 @@ public abstract class CompositeImageDescriptor extends ImageDescriptor {
 	}
 
 	private ImageData getZoomedImageData(ImageDataProvider srcProvider) {
-		ImageData src = srcProvider.getImageData(compositeZoom);
+		ImageData src = readImageData(srcProvider, compositeZoom);
 		if (src == null) {
-			ImageData src100 = srcProvider.getImageData(100);
+			ImageData src100 = readImageData(srcProvider, 100);
 			src = src100.scaledTo(autoScaleUp(src100.width), autoScaleUp(src100.height));
 		}
 		return src;
 	}
 
+	/**
+	 * Returns the image data of the given provider at the given zoom level for
+	 * reading only, so that data shared by cached image data providers is not
+	 * copied.
+	 */
+	private static ImageData readImageData(ImageDataProvider provider, int zoom) {
+		if (provider instanceof CachedDescriptorImageDataProvider cachedProvider) {
+			return cachedProvider.getSharedImageData(zoom);
+		}
+		return provider.getImageData(zoom);
+	}
+
 	/**
 	 * Returns the current zoom level.
 	 * <p>
@@ -49,6 +49,7 @@ class FileImageDescriptor extends ImageDescriptor implements IAdaptable {
 
 		@Override
 		public String getImagePath(int zoom) {
+			ImagePrefetcher.INSTANCE.zoomRequested(zoom);
 			final boolean logIOException = zoom == 100;
 			if (zoom == 100) {
 				return getFilePath(name, logIOException);
@@ -238,8 +239,17 @@ class FileImageDescriptor extends ImageDescriptor implements IAdaptable {
 		return "FileImageDescriptor(location=" + location + ", name=" + name + ")";//$NON-NLS-3$//$NON-NLS-2$//$NON-NLS-1$
 	}
 
+	@Override
+	boolean canPrefetch() {
+		return name != null && !isSvg(name);
+	}
+
 	@Override
 	public Image createImage(boolean returnMissingImageOnError, Device device) {
+		Image prefetched = ImagePrefetcher.INSTANCE.createImage(this, device);
+		if (prefetched != null) {
+			return prefetched;
+		}
 		if (InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_2x) {
 			try {
 				// We really want a fresh ImageFileNameProvider instance to make
@@ -18,6 +18,7 @@ import java.net.URI;
 import java.net.URL;
 import java.util.function.Supplier;
 
+import org.eclipse.jface.internal.ImageDataCache;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
@@ -434,6 +435,35 @@ public abstract class ImageDescriptor extends DeviceResourceDescriptor<Image> {
 		return getImageData(100);
 	}
 
+	/**
+	 * Returns whether the image data of this descriptor may be decoded in a
+	 * background thread before its image is created, see
+	 * {@link ResourceManager#createImageAsync(ImageDescriptor, Image, java.util.function.Consumer)}.
+	 * Descriptors that read image files return <code>true</code>, except for
+	 * SVG files, which SWT rasterizes at the zoom level of the image when it is
+	 * created.
+	 *
+	 * @return <code>true</code> if the image data can be decoded ahead of time
+	 */
+	boolean canPrefetch() {
+		return false;
+	}
+
+	/**
+	 * Decodes the image data of this descriptor at the given zoom level into
+	 * the {@link ImageDataCache}. Called in a background thread for
+	 * descriptors that {@link #canPrefetch() can be prefetched}.
+	 *
+	 * @param zoom the zoom level
+	 */
+	void prefetch(int zoom) {
+		ImageDataCache.INSTANCE.get(this, zoom, this::getImageData);
+	}
+
+	static boolean isSvg(String path) {
+		return path.regionMatches(true, path.length() - 4, ".svg", 0, 4); //$NON-NLS-1$
+	}
+
 	/**
 	 * Returns the shared image descriptor for a missing image.
 	 *
@@ -0,0 +1,391 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jface.internal.ImageDataCache;
+import org.eclipse.jface.internal.InternalPolicy;
+import org.eclipse.jface.util.Policy;
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageDataProvider;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Decodes the image data of image descriptors in background threads into the
+ * {@link ImageDataCache}, so that creating their images in the UI thread does
+ * not read and decode files. The image data of cacheable compositions, like
+ * decoration overlay icons, is composed in the background too.
+ * <p>
+ * The image data is decoded at 100% and at the zoom level SWT last asked an
+ * image descriptor for. The images of URL based descriptors that are created
+ * in a session are counted, and the most frequently used ones are written to
+ * a warm list when the display is disposed. The next session decodes the
+ * images of the warm list in the background on startup. The warm list is
+ * stored in the file given by the system property
+ * <code>org.eclipse.jface.resource.imageWarmList</code>, by default in the
+ * data area of this bundle. An empty property value disables the warm list.
+ * </p>
+ */
+final class ImagePrefetcher {
+
+	private static final String THREAD_NAME = "Image Prefetcher"; //$NON-NLS-1$
+
+	private static final String WARM_LIST_PROPERTY = "org.eclipse.jface.resource.imageWarmList"; //$NON-NLS-1$
+
+	private static final String WARM_LIST_FILE = "imageWarmList.txt"; //$NON-NLS-1$
+
+	/**
+	 * The maximum number of images in the warm list.
+	 */
+	private static final int WARM_LIST_SIZE = Integer.getInteger("org.eclipse.jface.resource.imageWarmListSize", 500) //$NON-NLS-1$
+			.intValue();
+
+	/**
+	 * The maximum number of distinct images whose use is counted, and of
+	 * prefetched images that are remembered.
+	 */
+	private static final int MAX_TRACKED = 8 * WARM_LIST_SIZE;
+
+	private static final int POOL_SIZE = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
+	static final ImagePrefetcher INSTANCE = new ImagePrefetcher();
+
+	/**
+	 * Protects the fields below.
+	 */
+	private final Object lock = new Object();
+
+	/**
+	 * The descriptors to decode with the callbacks to run afterwards, in the
+	 * order of the requests.
+	 */
+	private final Map<ImageDescriptor, List<Runnable>> requests = new LinkedHashMap<>();
+
+	/**
+	 * The descriptors of the warm list, decoded after the requests.
+	 */
+	private final ArrayDeque<ImageDescriptor> warmRequests = new ArrayDeque<>();
+
+	/**
+	 * The descriptors decoded for {@link #load(ImageDescriptor, Runnable)} or
+	 * for the warm list, in the order of their use. Only their images are
+	 * created from the decoded image data.
+	 */
+	private final Map<ImageDescriptor, Boolean> prefetched = new LinkedHashMap<>(64, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ImageDescriptor, Boolean> eldest) {
+			return size() > MAX_TRACKED;
+		}
+	};
+
+	private Path pendingWarmList;
+
+	private boolean warmListLoaded;
+
+	private int threadCount;
+
+	/**
+	 * The number of created images by URL. Guarded by itself.
+	 */
+	private final Map<String, int[]> useCounts = new HashMap<>();
+
+	private volatile int deviceZoom = 100;
+
+	private ImagePrefetcher() {
+	}
+
+	/**
+	 * Remembers the zoom level SWT asked an image descriptor for, so that image
+	 * data is decoded at this zoom level.
+	 *
+	 * @param zoom the zoom level
+	 */
+	void zoomRequested(int zoom) {
+		if (zoom != 100) {
+			deviceZoom = zoom;
+		}
+	}
+
+	/**
+	 * Returns whether the image data of the given descriptor has to be decoded
+	 * before its image can be created without reading files.
+	 *
+	 * @param descriptor the image descriptor
+	 * @return <code>true</code> if the image data is not decoded yet
+	 */
+	boolean needsLoading(ImageDescriptor descriptor) {
+		if (!descriptor.canPrefetch()) {
+			return false;
+		}
+		return !ImageDataCache.INSTANCE.contains(descriptor, 100)
+				|| !ImageDataCache.INSTANCE.contains(descriptor, deviceZoom);
+	}
+
+	/**
+	 * Decodes the image data of the given descriptor in a background thread and
+	 * runs the given callback in that thread afterwards.
+	 *
+	 * @param descriptor the image descriptor
+	 * @param callback   the callback
+	 */
+	void load(ImageDescriptor descriptor, Runnable callback) {
+		synchronized (lock) {
+			requests.computeIfAbsent(descriptor, d -> new ArrayList<>(1)).add(callback);
+			startThread();
+		}
+	}
+
+	/**
+	 * Creates the image of the given descriptor from the image data this
+	 * prefetcher decoded. Image data that other code put into the
+	 * {@link ImageDataCache}, for example for the overlays of composite image
+	 * descriptors, is not used, so that images are created the usual way
+	 * unless they were requested asynchronously or are on the warm list.
+	 *
+	 * @param descriptor the image descriptor
+	 * @param device     the device to create the image on
+	 * @return the image, or <code>null</code> if the image data of the
+	 *         descriptor was not decoded by this prefetcher
+	 */
+	Image createImage(ImageDescriptor descriptor, Device device) {
+		if (!descriptor.canPrefetch()) {
+			return null;
+		}
+		synchronized (lock) {
+			if (prefetched.get(descriptor) == null) {
+				return null;
+			}
+		}
+		if (ImageDataCache.INSTANCE.find(descriptor, 100) == null) {
+			return null;
+		}
+		// We really want a fresh ImageDataProvider instance to make sure the
+		// code that uses created images can use equals(), see Image#equals
+		return new Image(device, (ImageDataProvider) zoom -> {
+			zoomRequested(zoom);
+			return ImageDataCache.INSTANCE.get(descriptor, zoom, descriptor::getImageData);
+		});
+	}
+
+	/**
+	 * Counts the use of the image with the given URL for the warm list.
+	 *
+	 * @param url the URL of the image
+	 */
+	void recordUse(String url) {
+		synchronized (useCounts) {
+			int[] count = useCounts.get(url);
+			if (count == null) {
+				if (useCounts.size() >= MAX_TRACKED) {
+					return;
+				}
+				count = new int[1];
+				useCounts.put(url, count);
+			}
+			count[0]++;
+		}
+	}
+
+	/**
+	 * Decodes the images of the warm list of the last session in the
+	 * background. Does nothing after the first call.
+	 */
+	void loadWarmList() {
+		Path file = getWarmListFile();
+		synchronized (lock) {
+			if (warmListLoaded || file == null) {
+				return;
+			}
+			warmListLoaded = true;
+			pendingWarmList = file;
+			startThread();
+		}
+	}
+
+	/**
+	 * Writes the most frequently used images of this session to the warm list.
+	 */
+	void saveWarmList() {
+		Path file = getWarmListFile();
+		if (file == null) {
+			return;
+		}
+		List<Map.Entry<String, int[]>> entries;
+		synchronized (useCounts) {
+			if (useCounts.isEmpty()) {
+				return;
+			}
+			entries = new ArrayList<>(useCounts.entrySet());
+		}
+		entries.sort(Collections.reverseOrder(Map.Entry.comparingByValue((a, b) -> Integer.compare(a[0], b[0]))));
+		List<String> lines = new ArrayList<>(Math.min(entries.size(), WARM_LIST_SIZE) + 1);
+		lines.add(Integer.toString(deviceZoom));
+		for (int i = 0; i < entries.size() && i < WARM_LIST_SIZE; i++) {
+			lines.add(entries.get(i).getKey());
+		}
+		try {
+			Path parent = file.getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			Files.write(file, lines, StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			Policy.logException(e);
+		}
+	}
+
+	private static Path getWarmListFile() {
+		String property = System.getProperty(WARM_LIST_PROPERTY);
+		if (property != null) {
+			return property.isEmpty() ? null : Path.of(property);
+		}
+		if (!InternalPolicy.OSGI_AVAILABLE) {
+			return null;
+		}
+		Bundle bundle = FrameworkUtil.getBundle(ImagePrefetcher.class);
+		File file = bundle != null ? bundle.getDataFile(WARM_LIST_FILE) : null;
+		return file != null ? file.toPath() : null;
+	}
+
+	private void startThread() {
+		if (threadCount < POOL_SIZE) {
+			threadCount++;
+			Thread thread = new Thread(this::run, THREAD_NAME);
+			thread.setDaemon(true);
+			thread.setPriority(Thread.NORM_PRIORITY - 1);
+			thread.start();
+		}
+	}
+
+	/**
+	 * Runs in a background thread until there are no more requests.
+	 */
+	private void run() {
+		while (true) {
+			ImageDescriptor descriptor;
+			List<Runnable> callbacks;
+			Path warmList = null;
+			synchronized (lock) {
+				Iterator<Map.Entry<ImageDescriptor, List<Runnable>>> iterator = requests.entrySet().iterator();
+				if (pendingWarmList != null) {
+					warmList = pendingWarmList;
+					pendingWarmList = null;
+					descriptor = null;
+					callbacks = null;
+				} else if (iterator.hasNext()) {
+					Map.Entry<ImageDescriptor, List<Runnable>> next = iterator.next();
+					iterator.remove();
+					descriptor = next.getKey();
+					callbacks = next.getValue();
+				} else if (!warmRequests.isEmpty()) {
+					descriptor = warmRequests.poll();
+					callbacks = Collections.emptyList();
+				} else {
+					threadCount--;
+					return;
+				}
+			}
+			if (warmList != null) {
+				readWarmList(warmList);
+				continue;
+			}
+			decode(descriptor);
+			synchronized (lock) {
+				prefetched.put(descriptor, Boolean.TRUE);
+			}
+			for (Runnable callback : callbacks) {
+				try {
+					callback.run();
+				} catch (RuntimeException e) {
+					Policy.logException(e);
+				}
+			}
+		}
+	}
+
+	private void decode(ImageDescriptor descriptor) {
+		if (!needsLoading(descriptor)) {
+			return;
+		}
+		int zoom = deviceZoom;
+		try {
+			descriptor.prefetch(100);
+			if (zoom != 100) {
+				descriptor.prefetch(zoom);
+			}
+		} catch (RuntimeException e) {
+			Policy.logException(e);
+		}
+	}
+
+	/**
+	 * Reads the warm list and queues its images. The first line is the zoom
+	 * level of the last session, the other lines are URLs.
+	 */
+	private void readWarmList(Path file) {
+		if (!Files.isRegularFile(file)) {
+			return;
+		}
+		List<String> lines;
+		try {
+			lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			Policy.logException(e);
+			return;
+		}
+		if (lines.isEmpty()) {
+			return;
+		}
+		try {
+			int zoom = Integer.parseInt(lines.get(0));
+			if (deviceZoom == 100 && zoom > 0) {
+				deviceZoom = zoom;
+			}
+		} catch (NumberFormatException e) {
+			// not a warm list
+			return;
+		}
+		List<ImageDescriptor> descriptors = new ArrayList<>(lines.size() - 1);
+		for (String line : lines.subList(1, lines.size())) {
+			try {
+				descriptors.add(new URLImageDescriptor(new URL(line)));
+			} catch (MalformedURLException e) {
+				// skip the entry
+			}
+		}
+		synchronized (lock) {
+			warmRequests.addAll(descriptors);
+		}
+	}
+}
@@ -28,6 +28,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.jface.dialogs.Dialog;
 import org.eclipse.jface.dialogs.PopupDialog;
 import org.eclipse.jface.dialogs.TitleAreaDialog;
+import org.eclipse.jface.internal.ImageDataDiskCache;
 import org.eclipse.jface.preference.PreferenceDialog;
 import org.eclipse.jface.wizard.Wizard;
 import org.eclipse.pde.api.tools.annotations.NoExtend;
@@ -202,6 +203,14 @@ public class JFaceResources {
 	 */
 	private static final int CACHE_SIZE = Integer.getInteger("org.eclipse.jface.resource.cacheSize", 300).intValue(); //$NON-NLS-1$
 
+	/**
+	 * Maximum number of pixels of the unreferenced images kept in the cache. The
+	 * default of one million pixels holds the 300 icons at 200% zoom, but does
+	 * not keep large images alive.
+	 */
+	private static final long CACHE_WEIGHT = Long.getLong("org.eclipse.jface.resource.cacheWeight", 1_000_000L) //$NON-NLS-1$
+			.longValue();
+
 	/**
 	 * Returns the global resource manager for the given display
 	 *
@@ -218,11 +227,14 @@ public class JFaceResources {
 			if (CACHE_SIZE == 0) {
 				reg = new DeviceResourceManager(toQuery);
 			} else {
-				reg = new LazyResourceManager(CACHE_SIZE, new DeviceResourceManager(toQuery));
+				reg = new LazyResourceManager(CACHE_SIZE, CACHE_WEIGHT, new DeviceResourceManager(toQuery));
 			}
 			registries.put(toQuery, reg);
 			final ResourceManager mgr = reg;
+			ImagePrefetcher.INSTANCE.loadWarmList();
 			toQuery.disposeExec(() -> {
+				ImagePrefetcher.INSTANCE.saveWarmList();
+				ImageDataDiskCache.INSTANCE.saveInBackground();
 				mgr.dispose();
 				registries.remove(toQuery);
 			});
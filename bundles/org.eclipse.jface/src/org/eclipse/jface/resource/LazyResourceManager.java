@@ -14,53 +14,68 @@
 package org.eclipse.jface.resource;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.eclipse.jface.internal.ResourceManagerStatistics;
 import org.eclipse.pde.api.tools.annotations.NoReference;
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
 
 /**
  * A LRU based ResourceManager Wrapper. Not to be used by clients.
+ * <p>
+ * Resources that are no longer referenced are kept until more than the given
+ * number of unreferenced resources or more than the given total weight of
+ * unreferenced resources is cached. The weight of an image is its number of
+ * pixels, the weight of any other resource is 1, so a few large images do not
+ * keep as much native memory alive as many small icons.
+ * </p>
  */
 @NoReference
 public class LazyResourceManager extends ResourceManager {
 	/**
 	 * This LRU Map only holds the DeviceResourceDescriptors which are not
-	 * referenced otherwise anymore. The Resources itself are only cached by the
-	 * parent ResourceManager.
+	 * referenced otherwise anymore, with their weight. The Resources itself are
+	 * only cached by the parent ResourceManager.
 	 */
-	private static class LruMap extends LinkedHashMap<DeviceResourceDescriptor<?>, ResourceManager> {
+	private static class LruMap extends LinkedHashMap<DeviceResourceDescriptor<?>, Long> {
 		private static final long serialVersionUID = 1L;
-		int cacheSize;
 
 		LruMap(int cacheSize) {
 			super(cacheSize, 0.75f, true); // last access-order
-			this.cacheSize = cacheSize;
-		}
-
-		@Override
-		protected boolean removeEldestEntry(java.util.Map.Entry<DeviceResourceDescriptor<?>, ResourceManager> eldest) {
-			boolean remove = size() > cacheSize;
-			if (remove) {
-				// destroy resource which was not used recently:
-				eldest.getValue().destroy(eldest.getKey());
-			}
-			return remove;
 		}
 	}
 
 	private final ResourceManager parent;
 	private final LruMap unreferenced;
 	private final Map<DeviceResourceDescriptor<?>, Integer> refCount;
+	private final int cacheSize;
+	private final long maxWeight;
+	private long unreferencedWeight;
+	private final ResourceManagerStatistics statistics = ResourceManagerStatistics.create(this);
 
 	/**
 	 * @param cacheSize the lru cache size
 	 * @param parent    ResourceManager
 	 */
 	public LazyResourceManager(int cacheSize, ResourceManager parent) {
+		this(cacheSize, Long.MAX_VALUE, parent);
+	}
+
+	/**
+	 * @param cacheSize the lru cache size
+	 * @param maxWeight the maximum total weight of unreferenced resources, in
+	 *                  pixels for images
+	 * @param parent    ResourceManager
+	 * @since 3.37
+	 */
+	public LazyResourceManager(int cacheSize, long maxWeight, ResourceManager parent) {
 		this.parent = parent;
+		this.cacheSize = cacheSize;
+		this.maxWeight = maxWeight;
 		this.unreferenced = new LruMap(cacheSize);
 		this.refCount = new HashMap<>();
 	}
@@ -90,14 +105,19 @@ public class LazyResourceManager extends ResourceManager {
 		@SuppressWarnings("boxing")
 		int updatedRefs = refCount.compute(descriptor, (k, refs) -> refs == null ? 1 : refs + 1);
 		if (updatedRefs == 1) {
-			ResourceManager cached = unreferenced.remove(descriptor);
-			if (cached == null) {
+			Long weight = unreferenced.remove(descriptor);
+			if (weight == null) {
+				statistics.miss();
+				updateStatistics();
 				return parent.create(descriptor);
 			}
 			// referenced again
+			unreferencedWeight -= weight.longValue();
 		} else {
 			assert !unreferenced.containsKey(descriptor);
 		}
+		statistics.hit();
+		updateStatistics();
 		return parent.find(descriptor);
 	}
 
@@ -111,8 +131,39 @@ public class LazyResourceManager extends ResourceManager {
 		Integer refsLeft = refCount.computeIfPresent(descriptor, (k, refs) -> refs == 1 ? null : (refs - 1));
 		if (refsLeft == null) {
 			// defer destroy:
-			ResourceManager old = unreferenced.put(descriptor, parent);
+			long weight = weightOf(parent.find(descriptor));
+			Long old = unreferenced.put(descriptor, Long.valueOf(weight));
 			assert old == null;
+			unreferencedWeight += weight;
+			evict();
+			updateStatistics();
+		}
+	}
+
+	private void updateStatistics() {
+		statistics.update(refCount.size() + unreferenced.size(), unreferencedWeight);
+	}
+
+	private static long weightOf(Object resource) {
+		if (resource instanceof Image image && !image.isDisposed()) {
+			Rectangle bounds = image.getBounds();
+			return Math.max(1, (long) bounds.width * bounds.height);
+		}
+		return 1;
+	}
+
+	/**
+	 * Destroys the least recently used unreferenced resources until the cache
+	 * is within its size and weight.
+	 */
+	private void evict() {
+		Iterator<Map.Entry<DeviceResourceDescriptor<?>, Long>> iterator = unreferenced.entrySet().iterator();
+		while ((unreferenced.size() > cacheSize || unreferencedWeight > maxWeight) && iterator.hasNext()) {
+			Map.Entry<DeviceResourceDescriptor<?>, Long> eldest = iterator.next();
+			iterator.remove();
+			unreferencedWeight -= eldest.getValue().longValue();
+			// destroy resource which was not used recently:
+			parent.destroy(eldest.getKey());
 		}
 	}
 
@@ -16,6 +16,7 @@ package org.eclipse.jface.resource;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.Status;
@@ -26,6 +27,7 @@ import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.widgets.Display;
 
 /**
  * This class manages SWT resources. It manages reference-counted instances of resources
@@ -196,6 +198,64 @@ public abstract class ResourceManager {
 		}
 	}
 
+	/**
+	 * Creates an image, given an image descriptor, without reading and decoding
+	 * image files in the calling thread. If the image is already allocated, or
+	 * its image data is already decoded, or the descriptor does not read image
+	 * files, the image is created and returned like by
+	 * {@link #create(DeviceResourceDescriptor)}. Otherwise the given placeholder
+	 * is returned, the image data is decoded in a background thread, and the
+	 * image is then created in the UI thread of this manager's display and
+	 * passed to the given callback.
+	 * <p>
+	 * Every image returned by this method other than the placeholder, and
+	 * every image passed to the callback, must be released with
+	 * {@link #destroy(DeviceResourceDescriptor)}. If this manager is disposed
+	 * before the image data is decoded, or if the image cannot be created, the
+	 * callback is not called. This method must be called from the UI thread.
+	 * </p>
+	 *
+	 * @param descriptor  descriptor for the image to create
+	 * @param placeholder image to show until the image is created, may be
+	 *                    <code>null</code>; it is not managed by this method
+	 * @param callback    receives the image when it is created in the
+	 *                    background
+	 * @return the image described by the descriptor, or the placeholder
+	 * @throws DeviceResourceException if unable to allocate the image
+	 * @since 3.37
+	 */
+	public final Image createImageAsync(ImageDescriptor descriptor, Image placeholder, Consumer<Image> callback) {
+		Assert.isNotNull(descriptor);
+		Assert.isNotNull(callback);
+		if (!(getDevice() instanceof Display display) || find(descriptor) != null
+				|| !ImagePrefetcher.INSTANCE.needsLoading(descriptor)) {
+			return create(descriptor);
+		}
+		boolean[] disposed = new boolean[1];
+		Runnable onDispose = () -> disposed[0] = true;
+		disposeExec(onDispose);
+		ImagePrefetcher.INSTANCE.load(descriptor, () -> {
+			if (display.isDisposed()) {
+				return;
+			}
+			display.asyncExec(() -> {
+				if (disposed[0]) {
+					return;
+				}
+				cancelDisposeExec(onDispose);
+				Image image;
+				try {
+					image = create(descriptor);
+				} catch (DeviceResourceException | SWTException e) {
+					Policy.getLog().log(Status.warning("The image could not be loaded: " + descriptor, e)); //$NON-NLS-1$
+					return;
+				}
+				callback.accept(image);
+			});
+		});
+		return placeholder;
+	}
+
 	/**
 	 * Returns the default image that will be returned in the event that the intended
 	 * image is missing.
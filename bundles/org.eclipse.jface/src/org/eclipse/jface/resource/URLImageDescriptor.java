@@ -30,6 +30,7 @@ import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.internal.ImageDataDiskCache;
 import org.eclipse.jface.internal.InternalPolicy;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.swt.SWT;
@@ -57,6 +58,7 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 
 		@Override
 		public String getImagePath(int zoom) {
+			ImagePrefetcher.INSTANCE.zoomRequested(zoom);
 			URL tempURL = getURL(url);
 			if (tempURL != null) {
 				final boolean logIOException = zoom == 100;
@@ -93,6 +95,7 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 
 		@Override
 		public ImageData getImageData(int zoom) {
+			ImagePrefetcher.INSTANCE.zoomRequested(zoom);
 			return URLImageDescriptor.getImageData(url, zoom);
 		}
 
@@ -125,6 +128,11 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 		return ((URLImageDescriptor) o).url.equals(this.url);
 	}
 
+	@Override
+	boolean canPrefetch() {
+		return !isSvg(url);
+	}
+
 	@Deprecated
 	@Override
 	public ImageData getImageData() {
@@ -138,23 +146,28 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 
 	private static ImageData getImageData(String url, int zoom) {
 		URL tempURL = getURL(url);
-		if (tempURL != null) {
-			if (zoom == 100) {
-				return getImageData(tempURL);
-			}
-			URL xUrl = getxURL(tempURL, zoom);
-			if (xUrl != null) {
-				ImageData xdata = getImageData(xUrl);
-				if (xdata != null) {
-					return xdata;
-				}
+		if (tempURL == null) {
+			return null;
+		}
+		return ImageDataDiskCache.INSTANCE.get(tempURL, zoom, () -> getImageData(tempURL, url, zoom));
+	}
+
+	private static ImageData getImageData(URL tempURL, String url, int zoom) {
+		if (zoom == 100) {
+			return getImageData(tempURL);
+		}
+		URL xUrl = getxURL(tempURL, zoom);
+		if (xUrl != null) {
+			ImageData xdata = getImageData(xUrl);
+			if (xdata != null) {
+				return xdata;
 			}
-			String xpath = FileImageDescriptor.getxPath(url, zoom);
-			if (xpath != null) {
-				URL xPathUrl = getURL(xpath);
-				if (xPathUrl != null) {
-					return getImageData(xPathUrl);
-				}
+		}
+		String xpath = FileImageDescriptor.getxPath(url, zoom);
+		if (xpath != null) {
+			URL xPathUrl = getURL(xpath);
+			if (xPathUrl != null) {
+				return getImageData(xPathUrl);
 			}
 		}
 		return null;
@@ -297,6 +310,21 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 			start = System.nanoTime();
 		}
 		try {
+			ImagePrefetcher.INSTANCE.recordUse(url);
+			Image prefetched = ImagePrefetcher.INSTANCE.createImage(this, device);
+			if (prefetched != null) {
+				return prefetched;
+			}
+			if (ImageDataDiskCache.INSTANCE.isEnabled() && canPrefetch() && getURL(url) != null) {
+				try {
+					// The image data is either decoded in a previous session, which
+					// skips looking up and decoding the file, or decoded once now and
+					// cached on disk for the next session.
+					return new Image(device, new URLImageDataProvider(url));
+				} catch (SWTException | IllegalArgumentException exception) {
+					// If we fail, fall back to the usual handling of the file.
+				}
+			}
 			if (InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_2x) {
 				if (!InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY) {
 					try {
@@ -96,6 +96,12 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 */
 	public static final int NO_EXPAND = 0;
 
+	/**
+	 * Number of items disposed and created when reconciling the children of an
+	 * item above which redraw of the tree is turned off during the update.
+	 */
+	private static final int RECONCILE_BATCH_THRESHOLD = 64;
+
 	/**
 	 * List of registered tree listeners (element type:
 	 * <code>TreeListener</code>).
@@ -2931,6 +2937,12 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 			}
 		}
 
+		// reordered children and insertions in the middle are handled by
+		// reusing the items of elements that keep their relative order
+		if (reconcileChildren(widget, elementChildren, items, updateLabels, expanded)) {
+			return;
+		}
+
 		int min = Math.min(elementChildren.length, items.length);
 
 		// dispose of surplus items, optimizing for the case where elements have
@@ -3066,6 +3078,204 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Updates the child items of the given widget by matching old and new
+	 * children by element instead of by position. The items of the longest
+	 * sequence of elements that keep their relative order are reused as they
+	 * are, including their subtrees and expanded state. Only the items of
+	 * removed and moved elements are disposed, and items are created at their
+	 * target index for new and moved elements. This avoids relabeling every
+	 * item after an insertion or a reordering in the middle of a long list.
+	 * <p>
+	 * The reconciliation is only done when it touches fewer items than the
+	 * positional update in {@link #updateChildren(Widget, Object, Object[], boolean)}.
+	 * It is not done if an item has no element, as is the case for dummy and
+	 * virtual items, or if an element occurs more than once.
+	 * </p>
+	 *
+	 * @param widget          the widget whose children are updated
+	 * @param elementChildren the new sorted and filtered children
+	 * @param items           the current child items of the widget
+	 * @param updateLabels    <code>true</code> to update the labels of reused
+	 *                        items
+	 * @param expanded        the elements of the currently expanded items
+	 * @return <code>true</code> if the children were updated,
+	 *         <code>false</code> if the positional update has to be done
+	 */
+	private boolean reconcileChildren(Widget widget, Object[] elementChildren, Item[] items,
+			boolean updateLabels, CustomHashtable expanded) {
+		int oldCount = items.length;
+		int newCount = elementChildren.length;
+		if (oldCount == 0 || newCount == 0) {
+			return false;
+		}
+		// if the common prefix is unchanged, as on a plain refresh, the
+		// positional update only disposes or creates the items past it, which
+		// the reconciliation cannot beat
+		int min = Math.min(oldCount, newCount);
+		int firstChange = 0;
+		while (firstChange < min && equals(items[firstChange].getData(), elementChildren[firstChange])) {
+			firstChange++;
+		}
+		if (firstChange == min) {
+			return false;
+		}
+		CustomHashtable oldIndices = newHashtable(oldCount * 2);
+		for (int j = 0; j < oldCount; j++) {
+			Object data = items[j].getData();
+			if (data == null || oldIndices.put(data, Integer.valueOf(j)) != null) {
+				return false;
+			}
+		}
+		// the old index of each new child, or -1 for a new element
+		int[] sources = new int[newCount];
+		boolean[] retained = new boolean[oldCount];
+		for (int i = 0; i < newCount; i++) {
+			Integer j = (Integer) oldIndices.get(elementChildren[i]);
+			if (j == null) {
+				sources[i] = -1;
+			} else if (retained[j.intValue()]) {
+				return false;
+			} else {
+				sources[i] = j.intValue();
+				retained[j.intValue()] = true;
+			}
+		}
+
+		// number of items the positional update disposes, creates or relabels
+		int positionalCost = Math.abs(oldCount - newCount);
+		int toDispose = oldCount - min;
+		int[] positions = new int[oldCount];
+		int remaining = 0;
+		for (int j = 0; j < oldCount; j++) {
+			if (toDispose > 0 && !retained[j]) {
+				toDispose--;
+			} else {
+				positions[remaining++] = j;
+			}
+		}
+		for (int i = 0; i < min; i++) {
+			if (sources[i] != positions[i]) {
+				positionalCost++;
+			}
+		}
+
+		boolean[] kept = longestIncreasingSubsequence(sources, oldCount);
+		int keptCount = 0;
+		for (boolean k : kept) {
+			if (k) {
+				keptCount++;
+			}
+		}
+		int keyedCost = (oldCount - keptCount) + (newCount - keptCount);
+		if (keyedCost >= positionalCost) {
+			return false;
+		}
+
+		Control tree = getControl();
+		boolean batch = keyedCost > RECONCILE_BATCH_THRESHOLD;
+		if (batch) {
+			tree.setRedraw(false);
+		}
+		try {
+			for (int j = 0; j < oldCount; j++) {
+				if (!kept[j]) {
+					disassociate(items[j]);
+					items[j].dispose();
+				}
+			}
+			int[] toExpand = null;
+			int expandCount = 0;
+			for (int i = 0; i < newCount; i++) {
+				Object newElement = elementChildren[i];
+				if (sources[i] >= 0 && kept[sources[i]]) {
+					Item item = items[sources[i]];
+					Object oldElement = item.getData();
+					if (newElement != oldElement) {
+						// equal elements may still have different labels or
+						// children
+						unmapElement(oldElement, item);
+						item.setData(newElement);
+						mapElement(newElement, item);
+					}
+					updatePlus(item, newElement);
+					if (updateLabels) {
+						updateItem(item, newElement);
+					} else {
+						associate(newElement, item);
+					}
+				} else {
+					// all items before index i are in place, so the new item
+					// ends up at index i
+					createTreeItem(widget, newElement, i);
+					if (sources[i] >= 0 && expanded.containsKey(newElement)) {
+						if (toExpand == null) {
+							toExpand = new int[newCount - keptCount];
+						}
+						toExpand[expandCount++] = i;
+					}
+				}
+			}
+			if (expandCount > 0) {
+				// restore the expanded state of moved items after updatePlus
+				// was called in createTreeItem
+				Item[] newItems = getChildren(widget);
+				for (int k = 0; k < expandCount; k++) {
+					setExpanded(newItems[toExpand[k]], true);
+				}
+			}
+		} finally {
+			if (batch) {
+				tree.setRedraw(true);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns which old indices are part of a longest strictly increasing
+	 * subsequence of the given old indices, ignoring negative entries. The
+	 * elements at these indices keep their relative order and do not need to
+	 * be moved.
+	 *
+	 * @param sources  the old index of each new child, or -1
+	 * @param oldCount the number of old children
+	 * @return for each old index whether it is part of the subsequence
+	 */
+	static boolean[] longestIncreasingSubsequence(int[] sources, int oldCount) {
+		// tails[k] is the position in sources of the smallest value ending an
+		// increasing subsequence of length k+1
+		int[] tails = new int[sources.length];
+		int[] predecessors = new int[sources.length];
+		int length = 0;
+		for (int i = 0; i < sources.length; i++) {
+			int value = sources[i];
+			if (value < 0) {
+				continue;
+			}
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (sources[tails[mid]] < value) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			predecessors[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			if (low == length) {
+				length++;
+			}
+		}
+		boolean[] result = new boolean[oldCount];
+		for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = predecessors[i]) {
+			result[sources[i]] = true;
+		}
+		return result;
+	}
+
 	/** Returns true if children were pruned */
 	/*package*/ boolean optionallyPruneChildren(Item item, Object element) {
 		// need a dummy node if element is expandable;
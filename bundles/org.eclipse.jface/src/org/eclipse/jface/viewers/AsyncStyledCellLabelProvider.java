@@ -0,0 +1,485 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.jface.util.Policy;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * A {@link DelegatingStyledCellLabelProvider} that computes the styled text of
+ * the elements in a background thread. This keeps scrolling responsive if the
+ * wrapped label provider is expensive, for example because it computes a
+ * version control state or formats long paths.
+ * <p>
+ * When a cell is updated and the styled text of its element is not known yet,
+ * the previous label of the element or a placeholder is shown, and the text is
+ * requested for the element and for the next rows below it. Computed labels are
+ * cached per element and applied to the viewer in batches that take at most a
+ * few milliseconds of the UI thread each. The cache entries of the elements
+ * named in a {@link LabelProviderChangedEvent} of the wrapped label provider
+ * are invalidated, all entries if the event names no elements.
+ * </p>
+ * <p>
+ * Only {@link IStyledLabelProvider#getStyledText(Object)} is called in the
+ * background thread, so it must be thread safe. Images, fonts and colors are
+ * SWT resources and are still requested in the UI thread. Elements are
+ * identified like the viewer does, with its {@link IElementComparer} if it has
+ * one. The viewer should use a hash lookup (see
+ * {@link StructuredViewer#setUseHashlookup(boolean)}), since the computed
+ * labels are applied with {@link StructuredViewer#update(Object, String[])}.
+ * </p>
+ *
+ * @since 3.37
+ */
+public class AsyncStyledCellLabelProvider extends DelegatingStyledCellLabelProvider {
+
+	/**
+	 * Maximum time in milliseconds spent in the UI thread for applying one
+	 * batch of computed labels.
+	 */
+	private static final long FRAME_BUDGET = 8;
+
+	/**
+	 * Maximum number of cached labels.
+	 */
+	private static final int MAX_CACHE_SIZE = 10000;
+
+	private static final String THREAD_NAME = "Label Computation"; //$NON-NLS-1$
+
+	/**
+	 * Protects all fields below, except the ones that are only accessed in the
+	 * UI thread.
+	 */
+	private final Object lock = new Object();
+
+	private final Map<ElementKey, StyledString> cache = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ElementKey, StyledString> eldest) {
+			return size() > MAX_CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * Labels that were invalidated. They are shown until the new label is
+	 * computed.
+	 */
+	private final Map<ElementKey, StyledString> stale = new HashMap<>();
+
+	/**
+	 * Elements of visible rows to compute the label for, computed before the
+	 * {@link #prefetchRequests}.
+	 */
+	private final Set<ElementKey> visibleRequests = new LinkedHashSet<>();
+
+	/**
+	 * Elements of rows below visible rows to compute the label for.
+	 */
+	private final Set<ElementKey> prefetchRequests = new LinkedHashSet<>();
+
+	/**
+	 * The requested elements whose label is not cached yet, including the one
+	 * being computed.
+	 */
+	private final Set<ElementKey> requested = new HashSet<>();
+
+	/**
+	 * Elements with a computed label that was not applied to the viewer yet.
+	 */
+	private final List<Object> computed = new ArrayList<>();
+
+	/**
+	 * The element whose label is being computed, or <code>null</code>.
+	 */
+	private ElementKey computing;
+
+	/**
+	 * Whether the label of {@link #computing} was invalidated while it was
+	 * computed.
+	 */
+	private boolean computingInvalidated;
+
+	/**
+	 * The comparer of the viewer the keys were created with. Only accessed in
+	 * the UI thread.
+	 */
+	private IElementComparer keyComparer;
+
+	/**
+	 * Identifies an element the way the viewer does, through its
+	 * {@link IElementComparer} if it has one.
+	 */
+	private static final class ElementKey {
+		final Object element;
+
+		private final IElementComparer comparer;
+
+		private final int hashCode;
+
+		ElementKey(Object element, IElementComparer comparer) {
+			this.element = element;
+			this.comparer = comparer;
+			this.hashCode = comparer == null ? element.hashCode() : comparer.hashCode(element);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ElementKey other) || hashCode != other.hashCode) {
+				return false;
+			}
+			return comparer == null ? element.equals(other.element) : comparer.equals(element, other.element);
+		}
+	}
+
+	private boolean threadStarted;
+
+	private boolean applyScheduled;
+
+	private boolean disposed;
+
+	private StyledString placeholder = new StyledString();
+
+	private int prefetchCount = 20;
+
+	private final ILabelProviderListener invalidationListener = this::invalidate;
+
+	/**
+	 * Creates an {@link AsyncStyledCellLabelProvider} that delegates the
+	 * requests for the styled labels and the images to a
+	 * {@link IStyledLabelProvider}.
+	 *
+	 * @param labelProvider the label provider that provides the styled labels
+	 *                      and the images. Its
+	 *                      {@link IStyledLabelProvider#getStyledText(Object)}
+	 *                      must be thread safe.
+	 */
+	public AsyncStyledCellLabelProvider(IStyledLabelProvider labelProvider) {
+		super(labelProvider);
+		// registered before the viewer's listener, so the cache is invalidated
+		// before the viewer updates the labels
+		labelProvider.addListener(invalidationListener);
+	}
+
+	/**
+	 * Sets the text shown for elements whose label is being computed and that
+	 * did not have a label before. The default is an empty string.
+	 *
+	 * @param placeholder the placeholder text, not <code>null</code>
+	 */
+	public void setPlaceholder(StyledString placeholder) {
+		Assert.isNotNull(placeholder);
+		this.placeholder = placeholder;
+	}
+
+	/**
+	 * Returns the text shown for elements whose label is being computed.
+	 *
+	 * @return the placeholder text
+	 */
+	public StyledString getPlaceholder() {
+		return placeholder;
+	}
+
+	/**
+	 * Sets the number of rows below a row with an unknown label for which the
+	 * label is computed in advance. The default is 20.
+	 *
+	 * @param prefetchCount the number of rows, <code>0</code> to only compute
+	 *                      labels of updated rows
+	 */
+	public void setPrefetchCount(int prefetchCount) {
+		Assert.isLegal(prefetchCount >= 0);
+		this.prefetchCount = prefetchCount;
+	}
+
+	/**
+	 * Returns the number of rows for which labels are computed in advance.
+	 *
+	 * @return the number of rows
+	 */
+	public int getPrefetchCount() {
+		return prefetchCount;
+	}
+
+	@Override
+	public void update(ViewerCell cell) {
+		ElementKey key = key(cell.getElement());
+		boolean known;
+		synchronized (lock) {
+			known = cache.containsKey(key);
+		}
+		if (!known) {
+			request(key, true);
+			prefetch(cell.getViewerRow());
+		}
+		super.update(cell);
+	}
+
+	/**
+	 * Returns the cached styled text of the given element. If the text is not
+	 * computed yet, the previous text of the element or the placeholder is
+	 * returned.
+	 */
+	@Override
+	protected StyledString getStyledText(Object element) {
+		ElementKey key = key(element);
+		synchronized (lock) {
+			StyledString text = cache.get(key);
+			if (text == null) {
+				text = stale.get(key);
+			}
+			return text != null ? text : placeholder;
+		}
+	}
+
+	private void prefetch(ViewerRow row) {
+		ViewerRow next = row;
+		for (int i = 0; i < prefetchCount && next != null; i++) {
+			next = next.getNeighbor(ViewerRow.BELOW, false);
+			if (next == null) {
+				break;
+			}
+			Object element = next.getElement();
+			if (element == null) {
+				// not yet materialized row of a virtual viewer
+				break;
+			}
+			request(key(element), false);
+		}
+	}
+
+	/**
+	 * Returns the key of the given element for the comparer of the viewer. If
+	 * the comparer changed, the labels cached for the previous comparer are
+	 * dropped.
+	 */
+	private ElementKey key(Object element) {
+		ColumnViewer viewer = getViewer();
+		IElementComparer comparer = viewer != null ? viewer.getComparer() : null;
+		if (comparer != keyComparer) {
+			keyComparer = comparer;
+			synchronized (lock) {
+				cache.clear();
+				stale.clear();
+				visibleRequests.clear();
+				prefetchRequests.clear();
+				requested.clear();
+				computingInvalidated = computing != null;
+			}
+		}
+		return new ElementKey(element, comparer);
+	}
+
+	private void request(ElementKey key, boolean visible) {
+		synchronized (lock) {
+			if (disposed || cache.containsKey(key)) {
+				return;
+			}
+			if (requested.add(key)) {
+				if (visible) {
+					visibleRequests.add(key);
+				} else {
+					prefetchRequests.add(key);
+				}
+			} else if (visible && prefetchRequests.remove(key)) {
+				// not computed yet, compute it with the visible rows
+				visibleRequests.add(key);
+			}
+			if (!threadStarted) {
+				threadStarted = true;
+				Thread thread = new Thread(this::computeLabels, THREAD_NAME);
+				thread.setDaemon(true);
+				thread.setPriority(Thread.NORM_PRIORITY - 1);
+				thread.start();
+			}
+		}
+	}
+
+	/**
+	 * Runs in the background thread until there are no more requests.
+	 */
+	private void computeLabels() {
+		IStyledLabelProvider provider = getStyledStringProvider();
+		while (true) {
+			ElementKey key;
+			synchronized (lock) {
+				key = poll(visibleRequests);
+				if (key == null) {
+					key = poll(prefetchRequests);
+				}
+				if (key == null || disposed) {
+					computing = null;
+					threadStarted = false;
+					return;
+				}
+				computing = key;
+				computingInvalidated = false;
+			}
+			StyledString text;
+			try {
+				text = provider.getStyledText(key.element);
+			} catch (RuntimeException e) {
+				Policy.logException(e);
+				text = placeholder;
+			}
+			synchronized (lock) {
+				computing = null;
+				if (computingInvalidated) {
+					// the label may already be outdated, compute it again
+					if (requested.contains(key)) {
+						visibleRequests.add(key);
+					}
+					continue;
+				}
+				requested.remove(key);
+				stale.remove(key);
+				cache.put(key, text);
+				computed.add(key.element);
+				if (!applyScheduled) {
+					applyScheduled = scheduleApply();
+				}
+			}
+		}
+	}
+
+	private static ElementKey poll(Set<ElementKey> requests) {
+		Iterator<ElementKey> iterator = requests.iterator();
+		if (!iterator.hasNext()) {
+			return null;
+		}
+		ElementKey key = iterator.next();
+		iterator.remove();
+		return key;
+	}
+
+	/**
+	 * Schedules applying the computed labels in the UI thread.
+	 *
+	 * @return whether applying was scheduled
+	 */
+	private boolean scheduleApply() {
+		ColumnViewer viewer = getViewer();
+		Control control = viewer != null ? viewer.getControl() : null;
+		if (control == null || control.isDisposed()) {
+			return false;
+		}
+		Display display = control.getDisplay();
+		if (display.isDisposed()) {
+			return false;
+		}
+		display.asyncExec(this::applyLabels);
+		return true;
+	}
+
+	/**
+	 * Updates the elements with computed labels until the frame budget is used
+	 * up, then reschedules itself for the remaining elements.
+	 */
+	private void applyLabels() {
+		ColumnViewer viewer = getViewer();
+		long deadline = System.currentTimeMillis() + FRAME_BUDGET;
+		while (true) {
+			Object[] elements;
+			synchronized (lock) {
+				if (disposed || computed.isEmpty() || viewer == null || viewer.getControl().isDisposed()) {
+					computed.clear();
+					applyScheduled = false;
+					return;
+				}
+				if (System.currentTimeMillis() > deadline) {
+					applyScheduled = scheduleApply();
+					return;
+				}
+				int count = Math.min(computed.size(), 32);
+				List<Object> batch = computed.subList(computed.size() - count, computed.size());
+				elements = batch.toArray();
+				batch.clear();
+			}
+			viewer.update(elements, null);
+		}
+	}
+
+	/**
+	 * Invalidates the cached labels of the elements of the given event, or of
+	 * all elements if the event names none. The previous labels are shown until
+	 * the new labels are computed.
+	 */
+	private void invalidate(LabelProviderChangedEvent event) {
+		Object[] elements = event.getElements();
+		ElementKey[] keys = null;
+		if (elements != null) {
+			keys = new ElementKey[elements.length];
+			for (int i = 0; i < elements.length; i++) {
+				keys[i] = key(elements[i]);
+			}
+		}
+		synchronized (lock) {
+			if (stale.size() > MAX_CACHE_SIZE) {
+				// labels of elements that were not shown again
+				stale.clear();
+			}
+			if (keys == null) {
+				stale.putAll(cache);
+				cache.clear();
+				computingInvalidated = computing != null;
+				return;
+			}
+			for (ElementKey key : keys) {
+				StyledString text = cache.remove(key);
+				if (text != null) {
+					stale.put(key, text);
+				}
+				if (key.equals(computing)) {
+					computingInvalidated = true;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void dispose() {
+		synchronized (lock) {
+			disposed = true;
+			visibleRequests.clear();
+			prefetchRequests.clear();
+			requested.clear();
+			computed.clear();
+			cache.clear();
+			stale.clear();
+		}
+		getStyledStringProvider().removeListener(invalidationListener);
+		super.dispose();
+	}
+}
@@ -224,6 +224,21 @@ public class DecorationOverlayIcon extends CompositeImageDescriptor {
 		return size.get();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Equal overlay icons on a base image descriptor draw the same image, so
+	 * their image data is cached. Overlay icons on an {@link Image} are not
+	 * cached, because the image may change or be disposed.
+	 * </p>
+	 *
+	 * @since 3.37
+	 */
+	@Override
+	protected boolean isCompositionCacheable() {
+		return !(referenceImageOrDescriptor instanceof Image);
+	}
+
 	@Override
 	protected int getTransparentPixel() {
 		return baseImageDataProvider.getImageData(100).transparentPixel;
@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.jface.util.Policy;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Item;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * An {@link ILazyTreeContentProvider} that shows the content of an
+ * {@link ITreeContentProvider} in a virtual {@link TreeViewer}, applying the
+ * viewer's filters and comparator. This allows large trees that need sorting
+ * or filtering to be created with the {@link org.eclipse.swt.SWT#VIRTUAL}
+ * style bit, so that tree items are only created for the rows that become
+ * visible.
+ * <p>
+ * The sorted and filtered children of each expanded element are computed in a
+ * background thread and kept as an array per element until the element is
+ * collapsed. Until the children of an element are known, its child count is
+ * not changed. When the viewer asks for an up-to-date child count, for example
+ * on {@link TreeViewer#refresh()} or after changing the filters or the
+ * comparator, the known children are shown and computed again in the
+ * background.
+ * </p>
+ * <p>
+ * The wrapped content provider's {@link ITreeContentProvider#getChildren(Object)}
+ * and the viewer's filters and comparator are called in the background thread
+ * and must be thread safe. This includes the viewer's label provider if the
+ * comparator uses it: the default {@link ViewerComparator} compares the labels
+ * returned by the {@link ILabelProvider#getText(Object)} of the viewer's label
+ * provider, so that label provider must be thread safe too, or the viewer must
+ * use a comparator that does not call it. The viewer must use a hash lookup, see
+ * {@link StructuredViewer#setUseHashlookup(boolean)}.
+ * </p>
+ *
+ * @since 3.37
+ */
+public class SortingLazyTreeContentProvider implements ILazyTreeContentProvider {
+
+	private static final String THREAD_NAME = "Sorting Tree Children"; //$NON-NLS-1$
+
+	private final ITreeContentProvider contentProvider;
+
+	/**
+	 * The sorted and filtered children by parent element. Only accessed in the
+	 * UI thread.
+	 */
+	private CustomHashtable children = new CustomHashtable();
+
+	/**
+	 * Protects the fields below.
+	 */
+	private final Object lock = new Object();
+
+	private TreeViewer viewer;
+
+	/**
+	 * Parent elements whose children have to be computed.
+	 */
+	private final LinkedHashSet<Object> requests = new LinkedHashSet<>();
+
+	/**
+	 * Incremented when the input changes, so children computed for the old
+	 * input are dropped.
+	 */
+	private int generation;
+
+	private boolean threadStarted;
+
+	private final ITreeViewerListener collapseListener = new ITreeViewerListener() {
+		@Override
+		public void treeCollapsed(TreeExpansionEvent event) {
+			// keep the arrays of expanded elements only
+			children.remove(event.getElement());
+		}
+
+		@Override
+		public void treeExpanded(TreeExpansionEvent event) {
+			// the viewer asks for the child count if needed
+		}
+	};
+
+	/**
+	 * Creates a content provider that shows the content of the given tree
+	 * content provider sorted and filtered by the viewer.
+	 *
+	 * @param contentProvider the content provider to take the children from,
+	 *                        its {@link ITreeContentProvider#getChildren(Object)}
+	 *                        must be thread safe
+	 */
+	public SortingLazyTreeContentProvider(ITreeContentProvider contentProvider) {
+		Assert.isNotNull(contentProvider);
+		this.contentProvider = contentProvider;
+	}
+
+	/**
+	 * Returns the wrapped content provider.
+	 *
+	 * @return the content provider the children are taken from
+	 */
+	public ITreeContentProvider getContentProvider() {
+		return contentProvider;
+	}
+
+	@Override
+	public void inputChanged(Viewer newViewer, Object oldInput, Object newInput) {
+		contentProvider.inputChanged(newViewer, oldInput, newInput);
+		if (viewer != newViewer) {
+			if (viewer != null) {
+				viewer.removeTreeListener(collapseListener);
+			}
+			if (newViewer != null) {
+				((TreeViewer) newViewer).addTreeListener(collapseListener);
+			}
+		}
+		synchronized (lock) {
+			viewer = (TreeViewer) newViewer;
+			generation++;
+			requests.clear();
+		}
+		children = viewer != null ? new CustomHashtable(viewer.getComparer()) : new CustomHashtable();
+	}
+
+	@Override
+	public void updateChildCount(Object element, int currentChildCount) {
+		Object[] known = (Object[]) children.get(element);
+		if (known != null && known.length != currentChildCount) {
+			viewer.setChildCount(element, known.length);
+		}
+		// the children may have changed, or the filters or the comparator
+		request(element);
+	}
+
+	@Override
+	public void updateElement(Object parent, int index) {
+		Object[] known = (Object[]) children.get(parent);
+		if (known == null) {
+			// the items are updated when the children are computed
+			request(parent);
+			return;
+		}
+		if (index >= known.length) {
+			return;
+		}
+		Object element = known[index];
+		viewer.replace(parent, index, element);
+		Object[] grandChildren = (Object[]) children.get(element);
+		if (grandChildren != null) {
+			viewer.setChildCount(element, grandChildren.length);
+		} else {
+			viewer.setHasChildren(element, contentProvider.hasChildren(element));
+		}
+	}
+
+	@Override
+	public Object getParent(Object element) {
+		return contentProvider.getParent(element);
+	}
+
+	@Override
+	public void dispose() {
+		synchronized (lock) {
+			generation++;
+			requests.clear();
+		}
+		if (viewer != null) {
+			viewer.removeTreeListener(collapseListener);
+		}
+		children = new CustomHashtable();
+		contentProvider.dispose();
+	}
+
+	private void request(Object parent) {
+		if (parent == null) {
+			return;
+		}
+		synchronized (lock) {
+			requests.add(parent);
+			if (!threadStarted) {
+				threadStarted = true;
+				Thread thread = new Thread(this::computeChildren, THREAD_NAME);
+				thread.setDaemon(true);
+				thread.setPriority(Thread.NORM_PRIORITY - 1);
+				thread.start();
+			}
+		}
+	}
+
+	/**
+	 * Runs in the background thread until there are no more requests.
+	 */
+	private void computeChildren() {
+		while (true) {
+			Object parent;
+			int startGeneration;
+			TreeViewer currentViewer;
+			synchronized (lock) {
+				Iterator<Object> iterator = requests.iterator();
+				if (!iterator.hasNext()) {
+					threadStarted = false;
+					return;
+				}
+				parent = iterator.next();
+				iterator.remove();
+				startGeneration = generation;
+				currentViewer = viewer;
+			}
+			if (currentViewer == null) {
+				continue;
+			}
+			Object[] result;
+			try {
+				result = sortAndFilter(currentViewer, parent);
+			} catch (RuntimeException e) {
+				Policy.logException(e);
+				continue;
+			}
+			Control control = currentViewer.getControl();
+			if (control.isDisposed()) {
+				continue;
+			}
+			control.getDisplay().asyncExec(() -> {
+				synchronized (lock) {
+					if (generation != startGeneration) {
+						return;
+					}
+				}
+				if (!control.isDisposed()) {
+					applyChildren(parent, result);
+				}
+			});
+		}
+	}
+
+	private Object[] sortAndFilter(TreeViewer currentViewer, Object parent) {
+		Object[] elements = parent == currentViewer.getInput() ? contentProvider.getElements(parent)
+				: contentProvider.getChildren(parent);
+		if (elements == null) {
+			return new Object[0];
+		}
+		Object[] result = elements;
+		for (ViewerFilter filter : currentViewer.getFilters()) {
+			result = filter.filter(currentViewer, parent, result);
+		}
+		ViewerComparator comparator = currentViewer.getComparator();
+		if (comparator != null) {
+			if (result == elements) {
+				// do not sort the content provider's array
+				result = result.clone();
+			}
+			comparator.sort(currentViewer, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Sets the computed children of the given parent element and updates the
+	 * items of the parent if the children changed.
+	 */
+	private void applyChildren(Object parent, Object[] result) {
+		Object[] known = (Object[]) children.get(parent);
+		boolean isRoot = parent == viewer.getInput();
+		if (!isRoot && known == null && viewer.testFindItem(parent) == null) {
+			// no longer shown
+			return;
+		}
+		children.put(parent, result);
+		if (known != null && sameElements(known, result)) {
+			return;
+		}
+		viewer.setChildCount(parent, result.length);
+		if (isRoot) {
+			clearItems(viewer.getTree());
+		} else {
+			for (Widget widget : viewer.internalFindItems(parent)) {
+				if (widget instanceof TreeItem item && item.getExpanded()) {
+					clearItems(item);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Unmaps and clears the child items of the given tree or item, so their
+	 * elements are requested again when they are visible.
+	 */
+	private void clearItems(Widget parent) {
+		Item[] items = viewer.getChildren(parent);
+		for (Item item : items) {
+			if (item.getData() != null) {
+				viewer.disassociate(item);
+			}
+		}
+		if (parent instanceof Tree tree) {
+			tree.clearAll(true);
+		} else {
+			((TreeItem) parent).clearAll(true);
+		}
+	}
+
+	private boolean sameElements(Object[] known, Object[] result) {
+		if (known.length != result.length) {
+			return false;
+		}
+		for (int i = 0; i < known.length; i++) {
+			if (!viewer.equals(known[i], result[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
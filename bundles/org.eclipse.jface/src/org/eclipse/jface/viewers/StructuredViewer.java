@@ -33,6 +33,7 @@ import org.eclipse.jface.internal.InternalPolicy;
 import org.eclipse.jface.util.OpenStrategy;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.jface.util.SafeRunnable;
+import org.eclipse.jface.viewers.internal.ElementWidgetMap;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.dnd.DragSource;
 import org.eclipse.swt.dnd.DragSourceListener;
@@ -69,7 +70,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * <code>Object</code>, value type: <code>Widget</code>, or <code>Widget[]</code>).
 	 * <code>null</code> means that the element map is disabled.
 	 */
-	private CustomHashtable elementMap;
+	private ElementWidgetMap elementMap;
 
 	/**
 	 * The comparer to use for comparing elements, or <code>null</code> to use
@@ -750,14 +751,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		}
 		// if we have an element map use it, otherwise search for the item.
 		if (usingElementMap()) {
-			Object widgetOrWidgets = elementMap.get(element);
-			if (widgetOrWidgets==null) {
-				return NO_WIDGETS;
-			} else if (widgetOrWidgets instanceof Widget) {
-				return new Widget[] {(Widget) widgetOrWidgets};
-			} else {
-				return (Widget[])widgetOrWidgets;
-			}
+			return elementMap.getWidgets(element);
 		}
 		result = doFindItem(element);
 		return result == null ? NO_WIDGETS : new Widget[] { result };
@@ -1266,25 +1260,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	protected void mapElement(Object element, Widget item) {
 		if (elementMap != null) {
-			Object widgetOrWidgets = elementMap.get(element);
-			if (widgetOrWidgets == null) {
-				elementMap.put(element, item);
-			} else if (widgetOrWidgets instanceof Widget) {
-				if (widgetOrWidgets != item) {
-					elementMap.put(element, new Widget[] {
-							(Widget) widgetOrWidgets, item });
-				}
-			} else {
-				Widget[] widgets = (Widget[]) widgetOrWidgets;
-				int indexOfItem = Arrays.asList(widgets).indexOf(item);
-				if (indexOfItem == -1) {
-					int length = widgets.length;
-					System.arraycopy(widgets, 0,
-							widgets = new Widget[length + 1], 0, length);
-					widgets[length] = item;
-					elementMap.put(element, widgets);
-				}
-			}
+			elementMap.addWidget(element, item);
 		}
 	}
 
@@ -1330,6 +1306,10 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		return new CustomHashtable(capacity, getComparer());
 	}
 
+	private ElementWidgetMap newElementMap(int capacity) {
+		return new ElementWidgetMap(capacity, getComparer());
+	}
+
 	/**
 	 * Attempts to preserves the current selection across a run of the given code.
 	 * This method should not preserve the selection if {link
@@ -1768,7 +1748,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		Assert.isTrue(getInput() == null,
 				"Can only enable the hash look up before input has been set");//$NON-NLS-1$
 		if (enable) {
-			elementMap = newHashtable(CustomHashtable.DEFAULT_CAPACITY);
+			elementMap = newElementMap(ElementWidgetMap.DEFAULT_CAPACITY);
 		} else {
 			elementMap = null;
 		}
@@ -1786,7 +1766,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	public void setComparer(IElementComparer comparer) {
 		this.comparer = comparer;
 		if (elementMap != null) {
-			elementMap = new CustomHashtable(elementMap, comparer);
+			elementMap = new ElementWidgetMap(elementMap, comparer);
 		}
 	}
 
@@ -1857,7 +1837,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	protected void unmapAllElements() {
 		if (elementMap != null) {
-			elementMap = newHashtable(CustomHashtable.DEFAULT_CAPACITY);
+			elementMap = newElementMap(ElementWidgetMap.DEFAULT_CAPACITY);
 		}
 	}
 
@@ -1897,36 +1877,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		// double-check that the element actually maps to the given item before
 		// unmapping it
 		if (elementMap != null) {
-			Object widgetOrWidgets = elementMap.get(element);
-			if (widgetOrWidgets == null) {
-				// item was not mapped, return
-				return;
-			} else if (widgetOrWidgets instanceof Widget) {
-				if (item == widgetOrWidgets) {
-					elementMap.remove(element);
-				}
-			} else {
-				Widget[] widgets = (Widget[]) widgetOrWidgets;
-				int indexOfItem = Arrays.asList(widgets).indexOf(item);
-				if (indexOfItem == -1) {
-					return;
-				}
-				int length = widgets.length;
-				if (indexOfItem == 0) {
-					if(length == 1) {
-						elementMap.remove(element);
-					} else {
-						Widget[] updatedWidgets = new Widget[length - 1];
-						System.arraycopy(widgets, 1, updatedWidgets, 0, length -1 );
-						elementMap.put(element, updatedWidgets);
-					}
-				} else {
-					Widget[] updatedWidgets = new Widget[length - 1];
-					System.arraycopy(widgets, 0, updatedWidgets, 0, indexOfItem);
-					System.arraycopy(widgets, indexOfItem + 1, updatedWidgets, indexOfItem, length - indexOfItem - 1);
-					elementMap.put(element, updatedWidgets);
-				}
-			}
+			elementMap.removeWidget(element, item);
 		}
 	}
 
@@ -2275,7 +2226,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		comparer = null;
 		if (filters != null)
 			filters.clear();
-		elementMap = newHashtable(1);
+		elementMap = newElementMap(1);
 		openListeners.clear();
 		doubleClickListeners.clear();
 		colorAndFontCollector.clear();
@@ -60,7 +60,9 @@ import org.eclipse.swt.widgets.Widget;
  * <code>ILazyTreePathContentProvider</code>, the underlying Tree must be
  * created using the {@link SWT#VIRTUAL} style bit, the tree viewer will not
  * support sorting or filtering, and hash lookup must be enabled by calling
- * {@link #setUseHashlookup(boolean)}.
+ * {@link #setUseHashlookup(boolean)}. To sort or filter a virtual tree, wrap an
+ * <code>ITreeContentProvider</code> in a {@link SortingLazyTreeContentProvider}
+ * (as of 3.37).
  * </p>
  * <p>
  * Users setting up an editable tree with more than 1 column <b>have</b> to pass the
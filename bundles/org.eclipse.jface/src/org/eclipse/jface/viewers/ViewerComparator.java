@@ -16,6 +16,8 @@
 
 package org.eclipse.jface.viewers;
 
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Arrays;
 import java.util.Comparator;
 
@@ -48,6 +50,35 @@ import org.eclipse.jface.util.Policy;
  */
 public class ViewerComparator {
 
+	/**
+	 * Number of elements from which elements with precomputed sort keys are
+	 * sorted in parallel.
+	 */
+	private static final int PARALLEL_SORT_THRESHOLD = 10000;
+
+	/**
+	 * Whether a comparator class uses the default
+	 * {@link #compare(Viewer, Object, Object)}, so elements can be sorted by
+	 * precomputed categories and labels.
+	 */
+	private static final ClassValue<Boolean> USES_DEFAULT_COMPARE = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return Boolean.valueOf(type.getMethod("compare", Viewer.class, Object.class, Object.class) //$NON-NLS-1$
+						.getDeclaringClass() == ViewerComparator.class);
+			} catch (NoSuchMethodException e) {
+				return Boolean.FALSE;
+			}
+		}
+	};
+
+	private record LabelKey(int category, Object key, Object element) {
+	}
+
+	private record PrimitiveKey(long key, Object element) {
+	}
+
 	/**
 	 * The comparator to use to sort a viewer's contents.
 	 */
@@ -185,13 +216,56 @@ public class ViewerComparator {
 		return false;
 	}
 
+	/**
+	 * Returns whether elements are sorted by the keys returned from
+	 * {@link #primitiveSortKey(Viewer, Object)} instead of by
+	 * {@link #compare(Viewer, Object, Object)}.
+	 * <p>
+	 * The default implementation returns <code>false</code>. Subclasses that
+	 * can map each element to a <code>long</code> which is ordered like the
+	 * elements should return <code>true</code>, so the key is computed only once
+	 * per element and large arrays can be sorted in parallel.
+	 * </p>
+	 *
+	 * @return <code>true</code> if elements are sorted by primitive sort keys
+	 * @since 3.37
+	 */
+	protected boolean hasPrimitiveSortKey() {
+		return false;
+	}
+
+	/**
+	 * Returns the sort key of the given element if
+	 * {@link #hasPrimitiveSortKey()} returns <code>true</code>. Elements are
+	 * sorted in ascending order of their keys, elements with equal keys keep
+	 * their order.
+	 * <p>
+	 * The default implementation returns <code>0</code>.
+	 * </p>
+	 *
+	 * @param viewer  the viewer
+	 * @param element the element
+	 * @return the sort key
+	 * @since 3.37
+	 */
+	protected long primitiveSortKey(Viewer viewer, Object element) {
+		return 0;
+	}
+
 	/**
 	 * Sorts the given elements in-place, modifying the given array.
 	 * <p>
 	 * The default implementation of this method uses the
 	 * {@link java.util.Arrays#sort(Object[], Comparator)} algorithm on the
 	 * given array, calling {@link #compare(Viewer, Object, Object)} to compare
-	 * elements.
+	 * elements. If the subclass does not override <code>compare</code>, the
+	 * category and label of each element are computed only once, and labels
+	 * are compared by their {@link CollationKey} if the string comparator is a
+	 * {@link Collator}. If {@link #hasPrimitiveSortKey()} returns
+	 * <code>true</code>, the elements are sorted by their primitive sort key.
+	 * Large arrays are sorted with
+	 * {@link java.util.Arrays#parallelSort(Object[], Comparator)} once the keys
+	 * are computed.
 	 * </p>
 	 * <p>
 	 * Subclasses may reimplement this method to provide a more optimized implementation.
@@ -202,7 +276,13 @@ public class ViewerComparator {
 	 */
 	public void sort(final Viewer viewer, Object[] elements) {
 		try {
-			Arrays.sort(elements, (a, b) -> ViewerComparator.this.compare(viewer, a, b));
+			if (elements.length > 1 && hasPrimitiveSortKey()) {
+				sortByPrimitiveKeys(viewer, elements);
+			} else if (elements.length > 1 && USES_DEFAULT_COMPARE.get(getClass()).booleanValue()) {
+				sortByLabelKeys(viewer, elements);
+			} else {
+				Arrays.sort(elements, (a, b) -> ViewerComparator.this.compare(viewer, a, b));
+			}
 		} catch (IllegalArgumentException e) {
 			String msg = e
 					+ "\nWorkaround for comparator violation:\n\tSet system property -Djava.util.Arrays.useLegacyMergeSort=true" //$NON-NLS-1$
@@ -227,4 +307,61 @@ public class ViewerComparator {
 			throw e;
 		}
 	}
+
+	/**
+	 * Sorts like the default {@link #compare(Viewer, Object, Object)}, but
+	 * computes the category and the label of each element only once. Labels
+	 * are requested in the calling thread, only the comparison of the
+	 * precomputed keys may run in parallel.
+	 */
+	private void sortByLabelKeys(Viewer viewer, Object[] elements) {
+		LabelKey[] keys = new LabelKey[elements.length];
+		Comparator<? super String> stringComparator = getComparator();
+		Comparator<LabelKey> order;
+		boolean parallel;
+		if (stringComparator instanceof Collator collator) {
+			for (int i = 0; i < elements.length; i++) {
+				Object element = elements[i];
+				keys[i] = new LabelKey(category(element), collator.getCollationKey(getLabel(viewer, element)),
+						element);
+			}
+			order = Comparator.comparingInt(LabelKey::category)
+					.thenComparing(key -> (CollationKey) key.key());
+			// collation keys compare without the collator
+			parallel = elements.length >= PARALLEL_SORT_THRESHOLD;
+		} else {
+			for (int i = 0; i < elements.length; i++) {
+				Object element = elements[i];
+				keys[i] = new LabelKey(category(element), getLabel(viewer, element), element);
+			}
+			order = Comparator.comparingInt(LabelKey::category).thenComparing(key -> (String) key.key(),
+					stringComparator);
+			// the string comparator is not known to be thread safe
+			parallel = false;
+		}
+		if (parallel) {
+			Arrays.parallelSort(keys, order);
+		} else {
+			Arrays.sort(keys, order);
+		}
+		for (int i = 0; i < keys.length; i++) {
+			elements[i] = keys[i].element();
+		}
+	}
+
+	private void sortByPrimitiveKeys(Viewer viewer, Object[] elements) {
+		PrimitiveKey[] keys = new PrimitiveKey[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			keys[i] = new PrimitiveKey(primitiveSortKey(viewer, elements[i]), elements[i]);
+		}
+		Comparator<PrimitiveKey> order = Comparator.comparingLong(PrimitiveKey::key);
+		if (keys.length >= PARALLEL_SORT_THRESHOLD) {
+			Arrays.parallelSort(keys, order);
+		} else {
+			Arrays.sort(keys, order);
+		}
+		for (int i = 0; i < keys.length; i++) {
+			elements[i] = keys[i].element();
+		}
+	}
 }
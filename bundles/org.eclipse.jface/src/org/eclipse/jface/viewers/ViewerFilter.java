@@ -15,6 +15,7 @@
 package org.eclipse.jface.viewers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * A viewer filter is used by a structured viewer to extract a subset of
@@ -28,6 +29,13 @@ import java.util.ArrayList;
  * @see StructuredViewer
  */
 public abstract class ViewerFilter {
+
+	/**
+	 * Number of elements from which thread safe filters select the elements
+	 * in parallel.
+	 */
+	private static final int PARALLEL_FILTER_THRESHOLD = 10000;
+
 	/**
 	 * Creates a new viewer filter.
 	 */
@@ -40,7 +48,9 @@ public abstract class ViewerFilter {
 	 * <p>
 	 * The default implementation of this method calls <code>select</code> on
 	 * each element in the array, and returns only those elements for which
-	 * <code>select</code> returns <code>true</code>.
+	 * <code>select</code> returns <code>true</code>. For large arrays,
+	 * <code>select</code> is called in parallel if {@link #isThreadSafe()}
+	 * returns <code>true</code>. The order of the elements is kept.
 	 * </p>
 	 *
 	 * @param viewer
@@ -56,6 +66,9 @@ public abstract class ViewerFilter {
 		if (size == 0) {
 			return elements;
 		}
+		if (size >= PARALLEL_FILTER_THRESHOLD && isThreadSafe()) {
+			return Arrays.stream(elements).parallel().filter(element -> select(viewer, parent, element)).toArray();
+		}
 		ArrayList<Object> out = new ArrayList<>(size);
 		for (int i = 0; i < size; ++i) {
 			Object element = elements[i];
@@ -107,6 +120,23 @@ public abstract class ViewerFilter {
 		return false;
 	}
 
+	/**
+	 * Returns whether {@link #select(Viewer, Object, Object)} may be called
+	 * for several elements at the same time from different threads.
+	 * <p>
+	 * The default implementation returns <code>false</code>. Subclasses whose
+	 * <code>select</code> method does not access widgets, label providers or
+	 * other state that is not thread safe may return <code>true</code>, so
+	 * large arrays are filtered in parallel.
+	 * </p>
+	 *
+	 * @return <code>true</code> if <code>select</code> is thread safe
+	 * @since 3.37
+	 */
+	public boolean isThreadSafe() {
+		return false;
+	}
+
 	/**
 	 * Returns whether the given element makes it through this filter.
 	 *
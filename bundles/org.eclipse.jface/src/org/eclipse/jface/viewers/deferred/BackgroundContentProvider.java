@@ -181,6 +181,8 @@ import org.eclipse.jface.viewers.IFilter;
 		Comparator order = sortOrder;
 		IFilter f = filter;
 		LazySortedCollection collection = new LazySortedCollection(order);
+		// Elements that cannot be shown are rejected as they are added
+		collection.setLimit(limit);
 
 		// Fill it in with all existing known objects
 		Object[] knownObjects = updator.getKnownObjects();
@@ -203,6 +205,7 @@ import org.eclipse.jface.viewers.IFilter;
 				order = sortOrder;
 				// Copy all elements from the old collection to the new one
 				LazySortedCollection newCollection = new LazySortedCollection(order);
+				newCollection.setLimit(limit);
 
 				Object[] items = collection.getItems(false);
 				for (int j = 0; j < items.length && order == sortOrder; j++) {
@@ -238,9 +241,9 @@ import org.eclipse.jface.viewers.IFilter;
 			}
 
 			// If there are pending changes, process one of them
-			if (!changeQueue.isEmpty()) {
+			ChangeQueue.Change next = changeQueue.dequeue();
+			if (next != null) {
 				dirty = true;
-				ChangeQueue.Change next = changeQueue.dequeue();
 
 				switch(next.getType()) {
 					case ChangeQueue.ADD: {
@@ -306,7 +309,9 @@ import org.eclipse.jface.viewers.IFilter;
 			int sortStart = updateRange.start;
 			int sortLength = updateRange.length;
 
-			if (limit != -1) {
+			if (limit != collection.getLimit()) {
+				collection.setLimit(limit);
+			} else if (limit != -1) {
 				collection.retainFirst(limit);
 			}
 
@@ -13,11 +13,18 @@
  *******************************************************************************/
 package org.eclipse.jface.viewers.deferred;
 
-import java.util.LinkedList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Holds a queue of additions, removals, updates, and SET calls for a
  * BackgroundContentProvider
+ * <p>
+ * The queue is lock-free, so model threads that enqueue many changes do not
+ * contend with the sort thread that dequeues them. Instead of removing the
+ * changes that are made redundant by a SET from the queue, each change is
+ * numbered and redundant changes are skipped when they are dequeued.
+ * </p>
  */
 final class ChangeQueue {
 	/**
@@ -48,6 +55,7 @@ final class ChangeQueue {
 	public static final class Change {
 		private int type;
 		private Object[] elements;
+		private long sequence;
 
 		/**
 		 * Create a change of the specified type that affects the given elements.
@@ -83,7 +91,18 @@ final class ChangeQueue {
 		}
 	}
 
-	private LinkedList<Change> queue = new LinkedList<>();
+	private final ConcurrentLinkedQueue<Change> queue = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Source of the sequence numbers of enqueued changes.
+	 */
+	private final AtomicLong sequence = new AtomicLong();
+
+	/**
+	 * Sequence number of the last enqueued SET. Adds, removes, and sets with a
+	 * smaller sequence number are redundant.
+	 */
+	private final AtomicLong lastSet = new AtomicLong(-1);
 
 	/**
 	 * Create a change of the given type and elements and enqueue it.
@@ -91,7 +110,7 @@ final class ChangeQueue {
 	 * @param type the type of change to be created
 	 * @param elements the elements affected by the change
 	 */
-	public synchronized void enqueue(int type, Object[] elements) {
+	public void enqueue(int type, Object[] elements) {
 		enqueue(new Change(type, elements));
 	}
 
@@ -99,37 +118,36 @@ final class ChangeQueue {
 	 * Add the specified change to the queue
 	 * @param toQueue the change to be added
 	 */
-	public synchronized void enqueue(Change toQueue) {
-		// A SET event makes all previous adds, removes, and sets redundant... so remove
-		// them from the queue
+	public void enqueue(Change toQueue) {
+		toQueue.sequence = sequence.getAndIncrement();
+		// A SET event makes all previous adds, removes, and sets redundant... so
+		// they are skipped when dequeued
 		if (toQueue.type == SET) {
-			LinkedList<Change> newQueue = new LinkedList<>();
-			for (Change next : queue) {
-				if (next.getType() == ADD || next.getType() == REMOVE || next.getType() == SET) {
-					continue;
-				}
-
-				newQueue.add(next);
-			}
-			queue = newQueue;
+			lastSet.accumulateAndGet(toQueue.sequence, Math::max);
 		}
 
 		queue.add(toQueue);
 	}
 
 	/**
-	 * Remove the first change from the queue.
-	 * @return the first change
+	 * Remove the first change from the queue, skipping changes that were made
+	 * redundant by a later SET.
+	 * @return the first change or <code>null</code> if the queue is empty
 	 */
-	public synchronized Change dequeue() {
-		return queue.removeFirst();
+	public Change dequeue() {
+		while (true) {
+			Change next = queue.poll();
+			if (next == null || next.type == UPDATE || next.sequence >= lastSet.get()) {
+				return next;
+			}
+		}
 	}
 
 	/**
 	 * Return whether the queue is empty
 	 * @return <code>true</code> if empty, <code>false</code> otherwise
 	 */
-	public synchronized boolean isEmpty() {
+	public boolean isEmpty() {
 		return queue.isEmpty();
 	}
 }
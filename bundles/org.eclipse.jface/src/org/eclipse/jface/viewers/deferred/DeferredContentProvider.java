@@ -19,16 +19,23 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.viewers.AcceptAllFilter;
 import org.eclipse.jface.viewers.IFilter;
 import org.eclipse.jface.viewers.ILazyContentProvider;
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
 import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TreePath;
+import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
 
 /**
  * Content provider that performs sorting and filtering in a background thread.
- * Requires a <code>TableViewer</code> created with the <code>SWT.VIRTUAL</code>
- * flag and an <code>IConcurrentModel</code> as input.
+ * Requires a <code>TableViewer</code> or a <code>TreeViewer</code> created with
+ * the <code>SWT.VIRTUAL</code> flag and an <code>IConcurrentModel</code> as
+ * input. In a <code>TreeViewer</code>, the elements of the model are shown as
+ * the root items of the tree, without children.
  * <p>
  * The sorter and filter must be set directly on the content provider.
  * Any sorter or filter on the TableViewer will be ignored.
@@ -42,7 +49,7 @@ import org.eclipse.swt.widgets.Table;
  *
  * @since 3.1
  */
-public class DeferredContentProvider implements ILazyContentProvider {
+public class DeferredContentProvider implements ILazyContentProvider, ILazyTreeContentProvider {
 
 	private int limit = -1;
 	private BackgroundContentProvider provider;
@@ -99,6 +106,60 @@ public class DeferredContentProvider implements ILazyContentProvider {
 
 	}
 
+	private static final class TreeViewerAdapter extends AbstractVirtualTable {
+
+		private TreeViewer viewer;
+
+		public TreeViewerAdapter(TreeViewer viewer) {
+			this.viewer = viewer;
+		}
+
+		@Override
+		public void clear(int index) {
+			Tree tree = viewer.getTree();
+			if (index < tree.getItemCount()) {
+				tree.clear(index, false);
+			}
+		}
+
+		@Override
+		public void replace(Object element, int itemIndex) {
+			viewer.replace(TreePath.EMPTY, itemIndex, element);
+		}
+
+		@Override
+		public void setItemCount(int total) {
+			viewer.setChildCount(TreePath.EMPTY, total);
+		}
+
+		@Override
+		public int getItemCount() {
+			return viewer.getTree().getItemCount();
+		}
+
+		@Override
+		public int getTopIndex() {
+			Tree tree = viewer.getTree();
+			TreeItem top = tree.getTopItem();
+			return top == null ? 0 : Math.max(tree.indexOf(top) - 1, 0);
+		}
+
+		@Override
+		public int getVisibleItemCount() {
+			Tree tree = viewer.getTree();
+			Rectangle rect = tree.getClientArea();
+			int itemHeight = tree.getItemHeight();
+			int headerHeight = tree.getHeaderHeight();
+			return (rect.height - headerHeight + itemHeight - 1) / (itemHeight + tree.getGridLineWidth());
+		}
+
+		@Override
+		public Control getControl() {
+			return viewer.getControl();
+		}
+
+	}
+
 	/**
 	 * Create a DeferredContentProvider with the given sort order.
 	 * @param sortOrder a comparator that sorts the content.
@@ -120,10 +181,14 @@ public class DeferredContentProvider implements ILazyContentProvider {
 		}
 
 		Assert.isTrue(newInput instanceof IConcurrentModel);
-		Assert.isTrue(viewer instanceof TableViewer);
+		Assert.isTrue(viewer instanceof TableViewer || viewer instanceof TreeViewer);
 		IConcurrentModel model = (IConcurrentModel)newInput;
 
-		this.table = new TableViewerAdapter((TableViewer)viewer);
+		if (viewer instanceof TreeViewer treeViewer) {
+			this.table = new TreeViewerAdapter(treeViewer);
+		} else {
+			this.table = new TableViewerAdapter((TableViewer) viewer);
+		}
 
 		BackgroundContentProvider newProvider = new BackgroundContentProvider(
 				table,
@@ -194,6 +259,45 @@ public class DeferredContentProvider implements ILazyContentProvider {
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @since 3.37
+	 */
+	@Override
+	public void updateElement(Object parent, int index) {
+		// only the root items of a tree have elements
+		if (provider != null && table instanceof TreeViewerAdapter adapter
+				&& parent == adapter.viewer.getInput()) {
+			provider.checkVisibleRange(index);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @since 3.37
+	 */
+	@Override
+	public void updateChildCount(Object element, int currentChildCount) {
+		// the number of root items is set when the elements are sorted, the
+		// elements of the model have no children
+		if (currentChildCount != 0 && table instanceof TreeViewerAdapter adapter
+				&& element != adapter.viewer.getInput()) {
+			adapter.viewer.setChildCount(element, 0);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @since 3.37
+	 */
+	@Override
+	public Object getParent(Object element) {
+		return null;
+	}
+
 	private void setProvider(BackgroundContentProvider newProvider) {
 		if (provider != null) {
 			provider.dispose();
@@ -57,6 +57,21 @@ public class LazySortedCollection {
 
 	private IntHashMap objectIndices;
 	private Comparator comparator;
+
+	/**
+	 * Maximum number of smallest elements to keep, or -1 if unbounded.
+	 */
+	private int limit = -1;
+
+	/**
+	 * If the collection is limited, an element in the collection that is
+	 * greater than or equal to all elements in the collection.
+	 * <code>null</code> if the collection is empty or unbounded, or if an
+	 * element was removed since the bound was computed. Removed elements may be
+	 * changed by the client and added again, so the bound is then computed
+	 * again from the tree.
+	 */
+	private Object limitBound;
 	private static int counter = 0;
 
 	/**
@@ -730,15 +745,95 @@ public class LazySortedCollection {
 	 */
 	public final void add(Object toAdd) {
 		Assert.isNotNull(toAdd);
+		if (limit != -1 && !acceptWithinLimit(toAdd)) {
+			return;
+		}
 		// Create the new node
 		int newIdx = createNode(toAdd);
 
 		// Insert the new node into the root tree
 		setRootNode(addUnsorted(root, newIdx));
 
+		if (limit > 0 && size() >= 2 * limit) {
+			// Discard the elements that were pushed out of the first limit
+			// elements in one go, so each add costs amortized constant time
+			trimToLimit();
+		}
+
 		testInvariants();
 	}
 
+	/**
+	 * Returns whether the given element may be one of the first limit elements
+	 * and updates the bound of the elements in the collection accordingly.
+	 */
+	private boolean acceptWithinLimit(Object toAdd) {
+		if (limit == 0) {
+			return false;
+		}
+		if (limitBound == null && !isEmpty()) {
+			limitBound = getItem(size() - 1);
+		}
+		if (limitBound == null) {
+			limitBound = toAdd;
+			return true;
+		}
+		if (comparator.compare(toAdd, limitBound) > 0) {
+			if (size() >= limit) {
+				// Greater than all of at least limit elements
+				return false;
+			}
+			limitBound = toAdd;
+		}
+		return true;
+	}
+
+	private void trimToLimit() {
+		retainFirst(limit);
+		int sz = size();
+		limitBound = sz == 0 ? null : getItem(sz - 1);
+	}
+
+	/**
+	 * Limits this collection to its n smallest elements. Removes all other
+	 * elements, like {@link #retainFirst(int)}, and keeps the limit while
+	 * elements are added. Elements that are greater than at least n elements
+	 * in the collection are not added at all, which only costs one comparison.
+	 * Elements that are pushed out of the first n elements by added smaller
+	 * elements are removed in batches, so they may be returned by
+	 * {@link #size()} and {@link #getItems(boolean)} until the next batch
+	 * removal or the next call to {@link #retainFirst(int)}. The methods that
+	 * return the smallest elements, like {@link #getFirst(Object[], boolean)},
+	 * are not affected by this.
+	 * <p>
+	 * Since removed elements are not restored, clients that remove elements
+	 * from a limited collection must add them again from the source if the
+	 * collection should contain n elements.
+	 * </p>
+	 *
+	 * @param n number of elements to keep, or -1 if unbounded
+	 * @since 3.37
+	 */
+	public final void setLimit(int n) {
+		Assert.isLegal(n >= -1);
+		limit = n;
+		if (n == -1) {
+			limitBound = null;
+		} else {
+			trimToLimit();
+		}
+	}
+
+	/**
+	 * Returns the number of smallest elements this collection is limited to.
+	 *
+	 * @return the limit or -1 if unbounded
+	 * @since 3.37
+	 */
+	public final int getLimit() {
+		return limit;
+	}
+
 	/**
 	 * Adds all items from the given collection to this collection
 	 *
@@ -805,6 +900,9 @@ public class LazySortedCollection {
 		int objectIndex = getObjectIndex(toRemove);
 
 		if (objectIndex != -1) {
+			if (limit != -1) {
+				limitBound = null;
+			}
 			int parent = parentTree[objectIndex];
 			lazyRemoveNode(objectIndex);
 			//Edge parentEdge = getEdgeTo(objectIndex);
@@ -857,6 +955,9 @@ public class LazySortedCollection {
 	 * @param length number of items to remove
 	 */
 	public final void removeRange(int first, int length) {
+		if (limit != -1) {
+			limitBound = null;
+		}
 		removeRange(root, first, length);
 
 		pack();
@@ -1118,6 +1219,7 @@ public class LazySortedCollection {
 		root = -1;
 		firstUnusedNode = -1;
 		objectIndices = null;
+		limitBound = null;
 
 		testInvariants();
 	}
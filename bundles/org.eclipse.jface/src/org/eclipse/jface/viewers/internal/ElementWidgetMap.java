@@ -0,0 +1,411 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.viewers.internal;
+
+import org.eclipse.jface.viewers.IElementComparer;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * ElementWidgetMap maps the elements of a viewer to the widgets that show
+ * them. An element is mapped to a single <code>Widget</code>, or to a
+ * <code>Widget[]</code> if it is shown by several widgets, for example in
+ * several places of a tree.
+ * <p>
+ * Unlike <code>CustomHashtable</code>, this map uses open addressing with linear
+ * probing in parallel arrays of keys, hash codes and values. Adding an element
+ * does not allocate an entry object, and the cached hash codes avoid calling
+ * the element comparer when the map grows. Removal shifts the following
+ * entries of a probe sequence back instead of leaving tombstones, so lookups
+ * stay short in viewers whose items are frequently replaced.
+ * </p>
+ * <p>
+ * Like <code>CustomHashtable</code>, the map allows a custom comparer and hash code
+ * provider. Keys and values cannot be null.
+ * </p>
+ * <p>
+ * This class is used by {@link org.eclipse.jface.viewers.StructuredViewer} and
+ * is not intended to be used by clients.
+ * </p>
+ */
+public final class ElementWidgetMap {
+
+	/**
+	 * The default capacity used when not specified in the constructor.
+	 */
+	public static final int DEFAULT_CAPACITY = 16;
+
+	private static final Widget[] NO_WIDGETS = new Widget[0];
+
+	private Object[] keys;
+
+	private int[] hashes;
+
+	/**
+	 * The values, a <code>Widget</code> or a <code>Widget[]</code> per key.
+	 */
+	private Object[] values;
+
+	private int elementCount;
+
+	private int threshold;
+
+	private final IElementComparer comparer;
+
+	/**
+	 * Constructs a new map with the given capacity and the given element
+	 * comparer.
+	 *
+	 * @param capacity the number of elements that can be added without
+	 *   growing the map
+	 * @param comparer the element comparer to use to compare keys and obtain
+	 *   hash codes for keys, or <code>null</code>  to use the normal
+	 *   <code>equals</code> and <code>hashCode</code> methods
+	 */
+	public ElementWidgetMap(int capacity, IElementComparer comparer) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.comparer = comparer;
+		allocate(tableSizeFor(capacity));
+	}
+
+	/**
+	 * Constructs a new map with enough capacity to hold all elements of the
+	 * given map, then adds all element/widget pairs of the given map to the new
+	 * one, using the given element comparer.
+	 *
+	 * @param map the original map to copy from
+	 * @param comparer the element comparer to use to compare keys and obtain
+	 *   hash codes for keys, or <code>null</code>  to use the normal
+	 *   <code>equals</code> and <code>hashCode</code> methods
+	 */
+	public ElementWidgetMap(ElementWidgetMap map, IElementComparer comparer) {
+		this(map.size(), comparer);
+		for (int i = 0; i < map.keys.length; i++) {
+			if (map.keys[i] != null) {
+				put(map.keys[i], map.values[i]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the element comparer used to compare keys and to obtain hash
+	 * codes for keys, or <code>null</code> if no comparer has been provided.
+	 *
+	 * @return the element comparer or <code>null</code>
+	 */
+	public IElementComparer getComparer() {
+		return comparer;
+	}
+
+	/**
+	 * Returns the number of elements in this map.
+	 *
+	 * @return the number of elements
+	 */
+	public int size() {
+		return elementCount;
+	}
+
+	/**
+	 * Returns the widget or widgets the given element is mapped to.
+	 *
+	 * @param key the element
+	 * @return a <code>Widget</code>, a <code>Widget[]</code>, or
+	 *         <code>null</code> if the element is not mapped
+	 */
+	public Object get(Object key) {
+		int index = indexOf(key, hash(key));
+		return index < 0 ? null : values[index];
+	}
+
+	/**
+	 * Returns the widgets the given element is mapped to.
+	 *
+	 * @param key the element
+	 * @return the widgets, an empty array if the element is not mapped
+	 */
+	public Widget[] getWidgets(Object key) {
+		Object value = get(key);
+		if (value == null) {
+			return NO_WIDGETS;
+		} else if (value instanceof Widget widget) {
+			return new Widget[] { widget };
+		}
+		return (Widget[]) value;
+	}
+
+	/**
+	 * Maps the given element to the given value, replacing the previous value.
+	 * The given element replaces an equal element in the map.
+	 *
+	 * @param key   the element
+	 * @param value a <code>Widget</code> or a <code>Widget[]</code>
+	 * @return the previous value, or <code>null</code> if the element was not
+	 *         mapped
+	 */
+	public Object put(Object key, Object value) {
+		if (key == null || value == null) {
+			throw new NullPointerException();
+		}
+		int hash = hash(key);
+		int index = probe(key, hash);
+		Object result = values[index];
+		if (keys[index] == null) {
+			if (elementCount >= threshold) {
+				grow();
+				index = probe(key, hash);
+			}
+			hashes[index] = hash;
+			elementCount++;
+		}
+		// important to avoid hanging onto keys that are equal but "old" -- see bug 30607
+		keys[index] = key;
+		values[index] = value;
+		return result;
+	}
+
+	/**
+	 * Adds the given widget to the widgets of the given element. Does nothing
+	 * if the element is already mapped to the widget.
+	 *
+	 * @param key  the element
+	 * @param item the widget
+	 */
+	public void addWidget(Object key, Widget item) {
+		if (key == null || item == null) {
+			throw new NullPointerException();
+		}
+		int hash = hash(key);
+		int index = probe(key, hash);
+		Object value = values[index];
+		if (value == null) {
+			if (elementCount >= threshold) {
+				grow();
+				index = probe(key, hash);
+			}
+			keys[index] = key;
+			hashes[index] = hash;
+			values[index] = item;
+			elementCount++;
+		} else if (value instanceof Widget) {
+			if (value != item) {
+				values[index] = new Widget[] { (Widget) value, item };
+			}
+		} else {
+			Widget[] widgets = (Widget[]) value;
+			if (indexOf(widgets, item) == -1) {
+				int length = widgets.length;
+				Widget[] updatedWidgets = new Widget[length + 1];
+				System.arraycopy(widgets, 0, updatedWidgets, 0, length);
+				updatedWidgets[length] = item;
+				values[index] = updatedWidgets;
+			}
+		}
+	}
+
+	/**
+	 * Removes the given widget from the widgets of the given element, and
+	 * removes the element if it is not mapped to other widgets. Does nothing
+	 * if the element is not mapped to the widget.
+	 *
+	 * @param key  the element
+	 * @param item the widget
+	 */
+	public void removeWidget(Object key, Widget item) {
+		int index = indexOf(key, hash(key));
+		if (index < 0) {
+			return;
+		}
+		Object value = values[index];
+		if (value instanceof Widget) {
+			if (value == item) {
+				removeAt(index);
+			}
+			return;
+		}
+		Widget[] widgets = (Widget[]) value;
+		int indexOfItem = indexOf(widgets, item);
+		if (indexOfItem == -1) {
+			return;
+		}
+		int length = widgets.length;
+		if (length == 1) {
+			removeAt(index);
+		} else if (length == 2) {
+			// back to a single widget
+			values[index] = widgets[1 - indexOfItem];
+		} else {
+			Widget[] updatedWidgets = new Widget[length - 1];
+			System.arraycopy(widgets, 0, updatedWidgets, 0, indexOfItem);
+			System.arraycopy(widgets, indexOfItem + 1, updatedWidgets, indexOfItem, length - indexOfItem - 1);
+			values[index] = updatedWidgets;
+		}
+	}
+
+	/**
+	 * Removes the given element from this map.
+	 *
+	 * @param key the element
+	 * @return the widget or widgets the element was mapped to, or
+	 *         <code>null</code> if the element was not mapped
+	 */
+	public Object remove(Object key) {
+		int index = indexOf(key, hash(key));
+		if (index < 0) {
+			return null;
+		}
+		Object result = values[index];
+		removeAt(index);
+		return result;
+	}
+
+	private static int indexOf(Widget[] widgets, Widget item) {
+		for (int i = 0; i < widgets.length; i++) {
+			if (widgets[i] == item) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Answers the hash code for the given key, spread so that the low bits
+	 * used for the index depend on all bits.
+	 */
+	private int hash(Object key) {
+		int h = comparer == null ? key.hashCode() : comparer.hashCode(key);
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Compares two keys for equality.
+	 */
+	private boolean keyEquals(Object a, Object b) {
+		if (comparer == null) {
+			return a.equals(b);
+		}
+		return comparer.equals(a, b);
+	}
+
+	/**
+	 * Returns the slot of the given key, or -1 if the key is not in the map.
+	 */
+	private int indexOf(Object key, int hash) {
+		int index = probe(key, hash);
+		return keys[index] == null ? -1 : index;
+	}
+
+	/**
+	 * Returns the slot of the given key, or the free slot where it would be
+	 * inserted.
+	 */
+	private int probe(Object key, int hash) {
+		int mask = keys.length - 1;
+		int index = hash & mask;
+		while (true) {
+			Object candidate = keys[index];
+			if (candidate == null || (hashes[index] == hash && (candidate == key || keyEquals(key, candidate)))) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+	}
+
+	/**
+	 * Removes the entry in the given slot and moves entries of the same probe
+	 * sequence back, so no deleted markers are needed.
+	 */
+	private void removeAt(int index) {
+		int mask = keys.length - 1;
+		int hole = index;
+		int next = (hole + 1) & mask;
+		while (keys[next] != null) {
+			int home = hashes[next] & mask;
+			// move the entry if the hole is between its home slot and its slot
+			if (((next - home) & mask) >= ((next - hole) & mask)) {
+				keys[hole] = keys[next];
+				hashes[hole] = hashes[next];
+				values[hole] = values[next];
+				hole = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[hole] = null;
+		values[hole] = null;
+		elementCount--;
+	}
+
+	private void grow() {
+		Object[] oldKeys = keys;
+		int[] oldHashes = hashes;
+		Object[] oldValues = values;
+		allocate(oldKeys.length << 1);
+		int mask = keys.length - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != null) {
+				int index = oldHashes[i] & mask;
+				while (keys[index] != null) {
+					index = (index + 1) & mask;
+				}
+				keys[index] = oldKeys[i];
+				hashes[index] = oldHashes[i];
+				values[index] = oldValues[i];
+			}
+		}
+	}
+
+	private void allocate(int length) {
+		keys = new Object[length];
+		hashes = new int[length];
+		values = new Object[length];
+		// keep at least one free slot, so probing terminates
+		threshold = Math.min(length - 1, (int) (length * 0.75f));
+	}
+
+	/**
+	 * Returns the smallest power of two table size that holds the given number
+	 * of elements without growing.
+	 */
+	private static int tableSizeFor(int capacity) {
+		int length = 2;
+		while (length * 0.75f < capacity && length < (1 << 30)) {
+			length <<= 1;
+		}
+		return length;
+	}
+
+	@Override
+	public String toString() {
+		if (size() == 0) {
+			return "{}"; //$NON-NLS-1$
+		}
+
+		StringBuilder buffer = new StringBuilder();
+		buffer.append('{');
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != null) {
+				buffer.append(keys[i]);
+				buffer.append('=');
+				buffer.append(values[i]);
+				buffer.append(", "); //$NON-NLS-1$
+			}
+		}
+		// Remove the last ", "
+		buffer.setLength(buffer.length() - 2);
+		buffer.append('}');
+		return buffer.toString();
+	}
+}
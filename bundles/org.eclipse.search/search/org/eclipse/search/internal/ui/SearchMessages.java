@@ -61,6 +61,9 @@ public final class SearchMessages extends NLS {
 	public static String ReplaceRefactoring_group_label_match_replace;
 	public static String ReplaceRefactoring_refactoring_name;
 	public static String ReplaceRefactoring_result_update_name;
+	public static String ReplaceRefactoring_streaming_change_name;
+	public static String ReplaceRefactoring_error_file_changed;
+	public static String ReplaceRefactoring_error_journal;
 
 	public static String SearchDialog_title;
 	public static String SearchDialog_searchAction;
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.search.internal.ui.text;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.search.internal.ui.Messages;
+import org.eclipse.search.internal.ui.SearchMessages;
+import org.eclipse.search.internal.ui.SearchPlugin;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+/**
+ * Change that applies the edits recorded in a {@link ReplaceJournal}. It is the
+ * undo (and redo) of a streaming replace: files are processed one at a time
+ * and the reverting edits are written to a new journal, so the memory used does
+ * not depend on the number of files.
+ */
+public class JournalReplaceChange extends Change {
+
+	private final String fName;
+	private ReplaceJournal fJournal;
+
+	public JournalReplaceChange(String name, ReplaceJournal journal) {
+		fName= name;
+		fJournal= journal;
+	}
+
+	@Override
+	public String getName() {
+		return fName;
+	}
+
+	@Override
+	public Object getModifiedElement() {
+		return null;
+	}
+
+	@Override
+	public void initializeValidationData(IProgressMonitor pm) {
+	}
+
+	@Override
+	public RefactoringStatus isValid(IProgressMonitor pm) throws CoreException, OperationCanceledException {
+		SubMonitor progress= SubMonitor.convert(pm, fJournal.getFileCount());
+		RefactoringStatus result= new RefactoringStatus();
+		try (ReplaceJournal.Reader reader= fJournal.openReader()) {
+			ReplaceJournal.Entry entry;
+			while ((entry= reader.next()) != null) {
+				progress.split(1);
+				IFile file= ResourcesPlugin.getWorkspace().getRoot().getFile(entry.path());
+				if (!file.exists() || file.getModificationStamp() != entry.modificationStamp()) {
+					result.addFatalError(Messages.format(SearchMessages.ReplaceRefactoring_error_file_changed, file.getFullPath().toString()));
+				}
+			}
+		} catch (IOException e) {
+			throw ReplaceJournal.createException(e);
+		}
+		return result;
+	}
+
+	@Override
+	public Change perform(IProgressMonitor pm) throws CoreException {
+		SubMonitor progress= SubMonitor.convert(pm, fJournal.getFileCount());
+		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
+		ReplaceJournal undo= ReplaceJournal.create();
+		try (ReplaceJournal.Reader reader= fJournal.openReader(); ReplaceJournal.Writer writer= undo.openWriter()) {
+			ReplaceJournal.Entry entry;
+			while ((entry= reader.next()) != null) {
+				SubMonitor fileProgress= progress.split(1);
+				manager.connect(entry.path(), LocationKind.IFILE, null);
+				try {
+					ITextFileBuffer buffer= manager.getTextFileBuffer(entry.path(), LocationKind.IFILE);
+					IFile file= ResourcesPlugin.getWorkspace().getRoot().getFile(entry.path());
+					writer.append(applyEdits(file, buffer, entry.edits(), fileProgress));
+				} finally {
+					manager.disconnect(entry.path(), LocationKind.IFILE, null);
+				}
+			}
+		} catch (IOException e) {
+			undo.delete();
+			throw ReplaceJournal.createException(e);
+		}
+		return new JournalReplaceChange(fName, undo);
+	}
+
+	@Override
+	public void dispose() {
+		if (fJournal != null) {
+			fJournal.delete();
+			fJournal= null;
+		}
+	}
+
+	/**
+	 * Applies edits to the document of a connected file buffer and saves the
+	 * buffer unless it was already dirty (e.g. modified in an open editor).
+	 *
+	 * @param file the file of the buffer
+	 * @param buffer the connected buffer
+	 * @param edits edits sorted by offset, not overlapping
+	 * @param pm the progress monitor
+	 * @return the journal entry with the edits reverting the change
+	 * @throws CoreException if the edits cannot be applied or the buffer cannot be saved
+	 */
+	static ReplaceJournal.Entry applyEdits(IFile file, ITextFileBuffer buffer, List<ReplaceJournal.Edit> edits, IProgressMonitor pm) throws CoreException {
+		if (buffer == null) {
+			throw new CoreException(new Status(IStatus.ERROR, SearchPlugin.getID(), Messages.format(SearchMessages.ReplaceRefactoring_error_accessing_file_buffer, file.getName())));
+		}
+		IDocument document= buffer.getDocument();
+		boolean wasDirty= buffer.isDirty();
+		MultiTextEdit multiEdit= new MultiTextEdit();
+		List<ReplaceJournal.Edit> inverse= new ArrayList<>(edits.size());
+		int delta= 0;
+		try {
+			for (ReplaceJournal.Edit edit : edits) {
+				String original= document.get(edit.offset(), edit.length());
+				inverse.add(new ReplaceJournal.Edit(edit.offset() + delta, edit.text().length(), original));
+				delta+= edit.text().length() - edit.length();
+				multiEdit.addChild(new ReplaceEdit(edit.offset(), edit.length(), edit.text()));
+			}
+			if (buffer.isSynchronizationContextRequested()) {
+				// documents shown in editors must be modified in their synchronization context
+				FutureTask<Void> task= new FutureTask<>(() -> {
+					multiEdit.apply(document, 0);
+					return null;
+				});
+				FileBuffers.getTextFileBufferManager().execute(task);
+				task.get();
+			} else {
+				multiEdit.apply(document, 0);
+			}
+		} catch (BadLocationException | MalformedTreeException | ExecutionException e) {
+			throw new CoreException(new Status(IStatus.ERROR, SearchPlugin.getID(), Messages.format(SearchMessages.ReplaceRefactoring_error_access_file, new Object[] { file.getName(), e.getLocalizedMessage() }), e));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
+		if (!wasDirty) {
+			buffer.commit(pm, false);
+		}
+		return new ReplaceJournal.Entry(file.getFullPath(), file.getModificationStamp(), inverse);
+	}
+}
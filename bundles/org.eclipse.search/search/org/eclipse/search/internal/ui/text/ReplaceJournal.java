@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.search.internal.ui.text;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.search.internal.ui.SearchMessages;
+import org.eclipse.search.internal.ui.SearchPlugin;
+
+/**
+ * Compact on-disk record of text edits applied to a set of files.
+ * <p>
+ * The streaming replace writes, for each file it changed, the edits that revert
+ * the change. Undo then reads the journal file by file instead of keeping a tree
+ * of {@link org.eclipse.ltk.core.refactoring.Change} objects with all replaced
+ * text in memory.
+ */
+public class ReplaceJournal {
+
+	/**
+	 * A replacement in a file, in document coordinates.
+	 *
+	 * @param offset offset of the replaced region
+	 * @param length length of the replaced region
+	 * @param text   the replacement text
+	 */
+	public static record Edit(int offset, int length, String text) {
+	}
+
+	/**
+	 * The edits recorded for one file.
+	 *
+	 * @param path              full path of the file in the workspace
+	 * @param modificationStamp modification stamp of the file after the journaled
+	 *                          change was made, used to detect later modifications
+	 * @param edits             the edits, sorted by offset and not overlapping
+	 */
+	public static record Entry(IPath path, long modificationStamp, List<Edit> edits) {
+	}
+
+	/**
+	 * Appends entries to a journal.
+	 */
+	public final class Writer implements Closeable {
+		private final DataOutputStream fOut;
+
+		private Writer() throws IOException {
+			fOut= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fFile)));
+			fOut.writeInt(MAGIC);
+		}
+
+		public void append(Entry entry) throws IOException {
+			writeString(entry.path().toPortableString());
+			fOut.writeLong(entry.modificationStamp());
+			fOut.writeInt(entry.edits().size());
+			for (Edit edit : entry.edits()) {
+				fOut.writeInt(edit.offset());
+				fOut.writeInt(edit.length());
+				writeString(edit.text());
+			}
+			fFileCount++;
+		}
+
+		private void writeString(String s) throws IOException {
+			byte[] bytes= s.getBytes(StandardCharsets.UTF_8);
+			fOut.writeInt(bytes.length);
+			fOut.write(bytes);
+		}
+
+		@Override
+		public void close() throws IOException {
+			fOut.close();
+		}
+	}
+
+	/**
+	 * Reads the entries of a journal one by one.
+	 */
+	public final class Reader implements Closeable {
+		private final DataInputStream fIn;
+
+		private Reader() throws IOException {
+			fIn= new DataInputStream(new BufferedInputStream(new FileInputStream(fFile)));
+			if (fIn.readInt() != MAGIC) {
+				fIn.close();
+				throw new IOException("Not a replace journal: " + fFile); //$NON-NLS-1$
+			}
+		}
+
+		/**
+		 * @return the next entry, or <code>null</code> at the end of the journal
+		 * @throws IOException if the journal cannot be read
+		 */
+		public Entry next() throws IOException {
+			String path;
+			try {
+				path= readString();
+			} catch (EOFException e) {
+				return null;
+			}
+			long stamp= fIn.readLong();
+			int count= fIn.readInt();
+			List<Edit> edits= new ArrayList<>(count);
+			for (int i= 0; i < count; i++) {
+				int offset= fIn.readInt();
+				int length= fIn.readInt();
+				edits.add(new Edit(offset, length, readString()));
+			}
+			return new Entry(IPath.fromPortableString(path), stamp, edits);
+		}
+
+		private String readString() throws IOException {
+			byte[] bytes= new byte[fIn.readInt()];
+			fIn.readFully(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public void close() throws IOException {
+			fIn.close();
+		}
+	}
+
+	private static final int MAGIC= 0x52504A31; // "RPJ1"
+
+	private static final String JOURNAL_FOLDER= "replaceJournals"; //$NON-NLS-1$
+
+	private static boolean fgStaleJournalsDeleted;
+
+	private final File fFile;
+
+	private int fFileCount;
+
+	private ReplaceJournal(File file) {
+		fFile= file;
+	}
+
+	/**
+	 * Creates a new, empty journal in the state location of the search plug-in.
+	 * Journals left over from an earlier session are deleted the first time.
+	 *
+	 * @return the journal
+	 * @throws CoreException if the journal file cannot be created
+	 */
+	public static ReplaceJournal create() throws CoreException {
+		File folder= SearchPlugin.getDefault().getStateLocation().append(JOURNAL_FOLDER).toFile();
+		try {
+			synchronized (ReplaceJournal.class) {
+				if (!fgStaleJournalsDeleted) {
+					File[] stale= folder.listFiles();
+					if (stale != null) {
+						for (File file : stale) {
+							file.delete();
+						}
+					}
+					fgStaleJournalsDeleted= true;
+				}
+			}
+			folder.mkdirs();
+			File file= File.createTempFile("replace", ".journal", folder); //$NON-NLS-1$ //$NON-NLS-2$
+			file.deleteOnExit();
+			return new ReplaceJournal(file);
+		} catch (IOException e) {
+			throw createException(e);
+		}
+	}
+
+	/**
+	 * Opens a writer. The journal must be written completely before it is read.
+	 *
+	 * @return the writer
+	 * @throws IOException if the journal cannot be opened
+	 */
+	public Writer openWriter() throws IOException {
+		fFileCount= 0;
+		return new Writer();
+	}
+
+	/**
+	 * @return a reader positioned at the first entry
+	 * @throws IOException if the journal cannot be opened
+	 */
+	public Reader openReader() throws IOException {
+		return new Reader();
+	}
+
+	/**
+	 * @return the number of files recorded in the journal
+	 */
+	public int getFileCount() {
+		return fFileCount;
+	}
+
+	/**
+	 * Deletes the journal file.
+	 */
+	public void delete() {
+		fFile.delete();
+	}
+
+	static CoreException createException(IOException e) {
+		return new CoreException(new Status(IStatus.ERROR, SearchPlugin.getID(), SearchMessages.ReplaceRefactoring_error_journal, e));
+	}
+}
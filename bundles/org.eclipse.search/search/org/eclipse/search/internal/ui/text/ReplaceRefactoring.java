@@ -21,8 +21,11 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -34,6 +37,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 
 import org.eclipse.core.resources.IContainer;
@@ -58,6 +62,7 @@ import org.eclipse.jface.text.TextUtilities;
 import org.eclipse.search.internal.core.text.PatternConstructor;
 import org.eclipse.search.internal.ui.Messages;
 import org.eclipse.search.internal.ui.SearchMessages;
+import org.eclipse.search.internal.ui.SearchPlugin;
 import org.eclipse.search.ui.text.Match;
 
 import org.eclipse.search2.internal.ui.InternalSearchUI;
@@ -91,6 +96,7 @@ public class ReplaceRefactoring extends Refactoring {
 		private Match[] fMatches;
 
 		private Map<URI, ArrayList<FileMatch>> fIgnoredMatches;
+		private Map<IFile, List<FileMatch>> fSkippedMatches;
 		private final FileSearchResult fResult;
 		private final boolean fIsRemove;
 
@@ -99,6 +105,20 @@ public class ReplaceRefactoring extends Refactoring {
 			fMatchGroups= matchGroups;
 		}
 
+		/**
+		 * Creates a change that removes the given matches from the result, except for
+		 * the matches that were skipped when the files were changed.
+		 *
+		 * @param result the search result
+		 * @param matches all matches to remove, including ignored matches
+		 * @param skippedMatches the matches that were not replaced by file, filled while
+		 *            the change replacing the text is performed
+		 */
+		public SearchResultUpdateChange(FileSearchResult result, Match[] matches, Map<IFile, List<FileMatch>> skippedMatches) {
+			this(result, matches, null, true);
+			fSkippedMatches= skippedMatches;
+		}
+
 		private SearchResultUpdateChange(FileSearchResult result, Match[] matches, Map<URI, ArrayList<FileMatch>> ignoredMatches, boolean isRemove) {
 			fResult= result;
 			fMatches= matches;
@@ -126,6 +146,22 @@ public class ReplaceRefactoring extends Refactoring {
 		}
 
 		private Match[] getMatches() {
+			if (fSkippedMatches != null) {
+				Set<FileMatch> skipped= new HashSet<>();
+				for (List<FileMatch> matches : fSkippedMatches.values()) {
+					skipped.addAll(matches);
+				}
+				if (!skipped.isEmpty()) {
+					ArrayList<Match> replaced= new ArrayList<>(fMatches.length);
+					for (Match match : fMatches) {
+						if (!skipped.contains(match)) {
+							replaced.add(match);
+						}
+					}
+					fMatches= replaced.toArray(new Match[replaced.size()]);
+				}
+				fSkippedMatches= null;
+			}
 			if (fMatches == null) {
 				ArrayList<FileMatch> matches= new ArrayList<>();
 				for (MatchGroup curr : fMatchGroups) {
@@ -167,6 +203,12 @@ public class ReplaceRefactoring extends Refactoring {
 
 
 
+	/**
+	 * Number of files above which the replace is performed as a {@link StreamingReplaceChange}
+	 * instead of one {@link TextFileChange} per file.
+	 */
+	static final int STREAMING_REPLACE_THRESHOLD= 1000;
+
 	private final FileSearchResult fResult;
 	private final Object[] fSelection;
 
@@ -183,6 +225,8 @@ public class ReplaceRefactoring extends Refactoring {
 
 	private String fReplaceString;
 
+	private boolean fForceStreamingReplace;
+
 	private Change fChange;
 
 	public ReplaceRefactoring(FileSearchResult result, Object[] selection) {
@@ -206,6 +250,18 @@ public class ReplaceRefactoring extends Refactoring {
 		fReplaceString= string;
 	}
 
+	/**
+	 * Forces the streaming replace mode, which is otherwise only used when more than
+	 * {@link #STREAMING_REPLACE_THRESHOLD} files are affected. In streaming mode the
+	 * files are changed in batches, no preview of the individual edits is available
+	 * and the undo information is kept in a journal on disk.
+	 *
+	 * @param streaming <code>true</code> to always use the streaming mode
+	 */
+	public void setStreamingReplace(boolean streaming) {
+		fForceStreamingReplace= streaming;
+	}
+
 	@Override
 	public RefactoringStatus checkInitialConditions(IProgressMonitor pm) throws CoreException, OperationCanceledException {
 		String searchString= getQuery().getSearchString();
@@ -368,6 +424,9 @@ public class ReplaceRefactoring extends Refactoring {
 			return resultingStatus;
 		}
 		progress.setWorkRemaining(workSize);
+		if (fForceStreamingReplace || allFiles.length > STREAMING_REPLACE_THRESHOLD) {
+			return createStreamingChange(allFiles, pattern, resultingStatus, progress);
+		}
 		CompositeChange compositeChange= new CompositeChange(SearchMessages.ReplaceRefactoring_composite_change_name);
 		compositeChange.markAsSynthetic();
 
@@ -406,6 +465,96 @@ public class ReplaceRefactoring extends Refactoring {
 		return resultingStatus;
 	}
 
+	private RefactoringStatus createStreamingChange(IFile[] allFiles, Pattern pattern, RefactoringStatus resultingStatus, SubMonitor progress) throws CoreException {
+		IFile first= null;
+		for (IFile file : allFiles) {
+			if (!fMatches.get(file).isEmpty()) {
+				first= file;
+				break;
+			}
+		}
+		if (first == null) {
+			if (resultingStatus.isOK()) {
+				return RefactoringStatus.createFatalErrorStatus(SearchMessages.ReplaceRefactoring_error_no_changes);
+			}
+			return resultingStatus;
+		}
+		// the matches that were not replaced by file, the last computation of a file counts
+		Map<IFile, List<FileMatch>> skippedMatches= new ConcurrentHashMap<>();
+		StreamingReplaceChange.EditComputer editComputer= (file, document, connected) -> {
+			// the positions of a file that is not open are not tracked
+			PositionTracker tracker= connected ? InternalSearchUI.getInstance().getPositionTracker() : null;
+			List<FileMatch> skipped= new ArrayList<>();
+			List<ReplaceJournal.Edit> edits= computeReplaceEdits(file, document, pattern, tracker, skipped::add);
+			if (skipped.isEmpty()) {
+				skippedMatches.remove(file);
+			} else {
+				skippedMatches.put(file, skipped);
+				// the change is performed after the final conditions were checked, log skipped matches
+				String message= Messages.format(SearchMessages.ReplaceRefactoring_error_match_content_changed, file.getName());
+				SearchPlugin.log(new Status(IStatus.WARNING, SearchPlugin.getID(), message));
+			}
+			return edits;
+		};
+		// Edits are computed while the change is performed. Compute the first file now, so
+		// an invalid replacement expression is reported before anything is changed.
+		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
+		manager.connect(first.getFullPath(), LocationKind.IFILE, progress.split(1));
+		try {
+			ITextFileBuffer textFileBuffer= manager.getTextFileBuffer(first.getFullPath(), LocationKind.IFILE);
+			if (textFileBuffer != null) {
+				String message= Messages.format(SearchMessages.ReplaceRefactoring_error_match_content_changed, first.getName());
+				computeReplaceEdits(first, textFileBuffer.getDocument(), pattern, InternalSearchUI.getInstance().getPositionTracker(),
+						match -> resultingStatus.addError(message));
+			}
+		} catch (PatternSyntaxException e) {
+			String message= Messages.format(SearchMessages.ReplaceRefactoring_error_replacement_expression, e.getLocalizedMessage());
+			return RefactoringStatus.createFatalErrorStatus(message);
+		} finally {
+			manager.disconnect(first.getFullPath(), LocationKind.IFILE, null);
+		}
+
+		ArrayList<Match> matches= new ArrayList<>();
+		for (Set<FileMatch> bucket : fMatches.values()) {
+			matches.addAll(bucket);
+		}
+		if (fIgnoredMatches != null) {
+			for (ArrayList<FileMatch> ignored : fIgnoredMatches.values()) {
+				matches.addAll(ignored);
+			}
+		}
+		String name= Messages.format(SearchMessages.ReplaceRefactoring_streaming_change_name, Integer.valueOf(allFiles.length));
+		CompositeChange compositeChange= new CompositeChange(SearchMessages.ReplaceRefactoring_composite_change_name);
+		compositeChange.markAsSynthetic();
+		compositeChange.add(new StreamingReplaceChange(name, allFiles, editComputer));
+		compositeChange.add(new SearchResultUpdateChange(fResult, matches.toArray(new Match[matches.size()]), skippedMatches));
+		fChange= compositeChange;
+		return resultingStatus;
+	}
+
+	/**
+	 * Computes the edits for the matches in a file. Matches whose text has changed are skipped
+	 * and passed to the given consumer. May be called from several threads at once, the
+	 * position tracker must only be passed in the thread performing the change.
+	 *
+	 * @param tracker the position tracker, or <code>null</code> to use the positions found
+	 *            by the search
+	 */
+	private List<ReplaceJournal.Edit> computeReplaceEdits(IFile file, IDocument document, Pattern pattern, PositionTracker tracker, Consumer<FileMatch> skipped) throws PatternSyntaxException {
+		String lineDelimiter= TextUtilities.getDefaultLineDelimiter(document);
+		List<ReplaceJournal.Edit> edits= new ArrayList<>();
+		for (FileMatch match : fMatches.get(file)) {
+			ReplaceJournal.Edit edit= computeReplaceEdit(document, match, pattern, lineDelimiter, tracker);
+			if (edit == null) {
+				skipped.accept(match);
+			} else {
+				edits.add(edit);
+			}
+		}
+		edits.sort(Comparator.comparingInt(ReplaceJournal.Edit::offset));
+		return edits;
+	}
+
 	private void checkFilesToBeChanged(IFile[] filesToBeChanged, RefactoringStatus resultingStatus, SubMonitor pm)
 			throws CoreException {
 		ArrayList<IFile> readOnly= new ArrayList<>();
@@ -448,30 +597,13 @@ public class ReplaceRefactoring extends Refactoring {
 
 			for (FileMatch match : matches) {
 				pm.checkCanceled();
-				int offset= match.getOffset();
-				int length= match.getLength();
-				Position currentPosition= tracker.getCurrentPosition(match);
-				if (currentPosition != null) {
-					offset= currentPosition.offset;
-					if (length != currentPosition.length) {
-						resultingStatus.addError(Messages.format(SearchMessages.ReplaceRefactoring_error_match_content_changed, file.getName()));
-						continue;
-					}
-				}
-
-				String originalText= getOriginalText(document, offset, length);
-				if (originalText == null) {
+				ReplaceJournal.Edit edit= computeReplaceEdit(document, match, pattern, lineDelimiter, tracker);
+				if (edit == null) {
 					resultingStatus.addError(Messages.format(SearchMessages.ReplaceRefactoring_error_match_content_changed, file.getName()));
 					continue;
 				}
 
-				String replacementString= computeReplacementString(pattern, originalText, fReplaceString, lineDelimiter);
-				if (replacementString == null) {
-					resultingStatus.addError(Messages.format(SearchMessages.ReplaceRefactoring_error_match_content_changed, file.getName()));
-					continue;
-				}
-
-				ReplaceEdit replaceEdit= new ReplaceEdit(offset, length, replacementString);
+				ReplaceEdit replaceEdit= new ReplaceEdit(edit.offset(), edit.length(), edit.text());
 				change.addEdit(replaceEdit);
 				TextEditChangeGroup textEditChangeGroup= new TextEditChangeGroup(change, new TextEditGroup(SearchMessages.ReplaceRefactoring_group_label_match_replace, replaceEdit));
 				change.addTextEditChangeGroup(textEditChangeGroup);
@@ -483,6 +615,34 @@ public class ReplaceRefactoring extends Refactoring {
 		return change;
 	}
 
+	/**
+	 * Computes the replacement of a match.
+	 *
+	 * @return the edit, or <code>null</code> if the text of the match has changed
+	 */
+	private ReplaceJournal.Edit computeReplaceEdit(IDocument document, FileMatch match, Pattern pattern, String lineDelimiter, PositionTracker tracker) throws PatternSyntaxException {
+		int offset= match.getOffset();
+		int length= match.getLength();
+		Position currentPosition= tracker != null ? tracker.getCurrentPosition(match) : null;
+		if (currentPosition != null) {
+			offset= currentPosition.offset;
+			if (length != currentPosition.length) {
+				return null;
+			}
+		}
+
+		String originalText= getOriginalText(document, offset, length);
+		if (originalText == null) {
+			return null;
+		}
+
+		String replacementString= computeReplacementString(pattern, originalText, fReplaceString, lineDelimiter);
+		if (replacementString == null) {
+			return null;
+		}
+		return new ReplaceJournal.Edit(offset, length, replacementString);
+	}
+
 	private static String getOriginalText(IDocument doc, int offset, int length) {
 		try {
 			return doc.get(offset, length);
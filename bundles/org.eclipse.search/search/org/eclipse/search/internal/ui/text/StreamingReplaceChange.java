@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.search.internal.ui.text;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.search.internal.ui.Messages;
+import org.eclipse.search.internal.ui.SearchMessages;
+import org.eclipse.search.internal.ui.SearchPlugin;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+/**
+ * Replaces text in many files without building a {@link org.eclipse.ltk.core.refactoring.TextFileChange}
+ * per file.
+ * <p>
+ * Files are processed in batches of {@link #BATCH_SIZE}. The files of a batch that
+ * have no connected file buffer, i.e. are not open in an editor, are read and their
+ * edits computed in parallel by at most {@link #READ_THREADS} threads, since reading
+ * the files is the expensive part. The file buffer manager and the position tracker
+ * are not used by these threads. Then, in the thread performing the change, which
+ * owns the scheduling rule, the file buffer of each file is connected, the edits are
+ * applied, and the buffer is saved and disconnected. The edits are computed again
+ * from the buffer if the file was open or changed after it was read.
+ * <p>
+ * The undo information is written to a {@link ReplaceJournal} on disk, so neither the
+ * file buffers nor the replaced text of more than a batch of files are held in memory
+ * at once. If a file cannot be changed, the files changed before are reverted from the
+ * journal.
+ * </p>
+ */
+public class StreamingReplaceChange extends Change {
+
+	/**
+	 * Computes the edits for one file.
+	 */
+	@FunctionalInterface
+	public interface EditComputer {
+		/**
+		 * @param file the file
+		 * @param document the document of the connected file buffer, or a copy of the
+		 *            file's contents
+		 * @param connected <code>true</code> if the document is the one of the connected
+		 *            file buffer, <code>false</code> if it is a copy of a file that is not
+		 *            open, read in another thread
+		 * @return the edits, sorted by offset and not overlapping
+		 * @throws CoreException if the edits cannot be computed
+		 */
+		List<ReplaceJournal.Edit> computeEdits(IFile file, IDocument document, boolean connected) throws CoreException;
+	}
+
+	/**
+	 * The edits of a file computed from its contents on disk.
+	 */
+	private record Snapshot(long modificationStamp, List<ReplaceJournal.Edit> edits) {
+	}
+
+	static final int BATCH_SIZE= 200;
+
+	static final int READ_THREADS= Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+	private final String fName;
+	private final IFile[] fFiles;
+	private final EditComputer fEditComputer;
+	private long[] fModificationStamps;
+
+	/**
+	 * @param name the name of the change
+	 * @param files the files to change
+	 * @param editComputer computes the edits of a file
+	 */
+	public StreamingReplaceChange(String name, IFile[] files, EditComputer editComputer) {
+		fName= name;
+		fFiles= files;
+		fEditComputer= editComputer;
+	}
+
+	@Override
+	public String getName() {
+		return fName;
+	}
+
+	@Override
+	public Object getModifiedElement() {
+		return null;
+	}
+
+	@Override
+	public Object[] getAffectedObjects() {
+		return fFiles;
+	}
+
+	@Override
+	public void initializeValidationData(IProgressMonitor pm) {
+		fModificationStamps= new long[fFiles.length];
+		for (int i= 0; i < fFiles.length; i++) {
+			fModificationStamps[i]= fFiles[i].getModificationStamp();
+		}
+	}
+
+	@Override
+	public RefactoringStatus isValid(IProgressMonitor pm) throws CoreException, OperationCanceledException {
+		RefactoringStatus result= new RefactoringStatus();
+		for (int i= 0; i < fFiles.length; i++) {
+			IFile file= fFiles[i];
+			if (!file.exists() || (fModificationStamps != null && file.getModificationStamp() != fModificationStamps[i])) {
+				result.addFatalError(Messages.format(SearchMessages.ReplaceRefactoring_error_file_changed, file.getFullPath().toString()));
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public Change perform(IProgressMonitor pm) throws CoreException {
+		SubMonitor progress= SubMonitor.convert(pm, fFiles.length);
+		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
+		ReplaceJournal journal= ReplaceJournal.create();
+		ExecutorService executor= Executors.newFixedThreadPool(READ_THREADS);
+		try {
+			try (ReplaceJournal.Writer writer= journal.openWriter()) {
+				for (int start= 0; start < fFiles.length; start+= BATCH_SIZE) {
+					int end= Math.min(start + BATCH_SIZE, fFiles.length);
+					performBatch(executor, manager, start, end, writer, progress);
+				}
+			}
+		} catch (IOException e) {
+			rollback(journal);
+			throw ReplaceJournal.createException(e);
+		} catch (CoreException | RuntimeException e) {
+			rollback(journal);
+			throw e;
+		} finally {
+			executor.shutdownNow();
+		}
+		return new JournalReplaceChange(fName, journal);
+	}
+
+	private void performBatch(ExecutorService executor, ITextFileBufferManager manager, int start, int end, ReplaceJournal.Writer writer, SubMonitor progress) throws CoreException, IOException {
+		List<Future<Snapshot>> snapshots= new ArrayList<>(end - start);
+		for (int i= start; i < end; i++) {
+			IFile file= fFiles[i];
+			if (manager.getTextFileBuffer(file.getFullPath(), LocationKind.IFILE) == null) {
+				snapshots.add(executor.submit(() -> computeSnapshot(file)));
+			} else {
+				// open files are computed from their buffer
+				snapshots.add(null);
+			}
+		}
+		for (int i= start; i < end; i++) {
+			performFile(manager, fFiles[i], getSnapshot(snapshots.get(i - start)), writer, progress.split(1));
+		}
+	}
+
+	/**
+	 * Reads a file that is not open and computes its edits. Called in a reading thread.
+	 */
+	private Snapshot computeSnapshot(IFile file) throws CoreException, IOException {
+		long modificationStamp= file.getModificationStamp();
+		String contents;
+		try (InputStream in= file.getContents()) {
+			contents= new String(in.readAllBytes(), file.getCharset());
+		}
+		if (!contents.isEmpty() && contents.charAt(0) == '\uFEFF') {
+			// the document of a file buffer does not contain the byte order mark
+			contents= contents.substring(1);
+		}
+		return new Snapshot(modificationStamp, fEditComputer.computeEdits(file, new Document(contents), false));
+	}
+
+	/**
+	 * @return the snapshot, or <code>null</code> if there is none or it could not be
+	 *         computed, in which case the edits are computed from the file buffer
+	 */
+	private static Snapshot getSnapshot(Future<Snapshot> snapshot) {
+		if (snapshot == null) {
+			return null;
+		}
+		try {
+			return snapshot.get();
+		} catch (ExecutionException e) {
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
+	}
+
+	private void performFile(ITextFileBufferManager manager, IFile file, Snapshot snapshot, ReplaceJournal.Writer writer, SubMonitor progress) throws CoreException, IOException {
+		manager.connect(file.getFullPath(), LocationKind.IFILE, null);
+		try {
+			ITextFileBuffer buffer= manager.getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
+			if (buffer == null) {
+				throw new CoreException(new Status(IStatus.ERROR, SearchPlugin.getID(), Messages.format(SearchMessages.ReplaceRefactoring_error_accessing_file_buffer, file.getName())));
+			}
+			List<ReplaceJournal.Edit> edits;
+			if (snapshot != null && !buffer.isDirty() && file.getModificationStamp() == snapshot.modificationStamp()) {
+				edits= snapshot.edits();
+			} else {
+				edits= fEditComputer.computeEdits(file, buffer.getDocument(), true);
+			}
+			if (!edits.isEmpty()) {
+				writer.append(JournalReplaceChange.applyEdits(file, buffer, edits, progress));
+			}
+		} finally {
+			disconnect(manager, file);
+		}
+	}
+
+	/**
+	 * Reverts the files changed so far from the journal and deletes it, like a
+	 * {@link org.eclipse.ltk.core.refactoring.CompositeChange} undoes its performed
+	 * children when one of them fails.
+	 */
+	private void rollback(ReplaceJournal journal) {
+		JournalReplaceChange undo= new JournalReplaceChange(fName, journal);
+		try {
+			undo.perform(new NullProgressMonitor()).dispose();
+		} catch (CoreException | RuntimeException e) {
+			SearchPlugin.log(e);
+		} finally {
+			undo.dispose();
+		}
+	}
+
+	private static void disconnect(ITextFileBufferManager manager, IFile file) {
+		try {
+			manager.disconnect(file.getFullPath(), LocationKind.IFILE, null);
+		} catch (CoreException e) {
+			SearchPlugin.log(e);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.internal.core;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * Keeps the text of recently searched files in memory, so consecutive quick
+ * searches do not have to read them from disk again.
+ * <p>
+ * Entries are evicted in least-recently-used order as soon as the total size of
+ * the cached text exceeds the byte budget. A cached text is only returned if the
+ * modification stamp of the file did not change since it was cached.
+ */
+public class FileContentCache {
+
+	/**
+	 * Default budget, counted as two bytes per cached character.
+	 */
+	public static final long DEFAULT_BYTE_BUDGET = 32L * 1024 * 1024;
+
+	private static record Entry(String text, long modificationStamp) {
+		long bytes() {
+			return 2L * text.length();
+		}
+	}
+
+	private final long byteBudget;
+
+	private final LinkedHashMap<IFile, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+	private long bytes;
+
+	public FileContentCache(long byteBudget) {
+		this.byteBudget = byteBudget;
+	}
+
+	/**
+	 * @return the cached text of the file, or null if the file is not cached or
+	 *         changed since it was cached.
+	 */
+	public synchronized String get(IFile file) {
+		Entry entry = entries.get(file);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.modificationStamp() != file.getModificationStamp()) {
+			remove(file);
+			return null;
+		}
+		return entry.text();
+	}
+
+	/**
+	 * Caches the text of a file. Texts bigger than the byte budget are not cached.
+	 */
+	public synchronized void put(IFile file, String text, long modificationStamp) {
+		Entry entry = new Entry(text, modificationStamp);
+		if (entry.bytes() > byteBudget) {
+			return;
+		}
+		Entry old = entries.put(file, entry);
+		if (old != null) {
+			bytes -= old.bytes();
+		}
+		bytes += entry.bytes();
+		Iterator<Map.Entry<IFile, Entry>> eldest = entries.entrySet().iterator();
+		while (bytes > byteBudget && eldest.hasNext()) {
+			bytes -= eldest.next().getValue().bytes();
+			eldest.remove();
+		}
+	}
+
+	public synchronized void remove(IFile file) {
+		Entry old = entries.remove(file);
+		if (old != null) {
+			bytes -= old.bytes();
+		}
+	}
+
+	/**
+	 * Removes the cached texts of all files in the container with the given full
+	 * path.
+	 */
+	public synchronized void removeAll(IPath containerPath) {
+		Iterator<Map.Entry<IFile, Entry>> iterator = entries.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<IFile, Entry> entry = iterator.next();
+			if (containerPath.isPrefixOf(entry.getKey().getFullPath())) {
+				bytes -= entry.getValue().bytes();
+				iterator.remove();
+			}
+		}
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		bytes = 0;
+	}
+
+	/**
+	 * @return the number of bytes currently used by cached texts.
+	 */
+	public synchronized long getSize() {
+		return bytes;
+	}
+}
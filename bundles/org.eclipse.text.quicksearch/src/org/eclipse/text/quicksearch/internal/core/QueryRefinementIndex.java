@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.internal.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFile;
+
+/**
+ * Per search session index that remembers which characters, character bigrams and
+ * trigrams occur in the files searched so far.
+ * <p>
+ * When the query changes in a way that can not be handled by filtering the
+ * current matches (for example when the user deletes a character), the search
+ * is restarted. With this index most files can then be skipped without reading
+ * them again: a file can only contain a match if it contains every bigram and
+ * trigram of every literal segment of the query. Bigrams alone are not selective
+ * enough for source code, where nearly all common bigrams occur in every bigger
+ * file.
+ * <p>
+ * The index uses a small bloom filter per file, so it can report false
+ * positives (a file is searched although it does not match) but never false
+ * negatives. Characters are folded to lower case, so the same filter serves case
+ * sensitive and case insensitive queries.
+ */
+public class QueryRefinementIndex {
+
+	/**
+	 * Bloom filter over the (lower cased) characters, bigrams and trigrams of a
+	 * text.
+	 * <p>
+	 * Bits are first collected in a filter of {@link #MAX_BITS} bits. When the
+	 * filter is complete it is folded in half as long as it stays sparse enough,
+	 * so small files use little memory.
+	 */
+	public static final class NGramFilter {
+
+		static final int MAX_BITS = 32768;
+		private static final int MIN_BITS = 256;
+
+		private long[] bits = new long[MAX_BITS / 64];
+		private int mask = MAX_BITS - 1;
+
+		/**
+		 * Adds all characters, bigrams and trigrams of a line.
+		 */
+		public void addLine(String line) {
+			char prev2 = 0;
+			char prev = 0;
+			for (int i = 0; i < line.length(); i++) {
+				char c = Character.toLowerCase(line.charAt(i));
+				set(c);
+				if (i > 0) {
+					set(bigram(prev, c));
+				}
+				if (i > 1) {
+					set(trigram(prev2, prev, c));
+				}
+				prev2 = prev;
+				prev = c;
+			}
+		}
+
+		/**
+		 * @return false if the text added to this filter can not contain the given
+		 *         string (ignoring case), true if it may contain it.
+		 */
+		public boolean mayContain(String s) {
+			char prev2 = 0;
+			char prev = 0;
+			for (int i = 0; i < s.length(); i++) {
+				char c = Character.toLowerCase(s.charAt(i));
+				if (!isSet(c) || (i > 0 && !isSet(bigram(prev, c))) || (i > 1 && !isSet(trigram(prev2, prev, c)))) {
+					return false;
+				}
+				prev2 = prev;
+				prev = c;
+			}
+			return true;
+		}
+
+		/**
+		 * Shrinks the filter while less than a quarter of the bits are set.
+		 */
+		void compact() {
+			while (bits.length * 64 > MIN_BITS && cardinality() * 4 < bits.length * 64) {
+				int half = bits.length / 2;
+				long[] folded = new long[half];
+				for (int i = 0; i < half; i++) {
+					folded[i] = bits[i] | bits[i + half];
+				}
+				bits = folded;
+				mask = bits.length * 64 - 1;
+			}
+		}
+
+		int size() {
+			return bits.length * 64;
+		}
+
+		private int cardinality() {
+			int n = 0;
+			for (long word : bits) {
+				n += Long.bitCount(word);
+			}
+			return n;
+		}
+
+		private static int bigram(char a, char b) {
+			return (a << 16) | b;
+		}
+
+		private static int trigram(char a, char b, char c) {
+			// mixed so trigram keys do not collide with character and bigram keys in a regular way
+			return ((a * 31 + b) * 31 + c) * 0x27D4EB2D ^ 0x5BD1E995;
+		}
+
+		private static int hash1(int key) {
+			return key * 0x9E3779B1;
+		}
+
+		private static int hash2(int key) {
+			int h = key * 0x85EBCA6B;
+			return h ^ (h >>> 13);
+		}
+
+		private void set(int key) {
+			setBit(hash1(key) & mask);
+			setBit(hash2(key) & mask);
+		}
+
+		private boolean isSet(int key) {
+			return isBitSet(hash1(key) & mask) && isBitSet(hash2(key) & mask);
+		}
+
+		private void setBit(int bit) {
+			bits[bit >>> 6] |= 1L << bit;
+		}
+
+		private boolean isBitSet(int bit) {
+			return (bits[bit >>> 6] & (1L << bit)) != 0;
+		}
+	}
+
+	private static record FileFilter(NGramFilter filter, long modificationStamp) {
+	}
+
+	private final Map<IFile, FileFilter> filters = new ConcurrentHashMap<>();
+
+	/**
+	 * Records the filter for a file that was read completely.
+	 *
+	 * @param modificationStamp modification stamp of the file taken before it was read
+	 */
+	public void put(IFile file, NGramFilter filter, long modificationStamp) {
+		filter.compact();
+		filters.put(file, new FileFilter(filter, modificationStamp));
+	}
+
+	/**
+	 * @return false if the file is known not to contain any match for the query,
+	 *         true if it may contain a match or nothing is known about the file.
+	 */
+	public boolean mayMatch(IFile file, QuickTextQuery query) {
+		FileFilter entry = filters.get(file);
+		if (entry == null) {
+			return true;
+		}
+		if (entry.modificationStamp() != file.getModificationStamp()) {
+			filters.remove(file);
+			return true;
+		}
+		for (String segment : query.getLiteralSegments()) {
+			if (!entry.filter().mayContain(segment)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public void clear() {
+		filters.clear();
+	}
+}
@@ -15,6 +15,7 @@ package org.eclipse.text.quicksearch.internal.core;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -49,6 +50,11 @@ public class QuickTextQuery {
 	private boolean caseInsensitive;
 	private String orgPattern; //Original pattern case preserved even if search is case insensitive.
 	final Pattern pattern;
+	/**
+	 * The parts of the pattern that must be matched literally, i.e. the text between
+	 * wildcards.
+	 */
+	private final List<String> literalSegments = new ArrayList<>();
 
 	/**
 	 * A query that matches anything.
@@ -102,6 +108,7 @@ public class QuickTextQuery {
 
 	private void appendSegment(StringBuilder segment, StringBuilder regexp) {
 		if (segment.length()>0) {
+			literalSegments.add(segment.toString());
 			regexp.append(Pattern.quote(segment.toString()));
 			segment.setLength(0); //clear: ready for next segment
 		}
@@ -199,4 +206,13 @@ public class QuickTextQuery {
 		return orgPattern;
 	}
 
+	/**
+	 * @return the parts of the pattern that a matching line must contain literally
+	 *         (the text between the '*' and '?' wildcards). The list cannot be
+	 *         modified.
+	 */
+	public List<String> getLiteralSegments() {
+		return Collections.unmodifiableList(literalSegments);
+	}
+
 }
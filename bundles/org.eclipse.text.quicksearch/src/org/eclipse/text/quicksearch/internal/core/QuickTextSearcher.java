@@ -12,15 +12,19 @@
  *******************************************************************************/
 package org.eclipse.text.quicksearch.internal.core;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.SequenceInputStream;
 import java.io.StringReader;
-import java.io.UnsupportedEncodingException;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BooleanSupplier;
-import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -40,7 +44,7 @@ import org.eclipse.text.quicksearch.internal.util.LightSchedulingRule;
 import org.eclipse.text.quicksearch.internal.util.LineReader;
 
 public class QuickTextSearcher {
-	private static int MAX_BUFFER_LENGTH = 999_999; // read max 1MB bytes => max 2MB chars.
+	private static int MAX_BUFFER_LENGTH = 999_999; // read max 1MB bytes => max 2MB chars. Bigger files are streamed.
 	private final QuickTextSearchRequestor requestor;
 	private QuickTextQuery query;
 
@@ -50,6 +54,31 @@ public class QuickTextSearcher {
 	 */
 	private final Set<LineItem> matches = ConcurrentHashMap.newKeySet(2000);
 
+	/**
+	 * Position in a file where searching was interrupted, either because
+	 * {@link #maxResults} was reached or because the walker got suspended. The line at
+	 * the given position has not yet been searched.
+	 *
+	 * @param lineNumber line number (1-based) of the first line not yet searched
+	 * @param offset     character offset of the start of that line
+	 */
+	private static record ResumePoint(int lineNumber, int offset) {
+	}
+
+	/**
+	 * Files that were only partially searched, with the position to continue from.
+	 * Only valid as long as the query is the same or more specific than the one used
+	 * to search the first part of the file; the map is cleared when the search
+	 * restarts from scratch.
+	 */
+	private final Map<IFile, ResumePoint> resumePoints = new ConcurrentHashMap<>();
+
+	/**
+	 * Remembers the characters of the files searched in this session, so that files
+	 * that cannot match are skipped when the search is restarted for a changed query.
+	 */
+	private final QueryRefinementIndex refinementIndex = new QueryRefinementIndex();
+
 	/**
 	 * Scheduling rule used by Jobs that work on the matches collection.
 	 */
@@ -69,8 +98,9 @@ public class QuickTextSearcher {
 	/**
 	 * If number of accumulated results reaches maxResults the search will be suspended.
 	 * <p>
-	 * Note that more results may still arrive beyond the limit since the searcher does not (yet) have the
-	 * capability to suspend/resume a search in the middle of a file.
+	 * The search is suspended in the middle of a file if needed; when the limit is raised
+	 * afterwards the search resumes at the line where it stopped. Note that a few more
+	 * results may still arrive beyond the limit since files are searched in parallel.
 	 */
 	private int maxResults = DEFAULT_MAX_RESULTS;
 
@@ -101,8 +131,16 @@ public class QuickTextSearcher {
 		return maxResults;
 	}
 
+	/**
+	 * Sets the result limit. If the limit is raised while the search is suspended
+	 * because the old limit was reached, the search is resumed where it stopped.
+	 */
 	public void setMaxResults(int maxResults) {
+		boolean raised = maxResults > this.maxResults;
 		this.maxResults = maxResults;
+		if (raised) {
+			walker.resume();
+		}
 	}
 
 	public QuickTextSearcher(QuickTextQuery query, PriorityFunction priorities, int maxLineLen, QuickTextSearchRequestor requestor) {
@@ -152,44 +190,95 @@ public class QuickTextSearcher {
 		@Override
 		protected boolean searchIn(IFile f, BooleanSupplier canceled) {
 			currentFile = f;
-			return search(f, canceled, MAX_LINE_LEN, query.pattern, QuickTextSearcher.this::add);
+			return search(f, canceled, MAX_LINE_LEN, query, QuickTextSearcher.this::add);
 		}
 
-		private static boolean search(IFile f, BooleanSupplier canceled,
-				int maxLineLength, Pattern pattern, Consumer<LineItem> add) {
+		/**
+		 * Searches a file line by line, starting at the resume point recorded for the
+		 * file if there is one. Files that the {@link QueryRefinementIndex} knows cannot
+		 * match are not read at all.
+		 *
+		 * @return false if the search in the file was interrupted; in that case a resume
+		 *         point has been recorded for the file.
+		 */
+		private boolean search(IFile f, BooleanSupplier canceled, int maxLineLength, QuickTextQuery query,
+				Predicate<LineItem> add) {
 			if (canceled.getAsBoolean()) {
 				return false;
 			}
-			try (LineReader lr = new LineReader(getReader(f),
-					maxLineLength)) {
-				String line;
+			ResumePoint start = resumePoints.remove(f);
+			if (start == null && !refinementIndex.mayMatch(f, query)) {
+				return true;
+			}
+			Pattern pattern = query.pattern;
+			// Only files read from the start can be indexed completely.
+			QueryRefinementIndex.NGramFilter filter = start == null ? new QueryRefinementIndex.NGramFilter() : null;
+			long modificationStamp = f.getModificationStamp();
+			try (LineReader lr = new LineReader(getReader(f), maxLineLength)) {
 				int lineIndex = 1;
+				if (start != null) {
+					lr.skipTo(start.offset());
+					lineIndex = start.lineNumber();
+				}
+				String line;
 				while ((line = lr.readLine()) != null) {
 					int offset = lr.getLastLineOffset();
 					if (canceled.getAsBoolean()) {
+						resumePoints.put(f, new ResumePoint(lineIndex, offset));
 						return false;
 					}
+					if (filter != null) {
+						filter.addLine(line);
+					}
 
 					Matcher matcher = pattern.matcher(line);
 					if (matcher.find()) {
 						LineItem lineItem = new LineItem(f, line, lineIndex, offset);
-						add.accept(lineItem);
+						if (!add.test(lineItem)) {
+							// result limit reached, this line must be reported again on resume
+							resumePoints.put(f, new ResumePoint(lineIndex, offset));
+							return false;
+						}
 					}
 
 					lineIndex++;
 				}
+				if (filter != null) {
+					refinementIndex.put(f, filter, modificationStamp);
+				}
 			} catch (Exception e) {
 				// ignored
 			}
 			return true;
 		}
 
-		private static Reader getReader(IFile f) throws UnsupportedEncodingException, CoreException {
-			String shortString = toShortString(f);
-			if (shortString != null) {
-				return new StringReader(shortString);
-			} else {
-				return new InputStreamReader(f.getContents(true), f.getCharset());
+		/**
+		 * Opens a reader on the file contents. Small files are read at once and kept in
+		 * the {@link FileContentCache}, bigger files are streamed so they are searched
+		 * completely without holding them in memory. The first chunk that was read to
+		 * find out the file is big is not read twice.
+		 */
+		private static Reader getReader(IFile f) throws IOException, CoreException {
+			FileContentCache cache = WorkspaceFileIndex.getDefault().getContentCache();
+			String cached = cache.get(f);
+			if (cached != null) {
+				return new StringReader(cached);
+			}
+			long modificationStamp = f.getModificationStamp();
+			String charset = f.getCharset();
+			InputStream in = f.getContents(true);
+			try {
+				byte[] content = in.readNBytes(MAX_BUFFER_LENGTH);
+				if (content.length < MAX_BUFFER_LENGTH) {
+					in.close();
+					String text = new String(content, charset);
+					cache.put(f, text, modificationStamp);
+					return new StringReader(text);
+				}
+				return new InputStreamReader(new SequenceInputStream(new ByteArrayInputStream(content), in), charset);
+			} catch (IOException | RuntimeException e) {
+				in.close();
+				throw e;
 			}
 		}
 
@@ -202,26 +291,6 @@ public class QuickTextSearcher {
 		}
 
 	}
-	/**
-	 * Try to get a content as String. Avoids Streaming.
-	 */
-	private static String toShortString(IFile file) {
-		/**
-		 * Just any number such that the most source files will fit in. And not too
-		 * big to avoid out of memory.
-		 **/
-		try {
-			byte[] content = file.readNBytes(MAX_BUFFER_LENGTH);
-			int length = content.length;
-			if (length >= MAX_BUFFER_LENGTH) {
-				return null;
-			}
-			String charset = file.getCharset();
-			return new String(content, charset);
-		} catch (Exception e) {
-			return null;
-		}
-	}
 	/**
 	 * This job updates already found matches when the query is changed.
 	 * Both the walker job and this job share the same scheduling rule so
@@ -280,6 +349,7 @@ public class QuickTextSearcher {
 			//since we are inside Job here that uses same scheduling rule as walker, we
 			//know walker is not currently executing. so walker cancel should be instantenous
 			matches.clear();
+			resumePoints.clear();
 			requestor.clear();
 			walker.cancel();
 			if (!query.isTrivial()) {
@@ -292,12 +362,18 @@ public class QuickTextSearcher {
 
 	}
 
-	private void add(LineItem line) {
+	/**
+	 * @return false if the result limit is reached and the line was not accepted.
+	 */
+	private boolean add(LineItem line) {
 		if (!isActive()) {
 			walker.suspend();
-		} else if (matches.add(line)) {
+			return false;
+		}
+		if (matches.add(line)) {
 			requestor.add(line);
 		}
+		return true;
 	}
 
 	public void setQuery(QuickTextQuery newQuery, boolean force) {
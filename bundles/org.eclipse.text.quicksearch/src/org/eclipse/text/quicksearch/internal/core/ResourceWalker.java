@@ -12,21 +12,24 @@
  *******************************************************************************/
 package org.eclipse.text.quicksearch.internal.core;
 
-import java.util.Collection;
-import java.util.PriorityQueue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BooleanSupplier;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
-import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.Assert;
-import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -34,13 +37,22 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.text.quicksearch.internal.core.priority.DefaultPriorityFunction;
 import org.eclipse.text.quicksearch.internal.core.priority.PriorityFunction;
 import org.eclipse.text.quicksearch.internal.ui.Messages;
-import org.eclipse.text.quicksearch.internal.ui.QuickSearchActivator;
 
 /**
  * A Helper class that allows traversing all the resources in the workspace, assigning priorities
  * to the resources to decide the ordering and completely ignore some resources.
  * <p>
  * The walker can also be paused and resumed.
+ * <p>
+ * The files to visit are taken from the {@link WorkspaceFileIndex}, so the
+ * workspace tree does not have to be traversed again for every walk.
+ * <p>
+ * Files are searched in parallel: the job thread and the threads of a worker pool
+ * shared by all walkers take files from one priority queue. The pool has one
+ * thread less than there are cores, so one walk searches as many files at the
+ * same time as there are cores. Since each worker always takes the file with the highest priority left, results
+ * are published roughly in priority order; only the files currently in flight
+ * can overtake each other.
  *
  * @author Kris De Volder
  */
@@ -53,6 +65,27 @@ public abstract class ResourceWalker extends Job {
 		}
 	}
 
+	/**
+	 * Worker threads shared by all walkers, so concurrent searches do not create
+	 * threads beyond the number of cores. Idle threads time out.
+	 */
+	private static final ThreadPoolExecutor WORKERS;
+	static {
+		int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+		WORKERS = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+			Thread t = new Thread(r, "Quick Search Worker"); //$NON-NLS-1$
+			t.setDaemon(true);
+			return t;
+		});
+		WORKERS.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Number of files searched at the same time: the job thread and one per pool
+	 * thread.
+	 */
+	private final int parallelism = WORKERS.getMaximumPoolSize() + 1;
+
 	public ResourceWalker() {
 		super(Messages.QuickSearchDialog_title);
 		init();
@@ -60,29 +93,36 @@ public abstract class ResourceWalker extends Job {
 
 	protected void init() {
 		filesToSearch.clear();
-		addRecursive(filesToSearch, new QItem(0, ResourcesPlugin.getWorkspace().getRoot()));
-	}
-
-	private void addRecursive(Collection<QItem> queue, QItem item) {
-		IResource r = item.resource;
-		if (r instanceof IFile) {
-			queue.add(item);
-		} else if (r instanceof IContainer f) {
-			if (f.isAccessible()) {
-				try {
-					for (IResource child : f.members()) {
-						double p = priority(child);
-						if (p != PriorityFunction.PRIORITY_IGNORE) {
-							addRecursive(queue, new QItem(p, child));
-						}
-					}
-				} catch (CoreException e) {
-					QuickSearchActivator.log(e);
+		Map<IContainer, Boolean> ignoredContainers = new HashMap<>();
+		for (WorkspaceFileIndex.FileEntry entry : WorkspaceFileIndex.getDefault().getFiles()) {
+			IFile file = entry.file();
+			if (!isIgnored(file.getParent(), ignoredContainers)) {
+				double p = priority(file);
+				if (p != PriorityFunction.PRIORITY_IGNORE) {
+					filesToSearch.add(new QItem(p, file));
 				}
 			}
 		}
 	}
 
+	/**
+	 * A container is ignored if it is not accessible or if it or any of its parents
+	 * has priority {@link PriorityFunction#PRIORITY_IGNORE}. Results are remembered
+	 * in the given map, so each container is only checked once per walk.
+	 */
+	private boolean isIgnored(IContainer container, Map<IContainer, Boolean> ignoredContainers) {
+		if (container == null || container.getType() == IResource.ROOT) {
+			return false;
+		}
+		Boolean ignored = ignoredContainers.get(container);
+		if (ignored == null) {
+			ignored = !container.isAccessible() || priority(container) == PriorityFunction.PRIORITY_IGNORE
+					|| isIgnored(container.getParent(), ignoredContainers);
+			ignoredContainers.put(container, ignored);
+		}
+		return ignored;
+	}
+
 	/**
 	 * Work to do. When all work is done this is empty. So it
 	 * can also be used to determine 'done' status.
@@ -136,40 +176,66 @@ public abstract class ResourceWalker extends Job {
 		this.schedule();
 	}
 
+	/**
+	 * A task searching files from the shared queue in a pool thread. The task can be
+	 * claimed before it started, in which case it does nothing. This way the walker
+	 * does not have to wait for tasks that are still queued in a busy pool.
+	 */
+	private final class Worker implements Runnable {
+		private final AtomicBoolean claimed = new AtomicBoolean();
+		private final PriorityBlockingQueue<QItem> queue;
+		private final BooleanSupplier canceled;
+		private final CountDownLatch done;
+
+		Worker(PriorityBlockingQueue<QItem> queue, BooleanSupplier canceled, CountDownLatch done) {
+			this.queue = queue;
+			this.canceled = canceled;
+			this.done = done;
+		}
+
+		@Override
+		public void run() {
+			if (claimed.compareAndSet(false, true)) {
+				try {
+					drain(queue, canceled);
+				} finally {
+					done.countDown();
+				}
+			}
+		}
+
+		void claimIfNotStarted() {
+			if (claimed.compareAndSet(false, true)) {
+				done.countDown();
+			}
+		}
+	}
+
 	@Override
 	public IStatus run(IProgressMonitor monitor) {
-		int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
-		ExecutorService executorService = Executors.newFixedThreadPool(workers);
+		BooleanSupplier canceled = () -> monitor.isCanceled() || suspend;
 		// copy the filesToSearch, to only remove a file after search completed
-		PriorityQueue<QItem> queue = new PriorityQueue<>();
+		PriorityBlockingQueue<QItem> queue = new PriorityBlockingQueue<>(Math.max(1, filesToSearch.size()));
 		queue.addAll(filesToSearch);
-		for (int worker = 0; worker < workers; worker++) {
-			executorService.submit(() -> {
-				QItem item;
-				while ((item = queue.poll()) != null) {
-					if (monitor.isCanceled() || suspend) {
-						break;
-					} else {
-						IResource r = item.resource;
-						IFile f = (IFile) r;
-						boolean searched = searchIn(f, () -> monitor.isCanceled() || suspend);
-						if (searched) {
-							filesToSearch.remove(item);
-						}
-					}
-				}
-			});
+		int helpers = Math.min(parallelism, queue.size()) - 1;
+		List<Worker> workers = new ArrayList<>(Math.max(0, helpers));
+		CountDownLatch done = new CountDownLatch(Math.max(0, helpers));
+		for (int i = 0; i < helpers; i++) {
+			Worker worker = new Worker(queue, canceled, done);
+			workers.add(worker);
+			WORKERS.execute(worker);
+		}
+		// the job thread searches as well, so a parallelism of 1 does not use the pool
+		drain(queue, canceled);
+		// the queue is empty or the walk was canceled: workers not yet started are not needed
+		for (Worker worker : workers) {
+			worker.claimIfNotStarted();
 		}
 		try {
-			while (!executorService.awaitTermination(1, TimeUnit.MILLISECONDS)) {
-				executorService.shutdown();
-				if (monitor.isCanceled() || suspend) {
-					queue.clear();
-					executorService.shutdownNow();
-				}
-			}
+			// running workers stop at the next line once canceled or suspended
+			done.await();
 		} catch (InterruptedException e) {
-			// ignore
+			Thread.currentThread().interrupt();
 		}
 		// on suspend keep unsearched files for later
 		if (!suspend) {
@@ -182,6 +248,16 @@ public abstract class ResourceWalker extends Job {
 		}
 	}
 
+	private void drain(PriorityBlockingQueue<QItem> queue, BooleanSupplier canceled) {
+		QItem item;
+		while (!canceled.getAsBoolean() && (item = queue.poll()) != null) {
+			boolean searched = searchIn((IFile) item.resource, canceled);
+			if (searched) {
+				filesToSearch.remove(item);
+			}
+		}
+	}
+
 	protected abstract boolean searchIn(IFile f, BooleanSupplier canceled);
 
 	/**
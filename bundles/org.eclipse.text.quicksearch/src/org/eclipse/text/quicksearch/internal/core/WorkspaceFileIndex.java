@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.internal.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.text.quicksearch.internal.core.preferences.QuickSearchPreferences;
+import org.eclipse.text.quicksearch.internal.core.priority.DefaultPriorityFunction;
+import org.eclipse.text.quicksearch.internal.core.priority.PriorityFunction;
+import org.eclipse.text.quicksearch.internal.ui.QuickSearchActivator;
+
+/**
+ * Workspace wide list of all files, kept up to date with resource deltas.
+ * <p>
+ * The list is built once (on first use) and afterwards only patched when
+ * resources are added, removed or changed. This way a new quick search session
+ * does not have to traverse the whole workspace tree before it can start
+ * searching files.
+ * <p>
+ * Containers ignored by the {@link DefaultPriorityFunction} configured with the
+ * quick search preferences, like derived folders, <code>.git</code> or
+ * <code>target</code>, and team private members are pruned: neither they nor
+ * their files are indexed. The index is rebuilt when these preferences change.
+ * Apart from that the index does not apply any
+ * {@link org.eclipse.text.quicksearch.internal.core.priority.PriorityFunction},
+ * since those depend on the context of each search. It is up to the
+ * {@link ResourceWalker} to assign priorities to the files and to skip files in
+ * ignored containers.
+ */
+public class WorkspaceFileIndex implements IResourceChangeListener {
+
+	/**
+	 * A file in the workspace.
+	 *
+	 * @param file         the file
+	 * @param size         size of the file in bytes, or -1 if unknown
+	 * @param lastModified local time stamp of the file, as returned by
+	 *                     {@link IResource#getLocalTimeStamp()}
+	 */
+	public static record FileEntry(IFile file, long size, long lastModified) {
+
+		static FileEntry of(IFile file) {
+			IPath location = file.getLocation();
+			long size = location == null ? -1 : location.toFile().length();
+			return new FileEntry(file, size, file.getLocalTimeStamp());
+		}
+	}
+
+	private static WorkspaceFileIndex instance;
+
+	private final IWorkspace workspace;
+
+	/**
+	 * Indexed files, keyed by their full path. Null until the index has been built.
+	 */
+	private volatile Map<IPath, FileEntry> files;
+
+	/**
+	 * Decides which containers are pruned, taken from the preferences when the
+	 * index is built.
+	 */
+	private PriorityFunction pruneFunction;
+
+	private final FileContentCache contentCache = new FileContentCache(FileContentCache.DEFAULT_BYTE_BUDGET);
+
+	private final IPropertyChangeListener preferenceListener = event -> {
+		String property = event.getProperty();
+		if (QuickSearchPreferences.IGNORED_EXTENSIONS.equals(property)
+				|| QuickSearchPreferences.IGNORED_NAMES.equals(property)
+				|| QuickSearchPreferences.IGNORED_PREFIXES.equals(property)) {
+			invalidate();
+		}
+	};
+
+	WorkspaceFileIndex(IWorkspace workspace) {
+		this.workspace = workspace;
+	}
+
+	/**
+	 * Returns the shared index of the workspace files. The index starts tracking
+	 * resource changes on first access.
+	 */
+	public static synchronized WorkspaceFileIndex getDefault() {
+		if (instance == null) {
+			instance = new WorkspaceFileIndex(ResourcesPlugin.getWorkspace());
+			instance.workspace.addResourceChangeListener(instance, IResourceChangeEvent.POST_CHANGE);
+			QuickSearchActivator activator = QuickSearchActivator.getDefault();
+			if (activator != null) {
+				activator.getPreferenceStore().addPropertyChangeListener(instance.preferenceListener);
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * Stops tracking resource changes and drops the shared index.
+	 */
+	public static synchronized void disposeDefault() {
+		if (instance != null) {
+			instance.workspace.removeResourceChangeListener(instance);
+			QuickSearchActivator activator = QuickSearchActivator.getDefault();
+			if (activator != null) {
+				activator.getPreferenceStore().removePropertyChangeListener(instance.preferenceListener);
+			}
+			instance.files = null;
+			instance.contentCache.clear();
+			instance = null;
+		}
+	}
+
+	/**
+	 * Returns a snapshot of all accessible files in the workspace. The first call
+	 * traverses the workspace, subsequent calls return the incrementally maintained
+	 * list.
+	 */
+	public Collection<FileEntry> getFiles() {
+		return new ArrayList<>(ensureBuilt().values());
+	}
+
+	/**
+	 * @return cache for the contents of recently searched files.
+	 */
+	public FileContentCache getContentCache() {
+		return contentCache;
+	}
+
+	private Map<IPath, FileEntry> ensureBuilt() {
+		Map<IPath, FileEntry> result = files;
+		if (result == null) {
+			synchronized (this) {
+				result = files;
+				if (result == null) {
+					pruneFunction = createPruneFunction();
+					result = new ConcurrentHashMap<>();
+					addRecursive(result, workspace.getRoot());
+					files = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Drops the index, so that it is built again on next use.
+	 */
+	private synchronized void invalidate() {
+		files = null;
+		// cached texts are only dropped on resource changes while the index is built
+		contentCache.clear();
+	}
+
+	private static PriorityFunction createPruneFunction() {
+		DefaultPriorityFunction function = new DefaultPriorityFunction();
+		QuickSearchActivator activator = QuickSearchActivator.getDefault();
+		if (activator != null) {
+			function.configure(activator.getPreferences());
+		}
+		return function;
+	}
+
+	/**
+	 * A container is pruned if it is team private or ignored by the prune
+	 * function. The workspace root is never pruned.
+	 */
+	private boolean isPruned(IContainer c) {
+		if (c.getType() == IResource.ROOT) {
+			return false;
+		}
+		return c.isTeamPrivateMember(IResource.NONE) || pruneFunction.priority(c) == PriorityFunction.PRIORITY_IGNORE;
+	}
+
+	private void addRecursive(Map<IPath, FileEntry> index, IResource r) {
+		if (r instanceof IFile f) {
+			index.put(f.getFullPath(), FileEntry.of(f));
+		} else if (r instanceof IContainer c && c.isAccessible() && !isPruned(c)) {
+			try {
+				for (IResource child : c.members()) {
+					addRecursive(index, child);
+				}
+			} catch (CoreException e) {
+				QuickSearchActivator.log(e);
+			}
+		}
+	}
+
+	private static void removeRecursive(Map<IPath, FileEntry> index, IPath containerPath) {
+		index.keySet().removeIf(containerPath::isPrefixOf);
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		synchronized (this) {
+			Map<IPath, FileEntry> index = files;
+			if (index == null) {
+				// Not built yet. Nothing to maintain.
+				return;
+			}
+			IResourceDelta delta = event.getDelta();
+			if (delta != null) {
+				try {
+					delta.accept(d -> visit(index, d));
+				} catch (CoreException e) {
+					QuickSearchActivator.log(e);
+				}
+			}
+		}
+	}
+
+	private boolean visit(Map<IPath, FileEntry> index, IResourceDelta delta) {
+		IResource r = delta.getResource();
+		switch (delta.getKind()) {
+		case IResourceDelta.ADDED:
+			addRecursive(index, r);
+			return false;
+		case IResourceDelta.REMOVED:
+			if (r instanceof IFile f) {
+				index.remove(f.getFullPath());
+				contentCache.remove(f);
+			} else {
+				removeRecursive(index, r.getFullPath());
+			}
+			return false;
+		case IResourceDelta.CHANGED:
+			int flags = delta.getFlags();
+			if ((flags & (IResourceDelta.OPEN | IResourceDelta.DERIVED_CHANGED)) != 0 && r instanceof IContainer) {
+				// Project opened or closed, children are not reported in the delta.
+				// A container that became derived is pruned now, or the other way round.
+				removeRecursive(index, r.getFullPath());
+				contentCache.removeAll(r.getFullPath());
+				addRecursive(index, r);
+				return false;
+			}
+			if ((flags & IResourceDelta.ENCODING) != 0) {
+				// Cached texts were decoded with the old charset
+				if (r instanceof IFile f) {
+					contentCache.remove(f);
+				} else {
+					contentCache.removeAll(r.getFullPath());
+				}
+			}
+			if (r instanceof IFile f && (flags & (IResourceDelta.CONTENT | IResourceDelta.REPLACED)) != 0) {
+				index.put(f.getFullPath(), FileEntry.of(f));
+				contentCache.remove(f);
+			}
+			return !(r instanceof IContainer c && isPruned(c));
+		default:
+			return true;
+		}
+	}
+}
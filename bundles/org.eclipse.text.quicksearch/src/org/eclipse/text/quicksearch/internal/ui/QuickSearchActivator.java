@@ -15,6 +15,7 @@ package org.eclipse.text.quicksearch.internal.ui;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.text.quicksearch.internal.core.WorkspaceFileIndex;
 import org.eclipse.text.quicksearch.internal.core.preferences.QuickSearchPreferences;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
 import org.osgi.framework.BundleContext;
@@ -54,6 +55,7 @@ public class QuickSearchActivator extends AbstractUIPlugin {
 	 */
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		WorkspaceFileIndex.disposeDefault();
 		plugin = null;
 		super.stop(context);
 	}
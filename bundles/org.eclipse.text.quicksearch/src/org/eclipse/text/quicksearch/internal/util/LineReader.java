@@ -115,6 +115,29 @@ public class LineReader implements AutoCloseable{
 		}
 	}
 
+	/**
+	 * Skips ahead in the input so that the next line read starts at the given
+	 * offset. This is used to resume reading a file in the middle, at the start of a
+	 * line whose offset was obtained from {@link #getLastLineOffset()} in an earlier
+	 * read of the same content.
+	 *
+	 * @param targetOffset offset relative to the beginning of the stream; must not be
+	 *                     smaller than the current position.
+	 */
+	public void skipTo(int targetOffset) throws IOException {
+		while (offset < targetOffset) {
+			long skipped = input.skip(targetOffset - offset);
+			if (skipped <= 0) {
+				//Reached EOF (or stream refuses to skip), next readLine will return null.
+				if (input.read() == -1) {
+					return;
+				}
+				skipped = 1;
+			}
+			offset += (int) skipped;
+		}
+	}
+
 	private void unread() throws IOException {
 		offset = mark;
 		input.reset();
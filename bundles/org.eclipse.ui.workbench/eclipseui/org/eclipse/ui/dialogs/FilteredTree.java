@@ -25,6 +25,7 @@ import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.viewers.AbstractFilteredViewerComposite;
 import org.eclipse.jface.viewers.IContentProvider;
 import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.LabelProviderChangedEvent;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.SWT;
@@ -415,7 +416,18 @@ public class FilteredTree extends AbstractFilteredViewerComposite<PatternFilter>
 							}
 						}
 					}
-					treeViewer.refresh(true);
+					// keep the results of the previous pattern for narrowing down
+					filterRefresh = true;
+					getPatternFilter().setProgressMonitor(monitor);
+					try {
+						treeViewer.refresh(true);
+					} finally {
+						filterRefresh = false;
+						getPatternFilter().setProgressMonitor(null);
+					}
+					if (monitor.isCanceled()) {
+						return Status.CANCEL_STATUS;
+					}
 
 					if (text.length() > 0 && !initial) {
 						/*
@@ -612,6 +624,12 @@ public class FilteredTree extends AbstractFilteredViewerComposite<PatternFilter>
 
 	private String previousFilterText;
 
+	/**
+	 * Whether the tree is refreshed because the filter text changed, rather than
+	 * because its content changed.
+	 */
+	private boolean filterRefresh;
+
 	private boolean narrowingDown;
 
 	@Override
@@ -725,13 +743,17 @@ public class FilteredTree extends AbstractFilteredViewerComposite<PatternFilter>
 
 		@Override
 		public void refresh() {
-			getPatternFilter().clearCaches();
+			if (!filterRefresh) {
+				getPatternFilter().clearCaches();
+			}
 			super.refresh();
 		}
 
 		@Override
 		public void refresh(boolean updateLabels) {
-			getPatternFilter().clearCaches();
+			if (!filterRefresh) {
+				getPatternFilter().clearCaches();
+			}
 			super.refresh(updateLabels);
 		}
 
@@ -783,12 +805,32 @@ public class FilteredTree extends AbstractFilteredViewerComposite<PatternFilter>
 			super.setContentProvider(provider);
 		}
 
+		@Override
+		protected void handleLabelProviderChanged(LabelProviderChangedEvent event) {
+			// the filter caches labels
+			getPatternFilter().clearCaches();
+			super.handleLabelProviderChanged(event);
+		}
+
 		@Override
 		public void setHasChildren(Object elementOrTreePath, boolean hasChildren) {
 			getPatternFilter().clearCaches();
 			super.setHasChildren(elementOrTreePath, hasChildren);
 		}
 
+		@Override
+		public void update(Object element, String[] properties) {
+			// the filter caches labels
+			getPatternFilter().clearCaches();
+			super.update(element, properties);
+		}
+
+		@Override
+		public void update(Object[] elements, String[] properties) {
+			getPatternFilter().clearCaches();
+			super.update(elements, properties);
+		}
+
 	}
 
 }
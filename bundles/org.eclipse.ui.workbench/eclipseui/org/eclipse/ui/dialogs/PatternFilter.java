@@ -15,12 +15,17 @@
  *******************************************************************************/
 package org.eclipse.ui.dialogs;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.text.StringMatcher;
 import org.eclipse.jface.viewers.AbstractTreeViewer;
 import org.eclipse.jface.viewers.ContentViewer;
 import org.eclipse.jface.viewers.ILabelProvider;
+import org.eclipse.jface.viewers.ILabelProviderListener;
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.jface.viewers.ViewerFilter;
@@ -46,8 +51,44 @@ public class PatternFilter extends ViewerFilter {
 	 */
 	private Map foundAnyCache = new HashMap();
 
+	/*
+	 * Maps parent elements to their children that passed a previous pattern which
+	 * the current pattern extends. Only these children need to be tested again.
+	 */
+	private Map narrowingCache = new HashMap();
+
+	/*
+	 * Maps elements to their labels, kept until the tree content changes
+	 */
+	private Map labelCache = new HashMap();
+
+	/*
+	 * Maps label texts to their words, kept until the tree content changes
+	 */
+	private Map wordsCache = new HashMap();
+
+	/*
+	 * The label provider the cached labels come from, or null
+	 */
+	private ILabelProvider cachedLabelProvider;
+
+	/*
+	 * Clears the caches when the labels of the cached label provider change
+	 */
+	private final ILabelProviderListener labelProviderListener = event -> clearCaches();
+
 	private boolean useCache = false;
 
+	/**
+	 * The pattern string of the matcher, or <code>null</code>.
+	 */
+	private String patternString;
+
+	/**
+	 * The monitor of the current filter pass, or <code>null</code>.
+	 */
+	private IProgressMonitor monitor;
+
 	/**
 	 * Whether to include a leading wildcard for all provided patterns. A trailing
 	 * wildcard is always included.
@@ -82,13 +123,48 @@ public class PatternFilter extends ViewerFilter {
 			if (foundAny != null && !foundAny.booleanValue()) {
 				filtered = EMPTY;
 			} else {
-				filtered = super.filter(viewer, parent, elements);
+				filtered = filterCandidates(viewer, parent, getCandidates(parent, elements));
+				if (filtered == null) {
+					// canceled, the next pass filters again
+					return EMPTY;
+				}
 			}
 			cache.put(parent, filtered);
 		}
 		return filtered;
 	}
 
+	/**
+	 * Returns the children of the given parent that may pass the filter: the
+	 * children that passed the previous pattern if the current pattern extends
+	 * it, otherwise all children.
+	 */
+	private Object[] getCandidates(Object parent, Object[] elements) {
+		Object[] candidates = (Object[]) narrowingCache.get(parent);
+		return candidates != null ? candidates : elements;
+	}
+
+	/**
+	 * Filters the given elements, or returns <code>null</code> if the filter pass
+	 * is canceled.
+	 */
+	private Object[] filterCandidates(Viewer viewer, Object parent, Object[] elements) {
+		List<Object> result = new ArrayList<>(elements.length);
+		for (Object element : elements) {
+			if (isCanceled()) {
+				return null;
+			}
+			if (select(viewer, parent, element)) {
+				result.add(element);
+			}
+		}
+		return isCanceled() ? null : result.toArray();
+	}
+
+	private boolean isCanceled() {
+		return monitor != null && monitor.isCanceled();
+	}
+
 	/**
 	 * Returns true if any of the elements makes it through the filter. This method
 	 * uses caching if enabled; the computation is done in computeAnyVisible.
@@ -111,7 +187,10 @@ public class PatternFilter extends ViewerFilter {
 		}
 		Boolean foundAny = (Boolean) foundAnyCache.get(parent);
 		if (foundAny == null) {
-			foundAny = computeAnyVisible(viewer, elements) ? Boolean.TRUE : Boolean.FALSE;
+			foundAny = computeAnyVisible(viewer, getCandidates(parent, elements)) ? Boolean.TRUE : Boolean.FALSE;
+			if (isCanceled()) {
+				return false;
+			}
 			foundAnyCache.put(parent, foundAny);
 		}
 		return foundAny.booleanValue();
@@ -126,7 +205,7 @@ public class PatternFilter extends ViewerFilter {
 	 */
 	private boolean computeAnyVisible(Viewer viewer, Object[] elements) {
 		boolean elementFound = false;
-		for (int i = 0; i < elements.length && !elementFound; i++) {
+		for (int i = 0; i < elements.length && !elementFound && !isCanceled(); i++) {
 			Object element = elements[i];
 			elementFound = isElementVisible(viewer, element);
 		}
@@ -144,6 +223,9 @@ public class PatternFilter extends ViewerFilter {
 	 * @param includeLeadingWildcard Whether a leading wildcard should be added.
 	 */
 	public final void setIncludeLeadingWildcard(final boolean includeLeadingWildcard) {
+		if (this.includeLeadingWildcard != includeLeadingWildcard) {
+			narrowingCache.clear();
+		}
 		this.includeLeadingWildcard = includeLeadingWildcard;
 	}
 
@@ -163,10 +245,18 @@ public class PatternFilter extends ViewerFilter {
 			useEarlyReturnIfMatcherIsNull = false;
 			return;
 		}
-		clearCaches();
+		if (useCache && isNarrowing(this.patternString, patternString) && canFilterIncrementally()) {
+			narrowCaches();
+		} else {
+			cache.clear();
+			foundAnyCache.clear();
+			narrowingCache.clear();
+		}
 		if (patternString == null || patternString.isEmpty()) {
+			this.patternString = null;
 			matcher = null;
 		} else {
+			this.patternString = patternString;
 			String pattern = patternString;
 			if (!patternString.endsWith(" ")) //$NON-NLS-1$
 				pattern += "*"; //$NON-NLS-1$
@@ -184,6 +274,70 @@ public class PatternFilter extends ViewerFilter {
 	/* package */ void clearCaches() {
 		cache.clear();
 		foundAnyCache.clear();
+		narrowingCache.clear();
+		labelCache.clear();
+		wordsCache.clear();
+	}
+
+	/**
+	 * Returns whether every string that matches the new pattern string also
+	 * matches the old one, which is the case if the new pattern string extends
+	 * the old one without escapes, and the old one gets a trailing wildcard.
+	 */
+	private static boolean isNarrowing(String oldPattern, String newPattern) {
+		if (newPattern == null || newPattern.isEmpty()) {
+			return false;
+		}
+		if (oldPattern == null) {
+			// nothing was filtered
+			return false;
+		}
+		if (oldPattern.endsWith(" ")) { //$NON-NLS-1$
+			// matched exactly, without a trailing wildcard
+			return false;
+		}
+		return newPattern.startsWith(oldPattern) && newPattern.indexOf('\\') < 0;
+	}
+
+	/**
+	 * Keeps the results of the previous pattern, which the new pattern extends:
+	 * the children that passed it are the only candidates for the new pattern,
+	 * and parents without visible children still have none.
+	 */
+	private void narrowCaches() {
+		narrowingCache.putAll(cache);
+		cache.clear();
+		for (Iterator iterator = foundAnyCache.values().iterator(); iterator.hasNext();) {
+			if (((Boolean) iterator.next()).booleanValue()) {
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the elements that pass a pattern are always among the
+	 * elements that pass any pattern it extends. If so, and caching is enabled by
+	 * the filtered tree, only the elements that passed the previous pattern are
+	 * tested when the user types more characters. The default implementation
+	 * returns <code>true</code>, which holds for filters that match labels or
+	 * other texts with {@link #wordMatches(String)}. Subclasses whose matching
+	 * does not narrow down as the pattern grows must return <code>false</code>.
+	 *
+	 * @return <code>true</code> if a longer pattern only ever removes elements
+	 * @since 3.136
+	 */
+	protected boolean canFilterIncrementally() {
+		return true;
+	}
+
+	/**
+	 * Sets the monitor of the current filter pass. The pass stops testing
+	 * elements, and does not cache any results, once the monitor is canceled.
+	 *
+	 * @param monitor the monitor, or <code>null</code> after the pass
+	 */
+	/* package */ void setProgressMonitor(IProgressMonitor monitor) {
+		this.monitor = monitor;
 	}
 
 	/**
@@ -263,7 +417,20 @@ public class PatternFilter extends ViewerFilter {
 	 * @return true if the given element's label matches the filter text
 	 */
 	protected boolean isLeafMatch(Viewer viewer, Object element) {
-		String labelText = ((ILabelProvider) ((ContentViewer) viewer).getLabelProvider()).getText(element);
+		String labelText;
+		if (useCache) {
+			ILabelProvider labelProvider = (ILabelProvider) ((ContentViewer) viewer).getLabelProvider();
+			if (labelProvider != cachedLabelProvider) {
+				setCachedLabelProvider(labelProvider);
+			}
+			labelText = (String) labelCache.get(element);
+			if (labelText == null && !labelCache.containsKey(element)) {
+				labelText = labelProvider.getText(element);
+				labelCache.put(element, labelText);
+			}
+		} else {
+			labelText = ((ILabelProvider) ((ContentViewer) viewer).getLabelProvider()).getText(element);
+		}
 
 		if (labelText == null) {
 			return false;
@@ -271,6 +438,22 @@ public class PatternFilter extends ViewerFilter {
 		return wordMatches(labelText);
 	}
 
+	/**
+	 * Drops the labels of the previous label provider and listens to the given
+	 * one, so that its labels are dropped when they change.
+	 */
+	private void setCachedLabelProvider(ILabelProvider labelProvider) {
+		if (cachedLabelProvider != null) {
+			cachedLabelProvider.removeListener(labelProviderListener);
+		}
+		labelCache.clear();
+		wordsCache.clear();
+		cachedLabelProvider = labelProvider;
+		if (labelProvider != null) {
+			labelProvider.addListener(labelProviderListener);
+		}
+	}
+
 	/**
 	 * Return whether or not if any of the words in text satisfy the match critera.
 	 *
@@ -289,7 +472,16 @@ public class PatternFilter extends ViewerFilter {
 		}
 
 		// Otherwise check if any of the words of the text matches
-		String[] words = StringMatcher.getWords(text);
+		String[] words;
+		if (useCache) {
+			words = (String[]) wordsCache.get(text);
+			if (words == null) {
+				words = StringMatcher.getWords(text);
+				wordsCache.put(text, words);
+			}
+		} else {
+			words = StringMatcher.getWords(text);
+		}
 		for (String word : words) {
 			if (!match(word)) {
 				return false;
@@ -16,17 +16,26 @@
  *******************************************************************************/
 package org.eclipse.e4.ui.tests.css.core;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.StringReader;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
 import org.eclipse.e4.ui.css.core.impl.engine.CSSEngineImpl;
 import org.eclipse.e4.ui.tests.css.core.util.TestElement;
 import org.junit.jupiter.api.Test;
 import org.w3c.css.sac.Selector;
 import org.w3c.css.sac.SelectorList;
 import org.w3c.dom.Element;
+import org.w3c.dom.css.CSSStyleDeclaration;
 
 class CSSEngineTest {
 
@@ -36,6 +45,41 @@ class CSSEngineTest {
 		}
 	}
 
+	/**
+	 * Engine which records the styles applied to the elements.
+	 */
+	private static class RecordingCSSEngine extends TestCSSEngine {
+		final Map<Element, CSSStyleDeclaration> appliedStyles = new LinkedHashMap<>();
+
+		RecordingCSSEngine() {
+			setElementProvider((element, engine) -> element instanceof Element e ? e : null);
+		}
+
+		@Override
+		public void applyStyleDeclaration(Object element, CSSStyleDeclaration style, String pseudo) {
+			appliedStyles.put((Element) element, style);
+		}
+	}
+
+	/**
+	 * Element which is its own native widget, so that each element has its own
+	 * element context in the engine.
+	 */
+	private static class StyledElement extends TestElement {
+		StyledElement(String type, CSSEngine engine) {
+			super(type, engine);
+		}
+
+		StyledElement(String type, StyledElement parent, CSSEngine engine) {
+			super(type, parent, engine);
+		}
+
+		@Override
+		public Object getNativeWidget() {
+			return this;
+		}
+	}
+
 	@Test
 	void testSelectorMatch() throws Exception {
 		TestCSSEngine engine = new TestCSSEngine();
@@ -80,6 +124,56 @@ class CSSEngineTest {
 		assertFalse(engine.matches(selector, "", null));
 	}
 
+	@Test
+	void testComputedStylesSharedBySiblings() throws Exception {
+		RecordingCSSEngine engine = new RecordingCSSEngine();
+		engine.parseStyleSheet(new StringReader("""
+				Button { color: red; }
+				Composite .primary { font-weight: bold; }
+				"""));
+		StyledElement shell = new StyledElement("Shell", engine);
+		StyledElement composite = new StyledElement("Composite", shell, engine);
+		StyledElement button1 = new StyledElement("Button", composite, engine);
+		StyledElement button2 = new StyledElement("Button", composite, engine);
+		StyledElement button3 = new StyledElement("Button", composite, engine);
+		button1.setClass("primary");
+		button2.setClass("primary");
+
+		engine.applyStyles(shell, true);
+
+		assertEquals(List.of(button1, button2, button3), List.copyOf(engine.appliedStyles.keySet()));
+		assertSame(engine.appliedStyles.get(button1), engine.appliedStyles.get(button2));
+		assertNotSame(engine.appliedStyles.get(button1), engine.appliedStyles.get(button3));
+		assertEquals("color: red;", engine.appliedStyles.get(button3).getCssText());
+	}
+
+	@Test
+	void testApplyStylesToDirtySubtree() throws Exception {
+		RecordingCSSEngine engine = new RecordingCSSEngine();
+		engine.parseStyleSheet(new StringReader("""
+				.dark Button { color: white; }
+				Label { color: black; }
+				"""));
+		StyledElement shell = new StyledElement("Shell", engine);
+		StyledElement composite = new StyledElement("Composite", shell, engine);
+		StyledElement button = new StyledElement("Button", composite, engine);
+		StyledElement label = new StyledElement("Label", composite, engine);
+		engine.applyStyles(shell, true);
+		assertEquals(List.of(label), List.copyOf(engine.appliedStyles.keySet()));
+
+		engine.appliedStyles.clear();
+		composite.setClass("dark");
+		engine.applyStylesToDirtySubtree(composite);
+		assertEquals(List.of(button), List.copyOf(engine.appliedStyles.keySet()));
+		assertEquals("color: white;", engine.appliedStyles.get(button).getCssText());
+
+		engine.appliedStyles.clear();
+		engine.applyStylesToDirtySubtree(composite);
+		assertTrue(engine.appliedStyles.isEmpty());
+
+		engine.applyStyles(composite, true);
+		assertEquals(List.of(button, label), List.copyOf(engine.appliedStyles.keySet()));
+	}
 
 	private TestCSSEngine engineWhichProducesElementsWithAttributeA() {
 		TestCSSEngine engine = new TestCSSEngine();
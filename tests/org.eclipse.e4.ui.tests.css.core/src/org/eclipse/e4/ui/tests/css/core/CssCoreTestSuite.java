@@ -26,6 +26,7 @@ import org.eclipse.e4.ui.tests.css.core.parser.RGBColorImplTest;
 import org.eclipse.e4.ui.tests.css.core.parser.SelectorTest;
 import org.eclipse.e4.ui.tests.css.core.parser.StyleRuleTest;
 import org.eclipse.e4.ui.tests.css.core.parser.ValueTest;
+import org.eclipse.e4.ui.tests.css.core.parser.ViewCSSBenchmarkTest;
 import org.eclipse.e4.ui.tests.css.core.parser.ViewCSSTest;
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
@@ -37,6 +38,7 @@ import org.junit.platform.suite.api.Suite;
 	RGBColorImplTest.class,
 	StyleRuleTest.class,
 	ViewCSSTest.class,
+	ViewCSSBenchmarkTest.class,
 	ValueTest.class,
 	SelectorTest.class,
 	CSSEngineTest.class,
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.e4.ui.tests.css.core.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.e4.ui.css.core.impl.dom.DocumentCSSImpl;
+import org.eclipse.e4.ui.css.core.impl.dom.ViewCSSImpl;
+import org.eclipse.e4.ui.css.swt.engine.CSSSWTEngineImpl;
+import org.eclipse.e4.ui.tests.css.core.util.ParserTestUtil;
+import org.eclipse.e4.ui.tests.css.core.util.TestElement;
+import org.eclipse.swt.widgets.Display;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.w3c.dom.css.CSSStyleDeclaration;
+import org.w3c.dom.css.CSSStyleSheet;
+import org.w3c.dom.css.ViewCSS;
+
+/**
+ * Benchmark of the computation of the styles of a large widget tree with a
+ * large stylesheet, with the rule index of {@link ViewCSSImpl} and with a scan
+ * over all rules. It checks that both compute the same styles and that the rule
+ * index matches far fewer selectors against the elements than the scan. The
+ * times are only reported, since they depend on the load of the machine.
+ */
+public class ViewCSSBenchmarkTest {
+
+	private static final int RULE_COUNT = 1500;
+
+	private static final int ELEMENT_COUNT = 20000;
+
+	private static final int ITERATIONS = 3;
+
+	private static final String[] TYPES = { "Shell", "Composite", "Button", "Label", "Text", "Table", "Tree",
+			"ToolBar", "CTabFolder", "Combo" };
+
+	private CSSSWTEngineImpl engine;
+
+	@BeforeEach
+	public void setUp() {
+		engine = new CSSSWTEngineImpl(Display.getDefault());
+	}
+
+	@Test
+	void testComputedStyles(TestReporter reporter) throws Exception {
+		CSSStyleSheet styleSheet = ParserTestUtil.parseCss(createCss());
+		DocumentCSSImpl docCss = new DocumentCSSImpl();
+		docCss.addStyleSheet(styleSheet);
+		ViewCSSImpl indexed = new ViewCSSImpl(docCss);
+		ViewCSSImpl scanned = new ViewCSSImpl(ParserTestUtil.createUncachedDocumentCSS(docCss));
+		List<TestElement> elements = createElements();
+
+		long indexedTime = Long.MAX_VALUE;
+		long scannedTime = Long.MAX_VALUE;
+		for (int i = 0; i < ITERATIONS; i++) {
+			indexedTime = Math.min(indexedTime, computeStyles(indexed, elements));
+			scannedTime = Math.min(scannedTime, computeStyles(scanned, elements));
+		}
+
+		long indexedCandidates = 0;
+		long scannedCandidates = 0;
+		for (TestElement element : elements) {
+			CSSStyleDeclaration expected = scanned.getComputedStyle(element, null);
+			CSSStyleDeclaration actual = indexed.getComputedStyle(element, null);
+			assertEquals(expected == null ? null : expected.getCssText(),
+					actual == null ? null : actual.getCssText());
+			indexedCandidates += indexed.getCandidateCount(element);
+			scannedCandidates += scanned.getCandidateCount(element);
+		}
+		reporter.publishEntry("rules", Integer.toString(RULE_COUNT));
+		reporter.publishEntry("elements", Integer.toString(ELEMENT_COUNT));
+		reporter.publishEntry("indexed ms", Long.toString(indexedTime / 1000000));
+		reporter.publishEntry("scanned ms", Long.toString(scannedTime / 1000000));
+
+		long indexedTotal = indexedCandidates;
+		long scannedTotal = scannedCandidates;
+		assertTrue(indexedCandidates * 4 < scannedCandidates, () -> "The rule index returns " + indexedTotal
+				+ " candidate selectors, the scan matches " + scannedTotal + " selectors");
+	}
+
+	private static long computeStyles(ViewCSS viewCSS, List<TestElement> elements) {
+		long start = System.nanoTime();
+		for (TestElement element : elements) {
+			viewCSS.getComputedStyle(element, null);
+		}
+		return System.nanoTime() - start;
+	}
+
+	/**
+	 * Creates rules in the mix of a theme: type rules, class and id rules,
+	 * qualified class rules, and descendant and child rules.
+	 */
+	private static String createCss() {
+		StringBuilder css = new StringBuilder();
+		css.append("* { color: black; }\n");
+		for (int i = 0; i < RULE_COUNT; i++) {
+			String type = TYPES[i % TYPES.length];
+			switch (i % 5) {
+			case 0:
+				css.append(type);
+				break;
+			case 1:
+				css.append(".class").append(i % 300);
+				break;
+			case 2:
+				css.append(type).append(".class").append(i % 300);
+				break;
+			case 3:
+				css.append("#id").append(i);
+				break;
+			default:
+				css.append("Composite > ").append(type).append(", Shell .class").append(i % 300).append(' ')
+						.append(type);
+				break;
+			}
+			css.append(" { color: #").append(String.format("%06x", i)).append("; }\n");
+		}
+		return css.toString();
+	}
+
+	private List<TestElement> createElements() {
+		List<TestElement> elements = new ArrayList<>(ELEMENT_COUNT);
+		TestElement shell = new TestElement("Shell", engine);
+		elements.add(shell);
+		List<TestElement> composites = new ArrayList<>();
+		composites.add(shell);
+		for (int i = 1; i < ELEMENT_COUNT; i++) {
+			TestElement parent = composites.get(i % composites.size());
+			String type = i % 20 == 0 ? "Composite" : TYPES[i % TYPES.length];
+			TestElement element = new TestElement(type, parent, engine);
+			if (i % 3 == 0) {
+				element.setClass("class" + i % 300 + " class" + i % 7);
+			}
+			if (i % 10 == 0) {
+				element.setId("id" + i % RULE_COUNT);
+			}
+			if ("Composite".equals(type) && composites.size() < 200) {
+				composites.add(element);
+			}
+			elements.add(element);
+		}
+		return elements;
+	}
+}
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.e4.ui.css.core.impl.dom.DocumentCSSImpl;
@@ -169,6 +170,80 @@ public class ViewCSSTest {
 		assertTrue(cssRules2.size() > cssRules.size());
 	}
 
+	@Test
+	void testRuleIndexKeepsCascadeOrder() throws Exception {
+		// Rules of different index buckets with the same specificity, the
+		// last matching rule should take precedence
+		String css = """
+			.bar { color: red; }
+			.foo { color: blue; }
+			Button:focus { color: yellow; }
+			Shell Button { color: green; }
+			""";
+		ViewCSS viewCSS = createViewCss(css);
+
+		TestElement shell = new TestElement("Shell", engine);
+		TestElement button = new TestElement("Button", shell, engine);
+		button.setClass("foo bar");
+		CSSStyleDeclaration buttonStyle = viewCSS.getComputedStyle(button, null);
+		assertNotNull(buttonStyle);
+		assertEquals("color: blue;", buttonStyle.getCssText());
+
+		button.setClass("bar  foo foo");
+		buttonStyle = viewCSS.getComputedStyle(button, null);
+		assertEquals("color: blue;", buttonStyle.getCssText());
+
+		button.setClass(null);
+		buttonStyle = viewCSS.getComputedStyle(button, null);
+		assertEquals("color: green;", buttonStyle.getCssText());
+	}
+
+	@Test
+	void testRuleIndexMatchesLikeRuleScan() throws Exception {
+		String css = """
+			* { color: black; }
+			Button { color: blue; }
+			.primary { font-weight: bold; }
+			#ok { color: red; }
+			Button.primary.large { font-size: 12px; }
+			Composite > Button#ok { background-color: white; }
+			Shell .primary { color: green; }
+			Label + Button { color: yellow; }
+			*[style] { color: gray; }
+			Composite { background-color: black; }
+			""";
+		CSSStyleSheet styleSheet = ParserTestUtil.parseCss(css);
+		DocumentCSSImpl docCss = new DocumentCSSImpl();
+		docCss.addStyleSheet(styleSheet);
+		ViewCSS indexed = new ViewCSSImpl(docCss);
+		ViewCSS scanned = new ViewCSSImpl(ParserTestUtil.createUncachedDocumentCSS(docCss));
+
+		TestElement shell = new TestElement("Shell", engine);
+		TestElement composite = new TestElement("Composite", shell, engine);
+		List<TestElement> elements = new ArrayList<>(List.of(shell, composite));
+		String[] types = { "Button", "Label", "Composite" };
+		String[] classes = { null, "primary", "large primary", "other" };
+		String[] ids = { null, "ok", "cancel" };
+		for (String type : types) {
+			for (String className : classes) {
+				for (String id : ids) {
+					TestElement element = new TestElement(type, composite, engine);
+					element.setClass(className);
+					element.setId(id);
+					elements.add(element);
+				}
+			}
+		}
+		elements.get(elements.size() - 1).setAttribute("style", "x");
+
+		for (TestElement element : elements) {
+			CSSStyleDeclaration expected = scanned.getComputedStyle(element, null);
+			CSSStyleDeclaration actual = indexed.getComputedStyle(element, null);
+			assertEquals(expected == null ? null : expected.getCssText(),
+					actual == null ? null : actual.getCssText());
+		}
+	}
+
 	private static ViewCSS createViewCss(String css) throws IOException {
 		CSSStyleSheet styleSheet = ParserTestUtil.parseCss(css);
 		DocumentCSSImpl docCss = new DocumentCSSImpl();
@@ -20,8 +20,12 @@ import org.eclipse.e4.ui.css.core.engine.CSSEngine;
 import org.eclipse.e4.ui.css.core.engine.CSSErrorHandler;
 import org.eclipse.e4.ui.css.swt.engine.CSSSWTEngineImpl;
 import org.eclipse.swt.widgets.Display;
+import org.w3c.dom.Element;
+import org.w3c.dom.css.CSSStyleDeclaration;
 import org.w3c.dom.css.CSSStyleSheet;
+import org.w3c.dom.css.DocumentCSS;
 import org.w3c.dom.stylesheets.StyleSheet;
+import org.w3c.dom.stylesheets.StyleSheetList;
 
 
 public final class ParserTestUtil {
@@ -41,6 +45,26 @@ public final class ParserTestUtil {
 		return (CSSStyleSheet) result;
 	}
 
+	/**
+	 * Returns a plain {@link DocumentCSS} with the style sheets of the given
+	 * one. It does not notify style sheet changes, which disables the rule
+	 * caching and so the rule index of a <code>ViewCSSImpl</code>, which then
+	 * scans all rules.
+	 */
+	public static DocumentCSS createUncachedDocumentCSS(DocumentCSS documentCSS) {
+		return new DocumentCSS() {
+			@Override
+			public StyleSheetList getStyleSheets() {
+				return documentCSS.getStyleSheets();
+			}
+
+			@Override
+			public CSSStyleDeclaration getOverrideStyle(Element elt, String pseudoElt) {
+				return null;
+			}
+		};
+	}
+
 	public static CSSEngine createEngine() {
 		Display display = Display.getDefault();
 		CSSEngine engine = new CSSSWTEngineImpl(display);
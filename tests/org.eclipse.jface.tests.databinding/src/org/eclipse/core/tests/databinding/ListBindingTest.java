@@ -371,4 +371,42 @@ public class ListBindingTest extends AbstractDefaultRealmTestCase {
 		model.set(0, "2");
 		assertEquals("2converted", target.get(0));
 	}
+
+	@Test
+	public void testCoalescedUpdateMergesDiffs() {
+		dbc.bindList(target, model, new UpdateListStrategy<>(),
+				new UpdateListStrategy<String, String>().setCoalescingDelay(0));
+
+		model.add("1");
+		model.add("2");
+		model.remove("1");
+		model.add(0, "0");
+		assertTrue(target.isEmpty());
+
+		runAsync();
+		assertEquals(Arrays.asList("0", "2"), target);
+
+		model.set(1, "3");
+		runAsync();
+		assertEquals(Arrays.asList("0", "3"), target);
+	}
+
+	@Test
+	public void testExplicitUpdateDiscardsCoalescedChanges() {
+		Binding binding = dbc.bindList(target, model, new UpdateListStrategy<>(),
+				new UpdateListStrategy<String, String>().setCoalescingDelay(0));
+
+		model.add("1");
+		model.add(0, "0");
+		binding.updateModelToTarget();
+		assertEquals(Arrays.asList("0", "1"), target);
+
+		// the scheduled update does not apply the changes again
+		runAsync();
+		assertEquals(Arrays.asList("0", "1"), target);
+
+		model.add("2");
+		runAsync();
+		assertEquals(Arrays.asList("0", "1", "2"), target);
+	}
 }
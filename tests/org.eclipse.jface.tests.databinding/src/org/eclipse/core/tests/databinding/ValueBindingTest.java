@@ -437,6 +437,22 @@ public class ValueBindingTest extends AbstractDefaultRealmTestCase {
 		return value -> ValidationStatus.warning("");
 	}
 
+	@Test
+	public void testCoalescedUpdateCopiesLatestValue() {
+		List<Object> targetValues = new ArrayList<>();
+		target.addValueChangeListener(event -> targetValues.add(event.diff.getNewValue()));
+		dbc.bindValue(target, model, new UpdateValueStrategy<>(),
+				new UpdateValueStrategy<String, Object>().setCoalescingDelay(0));
+
+		model.setValue("1");
+		model.setValue("2");
+		model.setValue("3");
+		assertNull(target.getValue());
+
+		runAsync();
+		assertEquals(Collections.singletonList("3"), targetValues);
+	}
+
 	private IValidator<Object> infoValidator() {
 		return value -> ValidationStatus.info("");
 	}
@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.databinding.observable.DependencyGraph;
+import org.eclipse.core.databinding.observable.IChangeListener;
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.list.ComputedList;
+import org.eclipse.core.databinding.observable.set.ComputedSet;
+import org.eclipse.core.databinding.observable.value.ComputedValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.eclipse.jface.tests.databinding.AbstractDefaultRealmTestCase;
+import org.junit.Test;
+
+/**
+ * Tests for {@link DependencyGraph}.
+ */
+public class DependencyGraphTest extends AbstractDefaultRealmTestCase {
+
+	@Test
+	public void testComputeAttachesNode() {
+		WritableValue<Integer> value = new WritableValue<>(1, null);
+		IChangeListener listener = event -> {
+		};
+		DependencyGraph.Node node = new DependencyGraph.Node(listener, null);
+		int nodes = DependencyGraph.getNodeCount();
+		int edges = DependencyGraph.getEdgeCount();
+
+		node.compute(value::getValue);
+
+		assertTrue(node.isAttached());
+		assertArrayEquals(new IObservable[] { value }, node.getDependencies());
+		assertEquals(1, node.getRecomputeCount());
+		assertEquals(nodes + 1, DependencyGraph.getNodeCount());
+		assertEquals(edges + 1, DependencyGraph.getEdgeCount());
+
+		node.detach();
+
+		assertFalse(node.isAttached());
+		assertEquals(0, node.getDependencies().length);
+		assertEquals(nodes, DependencyGraph.getNodeCount());
+		assertEquals(edges, DependencyGraph.getEdgeCount());
+	}
+
+	@Test
+	public void testRecomputesOnlyWhenDirty() {
+		WritableValue<Integer> value = new WritableValue<>(1, null);
+		ComputedValue<Integer> computed = new ComputedValue<>() {
+			@Override
+			protected Integer calculate() {
+				return value.getValue() * 2;
+			}
+		};
+		computed.addChangeListener(event -> {
+		});
+		long recomputes = DependencyGraph.getRecomputeCount();
+
+		assertEquals(2, computed.getValue().intValue());
+		assertEquals(2, computed.getValue().intValue());
+		assertEquals(recomputes, DependencyGraph.getRecomputeCount());
+
+		value.setValue(2);
+		value.setValue(3);
+		assertEquals(recomputes, DependencyGraph.getRecomputeCount());
+
+		assertEquals(6, computed.getValue().intValue());
+		assertEquals(recomputes + 1, DependencyGraph.getRecomputeCount());
+	}
+
+	@Test
+	public void testKeepsListenersOfUnchangedDependencies() {
+		CountingValue value = new CountingValue(1);
+		IObservableValue<Integer> computed = ComputedValue.create(value::getValue);
+		computed.addChangeListener(event -> {
+		});
+
+		for (int i = 2; i < 10; i++) {
+			value.setValue(i);
+			assertEquals(i, computed.getValue().intValue());
+		}
+
+		assertEquals(1, value.added);
+		assertEquals(0, value.removed);
+	}
+
+	@Test
+	public void testReplacesChangedDependencies() {
+		WritableValue<Boolean> condition = new WritableValue<>(Boolean.TRUE, null);
+		CountingValue first = new CountingValue(1);
+		CountingValue second = new CountingValue(2);
+		IObservableValue<Integer> computed = ComputedValue
+				.create(() -> condition.getValue() ? first.getValue() : second.getValue());
+		computed.addChangeListener(event -> {
+		});
+		int edges = DependencyGraph.getEdgeCount();
+
+		condition.setValue(Boolean.FALSE);
+		assertEquals(2, computed.getValue().intValue());
+
+		assertEquals(1, first.added);
+		assertEquals(1, first.removed);
+		assertEquals(1, second.added);
+		assertEquals(0, second.removed);
+		assertEquals(edges, DependencyGraph.getEdgeCount());
+	}
+
+	@Test
+	public void testDetachesWithoutListeners() {
+		CountingValue value = new CountingValue(1);
+		IObservableValue<Integer> computed = ComputedValue.create(value::getValue);
+		int nodes = DependencyGraph.getNodeCount();
+
+		assertEquals(1, computed.getValue().intValue());
+		assertEquals(nodes + 1, DependencyGraph.getNodeCount());
+
+		value.setValue(2);
+
+		assertEquals(1, value.removed);
+		assertEquals(nodes, DependencyGraph.getNodeCount());
+	}
+
+	@Test
+	public void testDisposeDetaches() {
+		CountingValue value = new CountingValue(1);
+		IObservableValue<Integer> computed = ComputedValue.create(value::getValue);
+		computed.addChangeListener(event -> {
+		});
+		int nodes = DependencyGraph.getNodeCount();
+
+		computed.dispose();
+
+		assertEquals(1, value.removed);
+		assertEquals(nodes - 1, DependencyGraph.getNodeCount());
+	}
+
+	@Test
+	public void testListenerAddedWhileValueDirty() {
+		WritableValue<Integer> value = new WritableValue<>(1, null);
+		IObservableValue<Integer> computed = ComputedValue.create(value::getValue);
+		computed.addChangeListener(event -> {
+		});
+		computed.getValue();
+		// dirty, still attached for the first listener
+		value.setValue(2);
+
+		int[] changes = new int[1];
+		computed.addValueChangeListener(event -> changes[0]++);
+		value.setValue(3);
+
+		assertEquals(1, changes[0]);
+		assertEquals(3, computed.getValue().intValue());
+	}
+
+	@Test
+	public void testListenerAddedWhileListDirty() {
+		WritableValue<Integer> value = new WritableValue<>(1, null);
+		ComputedList<Integer> computed = new ComputedList<>() {
+			@Override
+			protected List<Integer> calculate() {
+				return Collections.singletonList(value.getValue());
+			}
+		};
+		computed.addChangeListener(event -> {
+		});
+		computed.size();
+		value.setValue(2);
+
+		int[] changes = new int[1];
+		computed.addListChangeListener(event -> changes[0]++);
+		value.setValue(3);
+
+		assertEquals(1, changes[0]);
+		assertEquals(Collections.singletonList(3), computed);
+	}
+
+	@Test
+	public void testListenerAddedWhileSetDirty() {
+		WritableValue<Integer> value = new WritableValue<>(1, null);
+		ComputedSet<Integer> computed = new ComputedSet<>() {
+			@Override
+			protected Set<Integer> calculate() {
+				return Collections.singleton(value.getValue());
+			}
+		};
+		computed.addChangeListener(event -> {
+		});
+		computed.size();
+		value.setValue(2);
+
+		int[] changes = new int[1];
+		computed.addSetChangeListener(event -> changes[0]++);
+		value.setValue(3);
+
+		assertEquals(1, changes[0]);
+		assertEquals(Collections.singleton(3), computed);
+	}
+
+	private static class CountingValue extends WritableValue<Integer> {
+		int added;
+
+		int removed;
+
+		CountingValue(int value) {
+			super(value, null);
+		}
+
+		@Override
+		public synchronized void addChangeListener(IChangeListener listener) {
+			added++;
+			super.addChangeListener(listener);
+		}
+
+		@Override
+		public synchronized void removeChangeListener(IChangeListener listener) {
+			removed++;
+			super.removeChangeListener(listener);
+		}
+	}
+}
@@ -19,7 +19,9 @@ import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.list.ListDiff;
@@ -268,6 +270,65 @@ public class Diffs_ListDiffTests {
 		checkComputedListDiff(List.of("a", "b", "c"), List.of("c", "a", "b"));
 	}
 
+	@Test
+	public void testComputeListDiff_LargeShuffle() {
+		List<Object> oldList = createLargeList(2000);
+		List<Object> newList = new ArrayList<>(oldList);
+		Collections.shuffle(newList, new Random(1));
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeAppend() {
+		List<Object> oldList = createLargeList(2000);
+		List<Object> newList = createLargeList(3000);
+		ListDiff<?> diff = Diffs.computeListDiff(oldList, newList);
+		assertEquals(1000, diff.getDifferences().length);
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeMostlyEqual() {
+		List<Object> oldList = createLargeList(2000);
+		List<Object> newList = new ArrayList<>(oldList);
+		newList.set(100, "x");
+		newList.remove(500);
+		newList.add(1000, "y");
+		newList.add(1500, newList.remove(10));
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeMove() {
+		List<Object> oldList = createLargeList(2000);
+		List<Object> newList = new ArrayList<>(oldList);
+		newList.add(newList.remove(0));
+		ListDiffEntry<?>[] entries = Diffs.computeListDiff(oldList, newList).getDifferences();
+		assertEquals(2, entries.length);
+		assertEntry(entries[0], false, 0, "0");
+		assertEntry(entries[1], true, 1999, "0");
+	}
+
+	@Test
+	public void testComputeListDiff_LargeDuplicates() {
+		Random random = new Random(2);
+		List<Object> oldList = new ArrayList<>();
+		List<Object> newList = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			oldList.add(random.nextInt(10) == 0 ? null : Integer.toString(random.nextInt(50)));
+			newList.add(random.nextInt(10) == 0 ? null : Integer.toString(random.nextInt(50)));
+		}
+		checkComputedListDiff(oldList, newList);
+	}
+
+	private static List<Object> createLargeList(int size) {
+		List<Object> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(Integer.toString(i));
+		}
+		return list;
+	}
+
 	private static void checkComputedListDiff(List<Object> oldList, List<Object> newList) {
 		ListDiff<?> diff = Diffs.computeListDiff(oldList, newList);
 
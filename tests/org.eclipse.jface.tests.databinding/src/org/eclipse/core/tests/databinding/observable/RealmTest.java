@@ -15,8 +15,22 @@
 package org.eclipse.core.tests.databinding.observable;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.core.databinding.observable.map.WritableMap;
+import org.eclipse.core.databinding.observable.set.WritableSet;
+import org.eclipse.core.databinding.observable.value.ComputedValue;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.observable.value.WritableValue;
 import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
 import org.eclipse.jface.databinding.conformance.util.RealmTester;
 import org.junit.Test;
@@ -35,4 +49,133 @@ public class RealmTest {
 
 		assertEquals("old realm should have been restored", oldRealm, Realm.getDefault());
 	}
+
+	@Test
+	public void testTransactionMergesValueChanges() {
+		Realm realm = new CurrentRealm(true);
+		WritableValue<Integer> value = new WritableValue<>(realm, null, Integer.class);
+		List<ValueDiff<? extends Integer>> diffs = new ArrayList<>();
+		value.addValueChangeListener(event -> diffs.add(event.diff));
+
+		realm.beginTransaction();
+		assertTrue(realm.isInTransaction());
+		value.setValue(1);
+		value.setValue(2);
+		value.setValue(3);
+		assertEquals(0, diffs.size());
+		realm.commitTransaction();
+
+		assertFalse(realm.isInTransaction());
+		assertEquals(1, diffs.size());
+		assertNull(diffs.get(0).getOldValue());
+		assertEquals(Integer.valueOf(3), diffs.get(0).getNewValue());
+	}
+
+	@Test
+	public void testTransactionRecomputesComputedValueOnce() {
+		Realm realm = new CurrentRealm(true);
+		WritableValue<Integer> a = new WritableValue<>(realm, 0, Integer.class);
+		WritableValue<Integer> b = new WritableValue<>(realm, 0, Integer.class);
+		int[] calculations = new int[1];
+		ComputedValue<Integer> sum = new ComputedValue<>(realm, Integer.class) {
+			@Override
+			protected Integer calculate() {
+				calculations[0]++;
+				return a.getValue() + b.getValue();
+			}
+		};
+		ComputedValue<Integer> doubled = new ComputedValue<>(realm, Integer.class) {
+			@Override
+			protected Integer calculate() {
+				calculations[0]++;
+				return sum.getValue() * 2 + a.getValue();
+			}
+		};
+		List<Integer> values = new ArrayList<>();
+		doubled.addValueChangeListener(event -> values.add(event.diff.getNewValue()));
+		calculations[0] = 0;
+
+		realm.beginTransaction();
+		a.setValue(1);
+		b.setValue(2);
+		a.setValue(3);
+		realm.commitTransaction();
+
+		assertEquals(2, calculations[0]);
+		assertEquals(Arrays.asList(13), values);
+	}
+
+	@Test
+	public void testTransactionMergesListChanges() {
+		Realm realm = new CurrentRealm(true);
+		WritableList<String> list = new WritableList<>(realm, new ArrayList<>(Arrays.asList("a", "b")), String.class);
+		List<ListDiff<? extends String>> diffs = new ArrayList<>();
+		list.addListChangeListener(event -> diffs.add(event.diff));
+
+		realm.beginTransaction();
+		list.add("c");
+		list.remove("a");
+		list.add(0, "d");
+		realm.commitTransaction();
+
+		assertEquals(1, diffs.size());
+		List<String> copy = new ArrayList<>(Arrays.asList("a", "b"));
+		diffs.get(0).applyTo(copy);
+		assertEquals(list, copy);
+	}
+
+	@Test
+	public void testTransactionDropsChangesWithoutNetEffect() {
+		Realm realm = new CurrentRealm(true);
+		WritableValue<Integer> value = new WritableValue<>(realm, 1, Integer.class);
+		WritableList<String> list = new WritableList<>(realm, new ArrayList<>(Arrays.asList("a", "b")), String.class);
+		WritableSet<String> set = new WritableSet<>(realm, Arrays.asList("a"), String.class);
+		WritableMap<String, Integer> map = new WritableMap<>(realm);
+		map.put("a", 1);
+		int[] events = new int[1];
+		value.addValueChangeListener(event -> events[0]++);
+		list.addListChangeListener(event -> events[0]++);
+		set.addSetChangeListener(event -> events[0]++);
+		map.addMapChangeListener(event -> events[0]++);
+
+		realm.beginTransaction();
+		value.setValue(2);
+		value.setValue(1);
+		list.add("c");
+		list.remove("c");
+		list.remove("a");
+		list.add(0, "a");
+		set.add("b");
+		set.remove("b");
+		map.put("b", 2);
+		map.remove("b");
+		map.put("a", 2);
+		map.put("a", 1);
+		realm.commitTransaction();
+
+		assertEquals(0, events[0]);
+	}
+
+	@Test
+	public void testNestedTransaction() {
+		Realm realm = new CurrentRealm(true);
+		WritableValue<Integer> value = new WritableValue<>(realm, null, Integer.class);
+		int[] changes = new int[1];
+		value.addChangeListener(event -> changes[0]++);
+
+		realm.beginTransaction();
+		value.setValue(1);
+		realm.beginTransaction();
+		value.setValue(2);
+		realm.commitTransaction();
+		assertEquals(0, changes[0]);
+		realm.commitTransaction();
+
+		assertEquals(1, changes[0]);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testCommitWithoutTransaction() {
+		new CurrentRealm(true).commitTransaction();
+	}
 }
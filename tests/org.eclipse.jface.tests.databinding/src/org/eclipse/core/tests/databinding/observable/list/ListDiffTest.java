@@ -91,6 +91,13 @@ public class ListDiffTest {
 		assertEquals("replace(0,element0,element1)", visitor.log);
 	}
 
+	@Test
+	public void testAccept_Replace_AddAfterRemovedElement() {
+		createListDiff(add(1, "element1"), remove(0, "element0")).accept(
+				visitor);
+		assertEquals("replace(0,element0,element1)", visitor.log);
+	}
+
 	@Test
 	public void testAccept_AllPatterns() {
 		createListDiff(
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.AsyncComputedValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link AsyncComputedValue}.
+ */
+public class AsyncComputedValueTest {
+
+	/**
+	 * A realm that runs its asynchronous runnables when asked to.
+	 */
+	private static class QueueRealm extends Realm {
+		final Queue<Runnable> runnables = new ArrayDeque<>();
+
+		@Override
+		public boolean isCurrent() {
+			return true;
+		}
+
+		@Override
+		public void asyncExec(Runnable runnable) {
+			runnables.add(runnable);
+		}
+
+		void runAsync() {
+			Runnable runnable;
+			while ((runnable = runnables.poll()) != null) {
+				runnable.run();
+			}
+		}
+	}
+
+	/**
+	 * An executor that runs its tasks when asked to.
+	 */
+	private static class QueueExecutor implements Executor {
+		final Queue<Runnable> tasks = new ArrayDeque<>();
+
+		@Override
+		public void execute(Runnable command) {
+			tasks.add(command);
+		}
+
+		void runAll() {
+			Runnable task;
+			while ((task = tasks.poll()) != null) {
+				task.run();
+			}
+		}
+	}
+
+	private Realm previousRealm;
+
+	private QueueRealm realm;
+
+	private QueueExecutor executor;
+
+	private WritableValue<Integer> input;
+
+	private List<Integer> calculations;
+
+	private IObservableValue<Integer> doubled;
+
+	@Before
+	public void setUp() throws Exception {
+		previousRealm = Realm.getDefault();
+		realm = new QueueRealm();
+		RealmTester.setDefault(realm);
+		executor = new QueueExecutor();
+		input = new WritableValue<>(1, null);
+		calculations = new ArrayList<>();
+		doubled = AsyncComputedValue.create(executor, input::getValue, value -> {
+			calculations.add(value);
+			return value * 2;
+		});
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RealmTester.setDefault(previousRealm);
+	}
+
+	private void runCalculations() {
+		realm.runAsync();
+		executor.runAll();
+		realm.runAsync();
+	}
+
+	@Test
+	public void testCalculatesOnExecutor() {
+		assertNull(doubled.getValue());
+		assertTrue(doubled.isStale());
+		assertTrue(calculations.isEmpty());
+
+		runCalculations();
+
+		assertEquals(2, doubled.getValue().intValue());
+		assertFalse(doubled.isStale());
+		assertEquals(List.of(1), calculations);
+	}
+
+	@Test
+	public void testPublishesResultWithValueChange() {
+		List<Integer> values = new ArrayList<>();
+		doubled.addValueChangeListener(event -> values.add(event.diff.getNewValue()));
+		runCalculations();
+
+		input.setValue(5);
+		assertEquals(2, doubled.getValue().intValue());
+		assertTrue(doubled.isStale());
+		runCalculations();
+
+		assertEquals(List.of(2, 10), values);
+		assertFalse(doubled.isStale());
+	}
+
+	@Test
+	public void testFiresStaleWhileCalculating() {
+		int[] staleEvents = new int[1];
+		doubled.addStaleListener(event -> staleEvents[0]++);
+		doubled.addChangeListener(event -> {
+		});
+		assertEquals(1, staleEvents[0]);
+		runCalculations();
+
+		input.setValue(2);
+		input.setValue(3);
+
+		assertEquals(2, staleEvents[0]);
+		assertTrue(doubled.isStale());
+	}
+
+	@Test
+	public void testSupersedesPendingCalculation() {
+		doubled.addChangeListener(event -> {
+		});
+		realm.runAsync();
+		assertEquals(1, executor.tasks.size());
+
+		input.setValue(2);
+		input.setValue(3);
+		runCalculations();
+
+		assertEquals(6, doubled.getValue().intValue());
+		assertEquals(List.of(3), calculations);
+	}
+
+	@Test
+	public void testIgnoresResultAfterDispose() {
+		List<Integer> values = new ArrayList<>();
+		doubled.addValueChangeListener(event -> values.add(event.diff.getNewValue()));
+
+		doubled.dispose();
+		runCalculations();
+
+		assertTrue(values.isEmpty());
+		assertTrue(calculations.isEmpty());
+	}
+}
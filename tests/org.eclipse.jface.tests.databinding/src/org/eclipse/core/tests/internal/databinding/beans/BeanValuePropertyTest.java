@@ -16,6 +16,9 @@
 package org.eclipse.core.tests.internal.databinding.beans;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import org.eclipse.core.databinding.beans.typed.BeanProperties;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
@@ -57,4 +60,52 @@ public class BeanValuePropertyTest extends AbstractDefaultRealmTestCase {
 		bean.setOther("2");
 		assertEquals(1, listener.count);
 	}
+
+	@Test
+	public void testGetAndSetValue() {
+		IValueProperty<Bean, String> property = BeanProperties.value(Bean.class, "value", String.class);
+		Bean bean = new Bean("1");
+		assertEquals("1", property.getValue(bean));
+		property.setValue(bean, "2");
+		assertEquals("2", bean.getValue());
+		assertEquals("2", property.getValue(bean));
+		assertNull(property.getValue(null));
+	}
+
+	@Test
+	public void testSetValue_WidensPrimitiveValue() {
+		IValueProperty<PrimitiveBean, Object> property = BeanProperties.value(PrimitiveBean.class, "number");
+		PrimitiveBean bean = new PrimitiveBean();
+		property.setValue(bean, Long.valueOf(2));
+		assertEquals(Long.valueOf(2), property.getValue(bean));
+		property.setValue(bean, Integer.valueOf(3));
+		assertEquals(3, bean.getNumber());
+	}
+
+	@Test
+	public void testGetValue_RethrowsExceptionOfGetter() {
+		IValueProperty<PrimitiveBean, Object> property = BeanProperties.value(PrimitiveBean.class, "failing");
+		try {
+			property.getValue(new PrimitiveBean());
+			fail("Expected the exception of the getter");
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+	}
+
+	public static class PrimitiveBean {
+		private long number;
+
+		public long getNumber() {
+			return number;
+		}
+
+		public void setNumber(long number) {
+			this.number = number;
+		}
+
+		public String getFailing() {
+			throw new IllegalStateException();
+		}
+	}
 }
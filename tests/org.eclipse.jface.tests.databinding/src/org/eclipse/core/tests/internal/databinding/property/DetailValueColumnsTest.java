@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.internal.databinding.property;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.map.IMapChangeListener;
+import org.eclipse.core.databinding.observable.map.IObservableMap;
+import org.eclipse.core.databinding.observable.map.MapDiff;
+import org.eclipse.core.databinding.observable.set.WritableSet;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.eclipse.core.databinding.property.Properties;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.internal.databinding.property.DetailValueColumns;
+import org.eclipse.jface.tests.databinding.AbstractDefaultRealmTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link DetailValueColumns}.
+ */
+public class DetailValueColumnsTest extends AbstractDefaultRealmTestCase {
+
+	private WritableSet<IObservableValue<String>> domainSet;
+
+	private List<MapDiff<? extends IObservableValue<String>, ?>> diffs;
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		domainSet = new WritableSet<>();
+		diffs = new ArrayList<>();
+	}
+
+	private WritableValue<String> addElement(String value) {
+		WritableValue<String> element = new WritableValue<>(value, String.class);
+		domainSet.add(element);
+		return element;
+	}
+
+	private IObservableMap<IObservableValue<String>, Object> observe(DetailValueColumns<IObservableValue<String>> columns,
+			int column) {
+		IObservableMap<IObservableValue<String>, Object> map = columns.getMaps()[column];
+		map.addMapChangeListener(event -> diffs.add(event.diff));
+		return map;
+	}
+
+	@Test
+	public void testListensOnlyToRequestedElements() {
+		WritableValue<String> first = addElement("a");
+		WritableValue<String> second = addElement("b");
+		DetailValueColumns<IObservableValue<String>> columns = new DetailValueColumns<>(domainSet,
+				Properties.observableValue(String.class));
+		IObservableMap<IObservableValue<String>, Object> map = observe(columns, 0);
+
+		assertEquals("a", map.get(first));
+		assertEquals(1, columns.getRowCount());
+
+		second.setValue("c");
+		assertTrue(diffs.isEmpty());
+
+		first.setValue("d");
+		assertEquals(1, diffs.size());
+		MapDiff<? extends IObservableValue<String>, ?> diff = diffs.get(0);
+		assertEquals(1, diff.getChangedKeys().size());
+		assertSame(first, diff.getChangedKeys().iterator().next());
+		assertEquals("a", diff.getOldValue(first));
+		assertEquals("d", diff.getNewValue(first));
+		assertEquals("d", map.get(first));
+	}
+
+	@Test
+	public void testColumnsShareRows() {
+		WritableValue<String> element = addElement("a");
+		DetailValueColumns<IObservableValue<String>> columns = new DetailValueColumns<>(domainSet,
+				Properties.observableValue(String.class), Properties.convertedValue(Object::toString));
+		IObservableMap<IObservableValue<String>, Object> values = observe(columns, 0);
+		IObservableMap<IObservableValue<String>, Object> names = observe(columns, 1);
+
+		assertEquals("a", values.get(element));
+		assertEquals(element.toString(), names.get(element));
+		assertEquals(1, columns.getRowCount());
+	}
+
+	@Test
+	public void testRemovedElementIsReleased() {
+		WritableValue<String> element = addElement("a");
+		DetailValueColumns<IObservableValue<String>> columns = new DetailValueColumns<>(domainSet,
+				Properties.observableValue(String.class));
+		IObservableMap<IObservableValue<String>, Object> map = observe(columns, 0);
+		map.get(element);
+
+		domainSet.remove(element);
+
+		assertEquals(0, columns.getRowCount());
+		assertEquals(1, diffs.size());
+		assertTrue(diffs.get(0).getRemovedKeys().contains(element));
+		assertEquals("a", diffs.get(0).getOldValue(element));
+		assertNull(map.get(element));
+
+		element.setValue("b");
+		assertEquals(1, diffs.size());
+	}
+
+	@Test
+	public void testRemovedElementNotRequested() {
+		WritableValue<String> element = addElement("a");
+		DetailValueColumns<IObservableValue<String>> columns = new DetailValueColumns<>(domainSet,
+				Properties.observableValue(String.class));
+		observe(columns, 0);
+
+		domainSet.remove(element);
+
+		assertEquals(1, diffs.size());
+		assertTrue(diffs.get(0).getRemovedKeys().contains(element));
+		assertNull(diffs.get(0).getOldValue(element));
+	}
+
+	@Test
+	public void testDisposeReleasesRows() {
+		WritableValue<String> element = addElement("a");
+		DetailValueColumns<IObservableValue<String>> columns = new DetailValueColumns<>(domainSet,
+				Properties.observableValue(String.class));
+		IObservableMap<IObservableValue<String>, Object> map = observe(columns, 0);
+		map.get(element);
+		assertEquals(1, columns.getRowCount());
+
+		map.dispose();
+
+		assertEquals(0, columns.getRowCount());
+		element.setValue("b");
+		assertTrue(diffs.isEmpty());
+	}
+
+	@Test
+	public void testAdditionsAreReportedLazily() {
+		DetailValueColumns<IObservableValue<String>> columns = new DetailValueColumns<>(domainSet,
+				Properties.observableValue(String.class));
+		observe(columns, 0);
+
+		WritableValue<String> element = addElement("a");
+
+		assertEquals(0, columns.getRowCount());
+		assertEquals(1, diffs.size());
+		assertTrue(diffs.get(0).getAddedKeys().contains(element));
+		assertEquals("a", diffs.get(0).getNewValue(element));
+	}
+
+	@Test
+	public void testLastListenerRemovedReleasesRows() {
+		WritableValue<String> element = addElement("a");
+		DetailValueColumns<IObservableValue<String>> columns = new DetailValueColumns<>(domainSet,
+				Properties.observableValue(String.class));
+		IObservableMap<IObservableValue<String>, Object> map = columns.getMaps()[0];
+		IMapChangeListener<IObservableValue<String>, Object> listener = event -> diffs.add(event.diff);
+		map.addMapChangeListener(listener);
+		map.get(element);
+		assertEquals(1, columns.getRowCount());
+
+		map.removeMapChangeListener(listener);
+
+		assertEquals(0, columns.getRowCount());
+		assertEquals("a", map.get(element));
+		assertEquals(0, columns.getRowCount());
+	}
+
+	@Test
+	public void testPropertyWithoutNativeListener() {
+		WritableValue<String> element = addElement("a");
+		IValueProperty<IObservableValue<String>, String> property = Properties.<String> observableValue(String.class)
+				.value(Properties.<String> selfValue(String.class));
+		DetailValueColumns<IObservableValue<String>> columns = new DetailValueColumns<>(domainSet, property);
+		IObservableMap<IObservableValue<String>, Object> map = observe(columns, 0);
+
+		assertEquals("a", map.get(element));
+		element.setValue("b");
+
+		assertEquals(1, diffs.size());
+		assertEquals("b", diffs.get(0).getNewValue(element));
+		assertEquals("b", map.get(element));
+	}
+
+	@Test
+	public void testManyElements() {
+		List<WritableValue<String>> elements = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			elements.add(addElement(Integer.toString(i)));
+		}
+		DetailValueColumns<IObservableValue<String>> columns = new DetailValueColumns<>(domainSet,
+				Properties.observableValue(String.class));
+		IObservableMap<IObservableValue<String>, Object> map = observe(columns, 0);
+		for (WritableValue<String> element : elements) {
+			map.get(element);
+		}
+		for (int i = 0; i < 1000; i += 2) {
+			domainSet.remove(elements.get(i));
+		}
+
+		assertEquals(500, columns.getRowCount());
+		for (int i = 1; i < 1000; i += 2) {
+			elements.get(i).setValue("x" + i);
+			assertEquals("x" + i, map.get(elements.get(i)));
+		}
+		assertEquals(500, columns.getRowCount());
+	}
+}
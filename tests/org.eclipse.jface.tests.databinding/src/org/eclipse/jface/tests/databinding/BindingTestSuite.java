@@ -48,6 +48,7 @@ import org.eclipse.core.tests.databinding.conversion.StringToNumberConverterTest
 import org.eclipse.core.tests.databinding.observable.AbstractObservableTest;
 import org.eclipse.core.tests.databinding.observable.ChangeSupportTest;
 import org.eclipse.core.tests.databinding.observable.DecoratingObservableTest;
+import org.eclipse.core.tests.databinding.observable.DependencyGraphTest;
 import org.eclipse.core.tests.databinding.observable.DiffsTest;
 import org.eclipse.core.tests.databinding.observable.Diffs_ListDiffTests;
 import org.eclipse.core.tests.databinding.observable.ObservableTrackerTest;
@@ -70,6 +71,7 @@ import org.eclipse.core.tests.databinding.observable.set.ComputedSetTest;
 import org.eclipse.core.tests.databinding.observable.set.WritableSetTest;
 import org.eclipse.core.tests.databinding.observable.value.AbstractObservableValueTest;
 import org.eclipse.core.tests.databinding.observable.value.AbstractVetoableValueTest;
+import org.eclipse.core.tests.databinding.observable.value.AsyncComputedValueTest;
 import org.eclipse.core.tests.databinding.observable.value.ComputedValueTest;
 import org.eclipse.core.tests.databinding.observable.value.DateAndTimeObservableValueTest;
 import org.eclipse.core.tests.databinding.observable.value.DuplexingObservableValueTest;
@@ -124,6 +126,7 @@ import org.eclipse.core.tests.internal.databinding.observable.masterdetail.Detai
 import org.eclipse.core.tests.internal.databinding.observable.masterdetail.DetailObservableMapTest;
 import org.eclipse.core.tests.internal.databinding.observable.masterdetail.DetailObservableSetTest;
 import org.eclipse.core.tests.internal.databinding.observable.masterdetail.DetailObservableValueTest;
+import org.eclipse.core.tests.internal.databinding.property.DetailValueColumnsTest;
 import org.eclipse.core.tests.internal.databinding.property.value.ListSimpleValueObservableListTest;
 import org.eclipse.core.tests.internal.databinding.property.value.MapSimpleValueObservableMapTest;
 import org.eclipse.core.tests.internal.databinding.property.value.SetSimpleValueObservableMapTest;
@@ -196,6 +199,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({ AbstractObservableListTest.class, AbstractObservableMapTest.class, AbstractObservableTest.class,
 		AbstractObservableValueTest.class, AbstractStringToNumberValidatorTest.class, AbstractVetoableValueTest.class,
 		AggregateValidationStatusTest.class, AnonymousBeanValuePropertyTest.class, AnonymousPojoValuePropertyTest.class,
+		AsyncComputedValueTest.class,
 		BeanPropertiesTest.class,
 		BeanPropertyHelperTest.class, BeanPropertyListenerSupportTest.class, BeanPropertyListenerTest.class,
 		BeansObservablesTest.class, BeanValuePropertyTest.class, BidiObservableMapTest.class, BindingMessagesTest.class,
@@ -212,8 +216,10 @@ import org.junit.runners.Suite.SuiteClasses;
 		DateTimeCalendarObservableValueTest.class, DateTimeDateObservableValueTest.class,
 		DateTimeSelectionPropertyTest.class, DateTimeTimeObservableValueTest.class,
 		LocalDateSelectionPropertyTest.class, DecoratingObservableTest.class, LocalDateTimeObservableValueTest.class,
+		DependencyGraphTest.class,
 		DelayedObservableValueTest.class, DetailObservableListTest.class, DetailObservableMapTest.class,
-		DetailObservableSetTest.class, DetailObservableValueTest.class, DifferentRealmsBindingTest.class,
+		DetailObservableSetTest.class, DetailObservableValueTest.class, DetailValueColumnsTest.class,
+		DifferentRealmsBindingTest.class,
 		Diffs_ListDiffTests.class, DiffsTest.class, DuplexingObservableValueTest.class, EditMaskLexerAndTokenTest.class,
 		EditMaskParserTest.class, GroupObservableValueTest.class, IdentityConverterTest.class, IdentityMapTest.class,
 		IdentitySetTest.class, IntegerToStringConverterTest.class, LabelObservableValueTest.class,
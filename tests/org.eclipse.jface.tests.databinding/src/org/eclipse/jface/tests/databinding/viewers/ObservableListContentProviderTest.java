@@ -16,10 +16,12 @@ package org.eclipse.jface.tests.databinding.viewers;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.databinding.observable.Observables;
@@ -27,6 +29,7 @@ import org.eclipse.core.databinding.observable.list.IObservableList;
 import org.eclipse.core.databinding.observable.list.WritableList;
 import org.eclipse.core.databinding.observable.set.IObservableSet;
 import org.eclipse.jface.databinding.swt.DisplayRealm;
+import org.eclipse.jface.databinding.viewers.IViewerUpdater;
 import org.eclipse.jface.databinding.viewers.ObservableListContentProvider;
 import org.eclipse.jface.tests.databinding.AbstractDefaultRealmTestCase;
 import org.eclipse.jface.viewers.TableViewer;
@@ -126,6 +129,62 @@ public class ObservableListContentProviderTest extends AbstractDefaultRealmTestC
 		assertEquals(Collections.EMPTY_SET, realizedElements);
 	}
 
+	@Test
+	public void testBulkChangeRefreshesViewer() {
+		IObservableSet<Object> realizedElements = contentProvider.getRealizedElements();
+		contentProvider.setRefreshThreshold(2);
+		List<Object> elements = Arrays.asList("one", "two", "three", "four");
+
+		input.addAll(elements);
+
+		assertEquals(4, viewer.getTable().getItemCount());
+		for (int i = 0; i < elements.size(); i++) {
+			assertSame(elements.get(i), viewer.getElementAt(i));
+		}
+		assertEquals(new HashSet<>(elements), contentProvider.getKnownElements());
+		assertEquals(new HashSet<>(elements), realizedElements);
+
+		input.removeAll(elements.subList(0, 3));
+
+		assertEquals(1, viewer.getTable().getItemCount());
+		assertSame("four", viewer.getElementAt(0));
+		assertEquals(Collections.singleton("four"), contentProvider.getKnownElements());
+		assertEquals(Collections.singleton("four"), realizedElements);
+	}
+
+	@Test
+	public void testRefreshThreshold_DisabledForExplicitViewerUpdater() {
+		assertEquals(500, contentProvider.getRefreshThreshold());
+		ObservableListContentProvider<Object> updating = new ObservableListContentProvider<>(
+				new IViewerUpdater<Object>() {
+					@Override
+					public void insert(Object element, int position) {
+					}
+
+					@Override
+					public void remove(Object element, int position) {
+					}
+
+					@Override
+					public void replace(Object oldElement, Object newElement, int position) {
+					}
+
+					@Override
+					public void move(Object element, int oldPosition, int newPosition) {
+					}
+
+					@Override
+					public void add(Object[] elements) {
+					}
+
+					@Override
+					public void remove(Object[] elements) {
+					}
+				});
+		assertTrue(updating.getRefreshThreshold() < 0);
+		updating.dispose();
+	}
+
 	static class Mutable {
 		public int id;
 
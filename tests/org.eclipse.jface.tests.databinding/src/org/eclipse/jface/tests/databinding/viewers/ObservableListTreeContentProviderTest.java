@@ -21,6 +21,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.core.databinding.observable.list.IObservableList;
 import org.eclipse.core.databinding.observable.list.WritableList;
@@ -163,6 +164,28 @@ public class ObservableListTreeContentProviderTest extends
 		assertEquals(Collections.emptySet(), realizedElements);
 	}
 
+	@Test
+	public void testBulkChangeRefreshesSubtree() {
+		final IObservableList<Object> children = new WritableList<>();
+		initContentProvider(target -> target == input ? children : null);
+		contentProvider.setRefreshThreshold(2);
+		List<Object> elements = Arrays.asList("one", "two", "three", "four");
+
+		children.addAll(elements);
+
+		assertEquals(4, tree.getItemCount());
+		for (int i = 0; i < elements.size(); i++) {
+			assertEquals(elements.get(i), tree.getItem(i).getData());
+		}
+		assertEquals(4, contentProvider.getKnownElements().size());
+
+		children.removeAll(elements.subList(0, 3));
+
+		assertEquals(1, tree.getItemCount());
+		assertEquals("four", tree.getItem(0).getData());
+		assertEquals(Collections.singleton("four"), contentProvider.getKnownElements());
+	}
+
 	static class Mutable {
 		private int id;
 
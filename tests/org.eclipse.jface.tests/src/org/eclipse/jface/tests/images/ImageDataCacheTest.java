@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.images;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jface.internal.ImageDataCache;
+import org.eclipse.jface.resource.CompositeImageDescriptor;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ImageDataCacheTest {
+
+	/**
+	 * The size of an image data created by {@link #newImageData()} in the
+	 * cache.
+	 */
+	private static final long ENTRY_SIZE = 64 + 16 * 16;
+
+	/**
+	 * A composition that draws an image descriptor and counts how often it is
+	 * composed. Equal by the drawn descriptor.
+	 */
+	private static class TestComposition extends CompositeImageDescriptor {
+		private final ImageDescriptor source;
+		private final boolean cacheable;
+		final AtomicInteger composeCount = new AtomicInteger();
+		ImageData sourceData;
+
+		TestComposition(ImageDescriptor source, boolean cacheable) {
+			this.source = source;
+			this.cacheable = cacheable;
+		}
+
+		@Override
+		protected void drawCompositeImage(int width, int height) {
+			composeCount.incrementAndGet();
+			CachedImageDataProvider provider = createCachedImageDataProvider(source);
+			sourceData = provider.getImageData(getZoomLevel());
+			drawImage(provider, 0, 0);
+		}
+
+		@Override
+		protected Point getSize() {
+			return new Point(16, 16);
+		}
+
+		@Override
+		protected boolean isCompositionCacheable() {
+			return cacheable;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof TestComposition other && other.source.equals(source)
+					&& other.cacheable == cacheable;
+		}
+
+		@Override
+		public int hashCode() {
+			return source.hashCode();
+		}
+	}
+
+	private ImageDescriptor source;
+
+	@Before
+	public void setUp() {
+		ImageDataCache.INSTANCE.clear();
+		source = ImageDescriptor.createFromFile(ImageDataCacheTest.class, "anything.gif");
+	}
+
+	private static ImageData newImageData() {
+		return new ImageData(16, 16, 8, new PaletteData(new RGB(0, 0, 0)));
+	}
+
+	@Test
+	public void testEviction() {
+		ImageDataCache cache = new ImageDataCache(2 * ENTRY_SIZE + 1);
+		ImageData a = newImageData();
+		ImageData b = newImageData();
+		ImageData c = newImageData();
+		cache.put("a", 100, a);
+		cache.put("b", 100, b);
+		assertEquals(2 * ENTRY_SIZE, cache.getSize());
+
+		// a was used more recently than b
+		assertSame(a, cache.find("a", 100));
+		cache.put("c", 100, c);
+		assertEquals(2 * ENTRY_SIZE, cache.getSize());
+		assertTrue(cache.contains("a", 100));
+		assertFalse(cache.contains("b", 100));
+		assertTrue(cache.contains("c", 100));
+
+		// replacing an entry does not count twice
+		cache.put("c", 100, newImageData());
+		assertEquals(2 * ENTRY_SIZE, cache.getSize());
+
+		cache.clear();
+		assertEquals(0, cache.getSize());
+		assertFalse(cache.contains("a", 100));
+	}
+
+	@Test
+	public void testTooLargeNotCached() {
+		ImageDataCache cache = new ImageDataCache(ENTRY_SIZE - 1);
+		cache.put("a", 100, newImageData());
+		assertFalse(cache.contains("a", 100));
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	public void testZoomLevels() {
+		ImageDataCache cache = new ImageDataCache(10 * ENTRY_SIZE);
+		ImageData data100 = newImageData();
+		ImageData data200 = newImageData();
+		cache.put("a", 100, data100);
+		cache.put("a", 200, data200);
+		assertSame(data100, cache.find("a", 100));
+		assertSame(data200, cache.find("a", 200));
+		assertNull(cache.find("a", 150));
+	}
+
+	@Test
+	public void testLoader() {
+		ImageDataCache cache = new ImageDataCache(10 * ENTRY_SIZE);
+		AtomicInteger loads = new AtomicInteger();
+		ImageData data = newImageData();
+		assertSame(data, cache.get("a", 100, zoom -> {
+			loads.incrementAndGet();
+			return data;
+		}));
+		assertSame(data, cache.get("a", 100, zoom -> {
+			loads.incrementAndGet();
+			return newImageData();
+		}));
+		assertEquals(1, loads.get());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+
+		// missing image data is remembered too
+		assertNull(cache.get("b", 200, zoom -> {
+			loads.incrementAndGet();
+			return null;
+		}));
+		assertTrue(cache.contains("b", 200));
+		assertNull(cache.get("b", 200, zoom -> {
+			loads.incrementAndGet();
+			return newImageData();
+		}));
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void testCacheableComposition() {
+		TestComposition first = new TestComposition(source, true);
+		TestComposition second = new TestComposition(source, true);
+
+		ImageData data = first.getImageData(100);
+		assertNotNull(data);
+		assertEquals(1, first.composeCount.get());
+
+		// an equal composition is not composed again
+		ImageData copy = second.getImageData(100);
+		assertEquals(0, second.composeCount.get());
+		assertNotSame(data, copy);
+		assertArrayEquals(data.data, copy.data);
+
+		// the cached data is not changed through a returned copy
+		Arrays.fill(copy.data, (byte) 0x55);
+		assertArrayEquals(data.data, second.getImageData(100).data);
+
+		// other zoom levels are composed separately
+		second.getImageData(200);
+		assertEquals(1, second.composeCount.get());
+	}
+
+	@Test
+	public void testCompositionNotCacheable() {
+		TestComposition first = new TestComposition(source, false);
+		TestComposition second = new TestComposition(source, false);
+		first.getImageData(100);
+		second.getImageData(100);
+		first.getImageData(100);
+		assertEquals(2, first.composeCount.get());
+		assertEquals(1, second.composeCount.get());
+	}
+
+	@Test
+	public void testDrawnImageDataIsCopied() {
+		TestComposition first = new TestComposition(source, false);
+		first.getImageData(100);
+		ImageData drawn = first.sourceData;
+		assertNotNull(drawn);
+		Arrays.fill(drawn.data, (byte) 0x55);
+
+		// the overlay data shared with other compositions is not changed
+		TestComposition second = new TestComposition(source, false);
+		second.getImageData(100);
+		assertNotSame(drawn, second.sourceData);
+		assertArrayEquals(source.getImageData(100).data, second.sourceData.data);
+	}
+}
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.jface.tests.images;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
@@ -24,6 +25,7 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jface.dialogs.Dialog;
+import org.eclipse.jface.internal.ResourceManagerStatistics;
 import org.eclipse.jface.resource.DeviceResourceDescriptor;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.resource.ImageRegistry;
@@ -367,6 +369,40 @@ public class LazyResourceManagerTest {
 		assertCached(expected2, mgr, tst, descriptor2); // 2 still cached, because recently used
 	}
 
+	/** Only 1 resource fits into the weight, although 3 fit into the size **/
+	@Test
+	public void testLazyResourceManagerWeight() {
+		TestResourceManager tst = new TestResourceManager();
+		LazyResourceManager mgr = new LazyResourceManager(3, 1, tst);
+		ResourceManagerStatistics statistics = ResourceManagerStatistics.of(mgr);
+
+		DeviceResourceDescriptor descriptor1 = new CachableTestDescriptor();
+		DeviceResourceDescriptor descriptor2 = new CachableTestDescriptor();
+		AtomicReference<DeviceResourceDescriptor> expected1 = (AtomicReference<DeviceResourceDescriptor>) mgr
+				.create(descriptor1);
+		mgr.create(descriptor1);
+		AtomicReference<DeviceResourceDescriptor> expected2 = (AtomicReference<DeviceResourceDescriptor>) mgr
+				.create(descriptor2);
+		assertEquals(2, statistics.getMissCount());
+		assertEquals(1, statistics.getHitCount());
+		assertEquals(2, statistics.getAllocatedCount());
+
+		mgr.destroy(descriptor1);
+		mgr.destroy(descriptor1);
+		assertCached(expected1, mgr, tst, descriptor1);
+		assertEquals(1, statistics.getUnreferencedWeight());
+		mgr.destroy(descriptor2);
+		assertCached(expected2, mgr, tst, descriptor2);
+		assertDestroyed(expected1, mgr, tst, descriptor1); // weight exceeded
+		assertEquals(1, statistics.getUnreferencedWeight());
+		assertEquals(1, statistics.getAllocatedCount());
+
+		mgr.create(descriptor2);
+		assertEquals(2, statistics.getHitCount());
+		assertEquals(0, statistics.getUnreferencedWeight());
+		mgr.destroy(descriptor2);
+	}
+
 	@Test
 	public void testNullDescriptor() {
 		TestResourceManager tst = new TestResourceManager();
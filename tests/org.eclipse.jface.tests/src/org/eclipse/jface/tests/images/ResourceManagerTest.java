@@ -14,13 +14,17 @@
  *******************************************************************************/
 package org.eclipse.jface.tests.images;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.Objects;
 
+import org.eclipse.jface.internal.ImageDataCache;
 import org.eclipse.jface.resource.ColorDescriptor;
 import org.eclipse.jface.resource.DeviceResourceDescriptor;
 import org.eclipse.jface.resource.DeviceResourceException;
@@ -37,6 +41,7 @@ import org.eclipse.swt.graphics.ImageDataProvider;
 import org.eclipse.swt.graphics.PaletteData;
 import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -318,6 +323,44 @@ public class ResourceManagerTest {
 		globalResourceManager.destroy(descriptor);
 	}
 
+	@Test
+	public void testCreateImageAsync() throws Exception {
+		Display display = Display.getCurrent();
+		ImageDescriptor descriptor = getImage("icons/view.gif");
+		Image[] loaded = new Image[1];
+		Image image = globalResourceManager.createImageAsync(descriptor, testImage, result -> loaded[0] = result);
+		if (image == testImage) {
+			assertTrue("Image not loaded in the background",
+					DisplayHelper.waitForCondition(display, 5000, () -> loaded[0] != null));
+			image = loaded[0];
+		}
+		validateResource(image);
+		globalResourceManager.destroy(descriptor);
+
+		// the decoded image data is kept, so the image is created right away
+		image = globalResourceManager.createImageAsync(descriptor, testImage, result -> fail("Image loaded twice"));
+		assertNotSame(testImage, image);
+		validateResource(image);
+		globalResourceManager.destroy(descriptor);
+	}
+
+	@Test
+	public void testCreateImageIgnoresDataNotPrefetched() {
+		ImageDescriptor descriptor = getImage("icons/mockeditorpart2.gif");
+		ImageData data = descriptor.getImageData(100);
+		// image data cached by others, for example for the overlays of composite
+		// images, is not used to create the image
+		ImageDataCache.INSTANCE.put(descriptor, 100, new ImageData(3, 3, 8, new PaletteData(new RGB(0, 0, 0))));
+		Image image = descriptor.createImage();
+		try {
+			assertEquals(data.width, image.getBounds().width);
+			assertEquals(data.height, image.getBounds().height);
+		} finally {
+			image.dispose();
+			ImageDataCache.INSTANCE.clear();
+		}
+	}
+
 	/**
 	 * ImageDataProvider to identify identical ImageData by the given ID.
 	 */
@@ -16,16 +16,21 @@
 package org.eclipse.jface.tests.images;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.eclipse.core.runtime.Adapters;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.jface.internal.ImageDataDiskCache;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
@@ -138,6 +143,28 @@ public class UrlImageDescriptorTest {
 		assertNull("URLImageDescriptor's ImageFileNameProvider does return a @1.5x path", imagePath150);
 	}
 
+	@Test
+	public void testUndecodableImageOnWarmDiskCache() throws IOException {
+		File imageFile = tempFolder.newFile("broken.png");
+		Files.write(imageFile.toPath(), new byte[] { 1, 2, 3 });
+		URL imageFileURL = imageFile.toURI().toURL();
+		Path cacheFile = tempFolder.getRoot().toPath().resolve("imageData.bin");
+
+		ImageDataDiskCache cache = new ImageDataDiskCache(cacheFile);
+		assertNull(cache.get(imageFileURL, 100, () -> null));
+		assertFalse("An undecodable image is cached", cache.contains(imageFileURL, 100));
+		cache.save();
+		ImageDataDiskCache warmCache = new ImageDataDiskCache(cacheFile);
+		assertFalse("An undecodable image is cached", warmCache.contains(imageFileURL, 100));
+
+		// the shared cache remembers the image as undecodable
+		ImageDescriptor descriptor = ImageDescriptor.createFromURL(imageFileURL);
+		assertNull(descriptor.getImageData(100));
+		Image image = descriptor.createImage(true);
+		assertNotNull("The missing image is not returned", image);
+		image.dispose();
+	}
+
 	@Test
 	public void testAdaptToURL() {
 		ImageDescriptor descriptor = ImageDescriptor
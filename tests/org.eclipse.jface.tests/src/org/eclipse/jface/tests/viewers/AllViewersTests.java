@@ -32,7 +32,8 @@ import org.junit.runners.Suite;
 		Bug205700TreeViewerTest.class, Bug180504TableViewerTest.class, Bug180504TreeViewerTest.class,
 		Bug256889TableViewerTest.class, Bug287765Test.class, Bug242231Test.class, StyledStringBuilderTest.class,
 		TreeViewerWithLimitTest.class, TreeViewerWithLimitCompatibilityTest.class, TableViewerWithLimitTest.class,
-		TableViewerWithLimitCompatibilityTest.class })
+		TableViewerWithLimitCompatibilityTest.class, AsyncStyledCellLabelProviderTest.class,
+		SortingLazyTreeContentProviderTest.class, ViewerComparatorSortTest.class, ElementWidgetMapTest.class })
 public class AllViewersTests {
 
 	public static void main(String[] args) {
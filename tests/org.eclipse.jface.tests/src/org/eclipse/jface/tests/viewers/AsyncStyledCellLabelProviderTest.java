@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jface.viewers.AsyncStyledCellLabelProvider;
+import org.eclipse.jface.viewers.DelegatingStyledCellLabelProvider.IStyledLabelProvider;
+import org.eclipse.jface.viewers.IElementComparer;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.LabelProviderChangedEvent;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.StyledString;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.junit.Test;
+
+public class AsyncStyledCellLabelProviderTest extends ViewerTestCase {
+
+	private static final String PLACEHOLDER = "computing...";
+
+	private TestStyledLabelProvider labelProvider;
+
+	private static class TestStyledLabelProvider extends LabelProvider implements IStyledLabelProvider {
+		final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		volatile String suffix = "";
+
+		@Override
+		public StyledString getStyledText(Object element) {
+			threads.add(Thread.currentThread());
+			return new StyledString(((TestElement) element).getLabel() + suffix);
+		}
+
+		void fireChanged(Object element) {
+			fireLabelProviderChanged(new LabelProviderChangedEvent(this, element));
+		}
+
+		void fireChanged() {
+			fireLabelProviderChanged(new LabelProviderChangedEvent(this));
+		}
+	}
+
+	@Override
+	protected StructuredViewer createViewer(Composite parent) {
+		TableViewer viewer = new TableViewer(parent);
+		viewer.setContentProvider(new TestModelContentProvider());
+		labelProvider = new TestStyledLabelProvider();
+		AsyncStyledCellLabelProvider asyncProvider = new AsyncStyledCellLabelProvider(labelProvider);
+		asyncProvider.setPlaceholder(new StyledString(PLACEHOLDER));
+		viewer.setLabelProvider(asyncProvider);
+		return viewer;
+	}
+
+	private boolean allLabelsEndWith(String suffix) {
+		Table table = (Table) fViewer.getControl();
+		for (int i = 0; i < table.getItemCount(); i++) {
+			TestElement element = (TestElement) table.getItem(i).getData();
+			if (!table.getItem(i).getText().equals(element.getLabel() + suffix)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Test
+	public void testLabelsComputedInBackground() {
+		assertTrue("labels were not computed",
+				DisplayHelper.waitForCondition(fDisplay, 5000, () -> allLabelsEndWith("")));
+		assertFalse("label computed in the UI thread", labelProvider.threads.contains(fDisplay.getThread()));
+	}
+
+	@Test
+	public void testLabelProviderChangedRecomputesLabel() {
+		assertTrue("labels were not computed",
+				DisplayHelper.waitForCondition(fDisplay, 5000, () -> allLabelsEndWith("")));
+		TestElement first = fRootElement.getFirstChild();
+		labelProvider.suffix = " changed";
+		labelProvider.fireChanged(first);
+		Table table = (Table) fViewer.getControl();
+		assertEquals("previous label not shown while computing", first.getLabel(), table.getItem(0).getText());
+		assertTrue("label was not recomputed", DisplayHelper.waitForCondition(fDisplay, 5000,
+				() -> table.getItem(0).getText().equals(first.getLabel() + " changed")));
+	}
+
+	@Test
+	public void testLabelProviderChangedWithoutElementsRecomputesAllLabels() {
+		assertTrue("labels were not computed",
+				DisplayHelper.waitForCondition(fDisplay, 5000, () -> allLabelsEndWith("")));
+		labelProvider.suffix = " changed";
+		labelProvider.fireChanged();
+		assertTrue("labels were not recomputed",
+				DisplayHelper.waitForCondition(fDisplay, 5000, () -> allLabelsEndWith(" changed")));
+	}
+
+	@Test
+	public void testLabelProviderChangedUsesComparer() {
+		// the labels of the first level are unique
+		fViewer.setComparer(new IElementComparer() {
+			@Override
+			public boolean equals(Object a, Object b) {
+				return ((TestElement) a).getLabel().equals(((TestElement) b).getLabel());
+			}
+
+			@Override
+			public int hashCode(Object element) {
+				return ((TestElement) element).getLabel().hashCode();
+			}
+		});
+		fViewer.refresh();
+		assertTrue("labels were not computed",
+				DisplayHelper.waitForCondition(fDisplay, 5000, () -> allLabelsEndWith("")));
+		TestElement first = fRootElement.getFirstChild();
+		// not equal to the first element, but the same for the comparer
+		TestElement sameLabel = new TestElement(fModel, first, fModel.getNumLevels(), 0);
+		assertFalse(sameLabel.equals(first));
+		labelProvider.suffix = " changed";
+		labelProvider.fireChanged(sameLabel);
+		Table table = (Table) fViewer.getControl();
+		assertTrue("label was not recomputed", DisplayHelper.waitForCondition(fDisplay, 5000,
+				() -> table.getItem(0).getText().equals(first.getLabel() + " changed")));
+	}
+
+}
@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.jface.viewers.IElementComparer;
+import org.eclipse.jface.viewers.internal.ElementWidgetMap;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ElementWidgetMapTest {
+
+	/**
+	 * An element with a fixed hash code, to place it in a given slot of the
+	 * map.
+	 */
+	private record Key(String name, int hash) {
+	}
+
+	/**
+	 * Compares {@link Key}s by name and uses their fixed hash code.
+	 */
+	private static final IElementComparer KEY_COMPARER = new IElementComparer() {
+		@Override
+		public boolean equals(Object a, Object b) {
+			return ((Key) a).name().equals(((Key) b).name());
+		}
+
+		@Override
+		public int hashCode(Object element) {
+			return ((Key) element).hash();
+		}
+	};
+
+	private static final IElementComparer IGNORE_CASE_COMPARER = new IElementComparer() {
+		@Override
+		public boolean equals(Object a, Object b) {
+			return ((String) a).equalsIgnoreCase((String) b);
+		}
+
+		@Override
+		public int hashCode(Object element) {
+			return ((String) element).toLowerCase().hashCode();
+		}
+	};
+
+	private Shell shell;
+
+	@Before
+	public void setUp() {
+		Display display = Display.getCurrent();
+		if (display == null) {
+			display = new Display();
+		}
+		shell = new Shell(display);
+	}
+
+	@After
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	private Widget newWidget() {
+		return new Label(shell, SWT.NONE);
+	}
+
+	@Test
+	public void testRemoveAcrossWraparound() {
+		// 16 elements fit in a table of 32 slots, the last slot is 31
+		ElementWidgetMap map = new ElementWidgetMap(16, KEY_COMPARER);
+		Key a = new Key("a", 31);
+		Key b = new Key("b", 31);
+		Key c = new Key("c", 31);
+		Key d = new Key("d", 0);
+		Widget wa = newWidget();
+		Widget wb = newWidget();
+		Widget wc = newWidget();
+		Widget wd = newWidget();
+		// a takes slot 31, b and c wrap around to slots 0 and 1, d is pushed
+		// from its home slot 0 to slot 2
+		map.put(a, wa);
+		map.put(b, wb);
+		map.put(c, wc);
+		map.put(d, wd);
+
+		assertSame(wb, map.remove(b));
+		assertEquals(3, map.size());
+		assertNull(map.get(b));
+		assertSame(wa, map.get(a));
+		assertSame(wc, map.get(c));
+		assertSame(wd, map.get(d));
+
+		assertSame(wa, map.remove(a));
+		assertEquals(2, map.size());
+		assertNull(map.get(a));
+		assertSame(wc, map.get(c));
+		assertSame(wd, map.get(d));
+
+		// the freed slots are reused
+		map.put(b, wb);
+		assertSame(wb, map.get(b));
+		assertSame(wc, map.get(c));
+		assertSame(wd, map.get(d));
+		assertEquals(3, map.size());
+	}
+
+	@Test
+	public void testRemoveKeepsEntriesAtHome() {
+		ElementWidgetMap map = new ElementWidgetMap(16, KEY_COMPARER);
+		Key a = new Key("a", 30);
+		Key b = new Key("b", 31);
+		Key c = new Key("c", 31);
+		Key d = new Key("d", 0);
+		Widget wa = newWidget();
+		Widget wc = newWidget();
+		Widget wd = newWidget();
+		// d takes its home slot 0, c wraps around past it to slot 1
+		map.put(a, wa);
+		map.put(b, newWidget());
+		map.put(d, wd);
+		map.put(c, wc);
+
+		// removing b moves c back to slot 31, but must not move d before its
+		// home slot
+		map.remove(b);
+		assertEquals(3, map.size());
+		assertNull(map.get(b));
+		assertSame(wa, map.get(a));
+		assertSame(wc, map.get(c));
+		assertSame(wd, map.get(d));
+
+		map.remove(d);
+		assertNull(map.get(d));
+		assertSame(wa, map.get(a));
+		assertSame(wc, map.get(c));
+	}
+
+	@Test
+	public void testSeveralWidgets() {
+		ElementWidgetMap map = new ElementWidgetMap(ElementWidgetMap.DEFAULT_CAPACITY, null);
+		Widget w1 = newWidget();
+		Widget w2 = newWidget();
+		Widget w3 = newWidget();
+
+		map.addWidget("a", w1);
+		assertSame(w1, map.get("a"));
+		map.addWidget("a", w1);
+		assertSame(w1, map.get("a"));
+
+		map.addWidget("a", w2);
+		map.addWidget("a", w3);
+		map.addWidget("a", w2);
+		assertArrayEquals(new Widget[] { w1, w2, w3 }, map.getWidgets("a"));
+		assertEquals(1, map.size());
+
+		map.removeWidget("a", w2);
+		assertArrayEquals(new Widget[] { w1, w3 }, map.getWidgets("a"));
+
+		// an unrelated widget is ignored
+		map.removeWidget("a", newWidget());
+		assertArrayEquals(new Widget[] { w1, w3 }, map.getWidgets("a"));
+
+		// back to a single widget
+		map.removeWidget("a", w1);
+		assertSame(w3, map.get("a"));
+
+		map.removeWidget("a", w3);
+		assertNull(map.get("a"));
+		assertEquals(0, map.getWidgets("a").length);
+		assertEquals(0, map.size());
+	}
+
+	@Test
+	public void testComparerLookup() {
+		ElementWidgetMap map = new ElementWidgetMap(ElementWidgetMap.DEFAULT_CAPACITY, IGNORE_CASE_COMPARER);
+		Widget w1 = newWidget();
+		Widget w2 = newWidget();
+
+		map.put("Apple", w1);
+		assertSame(w1, map.get("APPLE"));
+		assertSame(w1, map.get("apple"));
+
+		map.addWidget("aPPle", w2);
+		assertEquals(1, map.size());
+		assertArrayEquals(new Widget[] { w1, w2 }, map.getWidgets("apple"));
+
+		map.removeWidget("APPLE", w1);
+		assertSame(w2, map.get("Apple"));
+
+		assertSame(w2, map.remove("apple"));
+		assertNull(map.get("Apple"));
+		assertEquals(0, map.size());
+	}
+
+	@Test
+	public void testCopyWithComparer() {
+		ElementWidgetMap map = new ElementWidgetMap(2, null);
+		Widget[] widgets = new Widget[40];
+		for (int i = 0; i < widgets.length; i++) {
+			widgets[i] = newWidget();
+			map.put("Element" + i, widgets[i]);
+		}
+
+		ElementWidgetMap copy = new ElementWidgetMap(map, IGNORE_CASE_COMPARER);
+		assertSame(IGNORE_CASE_COMPARER, copy.getComparer());
+		assertEquals(widgets.length, copy.size());
+		for (int i = 0; i < widgets.length; i++) {
+			assertSame(widgets[i], copy.get("ELEMENT" + i));
+		}
+	}
+}
@@ -17,6 +17,7 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.TreeSet;
 
@@ -464,6 +465,52 @@ public class LazySortedCollectionTest {
 		assertContentsValid();
 	}
 
+	@Test
+	public void testSetLimit() {
+		collection.setLimit(5);
+		assertEquals(5, collection.size());
+		assertArrayEquals(computeExpectedElementsInRange(0, 5), collection.getItems(true));
+
+		// greater than all retained elements, rejected with a single comparison
+		comparator.comparisons = 0;
+		collection.add("v99 zzz");
+		assertEquals(1, comparator.comparisons);
+		assertEquals(5, collection.size());
+
+		// smaller elements push the greatest elements out of the limit
+		add("v000 first");
+		add("v001 second");
+		for (int i = 0; i < 20; i++) {
+			add("v002 filler " + i);
+		}
+		Object[] first = new Object[5];
+		collection.getFirst(first, true);
+		assertArrayEquals(computeExpectedElementsInRange(0, 5), first);
+		collection.retainFirst(5);
+		assertArrayEquals(computeExpectedElementsInRange(0, 5), collection.getItems(true));
+	}
+
+	@Test
+	public void testSetLimitUpdatedElement() {
+		LazySortedCollection limited = new LazySortedCollection(Comparator.comparingInt((int[] e) -> e[0]));
+		limited.setLimit(2);
+		int[] five = { 5 };
+		int[] seven = { 7 };
+		limited.add(five);
+		limited.add(seven);
+
+		// update the greatest element, as a content provider does: remove, change, add
+		limited.remove(seven);
+		seven[0] = 1;
+		limited.add(seven);
+
+		int[] three = { 3 };
+		limited.add(three);
+		Object[] first = new Object[2];
+		limited.getFirst(first, true);
+		assertArrayEquals(new Object[] { seven, three }, first);
+	}
+
 	//
 //
 //    public static void testAdditions() {
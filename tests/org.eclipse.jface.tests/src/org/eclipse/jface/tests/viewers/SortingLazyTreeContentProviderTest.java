@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.jface.viewers.SortingLazyTreeContentProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.jface.viewers.ViewerFilter;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.junit.Test;
+
+public class SortingLazyTreeContentProviderTest extends ViewerTestCase {
+
+	private TreeViewer fTreeViewer;
+
+	private static class ReverseLabelComparator extends ViewerComparator {
+		@Override
+		public int compare(Viewer viewer, Object e1, Object e2) {
+			return ((TestElement) e2).getLabel().compareTo(((TestElement) e1).getLabel());
+		}
+	}
+
+	@Override
+	protected StructuredViewer createViewer(Composite parent) {
+		Tree tree = new Tree(parent, SWT.VIRTUAL);
+		fTreeViewer = new TreeViewer(tree);
+		fTreeViewer.setContentProvider(new SortingLazyTreeContentProvider(new TestModelContentProvider()));
+		fTreeViewer.setLabelProvider(new TestLabelProvider());
+		fTreeViewer.setComparator(new ReverseLabelComparator());
+		return fTreeViewer;
+	}
+
+	private boolean itemsSorted(Tree tree, int expectedCount) {
+		if (tree.getItemCount() != expectedCount) {
+			return false;
+		}
+		for (int i = 0; i < expectedCount; i++) {
+			// getting the text materializes the item
+			tree.getItem(i).getText();
+			Object data = tree.getItem(i).getData();
+			if (data == null) {
+				return false;
+			}
+			if (i > 0) {
+				String previous = ((TestElement) tree.getItem(i - 1).getData()).getLabel();
+				if (previous.compareTo(((TestElement) data).getLabel()) < 0) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Test
+	public void testRootElementsSorted() {
+		Tree tree = fTreeViewer.getTree();
+		int count = fRootElement.getChildCount();
+		assertTrue("root elements not sorted",
+				DisplayHelper.waitForCondition(fDisplay, 5000, () -> itemsSorted(tree, count)));
+	}
+
+	@Test
+	public void testFilterAppliedOnRefresh() {
+		Tree tree = fTreeViewer.getTree();
+		int count = fRootElement.getChildCount();
+		assertTrue("root elements not sorted",
+				DisplayHelper.waitForCondition(fDisplay, 5000, () -> itemsSorted(tree, count)));
+		TestElement filtered = fRootElement.getFirstChild();
+		fTreeViewer.addFilter(new ViewerFilter() {
+			@Override
+			public boolean select(Viewer viewer, Object parentElement, Object element) {
+				return element != filtered;
+			}
+		});
+		assertTrue("filter not applied",
+				DisplayHelper.waitForCondition(fDisplay, 5000, () -> itemsSorted(tree, count - 1)));
+	}
+
+}
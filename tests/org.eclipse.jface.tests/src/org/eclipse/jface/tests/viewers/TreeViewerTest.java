@@ -13,7 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jface.tests.viewers;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -114,4 +116,25 @@ public class TreeViewerTest extends AbstractTreeViewerTest {
 		}
 	}
 
+	@Test
+	public void testRefreshWithMovedChild() {
+		TestElement first = fRootElement.getFirstChild();
+		TestElement last = fRootElement.getLastChild();
+		fTreeViewer.setExpandedState(first, true);
+		Widget firstItem = fViewer.testFindItem(first);
+
+		fRootElement.fChildren.remove(last);
+		fRootElement.fChildren.add(0, last);
+		fViewer.refresh();
+
+		Tree tree = (Tree) fTreeViewer.getControl();
+		TestElement[] children = fRootElement.getChildren();
+		assertEquals(children.length, tree.getItemCount());
+		for (int i = 0; i < children.length; i++) {
+			assertSame("wrong element at " + i, children[i], tree.getItem(i).getData());
+		}
+		assertSame("item of unmoved element was recreated", firstItem, fViewer.testFindItem(first));
+		assertTrue("unmoved element was collapsed", fTreeViewer.getExpandedState(first));
+	}
+
 }
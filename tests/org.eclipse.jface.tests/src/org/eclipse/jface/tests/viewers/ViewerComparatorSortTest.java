@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.jface.viewers.ViewerFilter;
+import org.eclipse.swt.widgets.Composite;
+import org.junit.Test;
+
+public class ViewerComparatorSortTest extends ViewerTestCase {
+
+	private static final int LARGE_COUNT = 20000;
+
+	@Override
+	protected StructuredViewer createViewer(Composite parent) {
+		TableViewer viewer = new TableViewer(parent);
+		viewer.setContentProvider(new TestModelContentProvider());
+		viewer.setLabelProvider(new LabelProvider());
+		return viewer;
+	}
+
+	private Object[] createLabels(int count) {
+		Random random = new Random(42);
+		String[] words = { "apple", "Apple", "banana", "\u00c4pfel", "cherry", "zebra", "Zoo", "\u00e9clair" };
+		Object[] labels = new Object[count];
+		for (int i = 0; i < count; i++) {
+			labels[i] = words[random.nextInt(words.length)] + random.nextInt(100);
+		}
+		return labels;
+	}
+
+	@Test
+	public void testCollatorSortMatchesCompare() {
+		ViewerComparator comparator = new ViewerComparator(Collator.getInstance()) {
+			@Override
+			public int category(Object element) {
+				return ((String) element).length() % 3;
+			}
+		};
+		Object[] labels = createLabels(LARGE_COUNT);
+		Object[] expected = labels.clone();
+		Arrays.sort(expected, (a, b) -> comparator.compare(fViewer, a, b));
+		comparator.sort(fViewer, labels);
+		assertArrayEquals(expected, labels);
+	}
+
+	@Test
+	public void testStringComparatorSortMatchesCompare() {
+		ViewerComparator comparator = new ViewerComparator(String.CASE_INSENSITIVE_ORDER);
+		Object[] labels = createLabels(100);
+		Object[] expected = labels.clone();
+		Arrays.sort(expected, (a, b) -> comparator.compare(fViewer, a, b));
+		comparator.sort(fViewer, labels);
+		assertArrayEquals(expected, labels);
+	}
+
+	@Test
+	public void testPrimitiveSortKey() {
+		ViewerComparator comparator = new ViewerComparator() {
+			@Override
+			protected boolean hasPrimitiveSortKey() {
+				return true;
+			}
+
+			@Override
+			protected long primitiveSortKey(Viewer viewer, Object element) {
+				return -((Integer) element).longValue();
+			}
+		};
+		Object[] numbers = new Object[LARGE_COUNT];
+		for (int i = 0; i < numbers.length; i++) {
+			numbers[i] = Integer.valueOf(i);
+		}
+		comparator.sort(fViewer, numbers);
+		for (int i = 0; i < numbers.length; i++) {
+			assertEquals(Integer.valueOf(LARGE_COUNT - 1 - i), numbers[i]);
+		}
+	}
+
+	@Test
+	public void testThreadSafeFilterKeepsOrder() {
+		ViewerFilter filter = new ViewerFilter() {
+			@Override
+			public boolean select(Viewer viewer, Object parentElement, Object element) {
+				return ((Integer) element).intValue() % 3 != 0;
+			}
+
+			@Override
+			public boolean isThreadSafe() {
+				return true;
+			}
+		};
+		Object[] numbers = new Object[LARGE_COUNT];
+		for (int i = 0; i < numbers.length; i++) {
+			numbers[i] = Integer.valueOf(i);
+		}
+		Object[] expected = Arrays.stream(numbers).filter(n -> ((Integer) n).intValue() % 3 != 0).toArray();
+		assertArrayEquals(expected, filter.filter(fViewer, (Object) null, numbers));
+	}
+
+}
@@ -26,7 +26,8 @@ import org.junit.runners.Suite.SuiteClasses;
 		PositionTrackerTest.class,
 		ResultUpdaterTest.class,
 		SearchResultPageTest.class,
-		SortingTest.class
+		SortingTest.class,
+		StreamingReplaceTest.class
 })
 public class AllFileSearchTests {
 	@ClassRule
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.search.tests.filesearch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.search.ui.NewSearchUI;
+import org.eclipse.search.ui.text.FileTextSearchScope;
+
+import org.eclipse.search.internal.ui.text.FileSearchQuery;
+import org.eclipse.search.internal.ui.text.FileSearchResult;
+import org.eclipse.search.internal.ui.text.ReplaceJournal;
+import org.eclipse.search.internal.ui.text.ReplaceRefactoring;
+import org.eclipse.search.internal.ui.text.StreamingReplaceChange;
+
+import org.eclipse.search.tests.ResourceHelper;
+
+public class StreamingReplaceTest {
+
+	private static final String PROJECT_NAME= "StreamingReplaceProject";
+	private static final int FILE_COUNT= 450;
+
+	private IProject fProject;
+	private final List<IFile> fFiles= new ArrayList<>();
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= ResourceHelper.createProject(PROJECT_NAME);
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("src"));
+		for (int i= 0; i < FILE_COUNT; i++) {
+			fFiles.add(ResourceHelper.createFile(folder, "file" + i + ".txt", "hello world " + i + "\nhello again\n"));
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		ResourceHelper.deleteProject(PROJECT_NAME);
+	}
+
+	@Test
+	public void testReplaceAndUndo() throws Exception {
+		FileTextSearchScope scope= FileTextSearchScope.newSearchScope(new IResource[] { fProject }, new String[] { "*.txt" }, false);
+		FileSearchQuery query= new FileSearchQuery("hello", false, true, scope);
+		NewSearchUI.runQueryInForeground(null, query);
+		FileSearchResult result= (FileSearchResult) query.getSearchResult();
+		assertEquals(2 * FILE_COUNT, result.getMatchCount());
+
+		ReplaceRefactoring refactoring= new ReplaceRefactoring(result, null);
+		refactoring.setReplaceString("bye");
+		refactoring.setStreamingReplace(true);
+		NullProgressMonitor pm= new NullProgressMonitor();
+		assertTrue(refactoring.checkInitialConditions(pm).isOK());
+		assertFalse(refactoring.checkFinalConditions(pm).hasFatalError());
+
+		Change change= refactoring.createChange(pm);
+		Change undo= perform(change);
+		assertEquals(0, result.getMatchCount());
+		for (int i= 0; i < FILE_COUNT; i++) {
+			assertEquals("bye world " + i + "\nbye again\n", getContents(fFiles.get(i)));
+		}
+
+		Change redo= perform(undo);
+		assertEquals(2 * FILE_COUNT, result.getMatchCount());
+		for (int i= 0; i < FILE_COUNT; i++) {
+			assertEquals("hello world " + i + "\nhello again\n", getContents(fFiles.get(i)));
+		}
+		redo.dispose();
+	}
+
+	@Test
+	public void testSkippedMatchesStayInResult() throws Exception {
+		FileTextSearchScope scope= FileTextSearchScope.newSearchScope(new IResource[] { fProject }, new String[] { "*.txt" }, false);
+		FileSearchQuery query= new FileSearchQuery("hello", false, true, scope);
+		NewSearchUI.runQueryInForeground(null, query);
+		FileSearchResult result= (FileSearchResult) query.getSearchResult();
+		// the first match of the last file no longer matches
+		IFile changed= fFiles.get(FILE_COUNT - 1);
+		String changedContents= "howdy world " + (FILE_COUNT - 1) + "\nhello again\n";
+		changed.setContents(new ByteArrayInputStream(changedContents.getBytes(StandardCharsets.ISO_8859_1)), true, false, null);
+
+		ReplaceRefactoring refactoring= new ReplaceRefactoring(result, null);
+		refactoring.setReplaceString("bye");
+		refactoring.setStreamingReplace(true);
+		NullProgressMonitor pm= new NullProgressMonitor();
+		assertTrue(refactoring.checkInitialConditions(pm).isOK());
+		assertFalse(refactoring.checkFinalConditions(pm).hasFatalError());
+
+		Change undo= perform(refactoring.createChange(pm));
+		assertEquals("howdy world " + (FILE_COUNT - 1) + "\nbye again\n", getContents(changed));
+		assertEquals(1, result.getMatchCount());
+		assertEquals(1, result.getMatchCount(changed));
+
+		Change redo= perform(undo);
+		assertEquals(2 * FILE_COUNT, result.getMatchCount());
+		redo.dispose();
+	}
+
+	@Test
+	public void testNoFiles() throws Exception {
+		FileTextSearchScope scope= FileTextSearchScope.newSearchScope(new IResource[] { fProject }, new String[] { "*.txt" }, false);
+		FileSearchQuery query= new FileSearchQuery("nowhere", false, true, scope);
+		NewSearchUI.runQueryInForeground(null, query);
+		FileSearchResult result= (FileSearchResult) query.getSearchResult();
+		assertEquals(0, result.getMatchCount());
+
+		ReplaceRefactoring refactoring= new ReplaceRefactoring(result, null);
+		refactoring.setReplaceString("bye");
+		refactoring.setStreamingReplace(true);
+		RefactoringStatus status= refactoring.checkFinalConditions(new NullProgressMonitor());
+		assertTrue(status.hasFatalError());
+	}
+
+	@Test
+	public void testRollbackOnFailure() throws Exception {
+		IFile[] files= { fFiles.get(0), fFiles.get(1), fFiles.get(2), fFiles.get(3) };
+		StreamingReplaceChange change= new StreamingReplaceChange("replace", files, (file, document, connected) -> {
+			if (file.equals(files[2])) {
+				throw new CoreException(Status.error("cannot replace"));
+			}
+			return List.of(new ReplaceJournal.Edit(0, 5, "bye"));
+		});
+		change.initializeValidationData(new NullProgressMonitor());
+		assertThrows(CoreException.class, () -> change.perform(new NullProgressMonitor()));
+		for (int i= 0; i < files.length; i++) {
+			assertEquals("hello world " + i + "\nhello again\n", getContents(files[i]));
+		}
+	}
+
+	@Test
+	public void testJournalRoundTrip() throws Exception {
+		ReplaceJournal journal= ReplaceJournal.create();
+		try {
+			try (ReplaceJournal.Writer writer= journal.openWriter()) {
+				writer.append(new ReplaceJournal.Entry(fFiles.get(0).getFullPath(), 42, List.of(new ReplaceJournal.Edit(0, 5, "\u00e4\u00f6\u00fc"), new ReplaceJournal.Edit(10, 0, ""))));
+				writer.append(new ReplaceJournal.Entry(fFiles.get(1).getFullPath(), 7, List.of()));
+			}
+			assertEquals(2, journal.getFileCount());
+			try (ReplaceJournal.Reader reader= journal.openReader()) {
+				ReplaceJournal.Entry first= reader.next();
+				assertNotNull(first);
+				assertEquals(fFiles.get(0).getFullPath(), first.path());
+				assertEquals(42, first.modificationStamp());
+				assertEquals(List.of(new ReplaceJournal.Edit(0, 5, "\u00e4\u00f6\u00fc"), new ReplaceJournal.Edit(10, 0, "")), first.edits());
+				ReplaceJournal.Entry second= reader.next();
+				assertEquals(fFiles.get(1).getFullPath(), second.path());
+				assertTrue(second.edits().isEmpty());
+				assertEquals(null, reader.next());
+			}
+		} finally {
+			journal.delete();
+		}
+	}
+
+	private static Change perform(Change change) throws Exception {
+		NullProgressMonitor pm= new NullProgressMonitor();
+		change.initializeValidationData(pm);
+		RefactoringStatus status= change.isValid(pm);
+		assertFalse(status.toString(), status.hasFatalError());
+		Change undo= change.perform(pm);
+		change.dispose();
+		assertNotNull(undo);
+		return undo;
+	}
+
+	private static String getContents(IFile file) throws Exception {
+		try (InputStream in= file.getContents()) {
+			return new String(in.readAllBytes(), StandardCharsets.ISO_8859_1);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import org.eclipse.text.quicksearch.internal.util.LineReader;
+import org.junit.Test;
+
+public class LineReaderTest {
+
+	private static final String TEXT = "one\r\ntwo\nthree\rfour\n"; //$NON-NLS-1$
+
+	@Test
+	public void testReadLines() throws Exception {
+		try (LineReader reader = new LineReader(new StringReader(TEXT))) {
+			assertLine(reader, "one", 0);
+			assertLine(reader, "two", 5);
+			assertLine(reader, "three", 9);
+			assertLine(reader, "four", 15);
+			assertNull(reader.readLine());
+		}
+	}
+
+	@Test
+	public void testSkipToResumesAtLineStart() throws Exception {
+		int offset;
+		try (LineReader reader = new LineReader(new BufferedReader(new StringReader(TEXT)))) {
+			reader.readLine();
+			reader.readLine();
+			offset = reader.getLastLineOffset();
+		}
+		try (LineReader resumed = new LineReader(new BufferedReader(new StringReader(TEXT)))) {
+			resumed.skipTo(offset);
+			assertLine(resumed, "two", 5);
+			assertLine(resumed, "three", 9);
+		}
+	}
+
+	@Test
+	public void testSkipToBeyondEnd() throws Exception {
+		try (LineReader reader = new LineReader(new StringReader(TEXT))) {
+			reader.skipTo(TEXT.length() + 100);
+			assertNull(reader.readLine());
+		}
+	}
+
+	private static void assertLine(LineReader reader, String expected, int expectedOffset) throws Exception {
+		assertEquals(expected, reader.readLine());
+		assertEquals(expectedOffset, reader.getLastLineOffset());
+	}
+}
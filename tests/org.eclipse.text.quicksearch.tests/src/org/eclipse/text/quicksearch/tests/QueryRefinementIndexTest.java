@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.text.quicksearch.internal.core.QueryRefinementIndex.NGramFilter;
+import org.eclipse.text.quicksearch.internal.core.QuickTextQuery;
+import org.junit.Test;
+
+public class QueryRefinementIndexTest {
+
+	@Test
+	public void testFilterContainsAddedText() {
+		NGramFilter filter = new NGramFilter();
+		filter.addLine("public class QuickTextSearcher {");
+		filter.addLine("\tprivate final QueryRefinementIndex refinementIndex;");
+
+		assertTrue(filter.mayContain("QuickText"));
+		assertTrue(filter.mayContain("quicktext"));
+		assertTrue(filter.mayContain("REFINEMENT"));
+		assertTrue(filter.mayContain("s Q"));
+		assertTrue(filter.mayContain(""));
+
+		assertFalse(filter.mayContain("xyzzy"));
+		assertFalse(filter.mayContain("jquery"));
+	}
+
+	@Test
+	public void testFilterDoesNotSpanLines() {
+		NGramFilter filter = new NGramFilter();
+		filter.addLine("abc");
+		filter.addLine("xyz");
+		assertFalse(filter.mayContain("cx"));
+	}
+
+	@Test
+	public void testLiteralSegments() {
+		assertEquals(List.of("foo", "bar"), new QuickTextQuery("foo*bar", true).getLiteralSegments());
+		assertEquals(List.of("a", "b"), new QuickTextQuery("a?b", false).getLiteralSegments());
+		assertEquals(List.of("a*b"), new QuickTextQuery("a\\*b", false).getLiteralSegments());
+		assertEquals(List.of(), new QuickTextQuery().getLiteralSegments());
+	}
+}
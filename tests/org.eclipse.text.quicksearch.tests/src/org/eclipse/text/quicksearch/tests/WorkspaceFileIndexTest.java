@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.text.quicksearch.internal.core.FileContentCache;
+import org.eclipse.text.quicksearch.internal.core.WorkspaceFileIndex;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WorkspaceFileIndexTest {
+
+	private IProject project;
+
+	@Before
+	public void setUp() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(getClass().getName() + System.currentTimeMillis());
+		project.create(null);
+		project.open(null);
+	}
+
+	@After
+	public void tearDown() throws CoreException {
+		project.delete(true, null);
+	}
+
+	@Test
+	public void testIndexFollowsResourceChanges() throws CoreException {
+		IFile first = createFile("first.txt", "first");
+		WorkspaceFileIndex index = WorkspaceFileIndex.getDefault();
+		assertTrue(isIndexed(index, first));
+
+		IFile second = createFile("second.txt", "second");
+		assertTrue(isIndexed(index, second));
+
+		first.delete(true, null);
+		assertFalse(isIndexed(index, first));
+
+		project.close(null);
+		assertFalse(isIndexed(index, second));
+		project.open(null);
+		assertTrue(isIndexed(index, second));
+	}
+
+	@Test
+	public void testIgnoredContainersArePruned() throws CoreException {
+		IFolder source = createFolder("src");
+		createFolder("target");
+		IFolder generated = createFolder("generated");
+		generated.setDerived(true, null);
+		WorkspaceFileIndex index = WorkspaceFileIndex.getDefault();
+		IFile sourceFile = createFile("src/a.txt", "a");
+		IFile targetFile = createFile("target/b.txt", "b");
+		IFile generatedFile = createFile("generated/c.txt", "c");
+		assertTrue(isIndexed(index, sourceFile));
+		assertFalse(isIndexed(index, targetFile));
+		assertFalse(isIndexed(index, generatedFile));
+
+		generated.setDerived(false, null);
+		assertTrue(isIndexed(index, generatedFile));
+		source.setDerived(true, null);
+		assertFalse(isIndexed(index, sourceFile));
+	}
+
+	@Test
+	public void testEncodingChangeDropsCachedText() throws CoreException {
+		IFile file = createFile("encoded.txt", "text");
+		WorkspaceFileIndex index = WorkspaceFileIndex.getDefault();
+		assertTrue(isIndexed(index, file));
+		FileContentCache cache = index.getContentCache();
+		cache.put(file, "text", file.getModificationStamp());
+		assertEquals("text", cache.get(file));
+
+		file.setCharset("UTF-16", null);
+		assertNull(cache.get(file));
+	}
+
+	@Test
+	public void testContentCache() throws CoreException {
+		IFile file = createFile("cached.txt", "old");
+		FileContentCache cache = new FileContentCache(100);
+		cache.put(file, "old", file.getModificationStamp());
+		assertEquals("old", cache.get(file));
+		assertEquals(6, cache.getSize());
+
+		file.setContents(new ByteArrayInputStream("new".getBytes(StandardCharsets.UTF_8)), true, false, null);
+		assertNull(cache.get(file));
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	public void testContentCacheEvictsLeastRecentlyUsed() throws CoreException {
+		IFile a = createFile("a.txt", "a");
+		IFile b = createFile("b.txt", "b");
+		IFile c = createFile("c.txt", "c");
+		FileContentCache cache = new FileContentCache(40);
+		cache.put(a, "0123456789", a.getModificationStamp());
+		cache.put(b, "0123456789", b.getModificationStamp());
+		cache.get(a);
+		cache.put(c, "0123456789", c.getModificationStamp());
+		assertEquals("0123456789", cache.get(a));
+		assertNull(cache.get(b));
+		assertEquals("0123456789", cache.get(c));
+		assertEquals(40, cache.getSize());
+	}
+
+	private IFolder createFolder(String name) throws CoreException {
+		IFolder folder = project.getFolder(name);
+		folder.create(true, true, null);
+		return folder;
+	}
+
+	private IFile createFile(String name, String contents) throws CoreException {
+		IFile file = project.getFile(name);
+		file.create(new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8)), true, null);
+		return file;
+	}
+
+	private static boolean isIndexed(WorkspaceFileIndex index, IFile file) {
+		return index.getFiles().stream().anyMatch(entry -> entry.file().equals(file));
+	}
+}
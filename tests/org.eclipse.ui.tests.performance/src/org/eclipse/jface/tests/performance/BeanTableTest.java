@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.databinding.beans.typed.BeanProperties;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.map.IObservableMap;
+import org.eclipse.core.databinding.observable.set.WritableSet;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.ui.tests.performance.BasicPerformanceTest;
+
+/**
+ * BeanTableTest measures the throughput of bean properties observed for the
+ * rows of a table, the way an ObservableMapLabelProvider reads and a cell
+ * editor writes them.
+ */
+public class BeanTableTest extends BasicPerformanceTest {
+
+	private static final int ROW_COUNT = 10000;
+
+	private static final int ITERATIONS = 15;
+
+	/**
+	 * A row of the table.
+	 */
+	public static class Row {
+		private final PropertyChangeSupport changeSupport = new PropertyChangeSupport(this);
+
+		private String name;
+
+		private int count;
+
+		public Row(int index) {
+			name = "Row " + index; //$NON-NLS-1$
+			count = index;
+		}
+
+		public void addPropertyChangeListener(PropertyChangeListener listener) {
+			changeSupport.addPropertyChangeListener(listener);
+		}
+
+		public void removePropertyChangeListener(PropertyChangeListener listener) {
+			changeSupport.removePropertyChangeListener(listener);
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			changeSupport.firePropertyChange("name", this.name, this.name = name); //$NON-NLS-1$
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			changeSupport.firePropertyChange("count", this.count, this.count = count); //$NON-NLS-1$
+		}
+	}
+
+	private final Realm realm = new Realm() {
+		@Override
+		public boolean isCurrent() {
+			return true;
+		}
+	};
+
+	public BeanTableTest(String testName) {
+		super(testName);
+	}
+
+	/**
+	 * Test the time to read the columns of all rows.
+	 */
+	public void testRead() {
+		List<Row> rows = createRows();
+		Realm.runWithDefault(realm, () -> {
+			WritableSet<Row> knownElements = new WritableSet<>(rows, Row.class);
+			IObservableMap<Row, String> names = BeanProperties.value(Row.class, "name", String.class) //$NON-NLS-1$
+					.observeDetail(knownElements);
+			IObservableMap<Row, Integer> counts = BeanProperties.value(Row.class, "count", Integer.class) //$NON-NLS-1$
+					.observeDetail(knownElements);
+			for (int i = 0; i < ITERATIONS; i++) {
+				startMeasuring();
+				for (Row row : rows) {
+					names.get(row);
+					counts.get(row);
+				}
+				stopMeasuring();
+			}
+			names.dispose();
+			counts.dispose();
+		});
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Test the time to write a column of all rows, with the changes reported
+	 * to the observed maps.
+	 */
+	public void testWrite() {
+		List<Row> rows = createRows();
+		Realm.runWithDefault(realm, () -> {
+			WritableSet<Row> knownElements = new WritableSet<>(rows, Row.class);
+			IValueProperty<Row, Integer> property = BeanProperties.value(Row.class, "count", Integer.class); //$NON-NLS-1$
+			IObservableMap<Row, Integer> counts = property.observeDetail(knownElements);
+			for (int i = 0; i < ITERATIONS; i++) {
+				Integer value = Integer.valueOf(-i);
+				startMeasuring();
+				for (Row row : rows) {
+					property.setValue(row, value);
+				}
+				stopMeasuring();
+			}
+			counts.dispose();
+		});
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private static List<Row> createRows() {
+		List<Row> rows = new ArrayList<>(ROW_COUNT);
+		for (int i = 0; i < ROW_COUNT; i++) {
+			rows.add(new Row(i));
+		}
+		return rows;
+	}
+}
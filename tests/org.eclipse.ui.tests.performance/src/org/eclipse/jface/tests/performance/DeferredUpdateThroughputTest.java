@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.performance;
+
+import java.util.Comparator;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.deferred.DeferredContentProvider;
+import org.eclipse.jface.viewers.deferred.SetModel;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * DeferredUpdateThroughputTest measures how long it takes until a virtual
+ * viewer with a {@link DeferredContentProvider} shows the result of 100000
+ * model changes that are sent from a background thread at a rate of 100000
+ * changes per second.
+ */
+public class DeferredUpdateThroughputTest extends ViewerTest {
+
+	static int INITIAL_COUNT = 10000;
+
+	static int UPDATE_COUNT = 100000;
+
+	/**
+	 * Number of changes sent per millisecond.
+	 */
+	static int CHANGES_PER_MILLISECOND = 100;
+
+	static int MAX_WAIT = 30000;
+
+	private StructuredViewer viewer;
+
+	private boolean useTree;
+
+	private SetModel model;
+
+	public DeferredUpdateThroughputTest(String testName, int tagging) {
+		super(testName, tagging);
+	}
+
+	public DeferredUpdateThroughputTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected StructuredViewer createViewer(Shell shell) {
+		Comparator<Object> order = (a, b) -> ((TestElement) a).getText().compareTo(((TestElement) b).getText());
+		if (useTree) {
+			viewer = new TreeViewer(shell, SWT.VIRTUAL);
+		} else {
+			viewer = new TableViewer(shell, SWT.VIRTUAL);
+		}
+		viewer.setContentProvider(new DeferredContentProvider(order));
+		viewer.setLabelProvider(getLabelProvider());
+		return viewer;
+	}
+
+	@Override
+	protected Object getInitialInput() {
+		model = new SetModel();
+		return model;
+	}
+
+	/**
+	 * Test a virtual table.
+	 */
+	public void testTableThroughput() throws CoreException {
+		tagIfNecessary("JFace - 100000 deferred updates in a virtual table", Dimension.ELAPSED_PROCESS);
+		useTree = false;
+		doTestThroughput();
+	}
+
+	/**
+	 * Test a virtual tree.
+	 */
+	public void testTreeThroughput() throws CoreException {
+		useTree = true;
+		doTestThroughput();
+	}
+
+	private void doTestThroughput() throws CoreException {
+		openBrowser();
+
+		exercise(() -> {
+			TestElement[] initial = new TestElement[INITIAL_COUNT];
+			for (int i = 0; i < initial.length; i++) {
+				initial[i] = new TestElement(i);
+			}
+			model.set(initial);
+			waitForItemCount(INITIAL_COUNT);
+
+			startMeasuring();
+			Thread feeder = new Thread(() -> sendChanges(initial), "Model Changes"); //$NON-NLS-1$
+			feeder.start();
+			waitForItemCount(INITIAL_COUNT + UPDATE_COUNT / 2);
+			stopMeasuring();
+
+			try {
+				feeder.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, MIN_ITERATIONS, slowGTKIterations(), JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Sends half of the changes as additions and half as updates of the initial
+	 * elements, in batches paced at {@link #CHANGES_PER_MILLISECOND}.
+	 */
+	private void sendChanges(TestElement[] initial) {
+		long start = System.nanoTime();
+		int sent = 0;
+		int added = 0;
+		while (sent < UPDATE_COUNT) {
+			for (int i = 0; i < CHANGES_PER_MILLISECOND / 2; i++) {
+				model.addAll(new Object[] { new TestElement(INITIAL_COUNT + added++) });
+				model.changeAll(new Object[] { initial[sent % initial.length] });
+				sent += 2;
+			}
+			long due = start + (sent / CHANGES_PER_MILLISECOND) * 1000000L;
+			long delay = due - System.nanoTime();
+			if (delay > 0) {
+				try {
+					Thread.sleep(delay / 1000000L, (int) (delay % 1000000L));
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+		}
+	}
+
+	private void waitForItemCount(int count) {
+		Display display = viewer.getControl().getDisplay();
+		long timeout = System.currentTimeMillis() + MAX_WAIT;
+		while (getItemCount() != count && System.currentTimeMillis() < timeout) {
+			if (!display.readAndDispatch()) {
+				// the sort thread does not wake up the display until it posts
+				try {
+					Thread.sleep(1);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+		}
+		assertEquals("items not updated in time", count, getItemCount());
+	}
+
+	private int getItemCount() {
+		if (viewer.getControl() instanceof Tree tree) {
+			return tree.getItemCount();
+		}
+		return ((Table) viewer.getControl()).getItemCount();
+	}
+
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.performance;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jface.viewers.IStructuredContentProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * ElementMapTest measures the element to widget map of a viewer with hash
+ * lookup enabled: looking up the items of all elements, and remapping all
+ * items when every element is replaced by a new element.
+ */
+public class ElementMapTest extends ViewerTest {
+
+	static int ELEMENT_COUNT = 10000;
+
+	private TableViewer viewer;
+
+	private TestElement[] elements;
+
+	public ElementMapTest(String testName, int tagging) {
+		super(testName, tagging);
+	}
+
+	public ElementMapTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected StructuredViewer createViewer(Shell shell) {
+		viewer = new TableViewer(shell);
+		elements = createElements();
+		viewer.setContentProvider((IStructuredContentProvider) input -> elements);
+		viewer.setLabelProvider(getLabelProvider());
+		return viewer;
+	}
+
+	private static TestElement[] createElements() {
+		TestElement[] result = new TestElement[ELEMENT_COUNT];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = new TestElement(i);
+		}
+		return result;
+	}
+
+	/**
+	 * Test looking up the items of all elements.
+	 */
+	public void testFindItems() throws CoreException {
+		tagIfNecessary("JFace - Find items of 10000 elements", Dimension.ELAPSED_PROCESS);
+		openBrowser();
+
+		exercise(() -> {
+			startMeasuring();
+			for (int i = 0; i < 10; i++) {
+				for (TestElement element : elements) {
+					assertNotNull(viewer.testFindItem(element));
+				}
+			}
+			stopMeasuring();
+		}, MIN_ITERATIONS, ITERATIONS, JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Test refreshing after all elements were replaced, which unmaps every
+	 * item and maps it to the new element.
+	 */
+	public void testRemapAll() throws CoreException {
+		openBrowser();
+
+		exercise(() -> {
+			elements = createElements();
+			startMeasuring();
+			viewer.refresh();
+			processEvents();
+			stopMeasuring();
+		}, MIN_ITERATIONS, slowGTKIterations(), JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+}
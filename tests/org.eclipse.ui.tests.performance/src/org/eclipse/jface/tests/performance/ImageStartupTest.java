@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.jface.internal.ImageDataDiskCache;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.ui.tests.performance.BasicPerformanceTest;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * ImageStartupTest measures loading the icons of a bundle the way a start does,
+ * with new image descriptors for bundle entries at the normal and the high DPI
+ * zoom level. {@link #testImageData()} and {@link #testCreateImages()} run in
+ * one session, so only their first iteration decodes the image files.
+ * {@link #testWarmStart()} measures new sessions that read the image data from
+ * the persistent image data cache written by an earlier session.
+ */
+public class ImageStartupTest extends BasicPerformanceTest {
+
+	protected static final String IMAGES_DIRECTORY = "/icons/imagetests";
+
+	private static final int ICON_COPIES = 20;
+
+	public ImageStartupTest(String testName) {
+		super(testName);
+	}
+
+	private List<URL> getIconURLs() {
+		Bundle bundle = FrameworkUtil.getBundle(getClass());
+		Enumeration<String> entries = bundle.getEntryPaths(IMAGES_DIRECTORY);
+		List<URL> urls = new ArrayList<>();
+		while (entries.hasMoreElements()) {
+			String path = entries.nextElement();
+			if (path.indexOf('.') >= 0) {
+				urls.add(bundle.getEntry(path));
+			}
+		}
+		return urls;
+	}
+
+	/**
+	 * Test the time to decode the image data of the icons.
+	 */
+	public void testImageData() throws Throwable {
+		List<URL> urls = getIconURLs();
+		exercise(() -> {
+			startMeasuring();
+			for (int i = 0; i < ICON_COPIES; i++) {
+				for (URL url : urls) {
+					ImageDescriptor descriptor = ImageDescriptor.createFromURL(url);
+					assertNotNull(descriptor.getImageData(100));
+					descriptor.getImageData(200);
+				}
+			}
+			stopMeasuring();
+		}, 5, 20, JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Test the time to read the image data of the icons in new sessions, from
+	 * the cache file written by an earlier session.
+	 */
+	public void testWarmStart() throws Throwable {
+		List<URL> urls = getIconURLs();
+		Path directory = Files.createTempDirectory("imageStartupTest");
+		Path cacheFile = directory.resolve("imageData.bin");
+		try {
+			ImageDataDiskCache firstSession = new ImageDataDiskCache(cacheFile);
+			for (URL url : urls) {
+				ImageDescriptor descriptor = ImageDescriptor.createFromURL(url);
+				assertNotNull(firstSession.get(url, 100, () -> descriptor.getImageData(100)));
+				firstSession.get(url, 200, () -> descriptor.getImageData(200));
+			}
+			firstSession.save();
+
+			exercise(() -> {
+				startMeasuring();
+				for (int i = 0; i < ICON_COPIES; i++) {
+					ImageDataDiskCache session = new ImageDataDiskCache(cacheFile);
+					for (URL url : urls) {
+						assertNotNull(session.get(url, 100, () -> notCached(url)));
+						session.get(url, 200, () -> notCached(url));
+					}
+				}
+				stopMeasuring();
+			}, 5, 20, JFacePerformanceSuite.MAX_TIME);
+
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			deleteDirectory(directory);
+		}
+	}
+
+	private static ImageData notCached(URL url) {
+		fail("Image data not read from the cache: " + url);
+		return null;
+	}
+
+	private static void deleteDirectory(Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : files.toList()) {
+				Files.deleteIfExists(file);
+			}
+		}
+		Files.deleteIfExists(directory);
+	}
+
+	/**
+	 * Test the time to create the images of the icons.
+	 */
+	public void testCreateImages() throws Throwable {
+		List<URL> urls = getIconURLs();
+		exercise(() -> {
+			List<Image> images = new ArrayList<>();
+			startMeasuring();
+			for (int i = 0; i < ICON_COPIES; i++) {
+				for (URL url : urls) {
+					images.add(ImageDescriptor.createFromURL(url).createImage());
+				}
+			}
+			processEvents();
+			stopMeasuring();
+			for (Image image : images) {
+				image.dispose();
+			}
+		}, 5, 20, JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+}
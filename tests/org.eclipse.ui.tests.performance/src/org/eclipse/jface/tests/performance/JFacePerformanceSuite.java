@@ -44,7 +44,14 @@ public class JFacePerformanceSuite extends FilteredTestSuite {
 		addTestSuite(TreeAddTest.class);
 		addTestSuite(ProgressMonitorDialogPerformanceTest.class);
 		addTestSuite(ShrinkingTreeTest.class);
+		addTestSuite(TreeReorderTest.class);
+		addTestSuite(DeferredUpdateThroughputTest.class);
+		addTestSuite(ElementMapTest.class);
 		addTestSuite(CollatorPerformanceTest.class);
+		addTestSuite(ImageStartupTest.class);
+		addTestSuite(ListDiffTest.class);
+		addTestSuite(BeanTableTest.class);
+		addTestSuite(ObservableListViewerTest.class);
 
 	}
 }
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.ui.tests.performance.BasicPerformanceTest;
+
+/**
+ * ListDiffTest measures computing the differences of large lists, like a
+ * WritableList or ComputedList does when its content is replaced.
+ */
+public class ListDiffTest extends BasicPerformanceTest {
+
+	private static final int LIST_SIZE = 50000;
+
+	private static final int ITERATIONS = 15;
+
+	private final List<String> oldList = new ArrayList<>(LIST_SIZE);
+
+	public ListDiffTest(String testName) {
+		super(testName);
+		for (int i = 0; i < LIST_SIZE; i++) {
+			oldList.add("Element " + i); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Test the time to diff a list against a shuffled copy.
+	 */
+	public void testShuffled() {
+		List<String> newList = new ArrayList<>(oldList);
+		Collections.shuffle(newList, new Random(1));
+		measure(newList);
+	}
+
+	/**
+	 * Test the time to diff a list against a copy with appended elements.
+	 */
+	public void testAppended() {
+		List<String> newList = new ArrayList<>(oldList);
+		for (int i = 0; i < LIST_SIZE / 10; i++) {
+			newList.add("Appended " + i); //$NON-NLS-1$
+		}
+		measure(newList);
+	}
+
+	/**
+	 * Test the time to diff a list against a copy with a few replaced, removed,
+	 * inserted and moved elements.
+	 */
+	public void testMostlyEqual() {
+		List<String> newList = new ArrayList<>(oldList);
+		Random random = new Random(1);
+		for (int i = 0; i < 100; i++) {
+			newList.set(random.nextInt(newList.size()), "Replaced " + i); //$NON-NLS-1$
+			newList.remove(random.nextInt(newList.size()));
+			newList.add(random.nextInt(newList.size()), "Inserted " + i); //$NON-NLS-1$
+			newList.add(random.nextInt(newList.size()), newList.remove(random.nextInt(newList.size())));
+		}
+		measure(newList);
+	}
+
+	private void measure(List<String> newList) {
+		for (int i = 0; i < ITERATIONS; i++) {
+			startMeasuring();
+			Diffs.computeListDiff(oldList, newList);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.jface.databinding.swt.DisplayRealm;
+import org.eclipse.jface.databinding.viewers.ObservableListContentProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * ObservableListViewerTest measures the time for a table viewer to follow
+ * large changes of an observable list, updated element by element or
+ * refreshed once.
+ */
+public class ObservableListViewerTest extends ViewerTest {
+
+	private static final int ELEMENT_COUNT = 30000;
+
+	private static final int ADD_REMOVE_ITERATIONS = 10;
+
+	private TableViewer viewer;
+
+	private ObservableListContentProvider<TestElement> contentProvider;
+
+	private WritableList<TestElement> input;
+
+	public ObservableListViewerTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected StructuredViewer createViewer(Shell shell) {
+		viewer = new TableViewer(shell);
+		contentProvider = new ObservableListContentProvider<>();
+		viewer.setContentProvider(contentProvider);
+		viewer.setLabelProvider(getLabelProvider());
+		return viewer;
+	}
+
+	@Override
+	protected Object getInitialInput() {
+		input = new WritableList<>(DisplayRealm.getRealm(Display.getCurrent()));
+		return input;
+	}
+
+	/**
+	 * Test the time to add and remove all elements one by one.
+	 */
+	public void testAddRemoveIncremental() throws Throwable {
+		addRemove(-1);
+	}
+
+	/**
+	 * Test the time to add and remove all elements with a refresh of the
+	 * viewer.
+	 */
+	public void testAddRemoveRefresh() throws Throwable {
+		addRemove(0);
+	}
+
+	private void addRemove(int refreshThreshold) throws Throwable {
+		openBrowser();
+		contentProvider.setRefreshThreshold(refreshThreshold);
+		List<TestElement> elements = new ArrayList<>(ELEMENT_COUNT);
+		for (int i = 0; i < ELEMENT_COUNT; i++) {
+			elements.add(new TestElement(i));
+		}
+
+		exercise(() -> {
+			startMeasuring();
+			input.addAll(elements);
+			processEvents();
+			input.clear();
+			processEvents();
+			stopMeasuring();
+		}, 3, ADD_REMOVE_ITERATIONS, JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.performance;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * TreeReorderTest measures how long it takes to refresh a tree with many
+ * children after children were inserted in the middle or moved. The viewer is
+ * not sorted, so the order of the children is the order of the model.
+ */
+public class TreeReorderTest extends TreeTest {
+
+	static int TEST_COUNT = 10000;
+
+	public TreeReorderTest(String testName, int tagging) {
+		super(testName, tagging);
+	}
+
+	public TreeReorderTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected StructuredViewer createViewer(Shell shell) {
+		StructuredViewer result = super.createViewer(shell);
+		result.setComparator(null);
+		return result;
+	}
+
+	/**
+	 * Test refresh after 1000 children were inserted in the middle.
+	 */
+	public void testInsertInMiddle() throws CoreException {
+		tagIfNecessary("JFace - Refresh after inserting 1000 of 11000 items", Dimension.ELAPSED_PROCESS);
+
+		doTestRefresh((parent, children) -> {
+			int inserted = 1000;
+			TestTreeElement[] result = new TestTreeElement[children.length + inserted];
+			int middle = children.length / 2;
+			System.arraycopy(children, 0, result, 0, middle);
+			for (int i = 0; i < inserted; i++) {
+				result[middle + i] = new TestTreeElement(children.length + i, parent);
+			}
+			System.arraycopy(children, middle, result, middle + inserted, children.length - middle);
+			return result;
+		});
+	}
+
+	/**
+	 * Test refresh after the last 100 children were moved to the front.
+	 */
+	public void testMoveToFront() throws CoreException {
+		doTestRefresh((parent, children) -> {
+			int moved = 100;
+			TestTreeElement[] result = new TestTreeElement[children.length];
+			System.arraycopy(children, children.length - moved, result, 0, moved);
+			System.arraycopy(children, 0, result, moved, children.length - moved);
+			return result;
+		});
+	}
+
+	/**
+	 * Test refresh after every tenth child was removed.
+	 */
+	public void testRemoveScattered() throws CoreException {
+		doTestRefresh((parent, children) -> {
+			TestTreeElement[] result = new TestTreeElement[children.length - children.length / 10];
+			int count = 0;
+			for (int i = 0; i < children.length; i++) {
+				if (i % 10 != 5) {
+					result[count++] = children[i];
+				}
+			}
+			return result;
+		});
+	}
+
+	private interface ChildrenChange {
+		TestTreeElement[] change(TestTreeElement parent, TestTreeElement[] children);
+	}
+
+	private void doTestRefresh(final ChildrenChange change) throws CoreException {
+		openBrowser();
+
+		exercise(() -> {
+			TestTreeElement input = new TestTreeElement(0, null);
+			input.createChildren(TEST_COUNT);
+			viewer.setInput(input);
+			processEvents();
+			input.children = change.change(input, input.children);
+
+			startMeasuring();
+			viewer.refresh();
+			processEvents();
+			stopMeasuring();
+
+		}, MIN_ITERATIONS, slowGTKIterations(), JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+}
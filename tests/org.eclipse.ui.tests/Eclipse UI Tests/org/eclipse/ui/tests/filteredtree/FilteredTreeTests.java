@@ -15,6 +15,8 @@
 
 package org.eclipse.ui.tests.filteredtree;
 
+import static org.junit.Assert.assertTrue;
+
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.dialogs.Dialog;
 import org.eclipse.jface.tests.viewers.TestElement;
@@ -28,6 +30,7 @@ import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.ui.dialogs.FilteredTree;
 import org.eclipse.ui.dialogs.PatternFilter;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
 import org.junit.After;
 import org.junit.Test;
 
@@ -132,6 +135,42 @@ public class FilteredTreeTests {
 		dialog.close();
 	}
 
+	@Test
+	public void testNarrowDownPattern() {
+		Dialog dialog = createFilteredTreeDialog();
+
+		// typed one character at a time, later patterns only re-test earlier matches
+		for (String pattern : new String[] { "0", "0-1", "0-1-", "0-1-1", "0-1", "name-1" }) {
+			typePattern(pattern);
+		}
+
+		dialog.close();
+	}
+
+	@Test
+	public void testExtendExactPattern() {
+		Dialog dialog = createFilteredTreeDialog();
+
+		// a pattern ending with a space has no trailing wildcard, so extending
+		// it may match elements that the previous pattern did not
+		for (String pattern : new String[] { "name-1 ", "name-1 0", "0-1 ", "0-1 name-1" }) {
+			typePattern(pattern);
+		}
+
+		dialog.close();
+	}
+
+	private void typePattern(String pattern) {
+		fTreeViewer.getFilterControl().setText(pattern);
+		PatternFilter reference = new PatternFilter();
+		reference.setPattern(pattern);
+		int expectedCount = reference.filter(fTreeViewer.getViewer(), fRootElement,
+				fRootElement.getChildren()).length;
+		assertTrue("tree items do not match pattern " + pattern,
+				DisplayHelper.waitForCondition(fTreeViewer.getDisplay(), 5000,
+						() -> fTreeViewer.getViewer().getTree().getItemCount() == expectedCount));
+	}
+
 	private void runFilteredTreeTest(final int treeStyle){
 		Dialog dialog = createFilteredTreeDialog(treeStyle);
 